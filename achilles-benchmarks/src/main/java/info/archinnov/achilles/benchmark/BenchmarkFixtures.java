@@ -0,0 +1,74 @@
+package info.archinnov.achilles.benchmark;
+
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.consistency.CQLConsistencyLevelPolicy;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.parsing.EntityParser;
+import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BenchmarkFixtures
+ * 
+ * Entity metadata and sample entities shared by the benchmarks
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class BenchmarkFixtures
+{
+    public static final int COLLECTION_SIZE = 10;
+
+    /**
+     * Parse entity metadata the same way the EntityManagerFactory does, without starting any Cassandra
+     * server
+     */
+    public static EntityMeta parseEntityMeta(Class<?> entityClass, Impl impl)
+    {
+        ConfigurationContext configContext = new ConfigurationContext();
+        configContext.setImpl(impl);
+        configContext.setObjectMapperFactory(new DefaultObjectMapperFactory());
+        configContext.setConsistencyPolicy(new CQLConsistencyLevelPolicy(ConsistencyLevel.ONE,
+                ConsistencyLevel.ONE, new HashMap<String, ConsistencyLevel>(),
+                new HashMap<String, ConsistencyLevel>()));
+
+        EntityParsingContext context = new EntityParsingContext(new HashMap<PropertyMeta, Class<?>>(),
+                configContext, entityClass);
+
+        return new EntityParser().parseEntity(context);
+    }
+
+    public static BenchmarkUser newUser(Long id)
+    {
+        List<String> friends = new ArrayList<String>();
+        Set<String> followers = new HashSet<String>();
+        Map<Integer, String> preferences = new LinkedHashMap<Integer, String>();
+        for (int i = 0; i < COLLECTION_SIZE; i++)
+        {
+            friends.add("friend" + i);
+            followers.add("follower" + i);
+            preferences.put(i, "preference" + i);
+        }
+
+        BenchmarkUser user = new BenchmarkUser();
+        user.setId(id);
+        user.setName("DuyHai");
+        user.setLabel("label");
+        user.setAge(35L);
+        user.setFriends(friends);
+        user.setFollowers(followers);
+        user.setPreferences(preferences);
+        return user;
+    }
+}
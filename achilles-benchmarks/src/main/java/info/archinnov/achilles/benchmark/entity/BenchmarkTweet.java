@@ -0,0 +1,41 @@
+package info.archinnov.achilles.benchmark.entity;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+
+/**
+ * BenchmarkTweet
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BenchmarkTweet
+{
+    @EmbeddedId
+    private BenchmarkTweetId id;
+
+    @Column
+    private String content;
+
+    public BenchmarkTweetId getId()
+    {
+        return id;
+    }
+
+    public void setId(BenchmarkTweetId id)
+    {
+        this.id = id;
+    }
+
+    public String getContent()
+    {
+        return content;
+    }
+
+    public void setContent(String content)
+    {
+        this.content = content;
+    }
+}
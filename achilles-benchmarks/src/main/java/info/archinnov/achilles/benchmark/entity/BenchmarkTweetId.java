@@ -0,0 +1,48 @@
+package info.archinnov.achilles.benchmark.entity;
+
+import info.archinnov.achilles.annotations.Order;
+
+/**
+ * BenchmarkTweetId
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class BenchmarkTweetId
+{
+    @Order(1)
+    private Long userId;
+
+    @Order(2)
+    private String tweetId;
+
+    public BenchmarkTweetId()
+    {
+    }
+
+    public BenchmarkTweetId(Long userId, String tweetId)
+    {
+        this.userId = userId;
+        this.tweetId = tweetId;
+    }
+
+    public Long getUserId()
+    {
+        return userId;
+    }
+
+    public void setUserId(Long userId)
+    {
+        this.userId = userId;
+    }
+
+    public String getTweetId()
+    {
+        return tweetId;
+    }
+
+    public void setTweetId(String tweetId)
+    {
+        this.tweetId = tweetId;
+    }
+}
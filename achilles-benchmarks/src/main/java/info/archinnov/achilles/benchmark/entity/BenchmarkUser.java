@@ -0,0 +1,110 @@
+package info.archinnov.achilles.benchmark.entity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BenchmarkUser
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BenchmarkUser
+{
+
+    @Id
+    private Long id;
+
+    @Column
+    private String name;
+
+    @Column
+    private String label;
+
+    @Column(name = "age_in_years")
+    private Long age;
+
+    @Column
+    private List<String> friends;
+
+    @Column
+    private Set<String> followers;
+
+    @Column
+    private Map<Integer, String> preferences;
+
+    public Long getId()
+    {
+        return id;
+    }
+
+    public void setId(Long id)
+    {
+        this.id = id;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public void setName(String name)
+    {
+        this.name = name;
+    }
+
+    public String getLabel()
+    {
+        return label;
+    }
+
+    public void setLabel(String label)
+    {
+        this.label = label;
+    }
+
+    public Long getAge()
+    {
+        return age;
+    }
+
+    public void setAge(Long age)
+    {
+        this.age = age;
+    }
+
+    public List<String> getFriends()
+    {
+        return friends;
+    }
+
+    public void setFriends(List<String> friends)
+    {
+        this.friends = friends;
+    }
+
+    public Set<String> getFollowers()
+    {
+        return followers;
+    }
+
+    public void setFollowers(Set<String> followers)
+    {
+        this.followers = followers;
+    }
+
+    public Map<Integer, String> getPreferences()
+    {
+        return preferences;
+    }
+
+    public void setPreferences(Map<Integer, String> preferences)
+    {
+        this.preferences = preferences;
+    }
+}
@@ -0,0 +1,79 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.parseEntityMeta;
+import info.archinnov.achilles.benchmark.entity.BenchmarkTweet;
+import info.archinnov.achilles.benchmark.entity.BenchmarkTweetId;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import java.util.concurrent.TimeUnit;
+import me.prettyprint.hector.api.beans.Composite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ThriftCompositeFactoryBenchmark
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThriftCompositeFactoryBenchmark
+{
+    private ThriftCompositeFactory factory = new ThriftCompositeFactory();
+
+    private PropertyMeta nameMeta;
+
+    private PropertyMeta followersMeta;
+
+    private PropertyMeta tweetIdMeta;
+
+    private BenchmarkTweetId tweetId = new BenchmarkTweetId(1L, "tweet");
+
+    @Setup
+    public void setUp()
+    {
+        EntityMeta userMeta = parseEntityMeta(BenchmarkUser.class, Impl.THRIFT);
+        nameMeta = userMeta.getPropertyMetas().get("name");
+        followersMeta = userMeta.getPropertyMetas().get("followers");
+        tweetIdMeta = parseEntityMeta(BenchmarkTweet.class, Impl.THRIFT).getIdMeta();
+    }
+
+    @Benchmark
+    public Composite createForBatchInsertSingleValue()
+    {
+        return factory.createForBatchInsertSingleValue(nameMeta);
+    }
+
+    @Benchmark
+    public Composite createForBatchInsertMultiValue()
+    {
+        return factory.createForBatchInsertMultiValue(followersMeta, "follower".hashCode());
+    }
+
+    @Benchmark
+    public Composite createBaseForGet()
+    {
+        return factory.createBaseForGet(nameMeta);
+    }
+
+    @Benchmark
+    public Composite createCompositeForClustered()
+    {
+        return factory.createCompositeForClustered(tweetIdMeta, tweetId);
+    }
+}
@@ -0,0 +1,57 @@
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.newUser;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.entity.manager.CQLBenchmarkServer;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLEntityMapperBenchmark
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CQLEntityMapperBenchmark
+{
+    private CQLEntityMapper mapper = new CQLEntityMapper();
+
+    private EntityMeta entityMeta;
+
+    private Row row;
+
+    @Setup
+    public void setUp()
+    {
+        CQLBenchmarkServer server = new CQLBenchmarkServer();
+        server.getEm().persist(newUser(1L));
+
+        entityMeta = server.getEntityMeta(BenchmarkUser.class);
+        row = server.getSession().execute("SELECT * FROM " + entityMeta.getTableName() + " WHERE id=1").one();
+    }
+
+    @Benchmark
+    public BenchmarkUser setEagerPropertiesToEntity()
+    {
+        BenchmarkUser entity = new BenchmarkUser();
+        mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+        return entity;
+    }
+}
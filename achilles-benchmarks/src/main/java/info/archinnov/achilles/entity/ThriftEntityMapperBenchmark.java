@@ -0,0 +1,119 @@
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.*;
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.COMPOSITE_SRZ;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.composite.ThriftCompositeFactory;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.serializer.ThriftBinaryValueCodec;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import me.prettyprint.hector.api.beans.Composite;
+import org.apache.cassandra.utils.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ThriftEntityMapperBenchmark
+ * 
+ * Map the columns of an entity row, serialized then read back as Hector would return them, for each value codec
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThriftEntityMapperBenchmark
+{
+    private ThriftEntityMapper mapper = new ThriftEntityMapper();
+
+    @Param({ "json", "binary" })
+    private String codec;
+
+    private ThriftValueCodec valueCodec;
+
+    private EntityMeta entityMeta;
+
+    private List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
+
+    @Setup
+    public void setUp()
+    {
+        ThriftCompositeFactory factory = new ThriftCompositeFactory();
+        ReflectionInvoker invoker = new ReflectionInvoker();
+        BenchmarkUser user = newUser(1L);
+        valueCodec = "binary".equals(codec) ? new ThriftBinaryValueCodec() : new ThriftJSONValueCodec();
+
+        entityMeta = parseEntityMeta(BenchmarkUser.class, Impl.THRIFT);
+        for (PropertyMeta pm : entityMeta.getAllMetasExceptIdMeta())
+        {
+            Object value = invoker.getValueFromField(user, pm);
+            switch (pm.type())
+            {
+                case SIMPLE:
+                    addColumn(factory.createForBatchInsertSingleValue(pm), valueCodec.encode(pm, value));
+                    break;
+                case LIST:
+                    int position = 0;
+                    for (Object element : (List<?>) value)
+                    {
+                        addColumn(factory.createForBatchInsertMultiValue(pm, position++),
+                                valueCodec.encode(pm, element));
+                    }
+                    break;
+                case SET:
+                    for (Object element : (Set<?>) value)
+                    {
+                        addColumn(factory.createForBatchInsertMultiValue(pm, element.hashCode()),
+                                valueCodec.encode(pm, element));
+                    }
+                    break;
+                case MAP:
+                    for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+                    {
+                        addColumn(factory.createForBatchInsertMultiValue(pm, entry.getKey().hashCode()),
+                                valueCodec.encodeKeyValue(pm, entry.getKey(), entry.getValue()));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public BenchmarkUser setEagerPropertiesToEntity()
+    {
+        BenchmarkUser entity = new BenchmarkUser();
+        mapper.setEagerPropertiesToEntity(1L, columns, entityMeta, entity, valueCodec);
+        return entity;
+    }
+
+    private void addColumn(Composite name, Object value)
+    {
+        Composite readName = COMPOSITE_SRZ.fromByteBuffer(COMPOSITE_SRZ.toByteBuffer(name));
+        columns.add(Pair.<Composite, Object> create(readName, value));
+    }
+}
@@ -0,0 +1,52 @@
+package info.archinnov.achilles.entity.manager;
+
+import static info.archinnov.achilles.embedded.AchillesEmbeddedServer.CASSANDRA_TEST_KEYSPACE_NAME;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.embedded.CQLEmbeddedServer;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.type.OptionsBuilder;
+import com.datastax.driver.core.Session;
+
+/**
+ * CQLBenchmarkServer
+ * 
+ * Bundled CQLEmbeddedServer bootstrapped with the benchmark entities. Lives in the entity manager package to
+ * reach the parsed entity metadata and the persistence context factory
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLBenchmarkServer
+{
+    private static final String ENTITY_PACKAGES = "info.archinnov.achilles.benchmark.entity";
+
+    private final CQLEntityManagerFactory emf;
+    private final CQLEntityManager em;
+
+    public CQLBenchmarkServer()
+    {
+        CQLEmbeddedServer server = new CQLEmbeddedServer(true, ENTITY_PACKAGES, CASSANDRA_TEST_KEYSPACE_NAME);
+        emf = server.getEmf();
+        em = server.getEm();
+    }
+
+    public CQLEntityManager getEm()
+    {
+        return em;
+    }
+
+    public Session getSession()
+    {
+        return em.getNativeSession();
+    }
+
+    public EntityMeta getEntityMeta(Class<?> entityClass)
+    {
+        return emf.entityMetaMap.get(entityClass);
+    }
+
+    public CQLPersistenceContext newContext(Object entity)
+    {
+        return em.initPersistenceContext(entity, OptionsBuilder.noOptions());
+    }
+}
@@ -0,0 +1,67 @@
+package info.archinnov.achilles.entity.manager;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.newUser;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CQLEntityManagerBenchmark
+ * 
+ * End-to-end persist, find and merge against the bundled CQLEmbeddedServer
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CQLEntityManagerBenchmark
+{
+    private static final Long FIND_ID = 1L;
+
+    private CQLEntityManager em;
+
+    private AtomicLong idGenerator = new AtomicLong(FIND_ID);
+
+    @Setup
+    public void setUp()
+    {
+        em = new CQLBenchmarkServer().getEm();
+        em.persist(newUser(FIND_ID));
+    }
+
+    @Benchmark
+    public void persist()
+    {
+        em.persist(newUser(idGenerator.incrementAndGet()));
+    }
+
+    @Benchmark
+    public BenchmarkUser find()
+    {
+        return em.find(BenchmarkUser.class, FIND_ID);
+    }
+
+    @Benchmark
+    public BenchmarkUser find_then_merge()
+    {
+        BenchmarkUser user = em.find(BenchmarkUser.class, FIND_ID);
+        user.setName("John");
+        user.getFollowers().add("newFollower");
+        return em.merge(user);
+    }
+}
@@ -0,0 +1,143 @@
+package info.archinnov.achilles.entity.metadata.transcoding;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.*;
+import info.archinnov.achilles.benchmark.entity.BenchmarkTweet;
+import info.archinnov.achilles.benchmark.entity.BenchmarkTweetId;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DataTranscoderBenchmark
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataTranscoderBenchmark
+{
+    private SimpleTranscoder simpleTranscoder;
+    private ListTranscoder listTranscoder;
+    private SetTranscoder setTranscoder;
+    private MapTranscoder mapTranscoder;
+    private CompoundTranscoder compoundTranscoder;
+
+    private PropertyMeta ageMeta;
+    private PropertyMeta friendsMeta;
+    private PropertyMeta followersMeta;
+    private PropertyMeta preferencesMeta;
+    private PropertyMeta tweetIdMeta;
+
+    private BenchmarkUser user = newUser(1L);
+    private BenchmarkTweetId tweetId = new BenchmarkTweetId(1L, "tweet");
+
+    private List<Object> encodedFriends;
+    private Set<Object> encodedFollowers;
+    private Map<Object, Object> encodedPreferences;
+    private List<Object> encodedTweetId;
+
+    @Setup
+    public void setUp()
+    {
+        ObjectMapper objectMapper = new DefaultObjectMapperFactory().getMapper(BenchmarkUser.class);
+        simpleTranscoder = new SimpleTranscoder(objectMapper);
+        listTranscoder = new ListTranscoder(objectMapper);
+        setTranscoder = new SetTranscoder(objectMapper);
+        mapTranscoder = new MapTranscoder(objectMapper);
+        compoundTranscoder = new CompoundTranscoder(objectMapper);
+
+        EntityMeta userMeta = parseEntityMeta(BenchmarkUser.class, Impl.CQL);
+        ageMeta = userMeta.getPropertyMetas().get("age");
+        friendsMeta = userMeta.getPropertyMetas().get("friends");
+        followersMeta = userMeta.getPropertyMetas().get("followers");
+        preferencesMeta = userMeta.getPropertyMetas().get("preferences");
+        tweetIdMeta = parseEntityMeta(BenchmarkTweet.class, Impl.CQL).getIdMeta();
+
+        encodedFriends = listTranscoder.encode(friendsMeta, user.getFriends());
+        encodedFollowers = setTranscoder.encode(followersMeta, user.getFollowers());
+        encodedPreferences = mapTranscoder.encode(preferencesMeta, user.getPreferences());
+        encodedTweetId = compoundTranscoder.encodeToComponents(tweetIdMeta, tweetId);
+    }
+
+    @Benchmark
+    public Object encode_simple()
+    {
+        return simpleTranscoder.encode(ageMeta, user.getAge());
+    }
+
+    @Benchmark
+    public Object decode_simple()
+    {
+        return simpleTranscoder.decode(ageMeta, user.getAge());
+    }
+
+    @Benchmark
+    public List<Object> encode_list()
+    {
+        return listTranscoder.encode(friendsMeta, user.getFriends());
+    }
+
+    @Benchmark
+    public List<Object> decode_list()
+    {
+        return listTranscoder.decode(friendsMeta, encodedFriends);
+    }
+
+    @Benchmark
+    public Set<Object> encode_set()
+    {
+        return setTranscoder.encode(followersMeta, user.getFollowers());
+    }
+
+    @Benchmark
+    public Set<Object> decode_set()
+    {
+        return setTranscoder.decode(followersMeta, encodedFollowers);
+    }
+
+    @Benchmark
+    public Map<Object, Object> encode_map()
+    {
+        return mapTranscoder.encode(preferencesMeta, user.getPreferences());
+    }
+
+    @Benchmark
+    public Map<Object, Object> decode_map()
+    {
+        return mapTranscoder.decode(preferencesMeta, encodedPreferences);
+    }
+
+    @Benchmark
+    public List<Object> encode_compound()
+    {
+        return compoundTranscoder.encodeToComponents(tweetIdMeta, tweetId);
+    }
+
+    @Benchmark
+    public Object decode_compound()
+    {
+        return compoundTranscoder.decodeFromComponents(tweetIdMeta, encodedTweetId);
+    }
+}
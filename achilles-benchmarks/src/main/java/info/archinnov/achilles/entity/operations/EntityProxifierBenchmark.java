@@ -0,0 +1,50 @@
+package info.archinnov.achilles.entity.operations;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.newUser;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.context.CQLPersistenceContext;
+import info.archinnov.achilles.entity.manager.CQLBenchmarkServer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EntityProxifierBenchmark
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityProxifierBenchmark
+{
+    private CQLEntityProxifier proxifier = new CQLEntityProxifier();
+
+    private BenchmarkUser user = newUser(1L);
+
+    private CQLPersistenceContext context;
+
+    @Setup
+    public void setUp()
+    {
+        context = new CQLBenchmarkServer().newContext(user);
+    }
+
+    @Benchmark
+    public BenchmarkUser buildProxy()
+    {
+        return proxifier.buildProxy(user, context);
+    }
+}
@@ -0,0 +1,76 @@
+package info.archinnov.achilles.proxy;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.newUser;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.entity.manager.CQLBenchmarkServer;
+import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EntityInterceptorBenchmark
+ * 
+ * Getter and setter calls going through EntityInterceptor.intercept() on a proxy whose eager properties are
+ * already loaded, as returned by find()
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityInterceptorBenchmark
+{
+    private BenchmarkUser proxy;
+
+    @Setup
+    public void setUp()
+    {
+        CQLBenchmarkServer server = new CQLBenchmarkServer();
+        BenchmarkUser user = newUser(1L);
+        Set<Method> alreadyLoaded = new HashSet<Method>(server
+                .getEntityMeta(BenchmarkUser.class)
+                .getEagerGetters());
+
+        proxy = new CQLEntityProxifier().buildProxy(user, server.newContext(user), alreadyLoaded);
+    }
+
+    @Benchmark
+    public String intercept_simple_getter()
+    {
+        return proxy.getName();
+    }
+
+    @Benchmark
+    public void intercept_simple_setter()
+    {
+        proxy.setName("John");
+    }
+
+    @Benchmark
+    public Set<String> intercept_set_getter()
+    {
+        return proxy.getFollowers();
+    }
+
+    @Benchmark
+    public boolean intercept_set_addition()
+    {
+        return proxy.getFollowers().add("newFollower");
+    }
+}
@@ -0,0 +1,76 @@
+package info.archinnov.achilles.statement.prepared;
+
+import static info.archinnov.achilles.benchmark.BenchmarkFixtures.newUser;
+import info.archinnov.achilles.benchmark.entity.BenchmarkUser;
+import info.archinnov.achilles.entity.manager.CQLBenchmarkServer;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+/**
+ * CQLPreparedStatementBinderBenchmark
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CQLPreparedStatementBinderBenchmark
+{
+    private CQLPreparedStatementBinder binder = new CQLPreparedStatementBinder();
+
+    private EntityMeta entityMeta;
+
+    private PreparedStatement insertPS;
+
+    private PreparedStatement updatePS;
+
+    private List<PropertyMeta> updatedMetas;
+
+    private BenchmarkUser user = newUser(1L);
+
+    @Setup
+    public void setUp()
+    {
+        CQLBenchmarkServer server = new CQLBenchmarkServer();
+        Session session = server.getSession();
+        CQLPreparedStatementGenerator generator = new CQLPreparedStatementGenerator();
+
+        entityMeta = server.getEntityMeta(BenchmarkUser.class);
+        updatedMetas = Arrays.asList(entityMeta.getPropertyMetas().get("name"),
+                entityMeta.getPropertyMetas().get("followers"));
+
+        insertPS = generator.prepareInsertPS(session, entityMeta);
+        updatePS = generator.prepareUpdateFields(session, entityMeta, updatedMetas);
+    }
+
+    @Benchmark
+    public BoundStatementWrapper bindForInsert()
+    {
+        return binder.bindForInsert(insertPS, entityMeta, user);
+    }
+
+    @Benchmark
+    public BoundStatementWrapper bindForUpdate()
+    {
+        return binder.bindForUpdate(updatePS, entityMeta, updatedMetas, user);
+    }
+}
@@ -5,6 +5,7 @@ import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.json.DefaultObjectMapperFactory;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.validation.Validator;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -98,6 +99,54 @@ public abstract class ArgumentExtractor
 		};
 	}
 
+	public boolean initEntityIndex(Map<String, Object> configurationMap)
+	{
+		Boolean entityIndex = (Boolean) configurationMap.get(ENTITY_INDEX_PARAM);
+		return entityIndex != null ? entityIndex : false;
+	}
+
+	public boolean initCounterCoalescing(Map<String, Object> configurationMap)
+	{
+		Boolean counterCoalescing = (Boolean) configurationMap.get(COUNTER_COALESCING_PARAM);
+		return counterCoalescing != null ? counterCoalescing : false;
+	}
+
+	public int initCounterCoalescingFlushInterval(Map<String, Object> configurationMap)
+	{
+		int flushInterval = DEFAULT_COUNTER_COALESCING_FLUSH_INTERVAL;
+		if (configurationMap.containsKey(COUNTER_COALESCING_FLUSH_INTERVAL_PARAM))
+		{
+			flushInterval = (Integer) configurationMap.get(COUNTER_COALESCING_FLUSH_INTERVAL_PARAM);
+		}
+		Validator.validateTrue(flushInterval > 0, "%s property should be strictly positive",
+				COUNTER_COALESCING_FLUSH_INTERVAL_PARAM);
+		return flushInterval;
+	}
+
+	public int initCounterCoalescingMaxPending(Map<String, Object> configurationMap)
+	{
+		int maxPending = DEFAULT_COUNTER_COALESCING_MAX_PENDING;
+		if (configurationMap.containsKey(COUNTER_COALESCING_MAX_PENDING_PARAM))
+		{
+			maxPending = (Integer) configurationMap.get(COUNTER_COALESCING_MAX_PENDING_PARAM);
+		}
+		Validator.validateTrue(maxPending > 0, "%s property should be strictly positive",
+				COUNTER_COALESCING_MAX_PENDING_PARAM);
+		return maxPending;
+	}
+
+	public int initExecutorThreads(Map<String, Object> configurationMap)
+	{
+		int executorThreads = DEFAULT_EXECUTOR_THREADS;
+		if (configurationMap.containsKey(EXECUTOR_THREADS_PARAM))
+		{
+			executorThreads = (Integer) configurationMap.get(EXECUTOR_THREADS_PARAM);
+		}
+		Validator.validateTrue(executorThreads > 0, "%s property should be strictly positive",
+				EXECUTOR_THREADS_PARAM);
+		return executorThreads;
+	}
+
 	public ConsistencyLevel initDefaultReadConsistencyLevel(Map<String, Object> configMap)
 	{
 		String defaultReadLevel = (String) configMap.get(CONSISTENCY_LEVEL_READ_DEFAULT_PARAM);
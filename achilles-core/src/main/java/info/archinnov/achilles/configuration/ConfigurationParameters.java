@@ -22,5 +22,16 @@ public interface ConfigurationParameters {
     String FORCE_CF_CREATION_PARAM = "achilles.ddl.force.column.family.creation";
     String ENSURE_CONSISTENCY_ON_JOIN_PARAM = "achilles.consistency.join.check";
 
+    String ENTITY_INDEX_PARAM = "achilles.entity.index.enable";
+
+    String COUNTER_COALESCING_PARAM = "achilles.counter.coalescing.enable";
+    String COUNTER_COALESCING_FLUSH_INTERVAL_PARAM = "achilles.counter.coalescing.flush.interval";
+    String COUNTER_COALESCING_MAX_PENDING_PARAM = "achilles.counter.coalescing.max.pending";
+    int DEFAULT_COUNTER_COALESCING_FLUSH_INTERVAL = 1000;
+    int DEFAULT_COUNTER_COALESCING_MAX_PENDING = 10000;
+
+    String EXECUTOR_THREADS_PARAM = "achilles.executor.threads";
+    int DEFAULT_EXECUTOR_THREADS = 8;
+
     ConsistencyLevel DEFAULT_LEVEL = ConsistencyLevel.ONE;
 }
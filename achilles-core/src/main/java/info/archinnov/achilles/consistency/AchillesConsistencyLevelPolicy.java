@@ -62,26 +62,6 @@ public abstract class AchillesConsistencyLevelPolicy
 		return defaultGlobalWriteConsistencyLevel;
 	}
 
-	public abstract void loadConsistencyLevelForRead(String columnFamily);
-
-	public abstract void loadConsistencyLevelForWrite(String columnFamily);
-
-	public abstract void reinitDefaultConsistencyLevels();
-
-	public abstract void reinitCurrentConsistencyLevels();
-
-	public abstract ConsistencyLevel getCurrentReadLevel();
-
-	public abstract void setCurrentReadLevel(ConsistencyLevel readLevel);
-
-	public abstract void removeCurrentReadLevel();
-
-	public abstract ConsistencyLevel getCurrentWriteLevel();
-
-	public abstract void setCurrentWriteLevel(ConsistencyLevel writeLevel);
-
-	public abstract void removeCurrentWriteLevel();
-
 	protected void setDefaultGlobalReadConsistencyLevel(
 			ConsistencyLevel defaultGlobalReadConsistencyLevel)
 	{
@@ -0,0 +1,147 @@
+package info.archinnov.achilles.context;
+
+import info.archinnov.achilles.exception.AchillesException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * AchillesExecutor
+ *
+ * Fixed number of daemon threads owned by an EntityManagerFactory and shared by all its concurrent reads and
+ * writes. A task which is still queued when its result is awaited runs on the waiting thread, so that a task can
+ * wait for sub-tasks without exhausting the pool
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class AchillesExecutor implements Executor
+{
+    private static final Logger log = LoggerFactory.getLogger(AchillesExecutor.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+
+    public AchillesExecutor(int threads)
+    {
+        executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true)
+                        .setNameFormat("achilles-executor-%d").build());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        executor.execute(command);
+    }
+
+    /**
+     * Queue the task. Once the executor is shut down, the task is run by the thread waiting for it
+     */
+    public <V> Future<V> submit(Callable<V> task)
+    {
+        FutureTask<V> futureTask = new FutureTask<V>(task);
+        try
+        {
+            executor.execute(futureTask);
+        } catch (RejectedExecutionException e)
+        {
+            log.debug("Executor is shut down, the task will run on the waiting thread");
+        }
+        return futureTask;
+    }
+
+    /**
+     * Wait for the result of a task returned by submit(), running it on the calling thread if no worker has
+     * started it yet. The exception raised by the task is rethrown
+     */
+    public <V> V waitFor(Future<V> future)
+    {
+        if (future instanceof RunnableFuture)
+        {
+            // No-op when the task is already running or done
+            ((RunnableFuture<V>) future).run();
+        }
+        try
+        {
+            return Uninterruptibles.getUninterruptibly(future);
+        } catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new AchillesException(cause);
+        }
+    }
+
+    /**
+     * Run the tasks with at most maxInFlight of them at the same time and return their results in order. On the
+     * first failure, the pending tasks are cancelled and the exception is rethrown
+     */
+    public <V> List<V> invokeAll(List<? extends Callable<V>> tasks, int maxInFlight)
+    {
+        List<V> results = new ArrayList<V>(tasks.size());
+        Queue<Future<V>> inFlightFutures = new LinkedList<Future<V>>();
+        try
+        {
+            for (Callable<V> task : tasks)
+            {
+                inFlightFutures.add(submit(task));
+                if (inFlightFutures.size() >= maxInFlight)
+                {
+                    results.add(waitFor(inFlightFutures.poll()));
+                }
+            }
+            while (!inFlightFutures.isEmpty())
+            {
+                results.add(waitFor(inFlightFutures.poll()));
+            }
+        } catch (RuntimeException e)
+        {
+            cancel(inFlightFutures);
+            throw e;
+        } catch (Error e)
+        {
+            cancel(inFlightFutures);
+            throw e;
+        }
+        return results;
+    }
+
+    public void shutdown()
+    {
+        log.debug("Shutting down Achilles executor");
+        executor.shutdown();
+    }
+
+    private void cancel(Queue<? extends Future<?>> futures)
+    {
+        for (Future<?> future : futures)
+        {
+            future.cancel(true);
+        }
+    }
+}
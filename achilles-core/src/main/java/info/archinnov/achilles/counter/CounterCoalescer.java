@@ -0,0 +1,191 @@
+package info.archinnov.achilles.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * CounterCoalescer
+ * 
+ * Sum counter increments per key in memory and write the deltas from a background thread every
+ * 'flushInterval' milliseconds or as soon as 'maxPendingDeltas' distinct keys are pending. Increments are
+ * therefore not visible to reads before the next flush and pending deltas are lost if the JVM dies before
+ * shutdown()
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public abstract class CounterCoalescer<K>
+{
+    private static final Logger log = LoggerFactory.getLogger(CounterCoalescer.class);
+
+    private final int maxPendingDeltas;
+    private final ScheduledExecutorService flusher;
+    private final Runnable flushTask = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            flush();
+        }
+    };
+
+    // Writers share the read lock so that no increment is added to a map once it has been swapped for flush
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentMap<K, AtomicLong> pendingDeltas = new ConcurrentHashMap<K, AtomicLong>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final AtomicLong coalescedIncrements = new AtomicLong(0);
+    private final AtomicLong flushedDeltas = new AtomicLong(0);
+    private final AtomicLong failedDeltas = new AtomicLong(0);
+
+    protected CounterCoalescer(int flushInterval, int maxPendingDeltas)
+    {
+        this.maxPendingDeltas = maxPendingDeltas;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("achilles-counter-flush-%d").build());
+        flusher.scheduleWithFixedDelay(flushTask, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void add(K key, long delta)
+    {
+        int pendingCount;
+        swapLock.readLock().lock();
+        try
+        {
+            AtomicLong pending = pendingDeltas.get(key);
+            if (pending == null)
+            {
+                AtomicLong created = new AtomicLong(0);
+                pending = pendingDeltas.putIfAbsent(key, created);
+                if (pending == null)
+                {
+                    pending = created;
+                }
+            }
+            pending.addAndGet(delta);
+            pendingCount = pendingDeltas.size();
+        } finally
+        {
+            swapLock.readLock().unlock();
+        }
+        coalescedIncrements.incrementAndGet();
+
+        if (pendingCount >= maxPendingDeltas && flushRequested.compareAndSet(false, true))
+        {
+            try
+            {
+                flusher.execute(flushTask);
+            }
+            catch (RejectedExecutionException e)
+            {
+                log.warn("Counter coalescer is shut down, the pending deltas will not be flushed");
+            }
+        }
+    }
+
+    /**
+     * Write all the pending deltas now, on the calling thread
+     */
+    public synchronized void flush()
+    {
+        flushRequested.set(false);
+        ConcurrentMap<K, AtomicLong> toFlush;
+        swapLock.writeLock().lock();
+        try
+        {
+            toFlush = pendingDeltas;
+            pendingDeltas = new ConcurrentHashMap<K, AtomicLong>();
+        } finally
+        {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<K, Long> deltas = new HashMap<K, Long>();
+        for (Entry<K, AtomicLong> entry : toFlush.entrySet())
+        {
+            long delta = entry.getValue().get();
+            if (delta != 0)
+            {
+                deltas.put(entry.getKey(), delta);
+            }
+        }
+
+        if (!deltas.isEmpty())
+        {
+            log.debug("Flushing {} coalesced counter deltas", deltas.size());
+            int failed;
+            try
+            {
+                failed = writeDeltas(deltas);
+            }
+            catch (Throwable throwable)
+            {
+                log.error("Cannot flush {} coalesced counter deltas", deltas.size(), throwable);
+                failed = deltas.size();
+            }
+            flushedDeltas.addAndGet(deltas.size() - failed);
+            failedDeltas.addAndGet(failed);
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write the remaining deltas
+     */
+    public void shutdown()
+    {
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * Number of keys having a delta waiting for the next flush
+     */
+    public int getPendingDeltas()
+    {
+        return pendingDeltas.size();
+    }
+
+    /**
+     * Number of increments and decrements received since startup
+     */
+    public long getCoalescedIncrements()
+    {
+        return coalescedIncrements.get();
+    }
+
+    /**
+     * Number of deltas written to Cassandra since startup
+     */
+    public long getFlushedDeltas()
+    {
+        return flushedDeltas.get();
+    }
+
+    /**
+     * Number of deltas whose write failed since startup. Failed deltas are logged and not retried since a counter
+     * write which timed out may still have been applied
+     */
+    public long getFailedDeltas()
+    {
+        return failedDeltas.get();
+    }
+
+    /**
+     * Write the deltas and return the number of them which could not be written
+     */
+    protected abstract int writeDeltas(Map<K, Long> deltas);
+}
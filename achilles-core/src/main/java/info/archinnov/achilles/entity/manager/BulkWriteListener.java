@@ -0,0 +1,35 @@
+package info.archinnov.achilles.entity.manager;
+
+/**
+ * BulkWriteListener
+ *
+ * Callback notified by a BulkWriter each time a pending write completes. All notifications happen on the thread
+ * calling the BulkWriter
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public interface BulkWriteListener<T>
+{
+    /**
+     * Called after each completed write request
+     *
+     * @param written
+     *            number of entities successfully written so far
+     * @param failed
+     *            number of entities whose write failed so far
+     * @param elapsedMillis
+     *            milliseconds elapsed since the creation of the BulkWriter
+     */
+    public void onProgress(long written, long failed, long elapsedMillis);
+
+    /**
+     * Called once for each entity of a failed write request
+     *
+     * @param entity
+     *            entity which could not be written
+     * @param cause
+     *            failure of the write request
+     */
+    public void onFailure(T entity, Throwable cause);
+}
@@ -0,0 +1,155 @@
+package info.archinnov.achilles.entity.manager;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * BulkWriter
+ *
+ * Write plain entities of one class without persistence context, proxy or cascading. Entities are grouped into
+ * write requests sent asynchronously with at most maxInFlight pending requests. Join entities are not written, only
+ * their primary key is. Counter properties are ignored.
+ *
+ * Failures are reported to the BulkWriteListener, or thrown when no listener is provided.
+ *
+ * <strong>A BulkWriter is not thread-safe</strong>. Call flush() once all entities are written
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public abstract class BulkWriter<T>
+{
+    private static final Logger log = LoggerFactory.getLogger(BulkWriter.class);
+
+    protected Class<T> entityClass;
+    protected EntityMeta entityMeta;
+
+    private int maxInFlight;
+    private BulkWriteListener<? super T> listener;
+    private Queue<PendingWrite<T>> pendingWrites = new LinkedList<PendingWrite<T>>();
+    private long written = 0;
+    private long failed = 0;
+    private long startTime = System.currentTimeMillis();
+
+    protected BulkWriter(Class<T> entityClass, EntityMeta entityMeta, int maxInFlight,
+            BulkWriteListener<? super T> listener)
+    {
+        this.entityClass = entityClass;
+        this.entityMeta = entityMeta;
+        this.maxInFlight = maxInFlight;
+        this.listener = listener;
+    }
+
+    /**
+     * Buffer an entity for writing
+     *
+     * @param entity
+     *            Plain entity to be written
+     */
+    public void write(T entity)
+    {
+        Validator.validateNotNull(entity, "Entity to be bulk written should not be null");
+        Validator.validateInstanceOf(entity, entityClass, "Entity '%s' should be of class '%s'", entity,
+                entityClass.getCanonicalName());
+        append(entity);
+    }
+
+    public void writeAll(Iterator<? extends T> entities)
+    {
+        while (entities.hasNext())
+        {
+            write(entities.next());
+        }
+    }
+
+    public void writeAll(Iterable<? extends T> entities)
+    {
+        writeAll(entities.iterator());
+    }
+
+    /**
+     * Send all buffered entities and wait for all pending write requests
+     */
+    public void flush()
+    {
+        log.debug("Flushing bulk writer for entity class {}", entityClass.getCanonicalName());
+        sendBuffered();
+        while (!pendingWrites.isEmpty())
+        {
+            complete(pendingWrites.poll());
+        }
+    }
+
+    public long getWritten()
+    {
+        return written;
+    }
+
+    public long getFailed()
+    {
+        return failed;
+    }
+
+    protected abstract void append(T entity);
+
+    protected abstract void sendBuffered();
+
+    protected void registerPendingWrite(Future<?> future, List<T> entities)
+    {
+        pendingWrites.add(new PendingWrite<T>(future, entities));
+        if (pendingWrites.size() >= maxInFlight)
+        {
+            complete(pendingWrites.poll());
+        }
+    }
+
+    private void complete(PendingWrite<T> pendingWrite)
+    {
+        try
+        {
+            Uninterruptibles.getUninterruptibly(pendingWrite.future);
+            written += pendingWrite.entities.size();
+        } catch (ExecutionException e)
+        {
+            failed += pendingWrite.entities.size();
+            if (listener == null)
+            {
+                if (e.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new AchillesException(e.getCause());
+            }
+            for (T entity : pendingWrite.entities)
+            {
+                listener.onFailure(entity, e.getCause());
+            }
+        }
+        if (listener != null)
+        {
+            listener.onProgress(written, failed, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private static class PendingWrite<T>
+    {
+        private Future<?> future;
+        private List<T> entities;
+
+        private PendingWrite(Future<?> future, List<T> entities)
+        {
+            this.future = future;
+            this.entities = entities;
+        }
+    }
+}
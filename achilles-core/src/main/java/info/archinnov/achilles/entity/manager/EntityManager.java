@@ -13,6 +13,10 @@ import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -295,6 +299,55 @@ public abstract class EntityManager<CONTEXT extends PersistenceContext> {
         return context.<T> find(entityClass);
     }
 
+    /**
+     * Find many entities of the same type in bulk
+     * 
+     * @param entityClass
+     *            Entity type
+     * @param primaryKeys
+     *            Primary keys (Cassandra row keys) of the entities to load
+     * @return map of found entities by primary key, in primary keys order. Primary keys with no matching entity are
+     *         absent from the map
+     */
+    public <ID, T> Map<ID, T> findAll(Class<T> entityClass, Collection<ID> primaryKeys) {
+        log.debug("Find entities class '{}' with primary keys {}", entityClass, primaryKeys);
+        return findAll(entityClass, primaryKeys, null);
+    }
+
+    /**
+     * Find many entities of the same type in bulk with the given Consistency Level for read
+     * 
+     * @param entityClass
+     *            Entity type
+     * @param primaryKeys
+     *            Primary keys (Cassandra row keys) of the entities to load
+     * @param readLevel
+     *            Consistency Level for read
+     * @return map of found entities by primary key, in primary keys order. Primary keys with no matching entity are
+     *         absent from the map
+     */
+    public <ID, T> Map<ID, T> findAll(final Class<T> entityClass, final Collection<ID> primaryKeys,
+            ConsistencyLevel readLevel) {
+        log.debug("Find entities class '{}' with primary keys {} and read consistency level {}", entityClass,
+                primaryKeys, readLevel);
+        Validator.validateNotNull(entityClass, "Entity class should not be null for find by ids");
+        Validator.validateNotNull(primaryKeys, "Entity primaryKeys should not be null for find by ids");
+        EntityMeta entityMeta = entityMetaMap.get(entityClass);
+        Validator.validateNotNull(entityMeta, "Entity meta for '%s' should not be null",
+                entityClass.getCanonicalName());
+
+        List<ID> distinctPrimaryKeys = new ArrayList<ID>(new LinkedHashSet<ID>(primaryKeys));
+        for (ID primaryKey : distinctPrimaryKeys) {
+            Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by ids");
+            entityValidator.validatePrimaryKey(entityMeta.getIdMeta(), primaryKey);
+        }
+
+        if (distinctPrimaryKeys.isEmpty()) {
+            return new LinkedHashMap<ID, T>();
+        }
+        return doFindAll(entityClass, distinctPrimaryKeys, readLevel);
+    }
+
     /**
      * Find an entity. Works exactly as find(Class<T> entityClass, Object primaryKey) except that the database will not
      * be hit. This method never returns null
@@ -496,6 +549,9 @@ public abstract class EntityManager<CONTEXT extends PersistenceContext> {
      */
     public abstract <T> SliceQueryBuilder<CONTEXT, T> sliceQuery(Class<T> entityClass);
 
+    protected abstract <ID, T> Map<ID, T> doFindAll(Class<T> entityClass, List<ID> primaryKeys,
+            ConsistencyLevel readLevel);
+
     protected abstract CONTEXT initPersistenceContext(Object entity, Options options);
 
     protected abstract CONTEXT initPersistenceContext(Class<?> entityClass, Object primaryKey,
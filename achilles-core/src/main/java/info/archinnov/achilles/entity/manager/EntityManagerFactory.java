@@ -2,6 +2,7 @@ package info.archinnov.achilles.entity.manager;
 
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -10,11 +11,14 @@ import info.archinnov.achilles.entity.parsing.EntityParser;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.entity.parsing.validator.EntityParsingValidator;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.EntityProxyFactoryRegistry;
 import info.archinnov.achilles.validation.Validator;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import net.sf.cglib.proxy.Factory;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,10 +36,16 @@ public abstract class EntityManagerFactory
     protected Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
     protected ConfigurationContext configContext;
     protected List<String> entityPackages;
+    protected boolean useEntityIndex;
+    protected AchillesExecutor executor;
 
     private EntityParser entityParser = new EntityParser();
     private EntityExplorer entityExplorer = new EntityExplorer();
     private EntityParsingValidator validator = new EntityParsingValidator();
+    private EntityProxyFactoryRegistry proxyFactoryRegistry = EntityProxyFactoryRegistry.getInstance();
+
+    // Strong references keeping the shared proxy factories of the managed entities alive
+    private List<Factory> proxyFactories = new ArrayList<Factory>();
 
     protected EntityManagerFactory(Map<String, Object> configurationMap,
             ArgumentExtractor argumentExtractor)
@@ -46,7 +56,10 @@ public abstract class EntityManagerFactory
                 "Configuration map for EntityManagerFactory should not be empty");
 
         entityPackages = argumentExtractor.initEntityPackages(configurationMap);
+        useEntityIndex = argumentExtractor.initEntityIndex(configurationMap);
         configContext = parseConfiguration(configurationMap, argumentExtractor);
+        executor = new AchillesExecutor(argumentExtractor.initExecutorThreads(configurationMap));
+        registerShutdownHook(executor);
     }
 
     protected boolean bootstrap()
@@ -71,7 +84,7 @@ public abstract class EntityManagerFactory
                 StringUtils.join(entityPackages, ","));
         Map<PropertyMeta, Class<?>> joinPropertyMetaToBeFilled = new HashMap<PropertyMeta, Class<?>>();
 
-        List<Class<?>> entities = entityExplorer.discoverEntities(entityPackages);
+        List<Class<?>> entities = entityExplorer.discoverEntities(entityPackages, useEntityIndex);
         validator.validateAtLeastOneEntity(entities, entityPackages);
         boolean hasSimpleCounter = false;
         for (Class<?> entityClass : entities)
@@ -82,6 +95,7 @@ public abstract class EntityManagerFactory
 
             EntityMeta entityMeta = entityParser.parseEntity(context);
             entityMetaMap.put(entityClass, entityMeta);
+            proxyFactories.add(proxyFactoryRegistry.registerProxyFactory(entityClass));
             hasSimpleCounter = context.getHasSimpleCounter() || hasSimpleCounter;
         }
 
@@ -131,6 +145,11 @@ public abstract class EntityManagerFactory
         this.validator = validator;
     }
 
+    protected void setProxyFactoryRegistry(EntityProxyFactoryRegistry proxyFactoryRegistry)
+    {
+        this.proxyFactoryRegistry = proxyFactoryRegistry;
+    }
+
     protected void setEntityMetaMap(Map<Class<?>, EntityMeta> entityMetaMap)
     {
         this.entityMetaMap = entityMetaMap;
@@ -141,4 +160,16 @@ public abstract class EntityManagerFactory
         this.configContext = configContext;
     }
 
+    private void registerShutdownHook(final AchillesExecutor executor)
+    {
+        Runtime.getRuntime().addShutdownHook(new Thread()
+        {
+            @Override
+            public void run()
+            {
+                executor.shutdown();
+            }
+        });
+    }
+
 }
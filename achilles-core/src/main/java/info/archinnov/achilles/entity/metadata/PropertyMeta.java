@@ -2,6 +2,7 @@ package info.archinnov.achilles.entity.metadata;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
 import static info.archinnov.achilles.helper.PropertyHelper.isSupportedType;
+import info.archinnov.achilles.entity.metadata.reflection.ValueAccessor;
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -38,6 +39,7 @@ public class PropertyMeta
     private Class<?> valueClass;
     private Method getter;
     private Method setter;
+    private ValueAccessor valueAccessor;
     private CounterProperties counterProperties;
     private JoinProperties joinProperties;
     private EmbeddedIdProperties embeddedIdProperties;
@@ -441,6 +443,16 @@ public class PropertyMeta
         this.setter = setter;
     }
 
+    public ValueAccessor getValueAccessor()
+    {
+        return valueAccessor;
+    }
+
+    public void setValueAccessor(ValueAccessor valueAccessor)
+    {
+        this.valueAccessor = valueAccessor;
+    }
+
     public EmbeddedIdProperties getEmbeddedIdProperties()
     {
         return embeddedIdProperties;
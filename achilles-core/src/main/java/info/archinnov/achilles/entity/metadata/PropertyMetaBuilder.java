@@ -1,5 +1,6 @@
 package info.archinnov.achilles.entity.metadata;
 
+import info.archinnov.achilles.entity.metadata.reflection.ValueAccessor;
 import info.archinnov.achilles.entity.metadata.transcoding.CompoundTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.ListTranscoder;
@@ -66,6 +67,7 @@ public class PropertyMetaBuilder {
         meta.setValueClass(valueClass);
         meta.setGetter(accessors[0]);
         meta.setSetter(accessors[1]);
+        meta.setValueAccessor(new ValueAccessor(accessors[0], accessors[1]));
 
         meta.setJoinProperties(joinProperties);
         meta.setEmbeddedIdProperties(embeddedIdProperties);
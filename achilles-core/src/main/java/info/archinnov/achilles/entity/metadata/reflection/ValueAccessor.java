@@ -1,11 +1,58 @@
 package info.archinnov.achilles.entity.metadata.reflection;
 
+import info.archinnov.achilles.exception.AchillesException;
+import java.lang.reflect.Method;
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
+
 /**
  * ValueAccessor
- *
+ * 
+ * Read and write a property through Cglib generated FastMethods, built once at parsing time, instead of
+ * Method.invoke()
+ * 
  * @author DuyHai DOAN
- *
+ * 
  */
 public class ValueAccessor {
 
+    private static final Object[] NO_ARGS = new Object[] {};
+
+    private FastMethod getter;
+    private FastMethod setter;
+
+    public ValueAccessor(Method getter, Method setter) {
+        this.getter = toFastMethod(getter);
+        this.setter = toFastMethod(setter);
+    }
+
+    public Object getValue(Object target) {
+        try {
+            return getter.invoke(target, NO_ARGS);
+        } catch (Exception e) {
+            throw new AchillesException("Cannot invoke '" + getter.getName() + "' of type '"
+                    + getter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
+        }
+    }
+
+    public void setValue(Object target, Object value) {
+        try {
+            setter.invoke(target, new Object[] { value });
+        } catch (Exception e) {
+            throw new AchillesException("Cannot invoke '" + setter.getName() + "'  of type '"
+                    + setter.getDeclaringClass().getCanonicalName() + "' on instance '" + target + "'", e);
+        }
+    }
+
+    public boolean hasGetter() {
+        return getter != null;
+    }
+
+    public boolean hasSetter() {
+        return setter != null;
+    }
+
+    private FastMethod toFastMethod(Method method) {
+        return method == null ? null : FastClass.create(method.getDeclaringClass()).getMethod(method);
+    }
 }
@@ -7,6 +7,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.Merger;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.validation.Validator;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -47,9 +48,10 @@ public abstract class EntityMerger<CONTEXT extends PersistenceContext> {
 
             EntityInterceptor<CONTEXT, T> interceptor = proxifier.getInterceptor(entity);
             Map<Method, PropertyMeta> dirtyMap = interceptor.getDirtyMap();
+            Map<Method, CollectionDelta> deltaMap = interceptor.getDeltaMap();
 
             if (context.addToProcessingList(realObject)) {
-                merger.merge(context, dirtyMap);
+                merger.merge(context, dirtyMap, deltaMap);
                 List<PropertyMeta> joinPMs = FluentIterable
                         .from(entityMeta.getAllMetasExceptIdMeta())
                         .filter(joinPropertyType).filter(hasCascadeMerge).toImmutableList();
@@ -2,6 +2,7 @@ package info.archinnov.achilles.entity.operations;
 
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.EntityProxyFactoryRegistry;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -11,7 +12,6 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
 
 import org.slf4j.Logger;
@@ -27,6 +27,8 @@ public abstract class EntityProxifier<CONTEXT extends PersistenceContext>
 {
 	private static final Logger log = LoggerFactory.getLogger(EntityProxifier.class);
 
+	private EntityProxyFactoryRegistry proxyFactoryRegistry = EntityProxyFactoryRegistry.getInstance();
+
 	public <ID> Class<?> deriveBaseClass(Object entity)
 	{
 		log.debug("Deriving base class for entity {} ", entity);
@@ -57,11 +59,8 @@ public abstract class EntityProxifier<CONTEXT extends PersistenceContext>
 
 		log.debug("Build Cglib proxy for entity {} ", entity);
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(entity.getClass());
-		enhancer.setCallback(buildInterceptor(context, entity, alreadyLoaded));
-
-		return (T) enhancer.create();
+		return (T) proxyFactoryRegistry.newProxy(entity.getClass(),
+				buildInterceptor(context, entity, alreadyLoaded));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -38,6 +38,7 @@ public class EntityRefresher<CONTEXT extends PersistenceContext> {
         EntityInterceptor<CONTEXT, Object> interceptor = proxifier.getInterceptor(entity);
 
         interceptor.getDirtyMap().clear();
+        interceptor.getDeltaMap().clear();
         Set<Method> alreadyLoaded = interceptor.getAlreadyLoaded();
         alreadyLoaded.clear();
         alreadyLoaded.addAll(context.getEntityMeta().getEagerGetters());
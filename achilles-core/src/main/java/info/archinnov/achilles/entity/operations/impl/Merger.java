@@ -3,6 +3,7 @@ package info.archinnov.achilles.entity.operations.impl;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityMerger;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +17,8 @@ import java.util.Map;
 public interface Merger<CONTEXT extends PersistenceContext>
 {
 
-    public void merge(CONTEXT context, Map<Method, PropertyMeta> dirtyMap);
+    public void merge(CONTEXT context, Map<Method, PropertyMeta> dirtyMap,
+            Map<Method, CollectionDelta> deltaMap);
 
     public void cascadeMerge(EntityMerger<CONTEXT> entityMerger, CONTEXT context,
             List<PropertyMeta> joinPMs);
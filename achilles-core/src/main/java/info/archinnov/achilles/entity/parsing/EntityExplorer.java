@@ -1,10 +1,16 @@
 package info.archinnov.achilles.entity.parsing;
 
+import static info.archinnov.achilles.entity.parsing.EntityIndexProcessor.ENTITY_INDEX;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import org.apache.commons.lang.StringUtils;
 import org.reflections.Reflections;
 import org.slf4j.Logger;
@@ -13,20 +19,84 @@ import org.slf4j.LoggerFactory;
 /**
  * EntityExplorer
  * 
+ * When enabled, entities of a package are read from the index generated at compile time by EntityIndexProcessor.
+ * Packages without any indexed entity are scanned on the classpath. All the entity classes of an indexed package
+ * must then be compiled with the processor
+ * 
  * @author DuyHai DOAN
  * 
  */
 public class EntityExplorer {
     private static final Logger log = LoggerFactory.getLogger(EntityExplorer.class);
 
+    private String entityIndex = ENTITY_INDEX;
+
     public List<Class<?>> discoverEntities(List<String> packageNames) throws ClassNotFoundException, IOException {
+        return discoverEntities(packageNames, false);
+    }
+
+    public List<Class<?>> discoverEntities(List<String> packageNames, boolean useEntityIndex)
+            throws ClassNotFoundException, IOException {
         log.debug("Discovery of Achilles entity classes in packages {}", StringUtils.join(packageNames, ","));
 
+        ClassLoader classLoader = classLoader();
+        Set<String> indexedClassNames = useEntityIndex ? readEntityIndex(classLoader) : new TreeSet<String>();
+
         Set<Class<?>> candidateClasses = new HashSet<Class<?>>();
-        Reflections reflections = new Reflections(packageNames);
-        candidateClasses.addAll(reflections.getTypesAnnotatedWith(javax.persistence.Entity.class));
-        candidateClasses.addAll(reflections.getTypesAnnotatedWith(javax.persistence.Table.class));
+        List<String> packagesToScan = new ArrayList<String>();
+        for (String packageName : packageNames) {
+            List<String> classNames = filterByPackage(indexedClassNames, packageName);
+            if (classNames.isEmpty()) {
+                packagesToScan.add(packageName);
+            } else {
+                log.debug("Entity classes of package {} found in entity index : {}", packageName, classNames);
+                for (String className : classNames) {
+                    candidateClasses.add(Class.forName(className, false, classLoader));
+                }
+            }
+        }
+
+        if (!packagesToScan.isEmpty()) {
+            Reflections reflections = new Reflections(packagesToScan);
+            candidateClasses.addAll(reflections.getTypesAnnotatedWith(javax.persistence.Entity.class));
+            candidateClasses.addAll(reflections.getTypesAnnotatedWith(javax.persistence.Table.class));
+        }
         return new ArrayList<Class<?>>(candidateClasses);
     }
 
+    private Set<String> readEntityIndex(ClassLoader classLoader) throws IOException {
+        Set<String> classNames = new TreeSet<String>();
+        Enumeration<URL> indexes = classLoader.getResources(entityIndex);
+        while (indexes.hasMoreElements()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(),
+                    "UTF-8"));
+            try {
+                String className;
+                while ((className = reader.readLine()) != null) {
+                    if (StringUtils.isNotBlank(className)) {
+                        classNames.add(className.trim());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return classNames;
+    }
+
+    private List<String> filterByPackage(Set<String> classNames, String packageName) {
+        List<String> filtered = new ArrayList<String>();
+        for (String className : classNames) {
+            if (className.startsWith(packageName + ".")) {
+                filtered.add(className);
+            }
+        }
+        return filtered;
+    }
+
+    private ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : EntityExplorer.class.getClassLoader();
+    }
+
 }
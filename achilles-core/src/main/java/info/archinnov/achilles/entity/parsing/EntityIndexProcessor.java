@@ -0,0 +1,137 @@
+package info.archinnov.achilles.entity.parsing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * EntityIndexProcessor
+ * 
+ * Annotation processor listing at compile time the classes annotated with @Entity or @Table into the
+ * META-INF/achilles/entity.index resource, one class name per line. The EntityExplorer reads this index instead of
+ * scanning the classpath
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@SupportedAnnotationTypes(
+{
+        "javax.persistence.Entity",
+        "javax.persistence.Table"
+})
+public class EntityIndexProcessor extends AbstractProcessor
+{
+    public static final String ENTITY_INDEX = "META-INF/achilles/entity.index";
+
+    private Set<String> entityClassNames = new TreeSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (TypeElement annotation : annotations)
+        {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+            {
+                if (element.getKind() == ElementKind.CLASS)
+                {
+                    entityClassNames.add(processingEnv
+                            .getElementUtils()
+                            .getBinaryName((TypeElement) element)
+                            .toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !entityClassNames.isEmpty())
+        {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex()
+    {
+        Set<String> classNames = new TreeSet<String>(entityClassNames);
+        classNames.addAll(readPreviousIndex());
+        try
+        {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    ENTITY_INDEX);
+            Writer writer = index.openWriter();
+            try
+            {
+                for (String className : classNames)
+                {
+                    writer.write(className);
+                    writer.write("\n");
+                }
+            }
+            finally
+            {
+                writer.close();
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Kind.ERROR,
+                    "Cannot write Achilles entity index " + ENTITY_INDEX + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * On incremental compilation only the modified sources are processed. Entities of the previous index which still
+     * exist are kept
+     */
+    private Set<String> readPreviousIndex()
+    {
+        Set<String> classNames = new TreeSet<String>();
+        try
+        {
+            FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    ENTITY_INDEX);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(previous.openInputStream(),
+                    "UTF-8"));
+            try
+            {
+                String className;
+                while ((className = reader.readLine()) != null)
+                {
+                    className = className.trim();
+                    if (className.length() > 0
+                            && processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null)
+                    {
+                        classNames.add(className);
+                    }
+                }
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        catch (IOException e)
+        {
+            // no previous index
+        }
+        return classNames;
+    }
+}
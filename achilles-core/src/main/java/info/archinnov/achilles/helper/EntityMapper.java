@@ -68,7 +68,7 @@ public class EntityMapper {
         log.trace("Set primary key value {} to entity {} ", key, entity);
 
         try {
-            invoker.setValueToField(entity, idMeta.getSetter(), key);
+            invoker.setValueToField(entity, idMeta, key);
         } catch (Exception e) {
             throw new AchillesException("Cannot set value '" + key + "' to entity " + entity, e);
         }
@@ -78,7 +78,7 @@ public class EntityMapper {
         log.trace("Set simple property {} to entity {} ", propertyMeta.getPropertyName(), entity);
 
         try {
-            invoker.setValueToField(entity, propertyMeta.getSetter(), propertyMeta.getValueFromString(value));
+            invoker.setValueToField(entity, propertyMeta, propertyMeta.getValueFromString(value));
         } catch (Exception e) {
             throw new AchillesException("Cannot set value '" + value + "' to entity " + entity, e);
         }
@@ -88,7 +88,7 @@ public class EntityMapper {
         log.trace("Set list property {} to entity {} ", listMeta.getPropertyName(), entity);
 
         try {
-            invoker.setValueToField(entity, listMeta.getSetter(), list);
+            invoker.setValueToField(entity, listMeta, list);
         } catch (Exception e) {
             throw new AchillesException("Cannot set value '" + list + "' to entity " + entity, e);
         }
@@ -98,7 +98,7 @@ public class EntityMapper {
         log.trace("Set set property {} to entity {} ", setMeta.getPropertyName(), entity);
 
         try {
-            invoker.setValueToField(entity, setMeta.getSetter(), set);
+            invoker.setValueToField(entity, setMeta, set);
         } catch (Exception e) {
             throw new AchillesException("Cannot set value '" + set + "' to entity " + entity, e);
         }
@@ -108,7 +108,7 @@ public class EntityMapper {
         log.trace("Set map property {} to entity {} ", mapMeta.getPropertyName(), entity);
 
         try {
-            invoker.setValueToField(entity, mapMeta.getSetter(), map);
+            invoker.setValueToField(entity, mapMeta, map);
         } catch (Exception e) {
             throw new AchillesException("Cannot set value '" + map + "' to entity " + entity, e);
         }
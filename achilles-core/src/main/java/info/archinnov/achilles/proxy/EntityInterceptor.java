@@ -5,6 +5,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.builder.ListWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.MapWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.SetWrapperBuilder;
@@ -40,6 +41,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
     protected Map<Method, PropertyMeta> getterMetas;
     protected Map<Method, PropertyMeta> setterMetas;
     protected Map<Method, PropertyMeta> dirtyMap;
+    protected Map<Method, CollectionDelta> deltaMap;
     protected Set<Method> alreadyLoaded;
     protected CONTEXT context;
 
@@ -132,6 +134,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
                     result = ListWrapperBuilder
                             .builder(context, list)
                             .dirtyMap(dirtyMap)
+                            .deltaMap(deltaMap)
                             .setter(propertyMeta.getSetter())
                             .propertyMeta(this.getPropertyMetaByProperty(method))
                             .proxifier(proxifier)
@@ -151,6 +154,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
                     result = SetWrapperBuilder
                             .builder(context, set)
                             .dirtyMap(dirtyMap)
+                            .deltaMap(deltaMap)
                             .setter(propertyMeta.getSetter())
                             .propertyMeta(this.getPropertyMetaByProperty(method))
                             .proxifier(proxifier)
@@ -170,6 +174,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
                     result = MapWrapperBuilder //
                             .builder(context, map)
                             .dirtyMap(dirtyMap)
+                            .deltaMap(deltaMap)
                             .setter(propertyMeta.getSetter())
                             .propertyMeta(this.getPropertyMetaByProperty(method))
                             .proxifier(proxifier)
@@ -210,6 +215,7 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
         log.trace("Flaging property {}", propertyMeta.getPropertyName());
 
         dirtyMap.put(method, propertyMeta);
+        deltaMap.remove(method);
         result = proxy.invoke(target, args);
         return result;
     }
@@ -219,6 +225,11 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
         return dirtyMap;
     }
 
+    public Map<Method, CollectionDelta> getDeltaMap()
+    {
+        return deltaMap;
+    }
+
     public Set<Method> getAlreadyLoaded()
     {
         return alreadyLoaded;
@@ -264,6 +275,11 @@ public abstract class EntityInterceptor<CONTEXT extends PersistenceContext, T> i
         this.dirtyMap = dirtyMap;
     }
 
+    void setDeltaMap(Map<Method, CollectionDelta> deltaMap)
+    {
+        this.deltaMap = deltaMap;
+    }
+
     void setAlreadyLoaded(Set<Method> lazyLoaded)
     {
         this.alreadyLoaded = lazyLoaded;
@@ -0,0 +1,80 @@
+package info.archinnov.achilles.proxy;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.common.collect.MapMaker;
+
+/**
+ * EntityProxyFactoryRegistry
+ * 
+ * Keep one Cglib proxy factory per entity class so new proxies are created with Factory.newInstance(callback)
+ * instead of going through the Enhancer for each entity. <br/>
+ * <br/>
+ * One registry is shared by all proxifiers. Factories are kept in a map with weak keys and weak values, so they do not
+ * pin the entity classes and their class loader. The EntityManagerFactory holds the factories of its entities
+ * strongly so they stay alive for as long as the EntityManagerFactory
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class EntityProxyFactoryRegistry
+{
+    private static final Logger log = LoggerFactory.getLogger(EntityProxyFactoryRegistry.class);
+
+    private static final EntityProxyFactoryRegistry INSTANCE = new EntityProxyFactoryRegistry();
+
+    private static final ConcurrentMap<Class<?>, Factory> proxyFactories = new MapMaker().weakKeys()
+            .weakValues().makeMap();
+
+    private static final MethodInterceptor TEMPLATE_INTERCEPTOR = new MethodInterceptor()
+    {
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable
+        {
+            return proxy.invokeSuper(obj, args);
+        }
+    };
+
+    public static EntityProxyFactoryRegistry getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public Factory registerProxyFactory(Class<?> entityClass)
+    {
+        return getProxyFactory(entityClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T newProxy(Class<T> entityClass, MethodInterceptor interceptor)
+    {
+        return (T) getProxyFactory(entityClass).newInstance(interceptor);
+    }
+
+    private Factory getProxyFactory(Class<?> entityClass)
+    {
+        Factory proxyFactory = proxyFactories.get(entityClass);
+        if (proxyFactory == null)
+        {
+            log.debug("Build Cglib proxy factory for entity class {}", entityClass.getCanonicalName());
+
+            Enhancer enhancer = new Enhancer();
+            enhancer.setSuperclass(entityClass);
+            enhancer.setCallback(TEMPLATE_INTERCEPTOR);
+            proxyFactory = (Factory) enhancer.create();
+
+            Factory existing = proxyFactories.putIfAbsent(entityClass, proxyFactory);
+            if (existing != null)
+            {
+                proxyFactory = existing;
+            }
+        }
+        return proxyFactory;
+    }
+}
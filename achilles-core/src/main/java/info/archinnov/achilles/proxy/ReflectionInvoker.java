@@ -1,6 +1,7 @@
 package info.archinnov.achilles.proxy;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.reflection.ValueAccessor;
 import info.archinnov.achilles.exception.AchillesException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -26,6 +27,11 @@ public class ReflectionInvoker
 
         if (entity != null)
         {
+            ValueAccessor valueAccessor = idMeta.getValueAccessor();
+            if (valueAccessor != null && valueAccessor.hasGetter())
+            {
+                return valueAccessor.getValue(entity);
+            }
             try
             {
                 return getter.invoke(entity);
@@ -103,6 +109,35 @@ public class ReflectionInvoker
         }
     }
 
+    public Object getValueFromField(Object target, PropertyMeta pm)
+    {
+        ValueAccessor valueAccessor = pm.getValueAccessor();
+        if (valueAccessor == null || !valueAccessor.hasGetter())
+        {
+            return getValueFromField(target, pm.getGetter());
+        }
+
+        log.trace("Get value of property {} from instance {}", pm.getPropertyName(), target);
+        return target != null ? valueAccessor.getValue(target) : null;
+    }
+
+    public void setValueToField(Object target, PropertyMeta pm, Object value)
+    {
+        ValueAccessor valueAccessor = pm.getValueAccessor();
+        if (valueAccessor == null || !valueAccessor.hasSetter())
+        {
+            setValueToField(target, pm.getSetter(), value);
+        }
+        else
+        {
+            log.trace("Set value of property {} to instance {} with {}", pm.getPropertyName(), target, value);
+            if (target != null)
+            {
+                valueAccessor.setValue(target, value);
+            }
+        }
+    }
+
     public <T> T instanciate(Class<T> entityClass)
     {
         T newInstance;
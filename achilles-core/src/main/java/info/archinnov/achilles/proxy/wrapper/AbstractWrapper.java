@@ -15,6 +15,7 @@ import java.util.Map;
 public abstract class AbstractWrapper
 {
     protected Map<Method, PropertyMeta> dirtyMap;
+    protected Map<Method, CollectionDelta> deltaMap;
     protected Method setter;
     protected PropertyMeta propertyMeta;
     protected EntityProxifier<PersistenceContext> proxifier;
@@ -30,6 +31,16 @@ public abstract class AbstractWrapper
         this.dirtyMap = dirtyMap;
     }
 
+    public Map<Method, CollectionDelta> getDeltaMap()
+    {
+        return deltaMap;
+    }
+
+    public void setDeltaMap(Map<Method, CollectionDelta> deltaMap)
+    {
+        this.deltaMap = deltaMap;
+    }
+
     public void setSetter(Method setter)
     {
         this.setter = setter;
@@ -46,6 +57,32 @@ public abstract class AbstractWrapper
         {
             dirtyMap.put(setter, propertyMeta);
         }
+        if (deltaMap != null)
+        {
+            deltaMap.remove(setter);
+        }
+    }
+
+    /**
+     * Mark the property dirty and return the delta recording its changes, or null if the whole property
+     * should be written back
+     */
+    protected CollectionDelta markDirtyWithDelta()
+    {
+        if (deltaMap == null || isJoin())
+        {
+            markDirty();
+            return null;
+        }
+
+        CollectionDelta delta = deltaMap.get(setter);
+        if (delta == null && !dirtyMap.containsKey(setter))
+        {
+            delta = new CollectionDelta();
+            deltaMap.put(setter, delta);
+            dirtyMap.put(setter, propertyMeta);
+        }
+        return delta;
     }
 
     public void setProxifier(EntityProxifier<PersistenceContext> proxifier)
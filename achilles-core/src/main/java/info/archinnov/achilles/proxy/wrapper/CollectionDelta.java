@@ -0,0 +1,100 @@
+package info.archinnov.achilles.proxy.wrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * CollectionDelta
+ * 
+ * Operations applied on a List, Set or Map property since the last flush, so that only the changed
+ * elements are written instead of the whole collection
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CollectionDelta
+{
+    private List<Object> appendedElements = new ArrayList<Object>();
+    private Set<Object> addedElements = new LinkedHashSet<Object>();
+    private Set<Object> removedElements = new LinkedHashSet<Object>();
+    private Map<Object, Object> putEntries = new HashMap<Object, Object>();
+    private Set<Object> removedKeys = new LinkedHashSet<Object>();
+
+    public void appendElements(Collection<?> elements)
+    {
+        appendedElements.addAll(elements);
+    }
+
+    public void addElements(Collection<?> elements)
+    {
+        for (Object element : elements)
+        {
+            removedElements.remove(element);
+            addedElements.add(element);
+        }
+    }
+
+    public void removeElements(Collection<?> elements)
+    {
+        for (Object element : elements)
+        {
+            addedElements.remove(element);
+            removedElements.add(element);
+        }
+    }
+
+    public void putEntries(Map<?, ?> entries)
+    {
+        for (Entry<?, ?> entry : entries.entrySet())
+        {
+            removedKeys.remove(entry.getKey());
+            putEntries.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public void removeKeys(Collection<?> keys)
+    {
+        for (Object key : keys)
+        {
+            putEntries.remove(key);
+            removedKeys.add(key);
+        }
+    }
+
+    public List<Object> getAppendedElements()
+    {
+        return appendedElements;
+    }
+
+    public Set<Object> getAddedElements()
+    {
+        return addedElements;
+    }
+
+    public Set<Object> getRemovedElements()
+    {
+        return removedElements;
+    }
+
+    public Map<Object, Object> getPutEntries()
+    {
+        return putEntries;
+    }
+
+    public Set<Object> getRemovedKeys()
+    {
+        return removedKeys;
+    }
+
+    public boolean isEmpty()
+    {
+        return appendedElements.isEmpty() && addedElements.isEmpty() && removedElements.isEmpty()
+                && putEntries.isEmpty() && removedKeys.isEmpty();
+    }
+}
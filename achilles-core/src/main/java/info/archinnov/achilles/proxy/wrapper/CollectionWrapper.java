@@ -2,6 +2,7 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import info.archinnov.achilles.proxy.wrapper.builder.IteratorWrapperBuilder;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,8 +26,9 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
     public boolean add(Object arg0) {
         log.trace("Mark collection property {} of entity class {} dirty upon element addition",
                 propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-        this.markDirty();
-        boolean result = target.add(proxifier.unwrap(arg0));
+        Object element = proxifier.unwrap(arg0);
+        boolean result = target.add(element);
+        this.markDirtyForAddition(Collections.singleton(element));
 
         return result;
     }
@@ -34,11 +36,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
     @Override
     public boolean addAll(Collection<?> arg0) {
         boolean result = false;
-        result = target.addAll(proxifier.unwrap(arg0));
+        Collection<?> elements = proxifier.unwrap(arg0);
+        result = target.addAll(elements);
         if (result) {
             log.trace("Mark collection property {} of entity class {} dirty upon elements addition",
                     propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-            this.markDirty();
+            this.markDirtyForAddition(elements);
         }
         return result;
     }
@@ -75,6 +78,7 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
 
         return IteratorWrapperBuilder.builder(context, this.target.iterator()) //
                 .dirtyMap(dirtyMap)
+                .deltaMap(deltaMap)
                 .setter(setter)
                 .propertyMeta(propertyMeta)
                 .proxifier(proxifier)
@@ -84,11 +88,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
     @Override
     public boolean remove(Object arg0) {
         boolean result = false;
-        result = this.target.remove(proxifier.unwrap(arg0));
+        Object element = proxifier.unwrap(arg0);
+        result = this.target.remove(element);
         if (result) {
             log.trace("Mark collection property {} of entity class {} dirty upon element removal",
                     propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-            this.markDirty();
+            this.markDirtyForRemoval(Collections.singleton(element));
         }
         return result;
     }
@@ -96,11 +101,12 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
     @Override
     public boolean removeAll(Collection<?> arg0) {
         boolean result = false;
-        result = this.target.removeAll(proxifier.unwrap(arg0));
+        Collection<?> elements = proxifier.unwrap(arg0);
+        result = this.target.removeAll(elements);
         if (result) {
             log.trace("Mark collection property {} of entity class {} dirty upon elements removal",
                     propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
-            this.markDirty();
+            this.markDirtyForRemoval(elements);
         }
         return result;
     }
@@ -161,6 +167,14 @@ public class CollectionWrapper extends AbstractWrapper implements Collection<Obj
         return result;
     }
 
+    protected void markDirtyForAddition(Collection<?> elements) {
+        this.markDirty();
+    }
+
+    protected void markDirtyForRemoval(Collection<?> elements) {
+        this.markDirty();
+    }
+
     public Collection<Object> getTarget() {
         return this.target;
     }
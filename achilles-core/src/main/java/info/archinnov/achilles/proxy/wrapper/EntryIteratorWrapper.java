@@ -35,6 +35,7 @@ public class EntryIteratorWrapper extends AbstractWrapper implements Iterator<En
                     propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
             result = MapEntryWrapperBuilder.builder(context, entry) //
                     .dirtyMap(dirtyMap)
+                    .deltaMap(deltaMap)
                     .setter(setter)
                     .propertyMeta(propertyMeta)
                     .proxifier(proxifier)
@@ -73,6 +73,7 @@ public class EntrySetWrapper extends AbstractWrapper implements Set<Entry<Object
         return EntryIteratorWrapperBuilder //
                 .builder(context, this.target.iterator())
                 .dirtyMap(dirtyMap)
+                .deltaMap(deltaMap)
                 .setter(setter)
                 .propertyMeta(propertyMeta)
                 .proxifier(proxifier)
@@ -143,6 +144,7 @@ public class EntrySetWrapper extends AbstractWrapper implements Set<Entry<Object
                 array[i] = MapEntryWrapperBuilder //
                         .builder(context, entry)
                         .dirtyMap(dirtyMap)
+                        .deltaMap(deltaMap)
                         .setter(setter)
                         .propertyMeta(propertyMeta)
                         .proxifier(proxifier)
@@ -176,6 +178,7 @@ public class EntrySetWrapper extends AbstractWrapper implements Set<Entry<Object
                 array[i] = (T) MapEntryWrapperBuilder
                         .builder(context, (Entry<Object, Object>) array[i])
                         .dirtyMap(dirtyMap)
+                        .deltaMap(deltaMap)
                         .setter(setter)
                         .propertyMeta(propertyMeta)
                         .proxifier(proxifier)
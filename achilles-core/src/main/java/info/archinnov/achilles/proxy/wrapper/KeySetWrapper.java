@@ -23,4 +23,12 @@ public class KeySetWrapper extends SetWrapper {
     public boolean addAll(Collection<?> arg0) {
         throw new UnsupportedOperationException("This method is not supported for a key set");
     }
+
+    @Override
+    protected void markDirtyForRemoval(Collection<?> keys) {
+        CollectionDelta delta = super.markDirtyWithDelta();
+        if (delta != null) {
+            delta.removeKeys(keys);
+        }
+    }
 }
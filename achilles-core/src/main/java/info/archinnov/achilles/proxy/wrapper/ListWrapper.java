@@ -17,6 +17,8 @@ import org.slf4j.LoggerFactory;
 public class ListWrapper extends CollectionWrapper implements List<Object> {
     private static final Logger log = LoggerFactory.getLogger(ListWrapper.class);
 
+    private boolean subList = false;
+
     public ListWrapper(List<Object> target) {
         super(target);
     }
@@ -72,6 +74,7 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
         return ListIteratorWrapperBuilder //
                 .builder(context, target)
                 .dirtyMap(dirtyMap)
+                .deltaMap(deltaMap)
                 .setter(setter)
                 .propertyMeta(propertyMeta)
                 .proxifier(proxifier)
@@ -88,6 +91,7 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
         return ListIteratorWrapperBuilder //
                 .builder(context, target)
                 .dirtyMap(dirtyMap)
+                .deltaMap(deltaMap)
                 .setter(setter)
                 .propertyMeta(propertyMeta)
                 .proxifier(proxifier)
@@ -121,13 +125,28 @@ public class ListWrapper extends CollectionWrapper implements List<Object> {
         log.trace("Build sublist wrapper for list property {} of entity class {} between index {} and {}",
                 propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), from, to);
 
-        return ListWrapperBuilder //
+        ListWrapper subListWrapper = ListWrapperBuilder //
                 .builder(context, target)
                 .dirtyMap(dirtyMap)
+                .deltaMap(deltaMap)
                 .setter(setter)
                 .propertyMeta(propertyMeta)
                 .proxifier(proxifier)
                 .build();
+        subListWrapper.subList = true;
+        return subListWrapper;
+    }
+
+    @Override
+    protected void markDirtyForAddition(Collection<?> elements) {
+        if (subList) {
+            super.markDirty();
+        } else {
+            CollectionDelta delta = super.markDirtyWithDelta();
+            if (delta != null) {
+                delta.appendElements(elements);
+            }
+        }
     }
 
     @Override
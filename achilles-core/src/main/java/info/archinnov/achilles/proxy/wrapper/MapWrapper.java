@@ -5,6 +5,7 @@ import info.archinnov.achilles.proxy.wrapper.builder.EntrySetWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.KeySetWrapperBuilder;
 import info.archinnov.achilles.proxy.wrapper.builder.ValueCollectionWrapperBuilder;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -64,6 +65,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
             EntrySetWrapper wrapperSet = EntrySetWrapperBuilder //
                     .builder(context, targetEntrySet)
                     .dirtyMap(dirtyMap)
+                    .deltaMap(deltaMap)
                     .setter(setter)
                     .propertyMeta(propertyMeta)
                     .proxifier(proxifier)
@@ -113,6 +115,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
             KeySetWrapper keySetWrapper = KeySetWrapperBuilder
                     .builder(context, keySet)
                     .dirtyMap(dirtyMap)
+                    .deltaMap(deltaMap)
                     .setter(setter)
                     .propertyMeta((PropertyMeta) propertyMeta)
                     .proxifier(proxifier)
@@ -130,8 +133,13 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
                         propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), value,
                         key);
 
-        Object result = this.target.put(key, proxifier.unwrap(value));
-        this.markDirty();
+        Object unproxy = proxifier.unwrap(value);
+        Object result = this.target.put(key, unproxy);
+        CollectionDelta delta = this.markDirtyWithDelta();
+        if (delta != null)
+        {
+            delta.putEntries(Collections.singletonMap(key, unproxy));
+        }
         return result;
     }
 
@@ -149,7 +157,11 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
                 propertyMeta.getPropertyName(), propertyMeta.getEntityClassName());
 
         this.target.putAll(map);
-        this.markDirty();
+        CollectionDelta delta = this.markDirtyWithDelta();
+        if (delta != null)
+        {
+            delta.putEntries(map);
+        }
     }
 
     @Override
@@ -161,7 +173,11 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
             log
                     .trace("Mark map property {} of entity class {} dirty upon removal of value havo,g key {}",
                             propertyMeta.getPropertyName(), propertyMeta.getEntityClassName(), key);
-            this.markDirty();
+            CollectionDelta delta = this.markDirtyWithDelta();
+            if (delta != null)
+            {
+                delta.removeKeys(Collections.singleton(unproxy));
+            }
         }
         return this.target.remove(unproxy);
     }
@@ -190,6 +206,7 @@ public class MapWrapper extends AbstractWrapper implements Map<Object, Object>
             ValueCollectionWrapper collectionWrapper = ValueCollectionWrapperBuilder //
                     .builder(context, values)
                     .dirtyMap(dirtyMap)
+                    .deltaMap(deltaMap)
                     .setter(setter)
                     .propertyMeta((PropertyMeta) propertyMeta)
                     .proxifier(proxifier)
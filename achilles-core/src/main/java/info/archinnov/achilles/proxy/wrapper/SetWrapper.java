@@ -1,5 +1,6 @@
 package info.archinnov.achilles.proxy.wrapper;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -14,6 +15,22 @@ public class SetWrapper extends CollectionWrapper implements Set<Object> {
         super(target);
     }
 
+    @Override
+    protected void markDirtyForAddition(Collection<?> elements) {
+        CollectionDelta delta = super.markDirtyWithDelta();
+        if (delta != null) {
+            delta.addElements(elements);
+        }
+    }
+
+    @Override
+    protected void markDirtyForRemoval(Collection<?> elements) {
+        CollectionDelta delta = super.markDirtyWithDelta();
+        if (delta != null) {
+            delta.removeElements(elements);
+        }
+    }
+
     @Override
     public Set<Object> getTarget() {
         return ((Set<Object>) super.target);
@@ -4,6 +4,7 @@ import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.proxy.wrapper.AbstractWrapper;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import java.lang.reflect.Method;
 import java.util.Map;
 
@@ -16,6 +17,7 @@ import java.util.Map;
 public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>>
 {
     private Map<Method, PropertyMeta> dirtyMap;
+    private Map<Method, CollectionDelta> deltaMap;
     private Method setter;
     private PropertyMeta propertyMeta;
     private EntityProxifier<PersistenceContext> proxifier;
@@ -27,6 +29,12 @@ public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>
         return (T) this;
     }
 
+    public T deltaMap(Map<Method, CollectionDelta> deltaMap)
+    {
+        this.deltaMap = deltaMap;
+        return (T) this;
+    }
+
     public T setter(Method setter)
     {
         this.setter = setter;
@@ -54,6 +62,7 @@ public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T>
     public void build(AbstractWrapper wrapper)
     {
         wrapper.setDirtyMap(dirtyMap);
+        wrapper.setDeltaMap(deltaMap);
         wrapper.setSetter(setter);
         wrapper.setPropertyMeta(propertyMeta);
         wrapper.setProxifier(proxifier);
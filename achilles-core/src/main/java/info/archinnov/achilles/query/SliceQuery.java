@@ -20,6 +20,7 @@ public class SliceQuery<T>
 {
     public static final int DEFAULT_LIMIT = 100;
     public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final double NO_READ_AHEAD = 0;
 
     private Class<T> entityClass;
     private EntityMeta meta;
@@ -33,10 +34,13 @@ public class SliceQuery<T>
     private int limit;
     private boolean limitSet;
     private boolean noComponent;
+    private boolean readOnly;
+    private double readAheadRatio;
 
     public SliceQuery(Class<T> entityClass, EntityMeta meta, Object partitionKey,
             Object[] clusteringsFrom, Object[] clusteringsTo, OrderingMode ordering,
-            BoundingMode bounding, ConsistencyLevel consistencyLevel, int limit, int batchSize, boolean limitSet)
+            BoundingMode bounding, ConsistencyLevel consistencyLevel, int limit, int batchSize, boolean limitSet,
+            boolean readOnly, double readAheadRatio)
     {
 
         this.limitSet = limitSet;
@@ -61,6 +65,8 @@ public class SliceQuery<T>
         this.consistencyLevel = consistencyLevel;
         this.limit = limit;
         this.batchSize = batchSize;
+        this.readOnly = readOnly;
+        this.readAheadRatio = readAheadRatio;
     }
 
     public Class<T> getEntityClass()
@@ -122,4 +128,12 @@ public class SliceQuery<T>
         return noComponent;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public double getReadAheadRatio() {
+        return readAheadRatio;
+    }
+
 }
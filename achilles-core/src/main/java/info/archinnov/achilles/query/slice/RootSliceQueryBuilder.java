@@ -33,6 +33,8 @@ public abstract class RootSliceQueryBuilder<CONTEXT extends PersistenceContext,
     private int batchSize = DEFAULT_BATCH_SIZE;
     private boolean limitHasBeenSet = false;
     private boolean orderingHasBeenSet = false;
+    private boolean readOnly = false;
+    private double readAheadRatio = NO_READ_AHEAD;
 
     RootSliceQueryBuilder(SliceQueryExecutor<CONTEXT> sliceQueryExecutor,
             CompoundKeyValidator compoundKeyValidator,
@@ -100,6 +102,20 @@ public abstract class RootSliceQueryBuilder<CONTEXT extends PersistenceContext,
         return this;
     }
 
+    protected RootSliceQueryBuilder<CONTEXT, T> readOnlyInternal()
+    {
+        this.readOnly = true;
+        return this;
+    }
+
+    protected RootSliceQueryBuilder<CONTEXT, T> readAheadInternal(double readAheadRatio)
+    {
+        Validator.validateTrue(readAheadRatio > 0 && readAheadRatio <= 1,
+                "Read ahead ratio for slice query for entity '%s' should be in ]0,1]", meta.getClassName());
+        this.readAheadRatio = readAheadRatio;
+        return this;
+    }
+
     protected List<T> get()
     {
         SliceQuery<T> clusteredQuery = buildClusterQuery();
@@ -288,6 +304,7 @@ public abstract class RootSliceQueryBuilder<CONTEXT extends PersistenceContext,
     protected SliceQuery<T> buildClusterQuery()
     {
         return new SliceQuery<T>(entityClass, meta, partitionKey, fromClusterings,
-                toClusterings, ordering, bounding, consistencyLevel, limit, batchSize, limitHasBeenSet);
+                toClusterings, ordering, bounding, consistencyLevel, limit, batchSize, limitHasBeenSet, readOnly,
+                readAheadRatio);
     }
 }
@@ -110,6 +110,36 @@ public class SliceQueryBuilder<CONTEXT extends PersistenceContext, T> extends Ro
             return this;
         }
 
+        /**
+         * Return plain entities instead of managed proxies<br/>
+         * <br/>
+         * 
+         * Only eagerly fetched properties are set. The entities are not attached to any persistence context so
+         * modifications are not tracked
+         * 
+         * @return SliceShortcutQueryBuilder
+         */
+        public SliceShortcutQueryBuilder readOnly()
+        {
+            SliceQueryBuilder.super.readOnlyInternal();
+            return this;
+        }
+
+        /**
+         * Fetch the next batch asynchronously when iterating<br/>
+         * <br/>
+         * 
+         * @param readAheadRatio
+         *            fraction of the current batch, in ]0,1], to consume before fetching the next batch
+         * 
+         * @return SliceShortcutQueryBuilder
+         */
+        public SliceShortcutQueryBuilder readAhead(double readAheadRatio)
+        {
+            SliceQueryBuilder.super.readAheadInternal(readAheadRatio);
+            return this;
+        }
+
         /**
          * Set from clustering components<br/>
          * <br/>
@@ -484,6 +514,36 @@ public class SliceQueryBuilder<CONTEXT extends PersistenceContext, T> extends Ro
             return this;
         }
 
+        /**
+         * Return plain entities instead of managed proxies<br/>
+         * <br/>
+         * 
+         * Only eagerly fetched properties are set. The entities are not attached to any persistence context so
+         * modifications are not tracked
+         * 
+         * @return DefaultQueryBuilder
+         */
+        public DefaultQueryBuilder readOnly()
+        {
+            SliceQueryBuilder.super.readOnlyInternal();
+            return this;
+        }
+
+        /**
+         * Fetch the next batch asynchronously when iterating<br/>
+         * <br/>
+         * 
+         * @param readAheadRatio
+         *            fraction of the current batch, in ]0,1], to consume before fetching the next batch
+         * 
+         * @return DefaultQueryBuilder
+         */
+        public DefaultQueryBuilder readAhead(double readAheadRatio)
+        {
+            SliceQueryBuilder.super.readAheadInternal(readAheadRatio);
+            return this;
+        }
+
         /**
          * Set limit<br/>
          * <br/>
@@ -104,6 +104,80 @@ public class ArgumentExtractorTest
 		assertThat(actual).isTrue();
 	}
 
+	@Test
+	public void should_init_entity_index() throws Exception
+	{
+		doCallRealMethod().when(extractor).initEntityIndex(configMap);
+		assertThat(extractor.initEntityIndex(configMap)).isFalse();
+
+		configMap.put(ENTITY_INDEX_PARAM, true);
+		assertThat(extractor.initEntityIndex(configMap)).isTrue();
+	}
+
+	@Test
+	public void should_init_counter_coalescing_with_default_values() throws Exception
+	{
+		doCallRealMethod().when(extractor).initCounterCoalescing(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingFlushInterval(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingMaxPending(configMap);
+
+		assertThat(extractor.initCounterCoalescing(configMap)).isFalse();
+		assertThat(extractor.initCounterCoalescingFlushInterval(configMap)).isEqualTo(
+				DEFAULT_COUNTER_COALESCING_FLUSH_INTERVAL);
+		assertThat(extractor.initCounterCoalescingMaxPending(configMap)).isEqualTo(
+				DEFAULT_COUNTER_COALESCING_MAX_PENDING);
+	}
+
+	@Test
+	public void should_init_counter_coalescing() throws Exception
+	{
+		configMap.put(COUNTER_COALESCING_PARAM, true);
+		configMap.put(COUNTER_COALESCING_FLUSH_INTERVAL_PARAM, 200);
+		configMap.put(COUNTER_COALESCING_MAX_PENDING_PARAM, 500);
+
+		doCallRealMethod().when(extractor).initCounterCoalescing(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingFlushInterval(configMap);
+		doCallRealMethod().when(extractor).initCounterCoalescingMaxPending(configMap);
+
+		assertThat(extractor.initCounterCoalescing(configMap)).isTrue();
+		assertThat(extractor.initCounterCoalescingFlushInterval(configMap)).isEqualTo(200);
+		assertThat(extractor.initCounterCoalescingMaxPending(configMap)).isEqualTo(500);
+	}
+
+	@Test
+	public void should_init_executor_threads() throws Exception
+	{
+		doCallRealMethod().when(extractor).initExecutorThreads(configMap);
+		assertThat(extractor.initExecutorThreads(configMap)).isEqualTo(DEFAULT_EXECUTOR_THREADS);
+
+		configMap.put(EXECUTOR_THREADS_PARAM, 16);
+		assertThat(extractor.initExecutorThreads(configMap)).isEqualTo(16);
+	}
+
+	@Test
+	public void should_exception_when_executor_threads_not_positive() throws Exception
+	{
+		configMap.put(EXECUTOR_THREADS_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(EXECUTOR_THREADS_PARAM + " property should be strictly positive");
+
+		doCallRealMethod().when(extractor).initExecutorThreads(configMap);
+		extractor.initExecutorThreads(configMap);
+	}
+
+	@Test
+	public void should_exception_when_counter_flush_interval_not_positive() throws Exception
+	{
+		configMap.put(COUNTER_COALESCING_FLUSH_INTERVAL_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(COUNTER_COALESCING_FLUSH_INTERVAL_PARAM + " property should be strictly positive");
+
+		doCallRealMethod().when(extractor).initCounterCoalescingFlushInterval(configMap);
+		extractor.initCounterCoalescingFlushInterval(configMap);
+	}
+
 	@Test
 	public void should_ensure_join_consistency() throws Exception
 	{
@@ -0,0 +1,176 @@
+package info.archinnov.achilles.context;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * AchillesExecutorTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class AchillesExecutorTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private AchillesExecutor executor = new AchillesExecutor(1);
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdown();
+    }
+
+    @Test
+    public void should_submit_and_wait_for_task() throws Exception
+    {
+        Future<String> future = executor.submit(new Callable<String>()
+        {
+            @Override
+            public String call() throws Exception
+            {
+                return "result";
+            }
+        });
+
+        assertThat(executor.waitFor(future)).isEqualTo("result");
+    }
+
+    @Test
+    public void should_run_nested_task_on_waiting_thread_when_pool_is_busy() throws Exception
+    {
+        Future<String> future = executor.submit(new Callable<String>()
+        {
+            @Override
+            public String call() throws Exception
+            {
+                Future<String> nested = executor.submit(new Callable<String>()
+                {
+                    @Override
+                    public String call() throws Exception
+                    {
+                        return "nested";
+                    }
+                });
+                return executor.waitFor(nested);
+            }
+        });
+
+        assertThat(executor.waitFor(future)).isEqualTo("nested");
+    }
+
+    @Test
+    public void should_run_task_on_waiting_thread_when_shut_down() throws Exception
+    {
+        executor.shutdown();
+
+        Future<String> future = executor.submit(new Callable<String>()
+        {
+            @Override
+            public String call() throws Exception
+            {
+                return "result";
+            }
+        });
+
+        assertThat(executor.waitFor(future)).isEqualTo("result");
+    }
+
+    @Test
+    public void should_rethrow_runtime_exception_of_task() throws Exception
+    {
+        Future<String> future = executor.submit(new Callable<String>()
+        {
+            @Override
+            public String call() throws Exception
+            {
+                throw new IllegalStateException("failure");
+            }
+        });
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("failure");
+
+        executor.waitFor(future);
+    }
+
+    @Test
+    public void should_wrap_checked_exception_of_task() throws Exception
+    {
+        Future<String> future = executor.submit(new Callable<String>()
+        {
+            @Override
+            public String call() throws Exception
+            {
+                throw new Exception("failure");
+            }
+        });
+
+        exception.expect(AchillesException.class);
+
+        executor.waitFor(future);
+    }
+
+    @Test
+    public void should_invoke_all_in_order() throws Exception
+    {
+        List<Callable<Integer>> tasks = Arrays.<Callable<Integer>> asList(task(1), task(2), task(3));
+
+        assertThat(executor.invokeAll(tasks, 2)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void should_stop_invoking_on_first_failure() throws Exception
+    {
+        final AtomicInteger executed = new AtomicInteger();
+        Callable<Integer> failing = new Callable<Integer>()
+        {
+            @Override
+            public Integer call() throws Exception
+            {
+                executed.incrementAndGet();
+                throw new IllegalStateException("failure");
+            }
+        };
+        Callable<Integer> counting = new Callable<Integer>()
+        {
+            @Override
+            public Integer call() throws Exception
+            {
+                return executed.incrementAndGet();
+            }
+        };
+
+        try
+        {
+            executor.invokeAll(Arrays.asList(failing, counting, counting), 1);
+        } catch (IllegalStateException e)
+        {
+            assertThat(e).hasMessage("failure");
+        }
+
+        assertThat(executed.get()).isEqualTo(1);
+    }
+
+    private Callable<Integer> task(final int value)
+    {
+        return new Callable<Integer>()
+        {
+            @Override
+            public Integer call() throws Exception
+            {
+                return value;
+            }
+        };
+    }
+}
@@ -0,0 +1,181 @@
+package info.archinnov.achilles.counter;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * CounterCoalescerTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterCoalescerTest
+{
+    private RecordingCoalescer coalescer;
+
+    @After
+    public void tearDown()
+    {
+        if (coalescer != null)
+        {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    public void should_sum_deltas_per_key() throws Exception
+    {
+        coalescer = new RecordingCoalescer(60000, 100);
+
+        coalescer.add("page1", 1L);
+        coalescer.add("page1", 5L);
+        coalescer.add("page2", 1L);
+        coalescer.add("page2", -1L);
+
+        assertThat(coalescer.getPendingDeltas()).isEqualTo(2);
+        coalescer.flush();
+
+        assertThat(coalescer.written).hasSize(1);
+        assertThat(coalescer.written.get(0)).hasSize(1).containsKey("page1");
+        assertThat(coalescer.written.get(0).get("page1")).isEqualTo(6L);
+        assertThat(coalescer.getPendingDeltas()).isEqualTo(0);
+        assertThat(coalescer.getCoalescedIncrements()).isEqualTo(4L);
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_write_when_nothing_pending() throws Exception
+    {
+        coalescer = new RecordingCoalescer(60000, 100);
+
+        coalescer.flush();
+
+        assertThat(coalescer.written).isEmpty();
+    }
+
+    @Test
+    public void should_flush_when_max_pending_deltas_reached() throws Exception
+    {
+        coalescer = new RecordingCoalescer(60000, 2);
+
+        coalescer.add("page1", 1L);
+        coalescer.add("page2", 1L);
+
+        assertThat(coalescer.flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(coalescer.written.get(0)).hasSize(2);
+    }
+
+    @Test
+    public void should_flush_periodically() throws Exception
+    {
+        coalescer = new RecordingCoalescer(50, 100);
+
+        coalescer.add("page1", 3L);
+
+        assertThat(coalescer.flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(coalescer.written.get(0).get("page1")).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_count_failed_deltas() throws Exception
+    {
+        coalescer = new RecordingCoalescer(60000, 100);
+        coalescer.failure = new RuntimeException("test");
+
+        coalescer.add("page1", 1L);
+        coalescer.add("page2", 1L);
+        coalescer.flush();
+
+        assertThat(coalescer.getFailedDeltas()).isEqualTo(2L);
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_flush_pending_deltas_on_shutdown() throws Exception
+    {
+        coalescer = new RecordingCoalescer(60000, 100);
+
+        coalescer.add("page1", 2L);
+        coalescer.shutdown();
+
+        assertThat(coalescer.written.get(0).get("page1")).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_not_lose_increments_under_concurrent_flushes() throws Exception
+    {
+        coalescer = new RecordingCoalescer(1, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < 4; i++)
+        {
+            futures.add(executor.submit(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    for (int j = 0; j < 10000; j++)
+                    {
+                        coalescer.add("page" + (j % 5), 1L);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures)
+        {
+            future.get();
+        }
+        executor.shutdown();
+        coalescer.shutdown();
+
+        long total = 0;
+        synchronized (coalescer.written)
+        {
+            for (Map<String, Long> deltas : coalescer.written)
+            {
+                for (Long delta : deltas.values())
+                {
+                    total += delta;
+                }
+            }
+        }
+        assertThat(total).isEqualTo(40000L);
+    }
+
+    private static class RecordingCoalescer extends CounterCoalescer<String>
+    {
+        private final List<Map<String, Long>> written = new ArrayList<Map<String, Long>>();
+        private final CountDownLatch flushed = new CountDownLatch(1);
+        private RuntimeException failure;
+
+        private RecordingCoalescer(int flushInterval, int maxPendingDeltas)
+        {
+            super(flushInterval, maxPendingDeltas);
+        }
+
+        @Override
+        protected int writeDeltas(Map<String, Long> deltas)
+        {
+            if (failure != null)
+            {
+                throw failure;
+            }
+            synchronized (written)
+            {
+                written.add(new HashMap<String, Long>(deltas));
+            }
+            flushed.countDown();
+            return 0;
+        }
+    }
+}
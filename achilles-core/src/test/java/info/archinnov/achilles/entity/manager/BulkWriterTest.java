@@ -0,0 +1,150 @@
+package info.archinnov.achilles.entity.manager;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * BulkWriterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriterTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private BulkWriteListener<CompleteBean> listener;
+
+    private CompleteBean entity1 = new CompleteBean();
+
+    private CompleteBean entity2 = new CompleteBean();
+
+    @Test
+    public void should_count_written_entities_on_flush() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(10, listener);
+
+        writer.writeAll(Arrays.asList(entity1, entity2));
+        writer.futures.poll().set(null);
+        writer.futures.poll().set(null);
+        writer.flush();
+
+        assertThat(writer.getWritten()).isEqualTo(2L);
+        assertThat(writer.getFailed()).isEqualTo(0L);
+        verify(listener).onProgress(eq(1L), eq(0L), anyLong());
+        verify(listener).onProgress(eq(2L), eq(0L), anyLong());
+    }
+
+    @Test
+    public void should_wait_for_oldest_write_when_max_in_flight_reached() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(2, listener);
+        writer.nextFutureDone = true;
+
+        writer.write(entity1);
+        assertThat(writer.getWritten()).isEqualTo(0L);
+
+        writer.write(entity2);
+        assertThat(writer.getWritten()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_notify_listener_of_failed_entities() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(10, listener);
+        RuntimeException failure = new RuntimeException("timeout");
+
+        writer.write(entity1);
+        writer.futures.poll().setException(failure);
+        writer.flush();
+
+        assertThat(writer.getFailed()).isEqualTo(1L);
+        verify(listener).onFailure(entity1, failure);
+        verify(listener).onProgress(eq(0L), eq(1L), anyLong());
+    }
+
+    @Test
+    public void should_throw_failure_when_no_listener() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(10, null);
+
+        writer.write(entity1);
+        writer.futures.poll().setException(new IllegalStateException("timeout"));
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("timeout");
+
+        writer.flush();
+    }
+
+    @Test
+    public void should_exception_when_writing_null_entity() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(10, listener);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Entity to be bulk written should not be null");
+
+        writer.write(null);
+    }
+
+    @Test
+    public void should_send_buffered_entities_on_flush() throws Exception
+    {
+        TestBulkWriter writer = new TestBulkWriter(10, listener);
+
+        writer.flush();
+
+        assertThat(writer.sendBufferedCalls).isEqualTo(1);
+    }
+
+    private static class TestBulkWriter extends BulkWriter<CompleteBean>
+    {
+        private Queue<SettableFuture<Void>> futures = new LinkedList<SettableFuture<Void>>();
+        private boolean nextFutureDone = false;
+        private int sendBufferedCalls = 0;
+
+        private TestBulkWriter(int maxInFlight, BulkWriteListener<CompleteBean> listener)
+        {
+            super(CompleteBean.class, new EntityMeta(), maxInFlight, listener);
+        }
+
+        @Override
+        protected void append(CompleteBean entity)
+        {
+            SettableFuture<Void> future = SettableFuture.create();
+            if (nextFutureDone)
+            {
+                future.set(null);
+            }
+            else
+            {
+                futures.add(future);
+            }
+            registerPendingWrite(future, Arrays.asList(entity));
+        }
+
+        @Override
+        protected void sendBuffered()
+        {
+            sendBufferedCalls++;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import info.archinnov.achilles.entity.parsing.EntityParser;
 import info.archinnov.achilles.entity.parsing.context.EntityParsingContext;
 import info.archinnov.achilles.entity.parsing.validator.EntityParsingValidator;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.EntityProxyFactoryRegistry;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 import info.archinnov.achilles.table.TableCreator;
 
@@ -19,6 +20,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import net.sf.cglib.proxy.Factory;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,6 +29,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 /**
  * AchillesEntityManagerFactoryTest
@@ -59,6 +62,9 @@ public class EntityManagerFactoryTest
 	@Mock
 	private ArgumentExtractor extractor;
 
+	@Mock
+	private EntityProxyFactoryRegistry proxyFactoryRegistry;
+
 	private Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 
 	private List<String> entityPackages = new ArrayList<String>();
@@ -71,12 +77,14 @@ public class EntityManagerFactoryTest
 		doCallRealMethod().when(factory).setEntityParser(any(EntityParser.class));
 		doCallRealMethod().when(factory).setEntityExplorer(any(EntityExplorer.class));
 		doCallRealMethod().when(factory).setValidator(any(EntityParsingValidator.class));
+		doCallRealMethod().when(factory).setProxyFactoryRegistry(any(EntityProxyFactoryRegistry.class));
 
 		factory.setEntityMetaMap(entityMetaMap);
 		factory.setEntityPackages(entityPackages);
 		factory.setEntityParser(achillesEntityParser);
 		factory.setEntityExplorer(achillesEntityExplorer);
 		factory.setValidator(validator);
+		factory.setProxyFactoryRegistry(proxyFactoryRegistry);
 	}
 
 	@Test
@@ -108,16 +116,22 @@ public class EntityManagerFactoryTest
 		entities.add(Long.class);
 		EntityMeta entityMeta = new EntityMeta();
 
-		when(achillesEntityExplorer.discoverEntities(entityPackages)).thenReturn(entities);
+		when(achillesEntityExplorer.discoverEntities(entityPackages, false)).thenReturn(entities);
 		when(achillesEntityParser.parseEntity(any(EntityParsingContext.class))).thenReturn(
 				entityMeta);
 
+		Factory proxyFactory = mock(Factory.class);
+		List<Factory> proxyFactories = new ArrayList<Factory>();
+		Whitebox.setInternalState(factory, "proxyFactories", proxyFactories);
+		when(proxyFactoryRegistry.registerProxyFactory(Long.class)).thenReturn(proxyFactory);
+
 		doCallRealMethod().when(factory).discoverEntities();
 		factory.discoverEntities();
 
 		assertThat(entityMetaMap).containsKey(Long.class);
 		assertThat(entityMetaMap).containsValue(entityMeta);
 		verify(validator).validateAtLeastOneEntity(entities, entityPackages);
+		assertThat(proxyFactories).containsExactly(proxyFactory);
 		verify(achillesEntityParser).fillJoinEntityMeta(any(EntityParsingContext.class),
 				eq(entityMetaMap));
 
@@ -21,6 +21,7 @@ import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -279,6 +280,35 @@ public class EntityManagerTest {
         assertThat(options.getTimestamp().isPresent()).isFalse();
     }
 
+    @Test
+    public void should_find_all_distinct_primary_keys() throws Exception {
+        doCallRealMethod().when(em).findAll(eq(CompleteBean.class), any(List.class));
+        doCallRealMethod().when(em).findAll(eq(CompleteBean.class), any(List.class), any(ConsistencyLevel.class));
+
+        PropertyMeta idMeta = new PropertyMeta();
+        when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+        when(entityMeta.getIdMeta()).thenReturn(idMeta);
+        Map<Long, CompleteBean> entities = new HashMap<Long, CompleteBean>();
+        when(em.doFindAll(CompleteBean.class, Arrays.asList(primaryKey, 11L), null)).thenReturn(entities);
+
+        Map<Long, CompleteBean> actual = em.findAll(CompleteBean.class, Arrays.asList(primaryKey, 11L, primaryKey));
+
+        assertThat(actual).isSameAs(entities);
+        verify(entityValidator).validatePrimaryKey(idMeta, primaryKey);
+        verify(entityValidator).validatePrimaryKey(idMeta, 11L);
+    }
+
+    @Test
+    public void should_find_all_without_query_when_no_primary_key() throws Exception {
+        doCallRealMethod().when(em).findAll(eq(CompleteBean.class), any(List.class), any(ConsistencyLevel.class));
+        when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+
+        Map<Long, CompleteBean> actual = em.findAll(CompleteBean.class, new ArrayList<Long>(), EACH_QUORUM);
+
+        assertThat(actual).isEmpty();
+        verify(em, never()).doFindAll(eq(CompleteBean.class), any(List.class), any(ConsistencyLevel.class));
+    }
+
     @Test
     public void should_get_reference() throws Exception {
         when(context.getReference(CompleteBean.class)).thenReturn(entity);
@@ -0,0 +1,56 @@
+package info.archinnov.achilles.entity.metadata.reflection;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * ValueAccessorTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ValueAccessorTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void should_get_and_set_value() throws Exception {
+        ValueAccessor accessor = new ValueAccessor(CompleteBean.class.getMethod("getName"),
+                CompleteBean.class.getMethod("setName", String.class));
+        CompleteBean entity = new CompleteBean();
+
+        accessor.setValue(entity, "DuyHai");
+
+        assertThat(entity.getName()).isEqualTo("DuyHai");
+        assertThat(accessor.getValue(entity)).isEqualTo("DuyHai");
+    }
+
+    @Test
+    public void should_not_have_setter() throws Exception {
+        ValueAccessor accessor = new ValueAccessor(CompleteBean.class.getMethod("getName"), null);
+
+        assertThat(accessor.hasGetter()).isTrue();
+        assertThat(accessor.hasSetter()).isFalse();
+    }
+
+    @Test
+    public void should_exception_when_getter_fails() throws Exception {
+        ValueAccessor accessor = new ValueAccessor(FailingBean.class.getMethod("getName"), null);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Cannot invoke 'getName' of type '" + FailingBean.class.getCanonicalName() + "'");
+
+        accessor.getValue(new FailingBean());
+    }
+
+    public static class FailingBean {
+        public String getName() {
+            throw new IllegalStateException("test");
+        }
+    }
+}
@@ -10,6 +10,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.Merger;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -65,6 +66,8 @@ public class EntityMergerTest {
 
     private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
 
+    private Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+
     @Before
     public void setUp() {
         Whitebox.setInternalState(entityMerger, Merger.class, merger);
@@ -86,6 +89,7 @@ public class EntityMergerTest {
         when(proxifier.getRealObject(entity)).thenReturn(entity);
         when(proxifier.getInterceptor(entity)).thenReturn(interceptor);
         when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
+        when(interceptor.getDeltaMap()).thenReturn(deltaMap);
         when(context.addToProcessingList(entity)).thenReturn(true, false);
 
         PropertyMeta pm = PropertyMetaTestBuilder
@@ -106,7 +110,7 @@ public class EntityMergerTest {
         assertThat(actual2).isSameAs(entity);
         assertThat(actual).isSameAs(entity);
         verify(context, times(2)).setEntity(entity);
-        verify(merger).merge(context, dirtyMap);
+        verify(merger).merge(context, dirtyMap, deltaMap);
         verify(merger).cascadeMerge(eq(entityMerger), eq(context), any(List.class));
 
         verify(interceptor).setContext(context);
@@ -7,6 +7,7 @@ import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.EntityProxyFactoryRegistry;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 
 /**
  * AchillesEntityProxifierTest
@@ -101,6 +103,7 @@ public class EntityProxifierTest
 
 		doCallRealMethod().when(proxifier).buildProxy(entity, context);
 		doCallRealMethod().when(proxifier).buildProxy(eq(entity), eq(context), any(HashSet.class));
+		Whitebox.setInternalState(proxifier, EntityProxyFactoryRegistry.class, new EntityProxyFactoryRegistry());
 
 		CompleteBean proxy = proxifier.buildProxy(entity, context);
 
@@ -7,6 +7,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.helper.EntityIntrospector;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import java.lang.reflect.Method;
@@ -50,6 +51,9 @@ public class EntityRefresherTest {
     @Mock
     private Map<Method, PropertyMeta> dirtyMap;
 
+    @Mock
+    private Map<Method, CollectionDelta> deltaMap;
+
     @Mock
     private Set<Method> alreadyLoaded;
 
@@ -69,6 +73,7 @@ public class EntityRefresherTest {
 
         when(jpaEntityInterceptor.getTarget()).thenReturn(bean);
         when(jpaEntityInterceptor.getDirtyMap()).thenReturn(dirtyMap);
+        when(jpaEntityInterceptor.getDeltaMap()).thenReturn(deltaMap);
         when(jpaEntityInterceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
         when(context.getEntityMeta()).thenReturn(entityMeta);
         when(entityMeta.getEagerGetters()).thenReturn(eagerGetters);
@@ -77,6 +82,7 @@ public class EntityRefresherTest {
         entityRefresher.refresh(context);
 
         verify(dirtyMap).clear();
+        verify(deltaMap).clear();
         verify(alreadyLoaded).clear();
         verify(alreadyLoaded).addAll(eagerGetters);
         verify(jpaEntityInterceptor).setTarget(bean);
@@ -96,6 +102,7 @@ public class EntityRefresherTest {
 
         when(jpaEntityInterceptor.getTarget()).thenReturn(bean);
         when(jpaEntityInterceptor.getDirtyMap()).thenReturn(dirtyMap);
+        when(jpaEntityInterceptor.getDeltaMap()).thenReturn(deltaMap);
         when(jpaEntityInterceptor.getAlreadyLoaded()).thenReturn(alreadyLoaded);
         when(context.getEntityMeta()).thenReturn(entityMeta);
         when(entityMeta.getEagerGetters()).thenReturn(eagerGetters);
@@ -7,6 +7,7 @@ import info.archinnov.achilles.test.sample.entity.Entity2;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
 
 /**
  * AchillesEntityExplorerTest
@@ -37,4 +38,16 @@ public class EntityExplorerTest {
 
     }
 
+    @Test
+    public void should_read_entities_from_index_and_scan_packages_not_indexed() throws Exception {
+        Whitebox.setInternalState(explorer, "entityIndex", "info/archinnov/achilles/entity/parsing/entity.index");
+
+        List<Class<?>> entities = explorer.discoverEntities(Arrays.asList(
+                "info.archinnov.achilles.test.sample.entity", "info.archinnov.achilles.test.more.entity"), true);
+
+        assertThat(entities).hasSize(2);
+        assertThat(entities).contains(Entity1.class);
+        assertThat(entities).contains(Entity3.class);
+    }
+
 }
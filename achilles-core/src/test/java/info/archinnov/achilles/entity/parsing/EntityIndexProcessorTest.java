@@ -0,0 +1,100 @@
+package info.archinnov.achilles.entity.parsing;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * EntityIndexProcessorTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class EntityIndexProcessorTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_write_index_of_annotated_classes() throws Exception
+    {
+        File sources = folder.newFolder("sources");
+        File classes = folder.newFolder("classes");
+        File userEntity = writeSource(sources, "UserEntity",
+                "@javax.persistence.Entity public class UserEntity { @javax.persistence.Entity public static class Nested {} }");
+        File tweetEntity = writeSource(sources, "TweetEntity",
+                "@javax.persistence.Table(name = \"tweet\") public class TweetEntity {}");
+        File notEntity = writeSource(sources, "NotEntity", "public class NotEntity {}");
+
+        assertThat(compile(classes, userEntity, tweetEntity, notEntity)).isTrue();
+
+        List<String> index = FileUtils.readLines(new File(classes, EntityIndexProcessor.ENTITY_INDEX), "UTF-8");
+        assertThat(index).containsExactly("test.entity.TweetEntity", "test.entity.UserEntity",
+                "test.entity.UserEntity$Nested");
+    }
+
+    @Test
+    public void should_keep_existing_entities_on_incremental_compilation() throws Exception
+    {
+        File sources = folder.newFolder("sources");
+        File classes = folder.newFolder("classes");
+        File userEntity = writeSource(sources, "UserEntity", "@javax.persistence.Entity public class UserEntity {}");
+        File tweetEntity = writeSource(sources, "TweetEntity", "@javax.persistence.Entity public class TweetEntity {}");
+
+        assertThat(compile(classes, userEntity, tweetEntity)).isTrue();
+        FileUtils.writeStringToFile(new File(classes, EntityIndexProcessor.ENTITY_INDEX),
+                "test.entity.TweetEntity\ntest.entity.UserEntity\ntest.entity.DeletedEntity\n", "UTF-8");
+
+        assertThat(compile(classes, userEntity)).isTrue();
+
+        List<String> index = FileUtils.readLines(new File(classes, EntityIndexProcessor.ENTITY_INDEX), "UTF-8");
+        assertThat(index).containsExactly("test.entity.TweetEntity", "test.entity.UserEntity");
+    }
+
+    @Test
+    public void should_not_write_index_without_entity() throws Exception
+    {
+        File sources = folder.newFolder("sources");
+        File classes = folder.newFolder("classes");
+        File notEntity = writeSource(sources, "NotEntity", "public class NotEntity {}");
+
+        assertThat(compile(classes, notEntity)).isTrue();
+
+        assertThat(new File(classes, EntityIndexProcessor.ENTITY_INDEX).exists()).isFalse();
+    }
+
+    private File writeSource(File sources, String className, String body) throws Exception
+    {
+        File source = new File(sources, className + ".java");
+        FileUtils.writeStringToFile(source, "package test.entity; " + body, "UTF-8");
+        return source;
+    }
+
+    private boolean compile(File classes, File... sources) throws Exception
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        try
+        {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(Arrays
+                    .asList(sources));
+            List<String> options = Arrays.asList("-d", classes.getAbsolutePath(), "-classpath",
+                    System.getProperty("java.class.path") + File.pathSeparator + classes.getAbsolutePath(),
+                    "-processor", EntityIndexProcessor.class.getName());
+            return compiler.getTask(null, fileManager, null, options, null, units).call();
+        }
+        finally
+        {
+            fileManager.close();
+        }
+    }
+}
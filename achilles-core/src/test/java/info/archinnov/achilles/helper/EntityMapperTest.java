@@ -92,7 +92,7 @@ public class EntityMapperTest
 
         CompleteBean entity = new CompleteBean();
         doNothing().when(invoker).setValueToField(eq(entity),
-                eq(entityMeta.getIdMeta().getSetter()), idCaptor.capture());
+                eq(entityMeta.getIdMeta()), idCaptor.capture());
 
         mapper.setIdToEntity(1L, entityMeta.getIdMeta(), entity);
 
@@ -109,7 +109,7 @@ public class EntityMapperTest
                 .accessors()
                 .build();
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta),
                 simpleCaptor.capture());
 
         mapper.setSimplePropertyToEntity("name", namePropertyMeta, entity);
@@ -128,7 +128,7 @@ public class EntityMapperTest
                 .accessors()
                 .build();
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta),
                 listCaptor.capture());
 
         mapper.setListPropertyToEntity(Arrays.asList("foo", "bar"), listPropertyMeta, entity);
@@ -148,7 +148,7 @@ public class EntityMapperTest
                 .accessors()
                 .build();
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta),
                 setCaptor.capture());
 
         mapper.setSetPropertyToEntity(Sets.newHashSet("George", "Paul"), setPropertyMeta, entity);
@@ -176,7 +176,7 @@ public class EntityMapperTest
                 //
                 .build();
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta),
                 mapCaptor.capture());
 
         mapper.setMapPropertyToEntity(preferences, mapPropertyMeta, entity);
@@ -9,6 +9,7 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.ListWrapper;
 import info.archinnov.achilles.proxy.wrapper.MapWrapper;
 import info.archinnov.achilles.proxy.wrapper.SetWrapper;
@@ -73,6 +74,7 @@ public class EntityInterceptorTest
     private Map<Method, PropertyMeta> setterMetas = new HashMap<Method, PropertyMeta>();
     private Set<Method> alreadyLoaded = new HashSet<Method>();
     private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+    private Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
     private CompleteBean bean;
     private Long key = RandomUtils.nextLong();
     private Object rawValue = "raw";
@@ -113,6 +115,10 @@ public class EntityInterceptorTest
         doCallRealMethod().when(interceptor).setDirtyMap(dirtyMap);
         interceptor.setDirtyMap(dirtyMap);
 
+        deltaMap.clear();
+        doCallRealMethod().when(interceptor).setDeltaMap(deltaMap);
+        interceptor.setDeltaMap(deltaMap);
+
         doCallRealMethod().when(interceptor).setPersister(persister);
         interceptor.setPersister(persister);
 
@@ -557,4 +563,23 @@ public class EntityInterceptorTest
         assertThat(dirtyMap).containsValue(propertyMeta);
         assertThat(actual).isSameAs(rawValue);
     }
+
+    @Test
+    public void should_drop_collection_delta_when_setting_collection() throws Throwable
+    {
+        PropertyMeta propertyMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("friends")
+                .accessors()
+                .type(PropertyType.LIST)
+                .build();
+        setterMetas.put(propertyMeta.getSetter(), propertyMeta);
+        deltaMap.put(propertyMeta.getSetter(), new CollectionDelta());
+        when(proxy.invoke(bean, args)).thenReturn(rawValue);
+
+        interceptor.intercept(bean, propertyMeta.getSetter(), args, proxy);
+
+        assertThat(dirtyMap).containsKey(propertyMeta.getSetter());
+        assertThat(deltaMap).isEmpty();
+    }
 }
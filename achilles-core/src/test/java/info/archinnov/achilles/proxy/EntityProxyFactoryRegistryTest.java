@@ -0,0 +1,76 @@
+package info.archinnov.achilles.proxy;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.lang.reflect.Method;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import org.junit.Test;
+
+/**
+ * EntityProxyFactoryRegistryTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class EntityProxyFactoryRegistryTest
+{
+    private EntityProxyFactoryRegistry registry = new EntityProxyFactoryRegistry();
+
+    @Test
+    public void should_create_proxy_with_given_interceptor() throws Exception
+    {
+        MethodInterceptor interceptor = new NameInterceptor("DuyHai");
+
+        CompleteBean proxy = registry.newProxy(CompleteBean.class, interceptor);
+
+        assertThat(proxy).isInstanceOf(Factory.class);
+        assertThat(((Factory) proxy).getCallback(0)).isSameAs(interceptor);
+        assertThat(proxy.getName()).isEqualTo("DuyHai");
+    }
+
+    @Test
+    public void should_reuse_proxy_class_for_same_entity_class() throws Exception
+    {
+        registry.registerProxyFactory(CompleteBean.class);
+
+        CompleteBean proxy1 = registry.newProxy(CompleteBean.class, new NameInterceptor("DuyHai"));
+        CompleteBean proxy2 = new EntityProxyFactoryRegistry().newProxy(CompleteBean.class,
+                new NameInterceptor("Jonathan"));
+
+        assertThat((Object) proxy1.getClass()).isSameAs(proxy2.getClass());
+        assertThat(proxy1.getName()).isEqualTo("DuyHai");
+        assertThat(proxy2.getName()).isEqualTo("Jonathan");
+    }
+
+    @Test
+    public void should_share_proxy_factory_between_registries() throws Exception
+    {
+        Factory proxyFactory = registry.registerProxyFactory(CompleteBean.class);
+
+        assertThat(new EntityProxyFactoryRegistry().registerProxyFactory(CompleteBean.class)).isSameAs(proxyFactory);
+        assertThat(EntityProxyFactoryRegistry.getInstance().registerProxyFactory(CompleteBean.class)).isSameAs(
+                proxyFactory);
+    }
+
+    private static class NameInterceptor implements MethodInterceptor
+    {
+        private String name;
+
+        private NameInterceptor(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable
+        {
+            if ("getName".equals(method.getName()))
+            {
+                return name;
+            }
+            return proxy.invokeSuper(obj, args);
+        }
+    }
+}
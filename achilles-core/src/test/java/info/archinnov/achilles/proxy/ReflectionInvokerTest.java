@@ -5,6 +5,7 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
 import static org.fest.assertions.api.Assertions.assertThat;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.metadata.reflection.ValueAccessor;
 import info.archinnov.achilles.helper.EntityIntrospector;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.parser.entity.CompoundKey;
@@ -65,6 +66,35 @@ public class ReflectionInvokerTest
 		assertThat(bean.getComplicatedAttributeName()).isEqualTo("fecezzef");
 	}
 
+	@Test
+	public void should_get_and_set_value_with_value_accessor() throws Exception
+	{
+		Bean bean = new Bean();
+		Method getter = Bean.class.getDeclaredMethod("getComplicatedAttributeName");
+		Method setter = Bean.class.getDeclaredMethod("setComplicatedAttributeName", String.class);
+		PropertyMeta pm = new PropertyMeta();
+		pm.setValueAccessor(new ValueAccessor(getter, setter));
+
+		invoker.setValueToField(bean, pm, "fecezzef");
+
+		assertThat(bean.getComplicatedAttributeName()).isEqualTo("fecezzef");
+		assertThat(invoker.getValueFromField(bean, pm)).isEqualTo("fecezzef");
+		assertThat(invoker.getValueFromField(null, pm)).isNull();
+	}
+
+	@Test
+	public void should_get_and_set_value_with_accessors_when_no_value_accessor() throws Exception
+	{
+		Bean bean = new Bean();
+		PropertyMeta pm = new PropertyMeta();
+		pm.setGetter(Bean.class.getDeclaredMethod("getComplicatedAttributeName"));
+		pm.setSetter(Bean.class.getDeclaredMethod("setComplicatedAttributeName", String.class));
+
+		invoker.setValueToField(bean, pm, "fecezzef");
+
+		assertThat(invoker.getValueFromField(bean, pm)).isEqualTo("fecezzef");
+	}
+
 	@Test
 	public void should_not_set_value_when_null_field() throws Exception
 	{
@@ -0,0 +1,56 @@
+package info.archinnov.achilles.proxy.wrapper;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * CollectionDeltaTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CollectionDeltaTest
+{
+    private CollectionDelta delta = new CollectionDelta();
+
+    @Test
+    public void should_append_elements_in_order() throws Exception
+    {
+        delta.appendElements(Arrays.asList("a", "b"));
+        delta.appendElements(Arrays.asList("a"));
+
+        assertThat(delta.getAppendedElements()).containsExactly("a", "b", "a");
+        assertThat(delta.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void should_keep_added_and_removed_elements_disjoint() throws Exception
+    {
+        delta.addElements(Arrays.asList("a", "b"));
+        delta.removeElements(Arrays.asList("b", "c"));
+        delta.addElements(Arrays.asList("c"));
+
+        assertThat(delta.getAddedElements()).containsExactly("a", "c");
+        assertThat(delta.getRemovedElements()).containsExactly("b");
+    }
+
+    @Test
+    public void should_keep_put_entries_and_removed_keys_disjoint() throws Exception
+    {
+        delta.putEntries(ImmutableMap.of(1, "FR", 2, "Paris"));
+        delta.removeKeys(Arrays.asList(2, 3));
+        delta.putEntries(Collections.singletonMap(3, "London"));
+
+        assertThat(delta.getPutEntries()).hasSize(2).containsKey(1).containsKey(3);
+        assertThat(delta.getRemovedKeys()).containsExactly(2);
+    }
+
+    @Test
+    public void should_be_empty() throws Exception
+    {
+        assertThat(delta.isEmpty()).isTrue();
+    }
+}
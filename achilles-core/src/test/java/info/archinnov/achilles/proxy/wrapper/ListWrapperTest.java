@@ -4,12 +4,14 @@ import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.PersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -147,6 +149,84 @@ public class ListWrapperTest
         verify(dirtyMap).put(setter, propertyMeta);
     }
 
+    @Test
+    public void should_record_appended_elements_in_delta() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        ArrayList<String> target = new ArrayList<String>();
+        target.add("a");
+        ListWrapper listWrapper = prepareListWrapper(target, dirtyMap, deltaMap);
+        when(propertyMeta.type()).thenReturn(PropertyType.LIST);
+        when(proxifier.unwrap("b")).thenReturn("b");
+
+        Collection<String> list = Arrays.asList("c", "d");
+        when(proxifier.unwrap(list)).thenReturn(list);
+
+        listWrapper.add("b");
+        listWrapper.addAll(list);
+
+        assertThat(target).containsExactly("a", "b", "c", "d");
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap.get(setter).getAppendedElements()).containsExactly("b", "c", "d");
+    }
+
+    @Test
+    public void should_drop_delta_on_remove_at_index() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        ArrayList<String> target = new ArrayList<String>();
+        target.add("a");
+        ListWrapper listWrapper = prepareListWrapper(target, dirtyMap, deltaMap);
+        when(propertyMeta.type()).thenReturn(PropertyType.LIST);
+        when(proxifier.unwrap("b")).thenReturn("b");
+
+        listWrapper.add("b");
+        listWrapper.remove(0);
+        listWrapper.add("b");
+
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
+    @Test
+    public void should_not_record_delta_on_element_remove() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        ArrayList<String> target = new ArrayList<String>();
+        target.add("a");
+        ListWrapper listWrapper = prepareListWrapper(target, dirtyMap, deltaMap);
+        when(propertyMeta.type()).thenReturn(PropertyType.LIST);
+        when(proxifier.unwrap("a")).thenReturn("a");
+
+        listWrapper.remove("a");
+
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
+    @Test
+    public void should_not_record_delta_on_sub_list_add() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        ArrayList<String> target = new ArrayList<String>();
+        target.add("a");
+        target.add("b");
+        ListWrapper listWrapper = prepareListWrapper(target, dirtyMap, deltaMap);
+        when(propertyMeta.type()).thenReturn(PropertyType.LIST);
+        when(proxifier.unwrap("c")).thenReturn("c");
+
+        listWrapper.add("c");
+        listWrapper.subList(0, 1).add("c");
+
+        assertThat(target).containsExactly("a", "c", "b", "c");
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
     @Test
     public void should_get_target() throws Exception
     {
@@ -165,4 +245,13 @@ public class ListWrapperTest
         listWrapper.setProxifier(proxifier);
         return listWrapper;
     }
+
+    private ListWrapper prepareListWrapper(List<String> target, Map<Method, PropertyMeta> dirtyMap,
+            Map<Method, CollectionDelta> deltaMap)
+    {
+        ListWrapper listWrapper = prepareListWrapper(target);
+        listWrapper.setDirtyMap(dirtyMap);
+        listWrapper.setDeltaMap(deltaMap);
+        return listWrapper;
+    }
 }
@@ -293,6 +293,62 @@ public class MapWrapperTest
         verify(dirtyMap, never()).put(setter, propertyMeta);
     }
 
+    @Test
+    public void should_record_put_and_removed_entries_in_delta() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        Map<Integer, String> target = prepareMap();
+        MapWrapper wrapper = prepareMapWrapper(target, dirtyMap, deltaMap);
+        when(proxifier.unwrap("London")).thenReturn("London");
+        when(proxifier.unwrap("Berlin")).thenReturn("Berlin");
+        when(proxifier.unwrap(1)).thenReturn(1);
+        when(proxifier.unwrap(4)).thenReturn(4);
+
+        wrapper.put(3, "London");
+        wrapper.put(4, "Berlin");
+        wrapper.remove(1);
+        wrapper.remove(4);
+
+        CollectionDelta delta = deltaMap.get(setter);
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(delta.getPutEntries()).hasSize(1).containsKey(3);
+        assertThat(delta.getRemovedKeys()).containsOnly(1, 4);
+    }
+
+    @Test
+    public void should_drop_delta_on_clear() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        Map<Integer, String> target = prepareMap();
+        MapWrapper wrapper = prepareMapWrapper(target, dirtyMap, deltaMap);
+        when(proxifier.unwrap("London")).thenReturn("London");
+
+        wrapper.put(3, "London");
+        wrapper.clear();
+        wrapper.put(3, "London");
+
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
+    @Test
+    public void should_not_record_delta_for_join_map() throws Exception
+    {
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+        Map<Integer, String> target = prepareMap();
+        MapWrapper wrapper = prepareMapWrapper(target, dirtyMap, deltaMap);
+        when(propertyMeta.type()).thenReturn(PropertyType.JOIN_MAP);
+        when(proxifier.unwrap("London")).thenReturn("London");
+
+        wrapper.put(3, "London");
+
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
     private Map<Integer, String> prepareMap()
     {
         Map<Integer, String> map = new HashMap<Integer, String>();
@@ -324,4 +380,13 @@ public class MapWrapperTest
         wrapper.setProxifier(proxifier);
         return wrapper;
     }
+
+    private MapWrapper prepareMapWrapper(Map<Integer, String> target, Map<Method, PropertyMeta> dirtyMap,
+            Map<Method, CollectionDelta> deltaMap)
+    {
+        MapWrapper wrapper = prepareMapWrapper(target);
+        wrapper.setDirtyMap(dirtyMap);
+        wrapper.setDeltaMap(deltaMap);
+        return wrapper;
+    }
 }
@@ -1,9 +1,23 @@
 package info.archinnov.achilles.proxy.wrapper;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.PersistenceContext;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.operations.EntityProxifier;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
 
 /**
  * AchillesSetWrapperTest
@@ -11,8 +25,18 @@ import org.junit.Test;
  * @author DuyHai DOAN
  * 
  */
+@RunWith(MockitoJUnitRunner.class)
 public class SetWrapperTest
 {
+    @Mock
+    private PropertyMeta propertyMeta;
+
+    @Mock
+    private EntityProxifier<PersistenceContext> proxifier;
+
+    private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+
+    private Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
 
     @Test
     public void should_get_target() throws Exception
@@ -23,4 +47,72 @@ public class SetWrapperTest
         assertThat(setWrapper.getTarget()).isSameAs(target);
     }
 
+    @Test
+    public void should_record_added_and_removed_elements_in_delta() throws Exception
+    {
+        Method setter = CompleteBean.class.getDeclaredMethod("setFollowers", Set.class);
+        Set<Object> target = new HashSet<Object>(Arrays.<Object> asList("a", "b"));
+        SetWrapper setWrapper = prepareSetWrapper(target, setter);
+
+        Collection<Object> removed = Arrays.<Object> asList("a", "c");
+        when(proxifier.unwrap("c")).thenReturn("c");
+        when(proxifier.unwrap("d")).thenReturn("d");
+        when(proxifier.unwrap(removed)).thenReturn(removed);
+
+        setWrapper.add("c");
+        setWrapper.add("d");
+        setWrapper.removeAll(removed);
+
+        CollectionDelta delta = deltaMap.get(setter);
+        assertThat(target).containsOnly("b", "d");
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(delta.getAddedElements()).containsOnly("d");
+        assertThat(delta.getRemovedElements()).containsOnly("a", "c");
+    }
+
+    @Test
+    public void should_drop_delta_on_retain_all() throws Exception
+    {
+        Method setter = CompleteBean.class.getDeclaredMethod("setFollowers", Set.class);
+        Set<Object> target = new HashSet<Object>(Arrays.<Object> asList("a", "b"));
+        SetWrapper setWrapper = prepareSetWrapper(target, setter);
+
+        Collection<Object> retained = Arrays.<Object> asList("a");
+        when(proxifier.unwrap("c")).thenReturn("c");
+        when(proxifier.unwrap(retained)).thenReturn(retained);
+
+        setWrapper.add("c");
+        setWrapper.retainAll(retained);
+
+        assertThat(dirtyMap).containsKey(setter);
+        assertThat(deltaMap).isEmpty();
+    }
+
+    @Test
+    public void should_not_record_delta_when_already_dirty() throws Exception
+    {
+        Method setter = CompleteBean.class.getDeclaredMethod("setFollowers", Set.class);
+        Set<Object> target = new HashSet<Object>(Arrays.<Object> asList("a", "b"));
+        SetWrapper setWrapper = prepareSetWrapper(target, setter);
+        dirtyMap.put(setter, propertyMeta);
+
+        when(proxifier.unwrap("c")).thenReturn("c");
+
+        setWrapper.add("c");
+
+        assertThat(deltaMap).isEmpty();
+    }
+
+    private SetWrapper prepareSetWrapper(Set<Object> target, Method setter)
+    {
+        when(propertyMeta.type()).thenReturn(PropertyType.SET);
+
+        SetWrapper setWrapper = new SetWrapper(target);
+        setWrapper.setDirtyMap(dirtyMap);
+        setWrapper.setDeltaMap(deltaMap);
+        setWrapper.setSetter(setter);
+        setWrapper.setPropertyMeta(propertyMeta);
+        setWrapper.setProxifier(proxifier);
+        return setWrapper;
+    }
 }
@@ -44,7 +44,7 @@ public class SliceQueryTest {
 
         SliceQuery<ClusteredEntity> sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, 11L,
                 new Object[] { "a" }, new Object[] { "b" },
-                OrderingMode.ASCENDING, BoundingMode.INCLUSIVE_BOUNDS, null, 100, 99, false);
+                OrderingMode.ASCENDING, BoundingMode.INCLUSIVE_BOUNDS, null, 100, 99, false, false, 0);
 
         assertThat(sliceQuery.getEntityClass()).isSameAs(ClusteredEntity.class);
         assertThat(sliceQuery.getBatchSize()).isEqualTo(99);
@@ -57,6 +57,7 @@ public class SliceQueryTest {
         assertThat(sliceQuery.getOrdering()).isSameAs(OrderingMode.ASCENDING);
         assertThat(sliceQuery.getPartitionKey()).isEqualTo(11L);
         assertThat(sliceQuery.isLimitSet()).isFalse();
+        assertThat(sliceQuery.isReadOnly()).isFalse();
     }
 
     @Test
@@ -69,7 +70,7 @@ public class SliceQueryTest {
         meta.setIdMeta(idMeta);
         SliceQuery<ClusteredEntity> sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, 11L,
                 null, null,
-                OrderingMode.ASCENDING, BoundingMode.INCLUSIVE_BOUNDS, null, 100, 99, false);
+                OrderingMode.ASCENDING, BoundingMode.INCLUSIVE_BOUNDS, null, 100, 99, false, false, 0);
 
         assertThat(sliceQuery.hasNoComponent()).isTrue();
     }
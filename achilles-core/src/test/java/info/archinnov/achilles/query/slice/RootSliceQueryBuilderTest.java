@@ -167,6 +167,31 @@ public class RootSliceQueryBuilderTest
         assertThat(builder.buildClusterQuery().getLimit()).isEqualTo(53);
     }
 
+    @Test
+    public void should_set_read_only() throws Exception
+    {
+        builder.partitionKeyInternal(10L).readOnlyInternal();
+
+        assertThat(builder.buildClusterQuery().isReadOnly()).isTrue();
+    }
+
+    @Test
+    public void should_set_read_ahead_ratio() throws Exception
+    {
+        builder.partitionKeyInternal(10L).readAheadInternal(0.5);
+
+        assertThat(builder.buildClusterQuery().getReadAheadRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void should_exception_when_read_ahead_ratio_out_of_range() throws Exception
+    {
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Read ahead ratio for slice query for entity 'entityClass' should be in ]0,1]");
+
+        builder.partitionKeyInternal(10L).readAheadInternal(1.5);
+    }
+
     @Test
     public void should_get() throws Exception
     {
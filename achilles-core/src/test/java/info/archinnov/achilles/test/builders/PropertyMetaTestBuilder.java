@@ -6,6 +6,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.metadata.reflection.ValueAccessor;
 import info.archinnov.achilles.entity.metadata.transcoding.CompoundTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
 import info.archinnov.achilles.entity.metadata.transcoding.ListTranscoder;
@@ -106,6 +107,7 @@ public class PropertyMetaTestBuilder<T, K, V>
             {
                 pm.setSetter(achillesEntityIntrospector.findSetter(clazz, declaredField));
             }
+            pm.setValueAccessor(new ValueAccessor(pm.getGetter(), pm.getSetter()));
         }
 
         if (joinMeta != null || !cascadeTypes.isEmpty())
@@ -1,6 +1,7 @@
 package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.validation.Validator;
 import java.util.Map;
 import org.apache.commons.lang.StringUtils;
@@ -13,6 +14,7 @@ import com.datastax.driver.core.policies.LoadBalancingPolicy;
 import com.datastax.driver.core.policies.Policies;
 import com.datastax.driver.core.policies.ReconnectionPolicy;
 import com.datastax.driver.core.policies.RetryPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
 
 /**
  * CQLArgumentExtractor
@@ -40,11 +42,7 @@ public class CQLArgumentExtractor extends ArgumentExtractor
             retryPolicy = (RetryPolicy) configurationMap.get(RETRY_POLICY);
         }
 
-        LoadBalancingPolicy loadBalancingPolicy = Policies.defaultLoadBalancingPolicy();
-        if (configurationMap.containsKey(LOAD_BALANCING_POLICY))
-        {
-            loadBalancingPolicy = (LoadBalancingPolicy) configurationMap.get(LOAD_BALANCING_POLICY);
-        }
+        LoadBalancingPolicy loadBalancingPolicy = initLoadBalancingPolicy(configurationMap);
 
         ReconnectionPolicy reconnectionPolicy = Policies.defaultReconnectionPolicy();
         if (configurationMap.containsKey(RECONNECTION_POLICY))
@@ -125,6 +123,26 @@ public class CQLArgumentExtractor extends ArgumentExtractor
 
     }
 
+    /**
+     * When token aware routing is enabled, the configured or default policy is wrapped in a TokenAwarePolicy which
+     * sends each request with a routing key to a replica of its partition first
+     */
+    public LoadBalancingPolicy initLoadBalancingPolicy(Map<String, Object> configurationMap)
+    {
+        LoadBalancingPolicy loadBalancingPolicy = Policies.defaultLoadBalancingPolicy();
+        if (configurationMap.containsKey(LOAD_BALANCING_POLICY))
+        {
+            loadBalancingPolicy = (LoadBalancingPolicy) configurationMap.get(LOAD_BALANCING_POLICY);
+        }
+
+        Boolean tokenAware = (Boolean) configurationMap.get(TOKEN_AWARE_ROUTING);
+        if (tokenAware != null && tokenAware && !(loadBalancingPolicy instanceof TokenAwarePolicy))
+        {
+            loadBalancingPolicy = new TokenAwarePolicy(loadBalancingPolicy);
+        }
+        return loadBalancingPolicy;
+    }
+
     public Session initSession(Cluster cluster, Map<String, Object> configurationMap)
     {
         String keyspace = (String) configurationMap.get(KEYSPACE_NAME_PARAM);
@@ -133,4 +151,79 @@ public class CQLArgumentExtractor extends ArgumentExtractor
         return cluster.connect(keyspace);
     }
 
+    public CQLBatchType initBatchType(Map<String, Object> configurationMap)
+    {
+        CQLBatchType batchType = CQLBatchType.SEQUENTIAL;
+        if (configurationMap.containsKey(BATCH_TYPE))
+        {
+            batchType = (CQLBatchType) configurationMap.get(BATCH_TYPE);
+        }
+        return batchType;
+    }
+
+    public int initBatchMaxStatements(Map<String, Object> configurationMap)
+    {
+        int batchMaxStatements = DEFAULT_BATCH_MAX_STATEMENTS;
+        if (configurationMap.containsKey(BATCH_MAX_STATEMENTS))
+        {
+            batchMaxStatements = (Integer) configurationMap.get(BATCH_MAX_STATEMENTS);
+        }
+        Validator.validateTrue(batchMaxStatements > 0, "%s property should be strictly positive",
+                BATCH_MAX_STATEMENTS);
+        return batchMaxStatements;
+    }
+
+    public int initFlushMaxInFlight(Map<String, Object> configurationMap)
+    {
+        int flushMaxInFlight = DEFAULT_FLUSH_MAX_IN_FLIGHT;
+        if (configurationMap.containsKey(FLUSH_MAX_IN_FLIGHT))
+        {
+            flushMaxInFlight = (Integer) configurationMap.get(FLUSH_MAX_IN_FLIGHT);
+        }
+        Validator.validateTrue(flushMaxInFlight > 0, "%s property should be strictly positive",
+                FLUSH_MAX_IN_FLIGHT);
+        return flushMaxInFlight;
+    }
+
+    public int initScanParallelism(Map<String, Object> configurationMap)
+    {
+        int scanParallelism = DEFAULT_SCAN_PARALLELISM;
+        if (configurationMap.containsKey(SCAN_PARALLELISM))
+        {
+            scanParallelism = (Integer) configurationMap.get(SCAN_PARALLELISM);
+        }
+        Validator.validateTrue(scanParallelism > 0, "%s property should be strictly positive",
+                SCAN_PARALLELISM);
+        return scanParallelism;
+    }
+
+    public int initScanPageSize(Map<String, Object> configurationMap)
+    {
+        int scanPageSize = DEFAULT_SCAN_PAGE_SIZE;
+        if (configurationMap.containsKey(SCAN_PAGE_SIZE))
+        {
+            scanPageSize = (Integer) configurationMap.get(SCAN_PAGE_SIZE);
+        }
+        Validator.validateTrue(scanPageSize > 0, "%s property should be strictly positive", SCAN_PAGE_SIZE);
+        return scanPageSize;
+    }
+
+    public boolean initPreparedStatementsLazy(Map<String, Object> configurationMap)
+    {
+        Boolean lazy = (Boolean) configurationMap.get(PREPARED_STATEMENTS_LAZY);
+        return lazy != null ? lazy : false;
+    }
+
+    public int initPreparedStatementsParallelism(Map<String, Object> configurationMap)
+    {
+        int parallelism = DEFAULT_PREPARED_STATEMENTS_PARALLELISM;
+        if (configurationMap.containsKey(PREPARED_STATEMENTS_PARALLELISM))
+        {
+            parallelism = (Integer) configurationMap.get(PREPARED_STATEMENTS_PARALLELISM);
+        }
+        Validator.validateTrue(parallelism > 0, "%s property should be strictly positive",
+                PREPARED_STATEMENTS_PARALLELISM);
+        return parallelism;
+    }
+
 }
@@ -14,6 +14,7 @@ public interface CQLConfigurationParameters
     String COMPRESSION_TYPE = "achilles.cassandra.compression.type";
     String RETRY_POLICY = "achilles.cassandra.retry.policy";
     String LOAD_BALANCING_POLICY = "achilles.cassandra.load.balancing.policy";
+    String TOKEN_AWARE_ROUTING = "achilles.cassandra.token.aware.routing";
     String RECONNECTION_POLICY = "achilles.cassandra.reconnection.policy";
     String USERNAME = "achilles.cassandra.username";
     String PASSWORD = "achilles.cassandra.password";
@@ -21,4 +22,23 @@ public interface CQLConfigurationParameters
     String DISABLE_METRICS = "achilles.cassandra.disable.metrics";
     String SSL_ENABLED = "achilles.cassandra.ssl.enabled";
     String SSL_OPTIONS = "achilles.cassandra.ssl.options";
+
+    String BATCH_TYPE = "achilles.cassandra.batch.type";
+    String BATCH_MAX_STATEMENTS = "achilles.cassandra.batch.max.statements";
+
+    int DEFAULT_BATCH_MAX_STATEMENTS = 100;
+
+    String FLUSH_MAX_IN_FLIGHT = "achilles.cassandra.flush.max.in.flight";
+    int DEFAULT_FLUSH_MAX_IN_FLIGHT = 32;
+
+    String SCAN_PARALLELISM = "achilles.cassandra.scan.parallelism";
+    int DEFAULT_SCAN_PARALLELISM = 4;
+
+    String SCAN_PAGE_SIZE = "achilles.cassandra.scan.page.size";
+    int DEFAULT_SCAN_PAGE_SIZE = 1000;
+
+    String PREPARED_STATEMENTS_LAZY = "achilles.cassandra.prepared.statements.lazy";
+
+    String PREPARED_STATEMENTS_PARALLELISM = "achilles.cassandra.prepared.statements.parallelism";
+    int DEFAULT_PREPARED_STATEMENTS_PARALLELISM = 8;
 }
@@ -3,12 +3,19 @@ package info.archinnov.achilles.context;
 import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLFlushContext
@@ -24,6 +31,9 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
     protected List<BoundStatementWrapper> boundStatementWrappers = new ArrayList<BoundStatementWrapper>();
     protected List<Statement> statements = new ArrayList<Statement>();
 
+    // Number of bound statements pushed before each statement, to flush them in the order they were pushed
+    protected List<Integer> statementPositions = new ArrayList<Integer>();
+
     protected ConsistencyLevel consistencyLevel;
 
     public CQLAbstractFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel)
@@ -46,25 +56,144 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
     {
         boundStatementWrappers.clear();
         statements.clear();
+        statementPositions.clear();
         consistencyLevel = null;
     }
 
     protected void doFlush()
     {
-        for (BoundStatementWrapper wrapper : boundStatementWrappers)
+        CQLStatementPipeline pipeline = new CQLStatementPipeline(daoContext, daoContext.getFlushMaxInFlight());
+        for (Object pendingStatement : pendingStatements())
         {
+            if (pendingStatement instanceof BoundStatementWrapper)
+            {
+                pipeline.execute((BoundStatementWrapper) pendingStatement);
+            }
+            else
+            {
+                pipeline.execute((Statement) pendingStatement);
+            }
+        }
+        pipeline.waitForAll();
 
-            daoContext.execute(wrapper.getBs(), wrapper.getValues());
+        cleanUp();
+
+    }
+
+    /**
+     * Send all pending statements without blocking the caller. Statements sharing a routing key, and statements
+     * without routing key, are chained in callbacks so the write order is preserved
+     */
+    protected ListenableFuture<List<ResultSet>> doFlushAsync()
+    {
+        List<ListenableFuture<ResultSet>> futures = new ArrayList<ListenableFuture<ResultSet>>();
+        Map<ByteBuffer, ListenableFuture<ResultSet>> lastFutureByRoutingKey = new HashMap<ByteBuffer, ListenableFuture<ResultSet>>();
+        ListenableFuture<ResultSet> barrier = null;
+
+        List<Query> queries = new ArrayList<Query>();
+        List<Object[]> queriesBoundValues = new ArrayList<Object[]>();
+        for (Object pendingStatement : pendingStatements())
+        {
+            if (pendingStatement instanceof BoundStatementWrapper)
+            {
+                BoundStatementWrapper wrapper = (BoundStatementWrapper) pendingStatement;
+                queries.add(wrapper.getBs());
+                queriesBoundValues.add(wrapper.getValues());
+            }
+            else
+            {
+                queries.add((Statement) pendingStatement);
+                queriesBoundValues.add(new Object[] {});
+            }
         }
-        for (Statement statement : statements)
+
+        for (int i = 0; i < queries.size(); i++)
         {
-            daoContext.execute(statement);
+            Query query = queries.get(i);
+            ByteBuffer routingKey = query.getRoutingKey();
+
+            List<ListenableFuture<ResultSet>> predecessors = new ArrayList<ListenableFuture<ResultSet>>();
+            if (routingKey == null)
+            {
+                predecessors.addAll(futures);
+            }
+            else
+            {
+                if (barrier != null)
+                {
+                    predecessors.add(barrier);
+                }
+                if (lastFutureByRoutingKey.containsKey(routingKey))
+                {
+                    predecessors.add(lastFutureByRoutingKey.get(routingKey));
+                }
+            }
+
+            ListenableFuture<ResultSet> future = executeAfter(predecessors, query, queriesBoundValues.get(i));
+            if (routingKey == null)
+            {
+                barrier = future;
+            }
+            else
+            {
+                lastFutureByRoutingKey.put(routingKey, future);
+            }
+            futures.add(future);
         }
 
         cleanUp();
 
+        return Futures.allAsList(futures);
     }
 
+    /**
+     * Return the pending bound statement wrappers and statements in the order they were pushed. Statements without
+     * recorded position come after all bound statements
+     */
+    protected List<Object> pendingStatements()
+    {
+        List<Object> pendingStatements = new ArrayList<Object>(boundStatementWrappers.size() + statements.size());
+        int boundIndex = 0;
+        for (int i = 0; i < statements.size(); i++)
+        {
+            int position = i < statementPositions.size() ? statementPositions.get(i) : boundStatementWrappers
+                    .size();
+            while (boundIndex < Math.min(position, boundStatementWrappers.size()))
+            {
+                pendingStatements.add(boundStatementWrappers.get(boundIndex++));
+            }
+            pendingStatements.add(statements.get(i));
+        }
+        while (boundIndex < boundStatementWrappers.size())
+        {
+            pendingStatements.add(boundStatementWrappers.get(boundIndex++));
+        }
+        return pendingStatements;
+    }
+
+    private ListenableFuture<ResultSet> executeAfter(List<ListenableFuture<ResultSet>> predecessors,
+            final Query query, final Object[] boundValues)
+    {
+        if (predecessors.isEmpty())
+        {
+            return daoContext.executeAsync(query, boundValues);
+        }
+        else
+        {
+            return Futures.transform(Futures.allAsList(predecessors),
+                    new AsyncFunction<List<ResultSet>, ResultSet>()
+                    {
+                        @Override
+                        public ListenableFuture<ResultSet> apply(List<ResultSet> input)
+                        {
+                            return daoContext.executeAsync(query, boundValues);
+                        }
+                    });
+        }
+    }
+
+    public abstract ListenableFuture<List<ResultSet>> flushAsync();
+
     public void pushBoundStatement(BoundStatementWrapper bsWrapper,
             ConsistencyLevel writeConsistencyLevel)
     {
@@ -93,6 +222,7 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
             statement.setConsistencyLevel(getCQLLevel(writeConsistencyLevel));
         }
         statements.add(statement);
+        statementPositions.add(boundStatementWrappers.size());
     }
 
     public ResultSet executeImmediateWithConsistency(Query query,
@@ -102,6 +232,13 @@ public abstract class CQLAbstractFlushContext<T extends CQLAbstractFlushContext<
         return daoContext.execute(query, boundValues);
     }
 
+    public ResultSetFuture executeAsyncImmediateWithConsistency(Query query,
+            ConsistencyLevel readConsistencyLevel, Object... boundValues)
+    {
+        query.setConsistencyLevel(getCQLLevel(readConsistencyLevel));
+        return daoContext.executeAsync(query, boundValues);
+    }
+
     public List<BoundStatementWrapper> getBoundStatementWrappers()
     {
         return boundStatementWrappers;
@@ -1,10 +1,27 @@
 package info.archinnov.achilles.context;
 
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.Query;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLBatchingFlushContext
@@ -15,14 +32,27 @@ import org.slf4j.LoggerFactory;
 public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatchingFlushContext> {
     private static final Logger log = LoggerFactory.getLogger(CQLBatchingFlushContext.class);
 
+    private CQLBatchType batchType = CQLBatchType.SEQUENTIAL;
+    private int batchMaxStatements = Integer.MAX_VALUE;
+
     public CQLBatchingFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel)
     {
         super(daoContext, consistencyLevel);
     }
 
+    public CQLBatchingFlushContext(CQLDaoContext daoContext, ConsistencyLevel consistencyLevel,
+            CQLBatchType batchType, int batchMaxStatements)
+    {
+        super(daoContext, consistencyLevel);
+        this.batchType = batchType;
+        this.batchMaxStatements = batchMaxStatements;
+    }
+
     private CQLBatchingFlushContext(CQLDaoContext daoContext, List<BoundStatementWrapper> boundStatementWrappers,
-            ConsistencyLevel consistencyLevel) {
+            ConsistencyLevel consistencyLevel, CQLBatchType batchType, int batchMaxStatements) {
         super(daoContext, boundStatementWrappers, consistencyLevel);
+        this.batchType = batchType;
+        this.batchMaxStatements = batchMaxStatements;
     }
 
     @Override
@@ -38,11 +68,25 @@ public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatching
         log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
     }
 
+    @Override
+    public ListenableFuture<List<ResultSet>> flushAsync()
+    {
+        log.debug("Flush called but do nothing. Flushing is done only at the end of the batch");
+        return Futures.<List<ResultSet>> immediateFuture(new ArrayList<ResultSet>());
+    }
+
     @Override
     public void endBatch()
     {
         log.debug("Ending current batch");
-        doFlush();
+        if (batchType == CQLBatchType.SEQUENTIAL)
+        {
+            doFlush();
+        }
+        else
+        {
+            doBatchFlush();
+        }
     }
 
     @Override
@@ -52,7 +96,157 @@ public class CQLBatchingFlushContext extends CQLAbstractFlushContext<CQLBatching
 
     @Override
     public CQLBatchingFlushContext duplicate() {
-        return new CQLBatchingFlushContext(daoContext, boundStatementWrappers, consistencyLevel);
+        return new CQLBatchingFlushContext(daoContext, boundStatementWrappers, consistencyLevel, batchType,
+                batchMaxStatements);
     }
 
+    /**
+     * Send the pending statements as batches of at most batchMaxStatements statements sharing the same kind, counter
+     * flag, consistency level and, for unlogged batches, partition key. A pending batch is sent before a statement of
+     * another batch touching one of its routing keys is added, so writes to a partition keep the order they were
+     * pushed in
+     */
+    protected void doBatchFlush()
+    {
+        log.debug("Flushing {} bound statements and {} statements as {} batches of at most {} statements",
+                boundStatementWrappers.size(), statements.size(), batchType.name(), batchMaxStatements);
+
+        CQLStatementPipeline pipeline = new CQLStatementPipeline(daoContext, daoContext.getFlushMaxInFlight());
+        Map<List<Object>, PendingBatch> pendingBatches = new LinkedHashMap<List<Object>, PendingBatch>();
+        for (Object pendingStatement : pendingStatements())
+        {
+            PendingBatch batch = new PendingBatch(pendingStatement);
+            Iterator<PendingBatch> iterator = pendingBatches.values().iterator();
+            while (iterator.hasNext())
+            {
+                PendingBatch pendingBatch = iterator.next();
+                if (!pendingBatch.groupKey.equals(batch.groupKey) && pendingBatch.overlaps(batch))
+                {
+                    execute(pipeline, pendingBatch);
+                    iterator.remove();
+                }
+            }
+
+            PendingBatch group = pendingBatches.get(batch.groupKey);
+            if (group == null)
+            {
+                pendingBatches.put(batch.groupKey, batch);
+                group = batch;
+            }
+            else
+            {
+                group.add(pendingStatement);
+            }
+
+            if (group.size() >= batchMaxStatements)
+            {
+                execute(pipeline, group);
+                pendingBatches.remove(group.groupKey);
+            }
+        }
+
+        for (PendingBatch pendingBatch : pendingBatches.values())
+        {
+            execute(pipeline, pendingBatch);
+        }
+        pipeline.waitForAll();
+
+        cleanUp();
+    }
+
+    private void execute(CQLStatementPipeline pipeline, PendingBatch batch)
+    {
+        if (!batch.bsWrappers.isEmpty())
+        {
+            if (batch.bsWrappers.size() == 1)
+            {
+                pipeline.execute(batch.bsWrappers.get(0));
+            }
+            else
+            {
+                pipeline.executeBatch(batchType, batch.bsWrappers, batch.partitionKey);
+            }
+        }
+        else if (batch.plainStatements.size() == 1)
+        {
+            pipeline.execute(batch.plainStatements.get(0));
+        }
+        else
+        {
+            Statement[] statementArray = batch.plainStatements.toArray(new Statement[batch.plainStatements.size()]);
+            Batch cqlBatch = batchType == CQLBatchType.UNLOGGED ? QueryBuilder.unloggedBatch(statementArray)
+                    : QueryBuilder.batch(statementArray);
+            cqlBatch.setConsistencyLevel(batch.plainStatements.get(0).getConsistencyLevel());
+            pipeline.execute(cqlBatch, batch.partitionKey);
+        }
+    }
+
+    private ByteBuffer extractPartitionKey(Query query)
+    {
+        // Logged batches are atomic across partitions so there is no need to split them by partition key
+        return batchType == CQLBatchType.UNLOGGED ? query.getRoutingKey() : null;
+    }
+
+    private class PendingBatch
+    {
+        private List<Object> groupKey;
+        private ByteBuffer partitionKey;
+        private List<BoundStatementWrapper> bsWrappers = new ArrayList<BoundStatementWrapper>();
+        private List<Statement> plainStatements = new ArrayList<Statement>();
+        private Set<ByteBuffer> routingKeys = new HashSet<ByteBuffer>();
+        private boolean unrouted = false;
+
+        private PendingBatch(Object pendingStatement)
+        {
+            Query query = add(pendingStatement);
+            partitionKey = extractPartitionKey(query);
+            if (pendingStatement instanceof BoundStatementWrapper)
+            {
+                groupKey = Arrays.<Object> asList(BoundStatementWrapper.class,
+                        ((BoundStatementWrapper) pendingStatement).isCounter(), query.getConsistencyLevel(),
+                        partitionKey);
+            }
+            else
+            {
+                groupKey = Arrays.<Object> asList(Statement.class, false, query.getConsistencyLevel(), partitionKey);
+            }
+        }
+
+        private Query add(Object pendingStatement)
+        {
+            Query query;
+            if (pendingStatement instanceof BoundStatementWrapper)
+            {
+                BoundStatementWrapper bsWrapper = (BoundStatementWrapper) pendingStatement;
+                bsWrappers.add(bsWrapper);
+                query = bsWrapper.getBs();
+            }
+            else
+            {
+                query = (Statement) pendingStatement;
+                plainStatements.add((Statement) query);
+            }
+
+            ByteBuffer routingKey = query.getRoutingKey();
+            if (routingKey == null)
+            {
+                unrouted = true;
+            }
+            else
+            {
+                routingKeys.add(routingKey);
+            }
+            return query;
+        }
+
+        private boolean overlaps(PendingBatch other)
+        {
+            return unrouted || other.unrouted || !Collections.disjoint(routingKeys, other.routingKeys);
+        }
+
+        private int size()
+        {
+            return bsWrappers.size() + plainStatements.size();
+        }
+    }
 }
@@ -1,17 +1,24 @@
 package info.archinnov.achilles.context;
 
 import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*;
+import static info.archinnov.achilles.consistency.CQLConsistencyConvertor.getCQLLevel;
 import static info.archinnov.achilles.counter.AchillesCounter.CQLQueryType.*;
+import static info.archinnov.achilles.statement.cache.CacheType.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.statement.CQLStatementGenerator;
 import info.archinnov.achilles.statement.cache.CacheManager;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -21,8 +28,10 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.Update;
@@ -42,8 +51,19 @@ public class CQLDaoContext
 
     private static final Logger dmlLogger = LoggerFactory.getLogger(ACHILLES_DML_STATEMENT);
 
+    private static final String SELECT_PARTITIONER = "SELECT partitioner FROM system.local WHERE key='local'";
+
+    private int flushMaxInFlight = DEFAULT_FLUSH_MAX_IN_FLIGHT;
+    private int scanParallelism = DEFAULT_SCAN_PARALLELISM;
+    private int scanPageSize = DEFAULT_SCAN_PAGE_SIZE;
+    private volatile String partitioner;
+    private CQLCounterCoalescer counterCoalescer;
+    private AchillesExecutor executor;
+
     private Map<Class<?>, PreparedStatement> insertPSs;
     private Cache<StatementCacheKey, PreparedStatement> dynamicPSCache;
+    private Cache<String, PreparedStatement> queryPSCache;
+    private Cache<String, PreparedStatement> batchPSCache;
     private Map<Class<?>, PreparedStatement> selectEagerPSs;
     private Map<Class<?>, Map<String, PreparedStatement>> removePSs;
     private Map<CQLQueryType, PreparedStatement> counterQueryMap;
@@ -56,6 +76,8 @@ public class CQLDaoContext
 
     public CQLDaoContext(Map<Class<?>, PreparedStatement> insertPSs,
             Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
+            Cache<String, PreparedStatement> queryPSCache,
+            Cache<String, PreparedStatement> batchPSCache,
             Map<Class<?>, PreparedStatement> selectEagerPSs,
             Map<Class<?>, Map<String, PreparedStatement>> removePSs,
             Map<CQLQueryType, PreparedStatement> counterQueryMap,
@@ -64,6 +86,8 @@ public class CQLDaoContext
     {
         this.insertPSs = insertPSs;
         this.dynamicPSCache = dynamicPSCache;
+        this.queryPSCache = queryPSCache;
+        this.batchPSCache = batchPSCache;
         this.selectEagerPSs = selectEagerPSs;
         this.removePSs = removePSs;
         this.counterQueryMap = counterQueryMap;
@@ -100,6 +124,18 @@ public class CQLDaoContext
         }
     }
 
+    /**
+     * Bind the insert statement of a plain entity, without persistence context, with the entity write consistency
+     * level
+     */
+    public BoundStatementWrapper bindForBulkInsert(EntityMeta entityMeta, Object entity)
+    {
+        PreparedStatement ps = insertPSs.get(entityMeta.getEntityClass());
+        BoundStatementWrapper bsWrapper = binder.bindForInsert(ps, entityMeta, entity);
+        bsWrapper.getBs().setConsistencyLevel(getCQLLevel(entityMeta.getWriteConsistencyLevel()));
+        return bsWrapper;
+    }
+
     public void pushUpdateStatement(CQLPersistenceContext context, List<PropertyMeta> pms)
     {
         EntityMeta entityMeta = context.getEntityMeta();
@@ -129,6 +165,54 @@ public class CQLDaoContext
         }
     }
 
+    public void pushCollectionDeltaStatements(CQLPersistenceContext context, PropertyMeta pm,
+            CollectionDelta delta)
+    {
+        EntityMeta entityMeta = context.getEntityMeta();
+        Object entity = context.getEntity();
+        ConsistencyLevel writeLevel = getWriteConsistencyLevel(context, entityMeta);
+
+        List<BoundStatementWrapper> bsWrappers = new ArrayList<BoundStatementWrapper>();
+        if (!delta.getAppendedElements().isEmpty())
+        {
+            PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache,
+                    context, pm, ADD_TO_COLLECTION);
+            bsWrappers.add(binder.bindForCollectionDelta(ps, entityMeta, pm, delta.getAppendedElements(),
+                    entity));
+        }
+        if (!delta.getAddedElements().isEmpty())
+        {
+            PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache,
+                    context, pm, ADD_TO_COLLECTION);
+            bsWrappers.add(binder.bindForCollectionDelta(ps, entityMeta, pm, delta.getAddedElements(),
+                    entity));
+        }
+        if (!delta.getRemovedElements().isEmpty())
+        {
+            PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache,
+                    context, pm, REMOVE_FROM_COLLECTION);
+            bsWrappers.add(binder.bindForCollectionDelta(ps, entityMeta, pm, delta.getRemovedElements(),
+                    entity));
+        }
+        if (!delta.getPutEntries().isEmpty())
+        {
+            PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache,
+                    context, pm, ADD_TO_COLLECTION);
+            bsWrappers.add(binder.bindForCollectionDelta(ps, entityMeta, pm, delta.getPutEntries(), entity));
+        }
+        for (Object removedKey : delta.getRemovedKeys())
+        {
+            PreparedStatement ps = cacheManager.getCacheForCollectionDelta(session, dynamicPSCache,
+                    context, pm, REMOVE_MAP_ENTRY);
+            bsWrappers.add(binder.bindForMapEntryRemoval(ps, entityMeta, pm, removedKey, entity));
+        }
+
+        for (BoundStatementWrapper bsWrapper : bsWrappers)
+        {
+            context.pushBoundStatement(bsWrapper, writeLevel);
+        }
+    }
+
     public boolean checkForEntityExistence(CQLPersistenceContext context)
     {
         EntityMeta entityMeta = context.getEntityMeta();
@@ -183,6 +267,11 @@ public class CQLDaoContext
     public void incrementSimpleCounter(CQLPersistenceContext context, EntityMeta meta,
             PropertyMeta counterMeta, Long increment, ConsistencyLevel consistencyLevel)
     {
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(meta, counterMeta, context.getPrimaryKey(), consistencyLevel, increment);
+            return;
+        }
         PreparedStatement ps = counterQueryMap.get(INCR);
         BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterIncrementDecrement(ps, meta, counterMeta,
                 context.getPrimaryKey(), increment);
@@ -192,6 +281,11 @@ public class CQLDaoContext
     public void decrementSimpleCounter(CQLPersistenceContext context, EntityMeta meta,
             PropertyMeta counterMeta, Long decrement, ConsistencyLevel consistencyLevel)
     {
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(meta, counterMeta, context.getPrimaryKey(), consistencyLevel, -decrement);
+            return;
+        }
         PreparedStatement ps = counterQueryMap.get(DECR);
         BoundStatementWrapper bsWrapper = binder.bindForSimpleCounterIncrementDecrement(ps, meta, counterMeta,
                 context.getPrimaryKey(), decrement);
@@ -233,6 +327,11 @@ public class CQLDaoContext
     public void incrementClusteredCounter(CQLPersistenceContext context, EntityMeta meta,
             PropertyMeta counterMeta, Long increment, ConsistencyLevel consistencyLevel)
     {
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(meta, counterMeta, context.getPrimaryKey(), consistencyLevel, increment);
+            return;
+        }
         PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(INCR);
         BoundStatementWrapper bsWrapper = binder.bindForClusteredCounterIncrementDecrement(ps, meta, counterMeta,
                 context.getPrimaryKey(), increment);
@@ -242,12 +341,39 @@ public class CQLDaoContext
     public void decrementClusteredCounter(CQLPersistenceContext context, EntityMeta meta,
             PropertyMeta counterMeta, Long decrement, ConsistencyLevel consistencyLevel)
     {
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(meta, counterMeta, context.getPrimaryKey(), consistencyLevel, -decrement);
+            return;
+        }
         PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(DECR);
         BoundStatementWrapper bsWrapper = binder.bindForClusteredCounterIncrementDecrement(ps, meta, counterMeta,
                 context.getPrimaryKey(), decrement);
         context.executeImmediateWithConsistency(bsWrapper, consistencyLevel);
     }
 
+    /**
+     * Increment a simple or clustered counter without persistence context. Used to flush coalesced counter deltas
+     */
+    public ResultSetFuture incrementCounterAsync(EntityMeta meta, PropertyMeta counterMeta, Object primaryKey,
+            Long increment, ConsistencyLevel consistencyLevel)
+    {
+        BoundStatementWrapper bsWrapper;
+        if (meta.isClusteredCounter())
+        {
+            PreparedStatement ps = clusteredCounterQueryMap.get(meta.getEntityClass()).get(INCR);
+            bsWrapper = binder.bindForClusteredCounterIncrementDecrement(ps, meta, counterMeta, primaryKey,
+                    increment);
+        }
+        else
+        {
+            PreparedStatement ps = counterQueryMap.get(INCR);
+            bsWrapper = binder.bindForSimpleCounterIncrementDecrement(ps, meta, counterMeta, primaryKey, increment);
+        }
+        bsWrapper.getBs().setConsistencyLevel(getCQLLevel(consistencyLevel));
+        return executeAsync(bsWrapper.getBs(), bsWrapper.getValues());
+    }
+
     public Row getClusteredCounter(CQLPersistenceContext context, PropertyMeta counterMeta,
             ConsistencyLevel consistencyLevel)
     {
@@ -260,6 +386,16 @@ public class CQLDaoContext
         return returnFirstRowOrNull(resultSet.all());
     }
 
+    public ResultSetFuture getClusteredCounterAsync(CQLPersistenceContext context, PropertyMeta counterMeta,
+            ConsistencyLevel consistencyLevel)
+    {
+        EntityMeta entityMeta = context.getEntityMeta();
+        PreparedStatement ps = clusteredCounterQueryMap.get(entityMeta.getEntityClass()).get(SELECT);
+        BoundStatementWrapper bsWrapper = binder.bindForClusteredCounterSelect(ps, entityMeta, counterMeta,
+                context.getPrimaryKey());
+        return context.executeAsyncImmediateWithConsistency(bsWrapper, consistencyLevel);
+    }
+
     public void bindForClusteredCounterDelete(CQLPersistenceContext context, EntityMeta meta,
             PropertyMeta counterMeta, Object primaryKey)
     {
@@ -280,6 +416,18 @@ public class CQLDaoContext
         return returnFirstRowOrNull(rows);
     }
 
+    public ResultSetFuture eagerLoadEntityAsync(CQLPersistenceContext context)
+    {
+        EntityMeta meta = context.getEntityMeta();
+        Class<?> entityClass = context.getEntityClass();
+        PreparedStatement ps = selectEagerPSs.get(entityClass);
+        BoundStatementWrapper bsWrapper = binder.bindStatementWithOnlyPKInWhereClause(ps, meta,
+                context.getPrimaryKey());
+
+        ConsistencyLevel readLevel = getReadConsistencyLevel(context, meta);
+        return context.executeAsyncImmediateWithConsistency(bsWrapper, readLevel);
+    }
+
     private List<Row> executeReadWithConsistency(CQLPersistenceContext context,
             PreparedStatement ps, ConsistencyLevel readLevel)
     {
@@ -308,6 +456,112 @@ public class CQLDaoContext
         return session.execute(query);
     }
 
+    public ResultSetFuture executeAsync(Query query, Object... boundValues)
+    {
+        logDMLStatement(query, boundValues);
+        return session.executeAsync(query);
+    }
+
+    public ResultSet executeBatch(CQLBatchType batchType, List<BoundStatementWrapper> bsWrappers)
+    {
+        BoundStatementWrapper batchWrapper = bindBatch(batchType, bsWrappers);
+        return execute(batchWrapper.getBs(), batchWrapper.getValues());
+    }
+
+    public ResultSetFuture executeBatchAsync(CQLBatchType batchType, List<BoundStatementWrapper> bsWrappers)
+    {
+        BoundStatementWrapper batchWrapper = bindBatch(batchType, bsWrappers);
+        return executeAsync(batchWrapper.getBs(), batchWrapper.getValues());
+    }
+
+    private BoundStatementWrapper bindBatch(CQLBatchType batchType, List<BoundStatementWrapper> bsWrappers)
+    {
+        boolean counterBatch = bsWrappers.get(0).isCounter();
+        StringBuilder batchQuery = new StringBuilder("BEGIN ");
+        if (counterBatch)
+        {
+            batchQuery.append("COUNTER ");
+        }
+        else if (batchType == CQLBatchType.UNLOGGED)
+        {
+            batchQuery.append("UNLOGGED ");
+        }
+        batchQuery.append("BATCH ");
+
+        List<Object> values = new ArrayList<Object>();
+        for (BoundStatementWrapper bsWrapper : bsWrappers)
+        {
+            String queryString = bsWrapper.getBs().preparedStatement().getQueryString().trim();
+            if (queryString.endsWith(";"))
+            {
+                queryString = queryString.substring(0, queryString.length() - 1);
+            }
+            batchQuery.append(queryString).append("; ");
+            values.addAll(Arrays.asList(bsWrapper.getValues()));
+        }
+        batchQuery.append("APPLY BATCH");
+
+        // Batch queries get their own cache so that their many combinations do not evict the user queries
+        PreparedStatement ps = getOrPrepare(batchPSCache, batchQuery.toString());
+
+        Object[] boundValues = values.toArray(new Object[values.size()]);
+        BoundStatement bs = ps.bind(boundValues);
+        bs.setConsistencyLevel(bsWrappers.get(0).getBs().getConsistencyLevel());
+        return new BoundStatementWrapper(bs, boundValues, counterBatch);
+    }
+
+    /**
+     * Execute a raw CQL query. When bound values are provided, the query is prepared once and the prepared statement
+     * is kept in a bounded cache keyed by the query text
+     */
+    public ResultSet executeQuery(String queryString, Object... boundValues)
+    {
+        if (boundValues.length == 0)
+        {
+            return execute(new SimpleStatement(queryString));
+        }
+        else
+        {
+            BoundStatement bs = getOrPrepare(queryPSCache, queryString.trim()).bind(boundValues);
+            return execute(bs, boundValues);
+        }
+    }
+
+    private PreparedStatement getOrPrepare(Cache<String, PreparedStatement> psCache, String queryString)
+    {
+        PreparedStatement ps = psCache.getIfPresent(queryString);
+        if (ps == null)
+        {
+            ps = session.prepare(queryString);
+            psCache.put(queryString, ps);
+        }
+        return ps;
+    }
+
+    /**
+     * Fetch one page of a token range scan with the entity read consistency level. The scan query is prepared once
+     * and kept in the query statement cache
+     */
+    public ResultSetFuture executeScanAsync(EntityMeta entityMeta, String scanQuery, Object lowerToken,
+            Object upperToken)
+    {
+        BoundStatement bs = getOrPrepare(queryPSCache, scanQuery).bind(lowerToken, upperToken);
+        bs.setConsistencyLevel(getCQLLevel(entityMeta.getReadConsistencyLevel()));
+        return executeAsync(bs, lowerToken, upperToken);
+    }
+
+    /**
+     * Return the partitioner class name of the cluster, read once from the system.local table
+     */
+    public String getPartitioner()
+    {
+        if (partitioner == null)
+        {
+            partitioner = session.execute(SELECT_PARTITIONER).one().getString("partitioner");
+        }
+        return partitioner;
+    }
+
     public PreparedStatement prepare(Statement statement)
     {
         return session.prepare(statement.getQueryString());
@@ -322,10 +576,58 @@ public class CQLDaoContext
 
     }
 
+    public ResultSetFuture bindAndExecuteAsync(PreparedStatement ps, Object... params)
+    {
+        BoundStatement bs = ps.bind(params);
+
+        logDMLStatement(bs);
+        return session.executeAsync(bs);
+    }
+
     public Session getSession() {
         return session;
     }
 
+    public int getFlushMaxInFlight() {
+        return flushMaxInFlight;
+    }
+
+    public void setFlushMaxInFlight(int flushMaxInFlight) {
+        this.flushMaxInFlight = flushMaxInFlight;
+    }
+
+    public int getScanParallelism() {
+        return scanParallelism;
+    }
+
+    public void setScanParallelism(int scanParallelism) {
+        this.scanParallelism = scanParallelism;
+    }
+
+    public int getScanPageSize() {
+        return scanPageSize;
+    }
+
+    public void setScanPageSize(int scanPageSize) {
+        this.scanPageSize = scanPageSize;
+    }
+
+    public CQLCounterCoalescer getCounterCoalescer() {
+        return counterCoalescer;
+    }
+
+    public void setCounterCoalescer(CQLCounterCoalescer counterCoalescer) {
+        this.counterCoalescer = counterCoalescer;
+    }
+
+    public AchillesExecutor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(AchillesExecutor executor) {
+        this.executor = executor;
+    }
+
     private void logDMLStatement(Query query, Object... boundValues)
     {
         if (dmlLogger.isDebugEnabled())
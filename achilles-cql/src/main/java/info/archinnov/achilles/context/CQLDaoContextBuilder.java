@@ -1,12 +1,18 @@
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.CQLConfigurationParameters.DEFAULT_PREPARED_STATEMENTS_PARALLELISM;
 import static info.archinnov.achilles.entity.metadata.EntityMeta.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
 import com.google.common.base.Function;
@@ -17,14 +23,21 @@ import com.google.common.collect.Maps;
 /**
  * CQLDaoContextBuilder
  * 
+ * Entity statements are prepared concurrently at bootstrap, or lazily on first use when lazy preparation is enabled
+ * 
  * @author DuyHai DOAN
  * 
  */
 public class CQLDaoContextBuilder
 {
     private static final Integer PREPARED_STATEMENT_LRU_CACHE_SIZE = 5000;
+    private static final Integer QUERY_PREPARED_STATEMENT_LRU_CACHE_SIZE = 1000;
+    private static final Integer BATCH_PREPARED_STATEMENT_LRU_CACHE_SIZE = 200;
     private CQLPreparedStatementGenerator queryGenerator = new CQLPreparedStatementGenerator();
     private Session session;
+    private boolean lazyPreparation = false;
+    private int preparationParallelism = DEFAULT_PREPARED_STATEMENTS_PARALLELISM;
+    private AchillesExecutor executor;
 
     private Function<EntityMeta, PreparedStatement> insertPSTransformer = new Function<EntityMeta, PreparedStatement>()
     {
@@ -72,20 +85,75 @@ public class CQLDaoContextBuilder
         this.session = session;
     }
 
-    public CQLDaoContext build(Map<Class<?>, EntityMeta> entityMetaMap, boolean hasSimpleCounter)
+    /**
+     * Prepare the entity statements on first use instead of at bootstrap
+     */
+    public CQLDaoContextBuilder lazyPreparation(boolean lazyPreparation)
     {
-        Map<Class<?>, PreparedStatement> insertPSMap = new HashMap<Class<?>, PreparedStatement>(Maps.transformValues(
-                Maps.filterValues(entityMetaMap, excludeClusteredCounterFilter), insertPSTransformer));
+        this.lazyPreparation = lazyPreparation;
+        return this;
+    }
 
-        Map<Class<?>, PreparedStatement> selectEagerPSMap = new HashMap<Class<?>, PreparedStatement>(
-                Maps.transformValues(entityMetaMap, selectEagerPSTransformer));
+    /**
+     * Number of statements prepared concurrently at bootstrap
+     */
+    public CQLDaoContextBuilder preparationParallelism(int preparationParallelism)
+    {
+        this.preparationParallelism = preparationParallelism;
+        return this;
+    }
 
-        Map<Class<?>, Map<String, PreparedStatement>> removePSMap = new HashMap<Class<?>, Map<String, PreparedStatement>>(
-                Maps.transformValues(entityMetaMap, removePSTransformer));
+    /**
+     * Executor of the EntityManagerFactory preparing the statements at bootstrap. Without executor, the statements
+     * are prepared one after the other on the calling thread
+     */
+    public CQLDaoContextBuilder executor(AchillesExecutor executor)
+    {
+        this.executor = executor;
+        return this;
+    }
+
+    public CQLDaoContext build(Map<Class<?>, EntityMeta> entityMetaMap, boolean hasSimpleCounter)
+    {
+        Map<Class<?>, EntityMeta> insertMetaMap = Maps.filterValues(entityMetaMap, excludeClusteredCounterFilter);
+        Map<Class<?>, EntityMeta> clusteredCounterMetaMap = Maps.filterValues(entityMetaMap, clusteredCounterFilter);
+
+        Map<Class<?>, PreparedStatement> insertPSMap;
+        Map<Class<?>, PreparedStatement> selectEagerPSMap;
+        Map<Class<?>, Map<String, PreparedStatement>> removePSMap;
+        Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueriesMap;
+        if (lazyPreparation)
+        {
+            insertPSMap = new CQLLazyStatementMap<PreparedStatement>(insertMetaMap, insertPSTransformer);
+            selectEagerPSMap = new CQLLazyStatementMap<PreparedStatement>(entityMetaMap, selectEagerPSTransformer);
+            removePSMap = new CQLLazyStatementMap<Map<String, PreparedStatement>>(entityMetaMap, removePSTransformer);
+            clusteredCounterQueriesMap = new CQLLazyStatementMap<Map<CQLQueryType, PreparedStatement>>(
+                    clusteredCounterMetaMap, clusteredCounterTransformer);
+        }
+        else
+        {
+            List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+            addTasks(tasks, insertMetaMap, insertPSTransformer);
+            addTasks(tasks, entityMetaMap, selectEagerPSTransformer);
+            addTasks(tasks, entityMetaMap, removePSTransformer);
+            addTasks(tasks, clusteredCounterMetaMap, clusteredCounterTransformer);
+
+            Iterator<Object> results = invokeAll(tasks).iterator();
+            insertPSMap = collect(insertMetaMap, results);
+            selectEagerPSMap = collect(entityMetaMap, results);
+            removePSMap = collect(entityMetaMap, results);
+            clusteredCounterQueriesMap = collect(clusteredCounterMetaMap, results);
+        }
 
         Cache<StatementCacheKey, PreparedStatement> dynamicPSCache = CacheBuilder
                 .newBuilder().maximumSize(PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
 
+        Cache<String, PreparedStatement> queryPSCache = CacheBuilder
+                .newBuilder().maximumSize(QUERY_PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
+
+        Cache<String, PreparedStatement> batchPSCache = CacheBuilder
+                .newBuilder().maximumSize(BATCH_PREPARED_STATEMENT_LRU_CACHE_SIZE).build();
+
         Map<CQLQueryType, PreparedStatement> counterQueryMap;
         if (hasSimpleCounter)
         {
@@ -96,11 +164,60 @@ public class CQLDaoContextBuilder
             counterQueryMap = new HashMap<CQLQueryType, PreparedStatement>();
         }
 
-        Map<Class<?>, Map<CQLQueryType, PreparedStatement>> clusteredCounterQueriesMap = new HashMap<Class<?>, Map<CQLQueryType, PreparedStatement>>(
-                Maps.transformValues(
-                        Maps.filterValues(entityMetaMap, clusteredCounterFilter), clusteredCounterTransformer));
+        return new CQLDaoContext(insertPSMap, dynamicPSCache, queryPSCache, batchPSCache, selectEagerPSMap,
+                removePSMap, counterQueryMap, clusteredCounterQueriesMap, session);
+    }
 
-        return new CQLDaoContext(insertPSMap, dynamicPSCache, selectEagerPSMap, removePSMap,
-                counterQueryMap, clusteredCounterQueriesMap, session);
+    private <V> void addTasks(List<Callable<Object>> tasks, Map<Class<?>, EntityMeta> metaMap,
+            final Function<EntityMeta, V> transformer)
+    {
+        for (final EntityMeta meta : metaMap.values())
+        {
+            tasks.add(new Callable<Object>()
+            {
+                @Override
+                public Object call() throws Exception
+                {
+                    return transformer.apply(meta);
+                }
+            });
+        }
+    }
+
+    private List<Object> invokeAll(List<Callable<Object>> tasks)
+    {
+        if (executor != null)
+        {
+            return executor.invokeAll(tasks, preparationParallelism);
+        }
+
+        List<Object> results = new ArrayList<Object>(tasks.size());
+        for (Callable<Object> task : tasks)
+        {
+            try
+            {
+                results.add(task.call());
+            }
+            catch (RuntimeException e)
+            {
+                throw e;
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException(e);
+            }
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Map<Class<?>, V> collect(Map<Class<?>, EntityMeta> metaMap, Iterator<Object> results)
+    {
+        Map<Class<?>, V> map = new HashMap<Class<?>, V>();
+        for (Class<?> entityClass : metaMap.keySet())
+        {
+            map.put(entityClass, (V) results.next());
+        }
+        return map;
     }
 }
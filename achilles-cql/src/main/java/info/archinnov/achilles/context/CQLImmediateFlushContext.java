@@ -5,6 +5,8 @@ import info.archinnov.achilles.type.ConsistencyLevel;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLImmediateFlushContext
@@ -48,6 +50,13 @@ public class CQLImmediateFlushContext extends CQLAbstractFlushContext<CQLImmedia
         doFlush();
     }
 
+    @Override
+    public ListenableFuture<List<ResultSet>> flushAsync()
+    {
+        log.debug("Flush asynchronously all pending statements");
+        return doFlushAsync();
+    }
+
     @Override
     public FlushType type()
     {
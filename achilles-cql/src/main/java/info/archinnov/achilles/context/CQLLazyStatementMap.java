@@ -0,0 +1,72 @@
+package info.archinnov.achilles.context;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import java.util.Map;
+import com.google.common.base.Function;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ForwardingMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * CQLLazyStatementMap
+ * 
+ * Map of prepared statements by entity class. The statements of an entity are prepared on the first get() and then
+ * cached. The map view only contains the statements prepared so far
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLLazyStatementMap<V> extends ForwardingMap<Class<?>, V>
+{
+    private final Map<Class<?>, EntityMeta> entityMetaMap;
+    private final LoadingCache<Class<?>, V> cache;
+
+    public CQLLazyStatementMap(final Map<Class<?>, EntityMeta> entityMetaMap,
+            final Function<EntityMeta, V> preparer)
+    {
+        this.entityMetaMap = entityMetaMap;
+        this.cache = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, V>()
+        {
+            @Override
+            public V load(Class<?> entityClass) throws Exception
+            {
+                return preparer.apply(entityMetaMap.get(entityClass));
+            }
+        });
+    }
+
+    @Override
+    protected Map<Class<?>, V> delegate()
+    {
+        return cache.asMap();
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        if (!entityMetaMap.containsKey(key))
+        {
+            return null;
+        }
+        try
+        {
+            return cache.getUnchecked((Class<?>) key);
+        }
+        catch (UncheckedExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return entityMetaMap.containsKey(key);
+    }
+}
@@ -10,6 +10,7 @@ import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
@@ -19,8 +20,13 @@ import java.util.List;
 import java.util.Set;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.base.Function;
+import com.google.common.base.Functions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLPersistenceContext
@@ -97,6 +103,11 @@ public class CQLPersistenceContext extends PersistenceContext
         return daoContext.eagerLoadEntity(this);
     }
 
+    public ResultSetFuture eagerLoadEntityAsync()
+    {
+        return daoContext.eagerLoadEntityAsync(this);
+    }
+
     public Row loadProperty(PropertyMeta pm)
     {
         return daoContext.loadProperty(this, pm);
@@ -112,6 +123,11 @@ public class CQLPersistenceContext extends PersistenceContext
         daoContext.pushUpdateStatement(this, pms);
     }
 
+    public void pushCollectionDeltaStatements(PropertyMeta pm, CollectionDelta delta)
+    {
+        daoContext.pushCollectionDeltaStatements(this, pm, delta);
+    }
+
     public void bindForRemoval(String tableName)
     {
         daoContext.bindForRemoval(this, tableName);
@@ -174,6 +190,11 @@ public class CQLPersistenceContext extends PersistenceContext
         return null;
     }
 
+    public ResultSetFuture getClusteredCounterAsync(PropertyMeta counterMeta, ConsistencyLevel readLevel)
+    {
+        return daoContext.getClusteredCounterAsync(this, counterMeta, readLevel);
+    }
+
     public void bindForClusteredCounterRemoval(PropertyMeta counterMeta)
     {
         daoContext.bindForClusteredCounterDelete(this, entityMeta, counterMeta, primaryKey);
@@ -184,6 +205,11 @@ public class CQLPersistenceContext extends PersistenceContext
         return daoContext.bindAndExecute(ps, params);
     }
 
+    public ResultSetFuture bindAndExecuteAsync(PreparedStatement ps, Object... params)
+    {
+        return daoContext.bindAndExecuteAsync(ps, params);
+    }
+
     public void pushBoundStatement(BoundStatementWrapper bsWrapper, ConsistencyLevel writeLevel)
     {
         flushContext.pushBoundStatement(bsWrapper, writeLevel);
@@ -194,6 +220,13 @@ public class CQLPersistenceContext extends PersistenceContext
         flushContext.pushStatement(statement, writeLevel);
     }
 
+    public ResultSetFuture executeAsyncImmediateWithConsistency(BoundStatementWrapper bsWrapper,
+            ConsistencyLevel readConsistencyLevel)
+    {
+        return flushContext.executeAsyncImmediateWithConsistency(bsWrapper.getBs(), readConsistencyLevel,
+                bsWrapper.getValues());
+    }
+
     public ResultSet executeImmediateWithConsistency(BoundStatementWrapper bsWrapper,
             ConsistencyLevel readConsistencyLevel)
     {
@@ -235,6 +268,41 @@ public class CQLPersistenceContext extends PersistenceContext
         return entity;
     }
 
+    public ListenableFuture<Void> persistAsync()
+    {
+        persister.persist(this);
+        return Futures.transform(flushContext.flushAsync(), Functions.<Void> constant(null));
+    }
+
+    public <T> ListenableFuture<T> mergeAsync(T entity)
+    {
+        T merged = merger.merge(this, entity);
+        return Futures.transform(flushContext.flushAsync(), Functions.constant(merged));
+    }
+
+    public ListenableFuture<Void> removeAsync()
+    {
+        persister.remove(this);
+        return Futures.transform(flushContext.flushAsync(), Functions.<Void> constant(null));
+    }
+
+    public <T> ListenableFuture<T> findAsync(Class<T> entityClass)
+    {
+        final CQLPersistenceContext context = this;
+        return Futures.transform(loader.<T> loadAsync(this, entityClass), new Function<T, T>()
+        {
+            @Override
+            public T apply(T entity)
+            {
+                if (entity != null)
+                {
+                    entity = proxifier.buildProxy(entity, context);
+                }
+                return entity;
+            }
+        });
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass)
     {
@@ -0,0 +1,112 @@
+package info.archinnov.achilles.context;
+
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+
+/**
+ * CQLStatementPipeline
+ * 
+ * Send statements asynchronously with at most maxInFlight pending requests.
+ * 
+ * Statements sharing the same routing key are sent one after the other to preserve their write order since Cassandra
+ * timestamps are assigned by the coordinator. A statement without routing key waits for all pending statements and is
+ * waited for by all following statements
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLStatementPipeline
+{
+    private CQLDaoContext daoContext;
+    private int maxInFlight;
+
+    private Queue<ResultSetFuture> inFlightFutures = new LinkedList<ResultSetFuture>();
+    private Map<ByteBuffer, ResultSetFuture> lastFutureByRoutingKey = new HashMap<ByteBuffer, ResultSetFuture>();
+    private ResultSetFuture barrier;
+
+    public CQLStatementPipeline(CQLDaoContext daoContext, int maxInFlight)
+    {
+        this.daoContext = daoContext;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public void execute(BoundStatementWrapper bsWrapper)
+    {
+        ByteBuffer routingKey = bsWrapper.getBs().getRoutingKey();
+        waitForPredecessors(routingKey);
+        register(routingKey, daoContext.executeAsync(bsWrapper.getBs(), bsWrapper.getValues()));
+    }
+
+    public void execute(Statement statement)
+    {
+        execute(statement, statement.getRoutingKey());
+    }
+
+    public void execute(Statement statement, ByteBuffer routingKey)
+    {
+        waitForPredecessors(routingKey);
+        register(routingKey, daoContext.executeAsync(statement));
+    }
+
+    public void executeBatch(CQLBatchType batchType, List<BoundStatementWrapper> bsWrappers, ByteBuffer routingKey)
+    {
+        waitForPredecessors(routingKey);
+        register(routingKey, daoContext.executeBatchAsync(batchType, bsWrappers));
+    }
+
+    public void waitForAll()
+    {
+        while (!inFlightFutures.isEmpty())
+        {
+            inFlightFutures.poll().getUninterruptibly();
+        }
+        lastFutureByRoutingKey.clear();
+        barrier = null;
+    }
+
+    private void waitForPredecessors(ByteBuffer routingKey)
+    {
+        if (routingKey == null)
+        {
+            waitForAll();
+        }
+        else
+        {
+            if (barrier != null)
+            {
+                barrier.getUninterruptibly();
+                barrier = null;
+            }
+            ResultSetFuture previous = lastFutureByRoutingKey.get(routingKey);
+            if (previous != null)
+            {
+                previous.getUninterruptibly();
+            }
+        }
+    }
+
+    private void register(ByteBuffer routingKey, ResultSetFuture future)
+    {
+        if (routingKey == null)
+        {
+            barrier = future;
+        }
+        else
+        {
+            lastFutureByRoutingKey.put(routingKey, future);
+        }
+        inFlightFutures.add(future);
+        if (inFlightFutures.size() >= maxInFlight)
+        {
+            inFlightFutures.poll().getUninterruptibly();
+        }
+    }
+}
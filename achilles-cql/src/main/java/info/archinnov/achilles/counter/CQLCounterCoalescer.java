@@ -0,0 +1,145 @@
+package info.archinnov.achilles.counter;
+
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.datastax.driver.core.ResultSetFuture;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * CQLCounterCoalescer
+ * 
+ * Coalesce simple and clustered counter increments per (entity, primary key, property, consistency level). Deltas
+ * are sent asynchronously with at most 'achilles.cassandra.flush.max.in.flight' pending requests
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLCounterCoalescer extends CounterCoalescer<CQLCounterCoalescer.CounterKey>
+{
+    private static final Logger log = LoggerFactory.getLogger(CQLCounterCoalescer.class);
+
+    private CQLDaoContext daoContext;
+
+    public CQLCounterCoalescer(CQLDaoContext daoContext, int flushInterval, int maxPendingDeltas)
+    {
+        super(flushInterval, maxPendingDeltas);
+        this.daoContext = daoContext;
+    }
+
+    public void add(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey,
+            ConsistencyLevel writeLevel, long delta)
+    {
+        add(new CounterKey(entityMeta, counterMeta, primaryKey, writeLevel), delta);
+    }
+
+    @Override
+    protected int writeDeltas(Map<CounterKey, Long> deltas)
+    {
+        int maxInFlight = daoContext.getFlushMaxInFlight();
+        Queue<Entry<CounterKey, ResultSetFuture>> pendingWrites = new LinkedList<Entry<CounterKey, ResultSetFuture>>();
+        int failed = 0;
+        for (Entry<CounterKey, Long> entry : deltas.entrySet())
+        {
+            CounterKey key = entry.getKey();
+            ResultSetFuture future = daoContext.incrementCounterAsync(key.entityMeta, key.counterMeta,
+                    key.primaryKey, entry.getValue(), key.writeLevel);
+            pendingWrites.add(Maps.immutableEntry(key, future));
+            if (pendingWrites.size() >= maxInFlight)
+            {
+                failed += complete(pendingWrites.poll());
+            }
+        }
+        while (!pendingWrites.isEmpty())
+        {
+            failed += complete(pendingWrites.poll());
+        }
+        return failed;
+    }
+
+    private int complete(Entry<CounterKey, ResultSetFuture> pendingWrite)
+    {
+        try
+        {
+            Uninterruptibles.getUninterruptibly(pendingWrite.getValue());
+            return 0;
+        }
+        catch (ExecutionException e)
+        {
+            CounterKey key = pendingWrite.getKey();
+            log.error("Cannot flush counter delta of property '{}' for entity '{}' with primary key '{}'",
+                    new Object[]
+                    {
+                            key.counterMeta.getPropertyName(),
+                            key.entityMeta.getClassName(),
+                            key.primaryKey,
+                            e.getCause()
+                    });
+            return 1;
+        }
+    }
+
+    public static class CounterKey
+    {
+        private final EntityMeta entityMeta;
+        private final PropertyMeta counterMeta;
+        private final Object primaryKey;
+        private final ConsistencyLevel writeLevel;
+
+        private CounterKey(EntityMeta entityMeta, PropertyMeta counterMeta, Object primaryKey,
+                ConsistencyLevel writeLevel)
+        {
+            this.entityMeta = entityMeta;
+            this.counterMeta = counterMeta;
+            this.primaryKey = primaryKey;
+            this.writeLevel = writeLevel;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + System.identityHashCode(entityMeta);
+            result = prime * result + System.identityHashCode(counterMeta);
+            result = prime * result + ((primaryKey == null) ? 0 : primaryKey.hashCode());
+            result = prime * result + ((writeLevel == null) ? 0 : writeLevel.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            CounterKey other = (CounterKey) obj;
+            if (entityMeta != other.entityMeta)
+                return false;
+            if (counterMeta != other.counterMeta)
+                return false;
+            if (primaryKey == null)
+            {
+                if (other.primaryKey != null)
+                    return false;
+            }
+            else if (!primaryKey.equals(other.primaryKey))
+                return false;
+            if (writeLevel != other.writeLevel)
+                return false;
+            return true;
+        }
+    }
+}
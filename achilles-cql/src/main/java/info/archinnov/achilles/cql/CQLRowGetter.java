@@ -0,0 +1,156 @@
+package info.archinnov.achilles.cql;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLRowGetter
+ * 
+ * Typed Row getters reading a column by index, resolved once per Java type instead of invoking
+ * CQLTypeMapper.getRowMethod() reflectively for each column
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public enum CQLRowGetter
+{
+    BOOL
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getBool(index);
+        }
+    },
+    INT
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getInt(index);
+        }
+    },
+    LONG
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getLong(index);
+        }
+    },
+    DATE
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getDate(index);
+        }
+    },
+    FLOAT
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getFloat(index);
+        }
+    },
+    DOUBLE
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getDouble(index);
+        }
+    },
+    BYTES
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getBytes(index);
+        }
+    },
+    STRING
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getString(index);
+        }
+    },
+    VARINT
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getVarint(index);
+        }
+    },
+    DECIMAL
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getDecimal(index);
+        }
+    },
+    UUID
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getUUID(index);
+        }
+    },
+    INET
+    {
+        @Override
+        public Object get(Row row, int index)
+        {
+            return row.getInet(index);
+        }
+    };
+
+    private static final Map<Class<?>, CQLRowGetter> getters = new HashMap<Class<?>, CQLRowGetter>();
+
+    static
+    {
+        getters.put(Boolean.class, BOOL);
+        getters.put(boolean.class, BOOL);
+        getters.put(Integer.class, INT);
+        getters.put(int.class, INT);
+        getters.put(Long.class, LONG);
+        getters.put(long.class, LONG);
+        getters.put(Date.class, DATE);
+        getters.put(Float.class, FLOAT);
+        getters.put(float.class, FLOAT);
+        getters.put(Double.class, DOUBLE);
+        getters.put(double.class, DOUBLE);
+        getters.put(ByteBuffer.class, BYTES);
+        getters.put(String.class, STRING);
+        getters.put(BigInteger.class, VARINT);
+        getters.put(BigDecimal.class, DECIMAL);
+        getters.put(java.util.UUID.class, UUID);
+        getters.put(InetAddress.class, INET);
+    }
+
+    public static CQLRowGetter forJavaType(Class<?> javaType)
+    {
+        CQLRowGetter getter = getters.get(javaType);
+
+        // Custom object will be JSON serialized
+        if (getter == null)
+        {
+            getter = STRING;
+        }
+        return getter;
+    }
+
+    public abstract Object get(Row row, int index);
+}
@@ -31,6 +31,7 @@ public class CQLTypeMapper
     private static final Map<Class<?>, Name> java2CQL = new HashMap<Class<?>, Name>();
     private static final Map<Name, Class<?>> cql2Java = new HashMap<Name, Class<?>>();
     private static final Map<Class<?>, Method> rowPropertyInvoker = new HashMap<Class<?>, Method>();
+    private static final Map<Name, DataType> nativeDataTypes = new HashMap<Name, DataType>();
 
     static
     {
@@ -77,6 +78,19 @@ public class CQLTypeMapper
         cql2Java.put(MAP, Map.class);
         cql2Java.put(CUSTOM, ByteBuffer.class);
 
+        nativeDataTypes.put(TEXT, DataType.text());
+        nativeDataTypes.put(BIGINT, DataType.bigint());
+        nativeDataTypes.put(BLOB, DataType.blob());
+        nativeDataTypes.put(BOOLEAN, DataType.cboolean());
+        nativeDataTypes.put(DECIMAL, DataType.decimal());
+        nativeDataTypes.put(DOUBLE, DataType.cdouble());
+        nativeDataTypes.put(FLOAT, DataType.cfloat());
+        nativeDataTypes.put(INET, DataType.inet());
+        nativeDataTypes.put(INT, DataType.cint());
+        nativeDataTypes.put(VARINT, DataType.varint());
+        nativeDataTypes.put(TIMESTAMP, DataType.timestamp());
+        nativeDataTypes.put(UUID, DataType.uuid());
+
         try
         {
             rowPropertyInvoker.put(Boolean.class,
@@ -145,6 +159,21 @@ public class CQLTypeMapper
         return name;
     }
 
+    /**
+     * Return the native DataType of a Java type, used to serialize values outside of a BoundStatement
+     */
+    public static DataType toDataType(Class<?> javaType)
+    {
+        DataType dataType = nativeDataTypes.get(toCQLType(javaType));
+
+        // Custom object will be JSON serialized
+        if (dataType == null)
+        {
+            dataType = DataType.text();
+        }
+        return dataType;
+    }
+
     public static Class<?> toJavaType(Name cqlType)
     {
         return cql2Java.get(cqlType);
@@ -0,0 +1,239 @@
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.cql.CQLTypeMapper.toCompatibleJavaType;
+import info.archinnov.achilles.cql.CQLRowGetter;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLColumnReader
+ * 
+ * Read and decode the column(s) of one property from a Row by index. The typed Row getter and the collection
+ * element classes are resolved once from the PropertyMeta
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public abstract class CQLColumnReader
+{
+    protected final PropertyMeta pm;
+
+    protected CQLColumnReader(PropertyMeta pm)
+    {
+        this.pm = pm;
+    }
+
+    /**
+     * Build the reader of a property, or return null if the property is not stored as a column of the entity table
+     */
+    public static CQLColumnReader compile(PropertyMeta pm)
+    {
+        switch (pm.type())
+        {
+            case EMBEDDED_ID:
+                return new CompoundKeyReader(pm);
+            case ID:
+            case SIMPLE:
+            case LAZY_SIMPLE:
+                return new SimpleReader(pm);
+            case LIST:
+            case LAZY_LIST:
+                return new ListReader(pm);
+            case SET:
+            case LAZY_SET:
+                return new SetReader(pm);
+            case MAP:
+            case LAZY_MAP:
+                return new MapReader(pm);
+            default:
+                return null;
+        }
+    }
+
+    public PropertyMeta getPropertyMeta()
+    {
+        return pm;
+    }
+
+    public List<String> getColumnNames()
+    {
+        return Arrays.asList(pm.getPropertyName());
+    }
+
+    /**
+     * Return the decoded value of the property, or null when the column is null
+     * 
+     * @param indexes
+     *            indexes in the row of the columns returned by getColumnNames()
+     */
+    public abstract Object read(Row row, int[] indexes);
+
+    private static class SimpleReader extends CQLColumnReader
+    {
+        private final CQLRowGetter getter;
+
+        private SimpleReader(PropertyMeta pm)
+        {
+            super(pm);
+            this.getter = CQLRowGetter.forJavaType(pm.getValueClass());
+        }
+
+        @Override
+        public Object read(Row row, int[] indexes)
+        {
+            if (row.isNull(indexes[0]))
+            {
+                return null;
+            }
+            try
+            {
+                return pm.decode(getter.get(row, indexes[0]));
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException("Cannot retrieve property '" + pm.getPropertyName()
+                        + "' for entity class '" + pm.getEntityClassName() + "' from CQL Row", e);
+            }
+        }
+    }
+
+    private static class ListReader extends CQLColumnReader
+    {
+        private final Class<?> valueClass;
+
+        private ListReader(PropertyMeta pm)
+        {
+            super(pm);
+            this.valueClass = toCompatibleJavaType(pm.getValueClass());
+        }
+
+        @Override
+        public Object read(Row row, int[] indexes)
+        {
+            if (row.isNull(indexes[0]))
+            {
+                return null;
+            }
+            try
+            {
+                return pm.decode(row.getList(indexes[0], valueClass));
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException("Cannot retrieve list property '" + pm.getPropertyName()
+                        + "' from CQL Row", e);
+            }
+        }
+    }
+
+    private static class SetReader extends CQLColumnReader
+    {
+        private final Class<?> valueClass;
+
+        private SetReader(PropertyMeta pm)
+        {
+            super(pm);
+            this.valueClass = toCompatibleJavaType(pm.getValueClass());
+        }
+
+        @Override
+        public Object read(Row row, int[] indexes)
+        {
+            if (row.isNull(indexes[0]))
+            {
+                return null;
+            }
+            try
+            {
+                return pm.decode(row.getSet(indexes[0], valueClass));
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException("Cannot retrieve set property '" + pm.getPropertyName()
+                        + "' from CQL Row", e);
+            }
+        }
+    }
+
+    private static class MapReader extends CQLColumnReader
+    {
+        private final Class<?> keyClass;
+        private final Class<?> valueClass;
+
+        private MapReader(PropertyMeta pm)
+        {
+            super(pm);
+            this.keyClass = toCompatibleJavaType(pm.getKeyClass());
+            this.valueClass = toCompatibleJavaType(pm.getValueClass());
+        }
+
+        @Override
+        public Object read(Row row, int[] indexes)
+        {
+            if (row.isNull(indexes[0]))
+            {
+                return null;
+            }
+            try
+            {
+                return pm.decode(row.getMap(indexes[0], keyClass, valueClass));
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException("Cannot retrieve map property '" + pm.getPropertyName()
+                        + "' from CQL Row", e);
+            }
+        }
+    }
+
+    private static class CompoundKeyReader extends CQLColumnReader
+    {
+        private final CQLRowGetter[] getters;
+
+        private CompoundKeyReader(PropertyMeta pm)
+        {
+            super(pm);
+            List<Class<?>> componentClasses = pm.getComponentClasses();
+            this.getters = new CQLRowGetter[componentClasses.size()];
+            for (int i = 0; i < getters.length; i++)
+            {
+                getters[i] = CQLRowGetter.forJavaType(componentClasses.get(i));
+            }
+        }
+
+        @Override
+        public List<String> getColumnNames()
+        {
+            return pm.getComponentNames();
+        }
+
+        @Override
+        public Object read(Row row, int[] indexes)
+        {
+            List<Object> rawValues = new ArrayList<Object>(getters.length);
+            try
+            {
+                for (int i = 0; i < getters.length; i++)
+                {
+                    if (row.isNull(indexes[i]))
+                    {
+                        throw new AchillesException("Error, the component '" + pm.getComponentNames().get(i)
+                                + "' from @CompoundKey class '" + pm.getValueClass()
+                                + "' cannot be found from Cassandra");
+                    }
+                    rawValues.add(getters[i].get(row, indexes[i]));
+                }
+                return pm.decodeFromComponents(rawValues);
+            }
+            catch (Exception e)
+            {
+                throw new AchillesException("Cannot retrieve compound property '" + pm.getPropertyName()
+                        + "' for entity class '" + pm.getEntityClassName() + "' from CQL Row", e);
+            }
+        }
+    }
+}
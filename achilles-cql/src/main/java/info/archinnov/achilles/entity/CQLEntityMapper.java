@@ -4,10 +4,13 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.helper.EntityMapper;
 import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
+import java.util.Collection;
 import java.util.Map;
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 /**
  * CQLEntityMapper
@@ -17,14 +20,38 @@ import com.datastax.driver.core.Row;
  */
 public class CQLEntityMapper extends EntityMapper
 {
+    private static final LoadingCache<EntityMeta, CQLRowMapper> rowMappers = CacheBuilder
+            .newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<EntityMeta, CQLRowMapper>()
+            {
+                @Override
+                public CQLRowMapper load(EntityMeta entityMeta) throws Exception
+                {
+                    return new CQLRowMapper(entityMeta);
+                }
+            });
 
     private CQLRowMethodInvoker cqlRowInvoker = new CQLRowMethodInvoker();
 
+    private volatile TypedLayout typedLayout;
+
+    /**
+     * Compile the row mappers of all the entities so that the first loads do not pay for it
+     */
+    public static void compileRowMappers(Collection<EntityMeta> entityMetas)
+    {
+        for (EntityMeta entityMeta : entityMetas)
+        {
+            rowMappers.getUnchecked(entityMeta);
+        }
+    }
+
     public void setEagerPropertiesToEntity(Row row, EntityMeta entityMeta, Object entity)
     {
-        for (PropertyMeta pm : entityMeta.getEagerMetas())
+        if (row != null)
         {
-            setPropertyToEntity(row, pm, entity);
+            rowMappers.getUnchecked(entityMeta).setEagerPropertiesToEntity(row, entity);
         }
     }
 
@@ -35,14 +62,14 @@ public class CQLEntityMapper extends EntityMapper
             if (pm.isEmbeddedId())
             {
                 Object compoundKey = cqlRowInvoker.invokeOnRowForCompoundKey(row, pm);
-                invoker.setValueToField(entity, pm.getSetter(), compoundKey);
+                invoker.setValueToField(entity, pm, compoundKey);
             }
             else {
                 String propertyName = pm.getPropertyName();
                 if (!row.isNull(propertyName))
                 {
                     Object value = cqlRowInvoker.invokeOnRowForFields(row, pm);
-                    invoker.setValueToField(entity, pm.getSetter(), value);
+                    invoker.setValueToField(entity, pm, value);
                 }
             }
         }
@@ -50,7 +77,7 @@ public class CQLEntityMapper extends EntityMapper
 
     public void setJoinValueToEntity(Object value, PropertyMeta pm, Object entity)
     {
-        invoker.setValueToField(entity, pm.getSetter(), value);
+        invoker.setValueToField(entity, pm, value);
     }
 
     public <T> T mapRowToEntity(Class<T> entityClass, Row row, Map<String, PropertyMeta> propertiesMap)
@@ -60,17 +87,58 @@ public class CQLEntityMapper extends EntityMapper
         if (columnDefinitions != null)
         {
             entity = invoker.instanciate(entityClass);
-            for (Definition column : columnDefinitions)
+            CQLColumnReader[] readers = resolveReaders(columnDefinitions, propertiesMap);
+            int[] index = new int[1];
+            for (int i = 0; i < readers.length; i++)
             {
-                String columnName = column.getName();
-                PropertyMeta pm = propertiesMap.get(columnName);
-                if (pm != null && !pm.isJoin())
+                if (readers[i] != null)
                 {
-                    Object value = cqlRowInvoker.invokeOnRowForFields(row, pm);
-                    invoker.setValueToField(entity, pm.getSetter(), value);
+                    index[0] = i;
+                    Object value = readers[i].read(row, index);
+                    if (value != null)
+                    {
+                        invoker.setValueToField(entity, readers[i].getPropertyMeta(), value);
+                    }
                 }
             }
         }
         return entity;
     }
+
+    private CQLColumnReader[] resolveReaders(ColumnDefinitions columnDefinitions,
+            Map<String, PropertyMeta> propertiesMap)
+    {
+        TypedLayout current = typedLayout;
+        if (current == null || current.definitions != columnDefinitions
+                || current.propertiesMap != propertiesMap)
+        {
+            CQLColumnReader[] readers = new CQLColumnReader[columnDefinitions.size()];
+            for (int i = 0; i < readers.length; i++)
+            {
+                PropertyMeta pm = propertiesMap.get(columnDefinitions.getName(i));
+                if (pm != null && !pm.isJoin() && !pm.isEmbeddedId())
+                {
+                    readers[i] = CQLColumnReader.compile(pm);
+                }
+            }
+            current = new TypedLayout(columnDefinitions, propertiesMap, readers);
+            typedLayout = current;
+        }
+        return current.readers;
+    }
+
+    private static class TypedLayout
+    {
+        private final ColumnDefinitions definitions;
+        private final Map<String, PropertyMeta> propertiesMap;
+        private final CQLColumnReader[] readers;
+
+        private TypedLayout(ColumnDefinitions definitions, Map<String, PropertyMeta> propertiesMap,
+                CQLColumnReader[] readers)
+        {
+            this.definitions = definitions;
+            this.propertiesMap = propertiesMap;
+            this.readers = readers;
+        }
+    }
 }
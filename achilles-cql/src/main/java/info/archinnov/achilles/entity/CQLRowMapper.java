@@ -0,0 +1,101 @@
+package info.archinnov.achilles.entity;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import java.util.ArrayList;
+import java.util.List;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLRowMapper
+ * 
+ * Row to entity mapper compiled once per EntityMeta. Column indexes are resolved once per result set since all
+ * the rows of a ResultSet share the same ColumnDefinitions instance
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLRowMapper
+{
+    private final CQLColumnReader[] readers;
+    private volatile ColumnLayout layout;
+
+    private ReflectionInvoker invoker = new ReflectionInvoker();
+
+    public CQLRowMapper(EntityMeta entityMeta)
+    {
+        List<CQLColumnReader> compiled = new ArrayList<CQLColumnReader>();
+        for (PropertyMeta pm : entityMeta.getEagerMetas())
+        {
+            CQLColumnReader reader = CQLColumnReader.compile(pm);
+            if (reader != null)
+            {
+                compiled.add(reader);
+            }
+        }
+        readers = compiled.toArray(new CQLColumnReader[compiled.size()]);
+    }
+
+    public void setEagerPropertiesToEntity(Row row, Object entity)
+    {
+        int[][] indexes = resolveIndexes(row.getColumnDefinitions());
+        for (int i = 0; i < readers.length; i++)
+        {
+            if (indexes[i] != null)
+            {
+                Object value = readers[i].read(row, indexes[i]);
+                if (value != null)
+                {
+                    invoker.setValueToField(entity, readers[i].getPropertyMeta(), value);
+                }
+            }
+        }
+    }
+
+    private int[][] resolveIndexes(ColumnDefinitions definitions)
+    {
+        ColumnLayout current = layout;
+        if (current == null || current.definitions != definitions)
+        {
+            current = new ColumnLayout(definitions, computeIndexes(definitions));
+            layout = current;
+        }
+        return current.indexes;
+    }
+
+    private int[][] computeIndexes(ColumnDefinitions definitions)
+    {
+        int[][] indexes = new int[readers.length][];
+        for (int i = 0; i < readers.length; i++)
+        {
+            List<String> columnNames = readers[i].getColumnNames();
+            int[] columnIndexes = new int[columnNames.size()];
+            boolean found = true;
+            for (int j = 0; j < columnIndexes.length && found; j++)
+            {
+                String columnName = columnNames.get(j);
+                found = definitions.contains(columnName);
+                if (found)
+                {
+                    columnIndexes[j] = definitions.getIndexOf(columnName);
+                }
+            }
+            indexes[i] = found ? columnIndexes : null;
+        }
+        return indexes;
+    }
+
+    private static class ColumnLayout
+    {
+        private final ColumnDefinitions definitions;
+        private final int[][] indexes;
+
+        private ColumnLayout(ColumnDefinitions definitions, int[][] indexes)
+        {
+            this.definitions = definitions;
+            this.indexes = indexes;
+        }
+    }
+}
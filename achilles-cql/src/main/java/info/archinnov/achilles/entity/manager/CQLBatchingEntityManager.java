@@ -8,12 +8,15 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLBatchingEntityManager
@@ -28,9 +31,10 @@ public class CQLBatchingEntityManager extends CQLEntityManager {
     private CQLBatchingFlushContext flushContext;
 
     CQLBatchingEntityManager(Map<Class<?>, EntityMeta> entityMetaMap,
-            CQLPersistenceContextFactory contextFactory, CQLDaoContext daoContext, ConfigurationContext configContext) {
+            CQLPersistenceContextFactory contextFactory, CQLDaoContext daoContext, ConfigurationContext configContext,
+            CQLBatchType batchType, int batchMaxStatements) {
         super(entityMetaMap, contextFactory, daoContext, configContext);
-        this.flushContext = new CQLBatchingFlushContext(daoContext, null);
+        this.flushContext = new CQLBatchingFlushContext(daoContext, null, batchType, batchMaxStatements);
     }
 
     /**
@@ -158,6 +162,83 @@ public class CQLBatchingEntityManager extends CQLEntityManager {
         }
     }
 
+    @Override
+    public ListenableFuture<Void> persistAsync(final Object entity, Options options)
+    {
+        if (options.getConsistencyLevel().isPresent())
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.persistAsync(entity, options);
+        }
+    }
+
+    @Override
+    public <T> ListenableFuture<T> mergeAsync(final T entity, Options options)
+    {
+        if (options.getConsistencyLevel().isPresent())
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.mergeAsync(entity, options);
+        }
+    }
+
+    @Override
+    public ListenableFuture<Void> removeAsync(final Object entity, ConsistencyLevel writeLevel)
+    {
+        if (writeLevel != null)
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.removeAsync(entity, null);
+        }
+    }
+
+    @Override
+    public <ID, T> Map<ID, T> findAll(final Class<T> entityClass, final Collection<ID> primaryKeys,
+            ConsistencyLevel readLevel)
+    {
+        if (readLevel != null)
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.findAll(entityClass, primaryKeys, null);
+        }
+    }
+
+    @Override
+    public <T> ListenableFuture<T> findAsync(final Class<T> entityClass, final Object primaryKey,
+            ConsistencyLevel readLevel)
+    {
+        if (readLevel != null)
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.findAsync(entityClass, primaryKey, null);
+        }
+    }
+
     @Override
     public void refresh(final Object entity, ConsistencyLevel readLevel) throws AchillesStaleObjectStateException
     {
@@ -0,0 +1,104 @@
+package info.archinnov.achilles.entity.manager;
+
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import com.datastax.driver.core.ResultSetFuture;
+
+/**
+ * CQLBulkWriter
+ *
+ * Buffer at most bufferSize entities then bind their insert statements. Statements sharing the same partition key are
+ * sent as one UNLOGGED batch, the other ones one by one
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class CQLBulkWriter<T> extends BulkWriter<T>
+{
+    private CQLDaoContext daoContext;
+    private int bufferSize;
+    private List<T> bufferedEntities = new ArrayList<T>();
+
+    public CQLBulkWriter(Class<T> entityClass, EntityMeta entityMeta, CQLDaoContext daoContext, int bufferSize,
+            BulkWriteListener<? super T> listener)
+    {
+        super(entityClass, entityMeta, daoContext.getFlushMaxInFlight(), listener);
+        this.daoContext = daoContext;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void append(T entity)
+    {
+        bufferedEntities.add(entity);
+        if (bufferedEntities.size() >= bufferSize)
+        {
+            sendBuffered();
+        }
+    }
+
+    @Override
+    protected void sendBuffered()
+    {
+        Map<ByteBuffer, PartitionWrite<T>> writesByPartition = new LinkedHashMap<ByteBuffer, PartitionWrite<T>>();
+        for (T entity : bufferedEntities)
+        {
+            BoundStatementWrapper bsWrapper = daoContext.bindForBulkInsert(entityMeta, entity);
+            ByteBuffer routingKey = bsWrapper.getBs().getRoutingKey();
+            if (routingKey == null)
+            {
+                PartitionWrite<T> write = new PartitionWrite<T>();
+                write.add(entity, bsWrapper);
+                send(write);
+            }
+            else
+            {
+                if (!writesByPartition.containsKey(routingKey))
+                {
+                    writesByPartition.put(routingKey, new PartitionWrite<T>());
+                }
+                writesByPartition.get(routingKey).add(entity, bsWrapper);
+            }
+        }
+        bufferedEntities.clear();
+
+        for (PartitionWrite<T> write : writesByPartition.values())
+        {
+            send(write);
+        }
+    }
+
+    private void send(PartitionWrite<T> write)
+    {
+        ResultSetFuture future;
+        if (write.bsWrappers.size() == 1)
+        {
+            BoundStatementWrapper bsWrapper = write.bsWrappers.get(0);
+            future = daoContext.executeAsync(bsWrapper.getBs(), bsWrapper.getValues());
+        }
+        else
+        {
+            future = daoContext.executeBatchAsync(CQLBatchType.UNLOGGED, write.bsWrappers);
+        }
+        registerPendingWrite(future, write.entities);
+    }
+
+    private static class PartitionWrite<T>
+    {
+        private List<T> entities = new ArrayList<T>();
+        private List<BoundStatementWrapper> bsWrappers = new ArrayList<BoundStatementWrapper>();
+
+        private void add(T entity, BoundStatementWrapper bsWrapper)
+        {
+            entities.add(entity);
+            bsWrappers.add(bsWrapper);
+        }
+    }
+}
@@ -9,14 +9,28 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.CQLSliceQueryExecutor;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.query.cql.CQLNativeQueryBuilder;
+import info.archinnov.achilles.query.scan.CQLScanQueryBuilder;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryValidator;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.OptionsBuilder;
 import info.archinnov.achilles.validation.Validator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.Session;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * CqlEntityManager
@@ -26,6 +40,8 @@ import com.datastax.driver.core.Session;
  */
 public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
 {
+    private static final Logger log = LoggerFactory.getLogger(CQLEntityManager.class);
+
     private CQLCompoundKeyValidator compoundKeyValidator = new CQLCompoundKeyValidator();
     private CQLSliceQueryExecutor sliceQueryExecutor;
     private CQLPersistenceContextFactory contextFactory;
@@ -60,12 +76,16 @@ public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
      * @param queryString
      *            native CQL query string, including limit, ttl and consistency options
      * 
+     * @param boundValues
+     *            values for the bind markers (?) of the query string, if any. The query is then prepared once and
+     *            the prepared statement is cached
+     * 
      * @return CQLNativeQueryBuilder
      */
-    public CQLNativeQueryBuilder nativeQuery(String queryString)
+    public CQLNativeQueryBuilder nativeQuery(String queryString, Object... boundValues)
     {
         Validator.validateNotBlank(queryString, "The query string for native query should not be blank");
-        return new CQLNativeQueryBuilder(daoContext, queryString);
+        return new CQLNativeQueryBuilder(daoContext, queryString, boundValues);
     }
 
     /**
@@ -79,9 +99,13 @@ public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
      * @param queryString
      *            native CQL query string, including limit, ttl and consistency options
      * 
+     * @param boundValues
+     *            values for the bind markers (?) of the query string, if any. The query is then prepared once and
+     *            the prepared statement is cached
+     * 
      * @return CQLTypedQueryBuilder<T>
      */
-    public <T> CQLTypedQueryBuilder<T> typedQuery(Class<T> entityClass, String queryString)
+    public <T> CQLTypedQueryBuilder<T> typedQuery(Class<T> entityClass, String queryString, Object... boundValues)
     {
         Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
         Validator.validateNotBlank(queryString, "The query string for typed query should not be blank");
@@ -91,7 +115,8 @@ public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
 
         EntityMeta meta = entityMetaMap.get(entityClass);
         typedQueryValidator.validateTypedQuery(entityClass, queryString, meta);
-        return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, true);
+        return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, true,
+                boundValues);
     }
 
     /**
@@ -105,9 +130,13 @@ public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
      * @param queryString
      *            native CQL query string, including limit, ttl and consistency options
      * 
+     * @param boundValues
+     *            values for the bind markers (?) of the query string, if any. The query is then prepared once and
+     *            the prepared statement is cached
+     * 
      * @return CQLTypedQueryBuilder<T>
      */
-    public <T> CQLTypedQueryBuilder<T> rawTypedQuery(Class<T> entityClass, String queryString)
+    public <T> CQLTypedQueryBuilder<T> rawTypedQuery(Class<T> entityClass, String queryString, Object... boundValues)
     {
         Validator.validateNotNull(entityClass, "The entityClass for typed query should not be null");
         Validator.validateNotBlank(queryString, "The query string for typed query should not be blank");
@@ -117,7 +146,269 @@ public class CQLEntityManager extends EntityManager<CQLPersistenceContext>
 
         EntityMeta meta = entityMetaMap.get(entityClass);
         typedQueryValidator.validateRawTypedQuery(entityClass, queryString, meta);
-        return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, false);
+        return new CQLTypedQueryBuilder<T>(entityClass, daoContext, queryString, meta, contextFactory, false,
+                boundValues);
+    }
+
+    /**
+     * Return a full table scan builder
+     * 
+     * The token ring is split into ranges scanned concurrently. All found entities will be returned as raw entities
+     * and not 'managed' by Achilles. Entities with compound primary key are not supported because a partition could
+     * span several pages
+     * 
+     * @param entityClass
+     *            type of entity to be scanned
+     * 
+     * @return CQLScanQueryBuilder<T>
+     */
+    public <T> CQLScanQueryBuilder<T> scan(Class<T> entityClass)
+    {
+        Validator.validateNotNull(entityClass, "The entityClass for scan should not be null");
+        Validator.validateTrue(entityMetaMap.containsKey(entityClass),
+                "Cannot perform scan because the entityClass '%s' is not managed by Achilles",
+                entityClass.getCanonicalName());
+
+        EntityMeta meta = entityMetaMap.get(entityClass);
+        Validator.validateFalse(meta.getIdMeta().isEmbeddedId() || meta.isClusteredCounter(),
+                "Cannot perform scan because the entityClass '%s' has a compound primary key",
+                entityClass.getCanonicalName());
+        return new CQLScanQueryBuilder<T>(entityClass, meta, daoContext);
+    }
+
+    /**
+     * Persist an entity asynchronously. Statements are built on the calling thread then sent with the driver async
+     * session, the calling thread is never blocked waiting for Cassandra
+     * 
+     * @param entity
+     *            Entity to be persisted
+     * @return future completed when all statements have been acknowledged
+     */
+    public ListenableFuture<Void> persistAsync(Object entity)
+    {
+        return persistAsync(entity, OptionsBuilder.noOptions());
+    }
+
+    /**
+     * Persist an entity asynchronously with the given options. See persist(Object entity, Options options)
+     * 
+     * @param entity
+     *            Entity to be persisted
+     * @param options
+     *            options for consistency level, ttl and timestamp
+     * @return future completed when all statements have been acknowledged
+     */
+    public ListenableFuture<Void> persistAsync(final Object entity, Options options)
+    {
+        if (log.isDebugEnabled())
+            log.debug("Persisting asynchronously entity '{}' with options {} ", entity, options);
+
+        entityValidator.validateEntity(entity, entityMetaMap);
+        if (options.getTtl().isPresent())
+        {
+            entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
+        }
+        if (proxifier.isProxy(entity)) {
+            throw new IllegalStateException(
+                    "Then entity is already in 'managed' state. Please use the mergeAsync() method instead of persistAsync()");
+        }
+
+        CQLPersistenceContext context = initPersistenceContext(entity, options);
+        return context.persistAsync();
+    }
+
+    /**
+     * Merge an entity asynchronously. See merge(T entity)
+     * 
+     * @param entity
+     *            Entity to be merged
+     * @return future of the merged entity or a new proxified entity
+     */
+    public <T> ListenableFuture<T> mergeAsync(T entity)
+    {
+        return mergeAsync(entity, OptionsBuilder.noOptions());
+    }
+
+    /**
+     * Merge an entity asynchronously with the given options. See merge(T entity, Options options)
+     * 
+     * @param entity
+     *            Entity to be merged
+     * @param options
+     *            options for consistency level, ttl and timestamp
+     * @return future of the merged entity or a new proxified entity
+     */
+    public <T> ListenableFuture<T> mergeAsync(final T entity, Options options)
+    {
+        if (log.isDebugEnabled())
+            log.debug("Merging asynchronously entity '{}' with options {} ", proxifier.unwrap(entity), options);
+
+        entityValidator.validateEntity(entity, entityMetaMap);
+        if (options.getTtl().isPresent())
+        {
+            entityValidator.validateNotClusteredCounter(entity, entityMetaMap);
+        }
+        CQLPersistenceContext context = initPersistenceContext(entity, options);
+        return context.<T> mergeAsync(entity);
+    }
+
+    /**
+     * Remove an entity asynchronously. Join entities are <strong>not</strong> removed
+     * 
+     * @param entity
+     *            Entity to be removed
+     * @return future completed when the entity has been removed
+     */
+    public ListenableFuture<Void> removeAsync(Object entity)
+    {
+        return removeAsync(entity, null);
+    }
+
+    /**
+     * Remove an entity asynchronously with the given Consistency Level for write. Join entities are <strong>not</strong>
+     * removed
+     * 
+     * @param entity
+     *            Entity to be removed
+     * @param writeLevel
+     *            Consistency Level for write
+     * @return future completed when the entity has been removed
+     */
+    public ListenableFuture<Void> removeAsync(final Object entity, ConsistencyLevel writeLevel)
+    {
+        if (log.isDebugEnabled())
+            log.debug("Removing asynchronously entity '{}' with write consistency level {}",
+                    proxifier.unwrap(entity), writeLevel);
+
+        entityValidator.validateEntity(entity, entityMetaMap);
+        proxifier.ensureProxy(entity);
+        CQLPersistenceContext context = initPersistenceContext(entity, OptionsBuilder.withConsistency(writeLevel));
+        return context.removeAsync();
+    }
+
+    /**
+     * Remove an entity by its id asynchronously. Join entities are <strong>not</strong> removed
+     * 
+     * @param entityClass
+     *            Entity class
+     * @param primaryKey
+     *            Primary key
+     * @return future completed when the entity has been removed
+     */
+    public ListenableFuture<Void> removeByIdAsync(Class<?> entityClass, Object primaryKey)
+    {
+        return removeByIdAsync(entityClass, primaryKey, null);
+    }
+
+    /**
+     * Remove an entity by its id asynchronously with the given Consistency Level for write. Join entities are
+     * <strong>not</strong> removed
+     * 
+     * @param entityClass
+     *            Entity class
+     * @param primaryKey
+     *            Primary key
+     * @param writeLevel
+     *            Consistency Level for write
+     * @return future completed when the entity has been removed
+     */
+    public ListenableFuture<Void> removeByIdAsync(Class<?> entityClass, Object primaryKey,
+            ConsistencyLevel writeLevel)
+    {
+        Validator.validateNotNull(entityClass, "The entity class should not be null for removal by id");
+        Validator.validateNotNull(primaryKey, "The primary key should not be null for removal by id");
+        if (log.isDebugEnabled())
+            log.debug("Removing asynchronously entity of type '{}' by its id '{}'", entityClass, primaryKey);
+
+        CQLPersistenceContext context = initPersistenceContext(entityClass, primaryKey,
+                OptionsBuilder.withConsistency(writeLevel));
+        entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+        return context.removeAsync();
+    }
+
+    /**
+     * Find an entity asynchronously. The row is fetched with the driver async session and mapped to a managed entity
+     * in the future callback
+     * 
+     * @param entityClass
+     *            Entity type
+     * @param primaryKey
+     *            Primary key of the entity to load
+     * @return future of the found entity or null if no entity is found
+     */
+    public <T> ListenableFuture<T> findAsync(Class<T> entityClass, Object primaryKey)
+    {
+        return findAsync(entityClass, primaryKey, null);
+    }
+
+    /**
+     * Find an entity asynchronously with the given Consistency Level for read
+     * 
+     * @param entityClass
+     *            Entity type
+     * @param primaryKey
+     *            Primary key of the entity to load
+     * @param readLevel
+     *            Consistency Level for read
+     * @return future of the found entity or null if no entity is found
+     */
+    public <T> ListenableFuture<T> findAsync(final Class<T> entityClass, final Object primaryKey,
+            ConsistencyLevel readLevel)
+    {
+        log.debug("Find asynchronously entity class '{}' with primary key {} and read consistency level {}",
+                entityClass, primaryKey, readLevel);
+        Validator.validateNotNull(entityClass, "Entity class should not be null for find by id");
+        Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null for find by id");
+        CQLPersistenceContext context = initPersistenceContext(entityClass, primaryKey,
+                OptionsBuilder.withConsistency(readLevel));
+        entityValidator.validatePrimaryKey(context.getIdMeta(), primaryKey);
+        return context.<T> findAsync(entityClass);
+    }
+
+    /**
+     * Load the entities with concurrent asynchronous reads, at most flush max in flight requests at a time
+     */
+    @Override
+    protected <ID, T> Map<ID, T> doFindAll(Class<T> entityClass, List<ID> primaryKeys, ConsistencyLevel readLevel)
+    {
+        Map<ID, T> entities = new LinkedHashMap<ID, T>();
+        for (List<ID> chunk : Lists.partition(primaryKeys, daoContext.getFlushMaxInFlight()))
+        {
+            List<ListenableFuture<T>> futures = new ArrayList<ListenableFuture<T>>(chunk.size());
+            for (ID primaryKey : chunk)
+            {
+                CQLPersistenceContext context = initPersistenceContext(entityClass, primaryKey,
+                        OptionsBuilder.withConsistency(readLevel));
+                futures.add(context.<T> findAsync(entityClass));
+            }
+
+            List<T> founds = waitFor(Futures.allAsList(futures));
+            for (int i = 0; i < chunk.size(); i++)
+            {
+                if (founds.get(i) != null)
+                {
+                    entities.put(chunk.get(i), founds.get(i));
+                }
+            }
+        }
+        return entities;
+    }
+
+    private <V> V waitFor(ListenableFuture<V> future)
+    {
+        try
+        {
+            return Uninterruptibles.getUninterruptibly(future);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            throw new AchillesException(cause);
+        }
     }
 
     @Override
@@ -9,8 +9,13 @@ import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.context.CQLDaoContextBuilder;
 import info.archinnov.achilles.context.CQLPersistenceContextFactory;
 import info.archinnov.achilles.context.ConfigurationContext.Impl;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.table.CQLTableCreator;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.validation.Validator;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +34,8 @@ public class CQLEntityManagerFactory extends EntityManagerFactory {
     private Session session;
     private CQLDaoContext daoContext;
     private CQLPersistenceContextFactory contextFactory;
+    private CQLBatchType batchType;
+    private int batchMaxStatements;
 
     /**
      * Create a new CQLEntityManagerFactory with a configuration map
@@ -43,14 +50,38 @@ public class CQLEntityManagerFactory extends EntityManagerFactory {
         CQLArgumentExtractor extractor = new CQLArgumentExtractor();
         cluster = extractor.initCluster(configurationMap);
         session = extractor.initSession(cluster, configurationMap);
+        batchType = extractor.initBatchType(configurationMap);
+        batchMaxStatements = extractor.initBatchMaxStatements(configurationMap);
+        int flushMaxInFlight = extractor.initFlushMaxInFlight(configurationMap);
+        int scanParallelism = extractor.initScanParallelism(configurationMap);
+        int scanPageSize = extractor.initScanPageSize(configurationMap);
+        boolean lazyPreparation = extractor.initPreparedStatementsLazy(configurationMap);
+        int preparationParallelism = extractor.initPreparedStatementsParallelism(configurationMap);
+        boolean counterCoalescing = extractor.initCounterCoalescing(configurationMap);
+        int counterFlushInterval = extractor.initCounterCoalescingFlushInterval(configurationMap);
+        int counterMaxPending = extractor.initCounterCoalescingMaxPending(configurationMap);
 
         boolean hasSimpleCounter = bootstrap();
         new CQLTableCreator(cluster, session, (String) configurationMap.get(KEYSPACE_NAME_PARAM))
                 .validateOrCreateTables(entityMetaMap, configContext, hasSimpleCounter);
 
-        daoContext = CQLDaoContextBuilder.builder(session).build(entityMetaMap, hasSimpleCounter);
+        daoContext = CQLDaoContextBuilder.builder(session)
+                .lazyPreparation(lazyPreparation)
+                .preparationParallelism(preparationParallelism)
+                .executor(executor)
+                .build(entityMetaMap, hasSimpleCounter);
+        daoContext.setFlushMaxInFlight(flushMaxInFlight);
+        daoContext.setScanParallelism(scanParallelism);
+        daoContext.setScanPageSize(scanPageSize);
+        daoContext.setExecutor(executor);
+        CQLEntityMapper.compileRowMappers(entityMetaMap.values());
+        if (counterCoalescing)
+        {
+            daoContext.setCounterCoalescer(new CQLCounterCoalescer(daoContext, counterFlushInterval,
+                    counterMaxPending));
+        }
         contextFactory = new CQLPersistenceContextFactory(daoContext, configContext, entityMetaMap);
-        registerShutdownHook(cluster);
+        registerShutdownHook(cluster, daoContext.getCounterCoalescer());
     }
 
     /**
@@ -67,14 +98,53 @@ public class CQLEntityManagerFactory extends EntityManagerFactory {
      * <br/>
      * 
      * <strong>WARNING : This EntityManager is state-full and not thread-safe. In case of exception, you MUST not
-     * re-use it but create another one</strong>
+     * re-use it but create another one</strong><br/>
+     * <br/>
+     * 
+     * Pending statements are sent according to the "achilles.cassandra.batch.type" parameter, either one by one
+     * (SEQUENTIAL, default) or packed into LOGGED/UNLOGGED CQL batches of at most
+     * "achilles.cassandra.batch.max.statements" statements. Inside a CQL batch all statements share the same
+     * timestamp so successive writes on the same column within one batch are not ordered
      * 
      * @return a new state-full EntityManager
      */
     public CQLBatchingEntityManager createBatchingEntityManager()
     {
         return new CQLBatchingEntityManager(entityMetaMap, contextFactory,
-                daoContext, configContext);
+                daoContext, configContext, batchType, batchMaxStatements);
+    }
+
+    /**
+     * Create a new BulkWriter for high-throughput ingestion of plain entities. Failures are thrown
+     * 
+     * @param entityClass
+     *            class of the entities to be written
+     * @return a new BulkWriter, not thread-safe
+     */
+    public <T> CQLBulkWriter<T> createBulkWriter(Class<T> entityClass)
+    {
+        return createBulkWriter(entityClass, null);
+    }
+
+    /**
+     * Create a new BulkWriter for high-throughput ingestion of plain entities <br/>
+     * <br/>
+     * 
+     * Entities are buffered by "achilles.cassandra.batch.max.statements" and at most
+     * "achilles.cassandra.flush.max.in.flight" write requests are pending at the same time
+     * 
+     * @param entityClass
+     *            class of the entities to be written
+     * @param listener
+     *            callback notified of the progress and of the failed entities
+     * @return a new BulkWriter, not thread-safe
+     */
+    public <T> CQLBulkWriter<T> createBulkWriter(Class<T> entityClass, BulkWriteListener<? super T> listener)
+    {
+        EntityMeta entityMeta = entityMetaMap.get(entityClass);
+        Validator.validateNotNull(entityMeta, "The entity %s is not managed by Achilles",
+                entityClass.getCanonicalName());
+        return new CQLBulkWriter<T>(entityClass, entityMeta, daoContext, batchMaxStatements, listener);
     }
 
     @Override
@@ -94,13 +164,28 @@ public class CQLEntityManagerFactory extends EntityManagerFactory {
                 readConsistencyMap, writeConsistencyMap);
     }
 
-    private void registerShutdownHook(final Cluster cluster)
+    /**
+     * Return the coalescer of counter increments, or null when "achilles.counter.coalescing.enable" is not set.
+     * It exposes the pending, flushed and failed deltas and can be flushed on demand
+     * 
+     * @return CQLCounterCoalescer
+     */
+    public CQLCounterCoalescer getCounterCoalescer()
+    {
+        return daoContext.getCounterCoalescer();
+    }
+
+    private void registerShutdownHook(final Cluster cluster, final CQLCounterCoalescer counterCoalescer)
     {
         Runtime.getRuntime().addShutdownHook(new Thread()
         {
             @Override
             public void run()
             {
+                if (counterCoalescer != null)
+                {
+                    counterCoalescer.shutdown();
+                }
                 cluster.shutdown();
             }
         });
@@ -7,6 +7,9 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.CQLLoaderImpl;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.validation.Validator;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLEntityLoader
@@ -45,6 +48,37 @@ public class CQLEntityLoader implements EntityLoader<CQLPersistenceContext>
         return entity;
     }
 
+    public <T> ListenableFuture<T> loadAsync(CQLPersistenceContext context, Class<T> entityClass)
+    {
+        final EntityMeta entityMeta = context.getEntityMeta();
+        final Object primaryKey = context.getPrimaryKey();
+
+        Validator.validateNotNull(entityClass, "Entity class should not be null");
+        Validator.validateNotNull(primaryKey, "Entity '%s' key should not be null", entityClass.getCanonicalName());
+        Validator.validateNotNull(entityMeta, "Entity meta for '%s' should not be null",
+                entityClass.getCanonicalName());
+
+        ListenableFuture<T> futureEntity;
+        if (context.isLoadEagerFields())
+        {
+            futureEntity = loaderImpl.eagerLoadEntityAsync(context, entityClass);
+        }
+        else
+        {
+            futureEntity = Futures.immediateFuture(invoker.instanciate(entityClass));
+        }
+
+        return Futures.transform(futureEntity, new Function<T, T>()
+        {
+            @Override
+            public T apply(T entity)
+            {
+                invoker.setValueToField(entity, entityMeta.getIdMeta().getSetter(), primaryKey);
+                return entity;
+            }
+        });
+    }
+
     @Override
     public <V> void loadPropertyIntoObject(CQLPersistenceContext context, Object realObject,
             PropertyMeta pm)
@@ -61,6 +61,10 @@ public class CQLSliceQueryExecutor extends SliceQueryExecutor<CQLPersistenceCont
             clusteredEntities.add(clusteredEntity);
         }
 
+        if (sliceQuery.isReadOnly())
+        {
+            return clusteredEntities;
+        }
         return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, meta.getEagerGetters()));
     }
 
@@ -5,6 +5,7 @@ import info.archinnov.achilles.entity.CQLEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.CQLEntityLoader;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -16,7 +17,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * CQLLoaderImpl
@@ -26,6 +34,8 @@ import com.datastax.driver.core.Row;
  */
 public class CQLLoaderImpl
 {
+    private static final int JOIN_ENTITIES_LOAD_CHUNK_SIZE = 100;
+
     private ReflectionInvoker invoker = new ReflectionInvoker();
     private CQLEntityMapper mapper = new CQLEntityMapper();
     private CQLRowMethodInvoker cqlRowInvoker = new CQLRowMethodInvoker();
@@ -59,6 +69,45 @@ public class CQLLoaderImpl
         return entity;
     }
 
+    public <T> ListenableFuture<T> eagerLoadEntityAsync(CQLPersistenceContext context, final Class<T> entityClass)
+    {
+        final EntityMeta entityMeta = context.getEntityMeta();
+
+        if (entityMeta.isClusteredCounter())
+        {
+            PropertyMeta counterMeta = entityMeta.getFirstMeta();
+            ConsistencyLevel readLevel = context.getConsistencyLevel().isPresent() ? context
+                    .getConsistencyLevel().get() : counterMeta.getReadConsistencyLevel();
+            return Futures.transform(context.getClusteredCounterAsync(counterMeta, readLevel),
+                    new Function<ResultSet, T>()
+                    {
+                        @Override
+                        public T apply(ResultSet resultSet)
+                        {
+                            return resultSet.one() != null ? invoker.instanciate(entityClass) : null;
+                        }
+                    });
+        }
+        else
+        {
+            return Futures.transform(context.eagerLoadEntityAsync(), new Function<ResultSet, T>()
+            {
+                @Override
+                public T apply(ResultSet resultSet)
+                {
+                    T entity = null;
+                    Row row = resultSet.one();
+                    if (row != null)
+                    {
+                        entity = invoker.instanciate(entityClass);
+                        mapper.setEagerPropertiesToEntity(row, entityMeta, entity);
+                    }
+                    return entity;
+                }
+            });
+        }
+    }
+
     public void loadPropertyIntoEntity(CQLPersistenceContext context, PropertyMeta pm,
             Object entity)
     {
@@ -171,10 +220,7 @@ public class CQLLoaderImpl
             CQLPersistenceContext context, PropertyMeta pm, EntityMeta joinMeta,
             Collection<?> joinIds, Collection<Object> joinEntities)
     {
-        for (Object joinId : joinIds)
-        {
-            joinEntities.add(loadJoinEntity(loader, context, pm, joinMeta, joinId));
-        }
+        joinEntities.addAll(loadJoinEntities(loader, context, pm, joinMeta, joinIds));
 
         return joinEntities;
     }
@@ -183,12 +229,59 @@ public class CQLLoaderImpl
             PropertyMeta pm, EntityMeta joinMeta, Map<?, ?> joinIdMap,
             Map<Object, Object> joinEntitiesMap)
     {
+        List<Object> joinKeys = new ArrayList<Object>(joinIdMap.size());
+        List<Object> joinIds = new ArrayList<Object>(joinIdMap.size());
         for (Entry<?, ?> entry : joinIdMap.entrySet())
         {
-            Object joinEntity = loadJoinEntity(loader, context, pm, joinMeta, entry.getValue());
-            joinEntitiesMap.put(entry.getKey(), joinEntity);
+            joinKeys.add(entry.getKey());
+            joinIds.add(entry.getValue());
+        }
+
+        List<Object> joinEntities = loadJoinEntities(loader, context, pm, joinMeta, joinIds);
+        for (int i = 0; i < joinKeys.size(); i++)
+        {
+            joinEntitiesMap.put(joinKeys.get(i), joinEntities.get(i));
         }
 
         return joinEntitiesMap;
     }
+
+    /**
+     * Load join entities with parallel asynchronous reads, at most JOIN_ENTITIES_LOAD_CHUNK_SIZE at a time, instead of
+     * one blocking read per join id. Loaded entities are returned in the order of the join ids
+     */
+    private List<Object> loadJoinEntities(CQLEntityLoader loader, CQLPersistenceContext context,
+            PropertyMeta pm, EntityMeta joinMeta, Iterable<?> joinIds)
+    {
+        List<Object> joinEntities = new ArrayList<Object>();
+        for (List<?> chunk : Iterables.partition(joinIds, JOIN_ENTITIES_LOAD_CHUNK_SIZE))
+        {
+            List<ListenableFuture<?>> futures = new ArrayList<ListenableFuture<?>>(chunk.size());
+            for (Object joinId : chunk)
+            {
+                CQLPersistenceContext joinContext = context.createContextForJoin(
+                        pm.getValueClass(), joinMeta, joinId);
+                futures.add(loader.loadAsync(joinContext, pm.getValueClass()));
+            }
+            joinEntities.addAll(waitFor(Futures.allAsList(futures)));
+        }
+        return joinEntities;
+    }
+
+    private <T> T waitFor(ListenableFuture<T> future)
+    {
+        try
+        {
+            return Uninterruptibles.getUninterruptibly(future);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            throw new AchillesException(cause);
+        }
+    }
 }
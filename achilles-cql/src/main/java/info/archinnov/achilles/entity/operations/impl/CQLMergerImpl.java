@@ -4,6 +4,7 @@ import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityMerger;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -11,6 +12,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * CQLMergerImpl
@@ -24,16 +26,36 @@ public class CQLMergerImpl implements Merger<CQLPersistenceContext>
     private PropertyMetaComparator comparator = new PropertyMetaComparator();
 
     @Override
-    public void merge(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap)
+    public void merge(CQLPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+            Map<Method, CollectionDelta> deltaMap)
     {
         if (dirtyMap.size() > 0)
         {
-            List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>(
-                    dirtyMap.values());
-            Collections.sort(sortedDirtyMetas, comparator);
-            context.pushUpdateStatement(sortedDirtyMetas);
+            List<PropertyMeta> sortedDirtyMetas = new ArrayList<PropertyMeta>();
+            for (Entry<Method, PropertyMeta> entry : dirtyMap.entrySet())
+            {
+                CollectionDelta delta = deltaMap.get(entry.getKey());
+                if (delta != null && !context.getTtt().isPresent() && !context.getTimestamp().isPresent())
+                {
+                    if (!delta.isEmpty())
+                    {
+                        context.pushCollectionDeltaStatements(entry.getValue(), delta);
+                    }
+                }
+                else
+                {
+                    sortedDirtyMetas.add(entry.getValue());
+                }
+            }
+
+            if (sortedDirtyMetas.size() > 0)
+            {
+                Collections.sort(sortedDirtyMetas, comparator);
+                context.pushUpdateStatement(sortedDirtyMetas);
+            }
             dirtyMap.clear();
         }
+        deltaMap.clear();
     }
 
     @Override
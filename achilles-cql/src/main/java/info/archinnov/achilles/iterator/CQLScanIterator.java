@@ -0,0 +1,145 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.query.scan.CQLPartitioner;
+import info.archinnov.achilles.query.scan.CQLTokenRange;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLScanIterator
+ * 
+ * Iterate over the entities of a list of token ranges. Up to parallelism ranges are fetched at the same time and the
+ * next page of a range is requested as soon as the current one is received, so at most parallelism pages are held in
+ * memory besides the page being iterated. Entities are returned range after range, in token order within a range
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLScanIterator<T> implements Iterator<T>
+{
+    private Class<T> entityClass;
+    private EntityMeta meta;
+    private CQLDaoContext daoContext;
+    private CQLPartitioner partitioner;
+    private String scanQuery;
+    private int pageSize;
+
+    private Queue<CQLTokenRange> pendingRanges;
+    private Queue<RangeScan> activeScans = new LinkedList<RangeScan>();
+    private RangeScan currentScan;
+    private Iterator<Row> rows;
+
+    private ReflectionInvoker invoker = new ReflectionInvoker();
+    private CQLEntityMapper mapper = new CQLEntityMapper();
+
+    public CQLScanIterator(Class<T> entityClass, EntityMeta meta, CQLDaoContext daoContext,
+            CQLPartitioner partitioner, String scanQuery, List<CQLTokenRange> ranges, int parallelism,
+            int pageSize)
+    {
+        this.entityClass = entityClass;
+        this.meta = meta;
+        this.daoContext = daoContext;
+        this.partitioner = partitioner;
+        this.scanQuery = scanQuery;
+        this.pageSize = pageSize;
+        this.pendingRanges = new LinkedList<CQLTokenRange>(ranges);
+        for (int i = 0; i < parallelism; i++)
+        {
+            startNextRange();
+        }
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while (rows == null || !rows.hasNext())
+        {
+            if (currentScan == null)
+            {
+                currentScan = activeScans.poll();
+                if (currentScan == null)
+                {
+                    return false;
+                }
+            }
+
+            if (currentScan.nextPage == null)
+            {
+                currentScan = null;
+                startNextRange();
+            }
+            else
+            {
+                rows = fetchCurrentPage();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+        Row row = rows.next();
+        T entity = invoker.instanciate(entityClass);
+        mapper.setEagerPropertiesToEntity(row, meta, entity);
+        return entity;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException("Cannot remove entity with scan iterator");
+    }
+
+    private Iterator<Row> fetchCurrentPage()
+    {
+        List<Row> page = currentScan.nextPage.getUninterruptibly().all();
+        currentScan.nextPage = null;
+        if (page.size() == pageSize)
+        {
+            Row lastRow = page.get(page.size() - 1);
+            Object lastToken = partitioner.readToken(lastRow, lastRow.getColumnDefinitions().size() - 1);
+            currentScan.nextPage = fetchPage(lastToken, currentScan.range.getEndToken());
+        }
+        return page.iterator();
+    }
+
+    private void startNextRange()
+    {
+        CQLTokenRange range = pendingRanges.poll();
+        if (range != null)
+        {
+            activeScans.add(new RangeScan(range, fetchPage(range.getStartToken(), range.getEndToken())));
+        }
+    }
+
+    private ResultSetFuture fetchPage(Object lowerToken, Object upperToken)
+    {
+        return daoContext.executeScanAsync(meta, scanQuery, lowerToken, upperToken);
+    }
+
+    private static class RangeScan
+    {
+        private final CQLTokenRange range;
+        private ResultSetFuture nextPage;
+
+        private RangeScan(CQLTokenRange range, ResultSetFuture nextPage)
+        {
+            this.range = range;
+            this.nextPage = nextPage;
+        }
+    }
+}
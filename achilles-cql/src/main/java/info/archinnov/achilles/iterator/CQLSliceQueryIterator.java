@@ -8,8 +8,12 @@ import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import java.util.Iterator;
+import java.util.List;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
+import com.google.common.collect.Lists;
 
 /**
  * CQLSliceQueryIterator
@@ -29,6 +33,9 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
     private EntityMeta meta;
     private int batchSize;
     private int count = 0;
+    private boolean readOnly;
+    private int readAheadThreshold;
+    private ResultSetFuture nextBatch;
 
     private ReflectionInvoker invoker = new ReflectionInvoker();
     private CQLEntityMapper mapper = new CQLEntityMapper();
@@ -46,13 +53,25 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
         this.varyingComponentName = sliceQuery.getVaryingComponentName();
         this.varyingComponentClass = sliceQuery.getVaryingComponentClass();
         this.batchSize = sliceQuery.getBatchSize();
+        this.readOnly = sliceQuery.isReadOnly();
+        this.readAheadThreshold = readAheadThreshold(sliceQuery.getReadAheadRatio(), batchSize);
     }
 
     @Override
     public boolean hasNext() {
         if (!iterator.hasNext() && count == batchSize)
         {
-            iterator = context.bindAndExecute(ps, lastVaryingComponentValue).iterator();
+            ResultSet resultSet;
+            if (nextBatch != null)
+            {
+                resultSet = nextBatch.getUninterruptibly();
+                nextBatch = null;
+            }
+            else
+            {
+                resultSet = context.bindAndExecute(ps, lastVaryingComponentValue);
+            }
+            iterator = resultSet.iterator();
             count = 0;
         }
         return iterator.hasNext();
@@ -67,7 +86,11 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
         T clusteredEntity = invoker.instanciate(entityClass);
         mapper.setEagerPropertiesToEntity(row, meta, clusteredEntity);
         count++;
-        return proxify(clusteredEntity);
+        if (count == readAheadThreshold)
+        {
+            fetchNextBatchAsync();
+        }
+        return readOnly ? clusteredEntity : proxify(clusteredEntity);
     }
 
     @Override
@@ -75,6 +98,31 @@ public class CQLSliceQueryIterator<T> implements Iterator<T> {
         throw new UnsupportedOperationException("Cannot remove clustered entity with iterator");
     }
 
+    private void fetchNextBatchAsync()
+    {
+        List<Row> remainingRows = Lists.newArrayList(iterator);
+        iterator = remainingRows.iterator();
+        if (count + remainingRows.size() == batchSize)
+        {
+            Object lastValueOfBatch = lastVaryingComponentValue;
+            if (!remainingRows.isEmpty())
+            {
+                lastValueOfBatch = cqlInvoker.invokeOnRowForType(remainingRows.get(remainingRows.size() - 1),
+                        varyingComponentClass, varyingComponentName);
+            }
+            nextBatch = context.bindAndExecuteAsync(ps, lastValueOfBatch);
+        }
+    }
+
+    private int readAheadThreshold(double readAheadRatio, int batchSize)
+    {
+        if (readAheadRatio <= 0)
+        {
+            return 0;
+        }
+        return Math.max(1, (int) Math.ceil(batchSize * readAheadRatio));
+    }
+
     private T proxify(T clusteredEntity)
     {
         CQLPersistenceContext duplicate = context.duplicate(clusteredEntity);
@@ -2,10 +2,13 @@ package info.archinnov.achilles.query.cql;
 
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 /**
  * CQLNativeQuery
@@ -17,12 +20,14 @@ public class CQLNativeQueryBuilder {
 
     private CQLDaoContext daoContext;
     private String queryString;
+    private Object[] boundValues;
 
     private CQLNativeQueryMapper mapper = new CQLNativeQueryMapper();
 
-    public CQLNativeQueryBuilder(CQLDaoContext daoContext, String queryString) {
+    public CQLNativeQueryBuilder(CQLDaoContext daoContext, String queryString, Object... boundValues) {
         this.daoContext = daoContext;
         this.queryString = queryString;
+        this.boundValues = boundValues;
     }
 
     /**
@@ -36,10 +41,29 @@ public class CQLNativeQueryBuilder {
      */
     public List<Map<String, Object>> get()
     {
-        List<Row> rows = daoContext.execute(new SimpleStatement(queryString)).all();
+        List<Row> rows = daoContext.executeQuery(queryString, boundValues).all();
         return mapper.mapRows(rows);
     }
 
+    /**
+     * Return an iterator over found rows. Each row is mapped to a (column name, column value) map only when it is
+     * iterated, so no list of rows or maps is built
+     * 
+     * @return Iterator<Map<String, Object>>
+     */
+    public Iterator<Map<String, Object>> iterator()
+    {
+        Iterator<Row> rows = daoContext.executeQuery(queryString, boundValues).iterator();
+        return Iterators.filter(Iterators.transform(rows, new Function<Row, Map<String, Object>>()
+        {
+            @Override
+            public Map<String, Object> apply(Row row)
+            {
+                return mapper.mapRow(row);
+            }
+        }), Predicates.notNull());
+    }
+
     /**
      * Return the first found row.
      * The map contains the (column name, column value) of each row.
@@ -50,7 +74,7 @@ public class CQLNativeQueryBuilder {
      */
     public Map<String, Object> first()
     {
-        List<Row> rows = daoContext.execute(new SimpleStatement(queryString)).all();
+        List<Row> rows = daoContext.executeQuery(queryString, boundValues).all();
         List<Map<String, Object>> result = mapper.mapRows(rows);
         if (result.isEmpty())
             return null;
@@ -0,0 +1,93 @@
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.exception.AchillesException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLPartitioner
+ * 
+ * Token space of the hash partitioners, used to split the ring into ranges for a full table scan
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public enum CQLPartitioner
+{
+    MURMUR3("org.apache.cassandra.dht.Murmur3Partitioner", BigInteger.valueOf(Long.MIN_VALUE), BigInteger
+            .valueOf(Long.MAX_VALUE))
+    {
+        @Override
+        protected Object toToken(BigInteger token)
+        {
+            return token.longValue();
+        }
+
+        @Override
+        public Object readToken(Row row, int index)
+        {
+            return row.getLong(index);
+        }
+    },
+    RANDOM("org.apache.cassandra.dht.RandomPartitioner", BigInteger.valueOf(-1), BigInteger.valueOf(2).pow(127))
+    {
+        @Override
+        protected Object toToken(BigInteger token)
+        {
+            return token;
+        }
+
+        @Override
+        public Object readToken(Row row, int index)
+        {
+            return row.getVarint(index);
+        }
+    };
+
+    private final String className;
+    private final BigInteger minToken;
+    private final BigInteger maxToken;
+
+    private CQLPartitioner(String className, BigInteger minToken, BigInteger maxToken)
+    {
+        this.className = className;
+        this.minToken = minToken;
+        this.maxToken = maxToken;
+    }
+
+    public static CQLPartitioner fromClassName(String className)
+    {
+        for (CQLPartitioner partitioner : values())
+        {
+            if (partitioner.className.equals(className))
+            {
+                return partitioner;
+            }
+        }
+        throw new AchillesException("Token range scan is not supported for partitioner '" + className + "'");
+    }
+
+    /**
+     * Split the whole ring into contiguous token ranges of equal width. The first range starts at the minimum token,
+     * which no partition key hashes to, and the last range ends at the maximum token
+     */
+    public List<CQLTokenRange> split(int count)
+    {
+        BigInteger width = maxToken.subtract(minToken).divide(BigInteger.valueOf(count));
+        List<CQLTokenRange> ranges = new ArrayList<CQLTokenRange>(count);
+        BigInteger start = minToken;
+        for (int i = 0; i < count; i++)
+        {
+            BigInteger end = i == count - 1 ? maxToken : start.add(width);
+            ranges.add(new CQLTokenRange(toToken(start), toToken(end)));
+            start = end;
+        }
+        return ranges;
+    }
+
+    protected abstract Object toToken(BigInteger token);
+
+    public abstract Object readToken(Row row, int index);
+}
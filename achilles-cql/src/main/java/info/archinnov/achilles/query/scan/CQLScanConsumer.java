@@ -0,0 +1,15 @@
+package info.archinnov.achilles.query.scan;
+
+/**
+ * CQLScanConsumer
+ * 
+ * Receive the entities of a full table scan. Token ranges are scanned concurrently so the implementation must be
+ * thread-safe
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public interface CQLScanConsumer<T>
+{
+    void accept(T entity);
+}
@@ -0,0 +1,205 @@
+package info.archinnov.achilles.query.scan;
+
+import info.archinnov.achilles.context.AchillesExecutor;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.iterator.CQLScanIterator;
+import info.archinnov.achilles.statement.CQLStatementGenerator;
+import info.archinnov.achilles.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * CQLScanQueryBuilder
+ * 
+ * Full table scan. The token ring is split into ranges which are scanned concurrently, page by page, with the
+ * query "token(pk) > ? AND token(pk) <= ? LIMIT pageSize". Found entities are raw entities and not 'managed' by
+ * Achilles
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLScanQueryBuilder<T>
+{
+    private static final int RANGES_PER_WORKER = 4;
+
+    private Class<T> entityClass;
+    private EntityMeta meta;
+    private CQLDaoContext daoContext;
+    private int parallelism;
+    private int pageSize;
+    private Integer splitCount;
+
+    private CQLStatementGenerator statementGenerator = new CQLStatementGenerator();
+
+    public CQLScanQueryBuilder(Class<T> entityClass, EntityMeta meta, CQLDaoContext daoContext)
+    {
+        this.entityClass = entityClass;
+        this.meta = meta;
+        this.daoContext = daoContext;
+        this.parallelism = daoContext.getScanParallelism();
+        this.pageSize = daoContext.getScanPageSize();
+    }
+
+    /**
+     * Set the number of token ranges scanned at the same time. Default value is taken from the
+     * 'achilles.cassandra.scan.parallelism' property
+     * 
+     * @param parallelism
+     *            number of concurrent range scans
+     * @return CQLScanQueryBuilder<T>
+     */
+    public CQLScanQueryBuilder<T> parallelism(int parallelism)
+    {
+        Validator.validateTrue(parallelism > 0, "Scan parallelism should be strictly positive");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Set the number of rows fetched by each request. Default value is taken from the
+     * 'achilles.cassandra.scan.page.size' property
+     * 
+     * @param pageSize
+     *            max number of rows per request
+     * @return CQLScanQueryBuilder<T>
+     */
+    public CQLScanQueryBuilder<T> pageSize(int pageSize)
+    {
+        Validator.validateTrue(pageSize > 0, "Scan page size should be strictly positive");
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Set the number of token ranges the ring is split into. Default value is 4 ranges per concurrent scan so that
+     * a slow range does not leave the other workers idle
+     * 
+     * @param splitCount
+     *            number of token ranges
+     * @return CQLScanQueryBuilder<T>
+     */
+    public CQLScanQueryBuilder<T> splitCount(int splitCount)
+    {
+        Validator.validateTrue(splitCount > 0, "Scan split count should be strictly positive");
+        this.splitCount = splitCount;
+        return this;
+    }
+
+    /**
+     * Return a lazy iterator over all the entities of the table. Token ranges are fetched concurrently but entities
+     * are mapped on the iterating thread
+     * 
+     * @return Iterator<T>
+     */
+    public Iterator<T> iterator()
+    {
+        CQLPartitioner partitioner = partitioner();
+        return new CQLScanIterator<T>(entityClass, meta, daoContext, partitioner, scanQuery(),
+                splitRing(partitioner), parallelism, pageSize);
+    }
+
+    /**
+     * Scan all the entities of the table and pass them to the consumer. Each token range is mapped and consumed by
+     * one of 'parallelism' workers running on the factory executor so the consumer must be thread-safe. This method
+     * returns once all the ranges are scanned. On the first failure the remaining ranges are dropped, the other
+     * workers are cancelled and the exception is rethrown
+     * 
+     * @param consumer
+     *            receiver of the scanned entities
+     * @return number of scanned entities
+     */
+    public long forEach(final CQLScanConsumer<? super T> consumer)
+    {
+        Validator.validateNotNull(consumer, "Scan consumer should not be null");
+
+        final CQLPartitioner partitioner = partitioner();
+        final String scanQuery = scanQuery();
+        final Queue<CQLTokenRange> ranges = new ConcurrentLinkedQueue<CQLTokenRange>(splitRing(partitioner));
+
+        AchillesExecutor executor = daoContext.getExecutor();
+        BlockingQueue<Future<Long>> completedWorkers = new LinkedBlockingQueue<Future<Long>>();
+        CompletionService<Long> completionService = new ExecutorCompletionService<Long>(executor, completedWorkers);
+
+        List<Future<Long>> workers = new ArrayList<Future<Long>>();
+        for (int i = 0; i < Math.min(parallelism, ranges.size()); i++)
+        {
+            workers.add(completionService.submit(new Callable<Long>()
+            {
+                @Override
+                public Long call() throws Exception
+                {
+                    long count = 0;
+                    CQLTokenRange range;
+                    while ((range = ranges.poll()) != null)
+                    {
+                        Iterator<T> iterator = new CQLScanIterator<T>(entityClass, meta, daoContext, partitioner,
+                                scanQuery, Arrays.asList(range), 1, pageSize);
+                        while (iterator.hasNext())
+                        {
+                            consumer.accept(iterator.next());
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+            }));
+        }
+
+        long scanned = 0;
+        try
+        {
+            for (int i = 0; i < workers.size(); i++)
+            {
+                scanned += executor.waitFor(Uninterruptibles.takeUninterruptibly(completedWorkers));
+            }
+        }
+        catch (RuntimeException e)
+        {
+            cancel(ranges, workers);
+            throw e;
+        }
+        catch (Error e)
+        {
+            cancel(ranges, workers);
+            throw e;
+        }
+        return scanned;
+    }
+
+    private void cancel(Queue<CQLTokenRange> ranges, List<Future<Long>> workers)
+    {
+        ranges.clear();
+        for (Future<Long> worker : workers)
+        {
+            worker.cancel(true);
+        }
+    }
+
+    private CQLPartitioner partitioner()
+    {
+        return CQLPartitioner.fromClassName(daoContext.getPartitioner());
+    }
+
+    private String scanQuery()
+    {
+        return statementGenerator.generateScanQuery(meta, pageSize);
+    }
+
+    private List<CQLTokenRange> splitRing(CQLPartitioner partitioner)
+    {
+        int count = splitCount != null ? splitCount : parallelism * RANGES_PER_WORKER;
+        return partitioner.split(count);
+    }
+}
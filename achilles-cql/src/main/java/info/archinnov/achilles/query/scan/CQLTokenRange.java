@@ -0,0 +1,37 @@
+package info.archinnov.achilles.query.scan;
+
+/**
+ * CQLTokenRange
+ * 
+ * Range of partition tokens, start token exclusive and end token inclusive
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLTokenRange
+{
+    private final Object startToken;
+    private final Object endToken;
+
+    public CQLTokenRange(Object startToken, Object endToken)
+    {
+        this.startToken = startToken;
+        this.endToken = endToken;
+    }
+
+    public Object getStartToken()
+    {
+        return startToken;
+    }
+
+    public Object getEndToken()
+    {
+        return endToken;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "(" + startToken + "," + endToken + "]";
+    }
+}
@@ -116,6 +116,16 @@ public class CQLSliceQuery<T> {
         return sliceQuery.getBatchSize();
     }
 
+    public boolean isReadOnly()
+    {
+        return sliceQuery.isReadOnly();
+    }
+
+    public double getReadAheadRatio()
+    {
+        return sliceQuery.getReadAheadRatio();
+    }
+
     private void validateClusteringComponents(SliceQuery<T> sliceQuery)
     {
         validator.validateComponentsForSliceQuery(sliceQuery.getClusteringsFrom(), sliceQuery.getClusteringsTo(),
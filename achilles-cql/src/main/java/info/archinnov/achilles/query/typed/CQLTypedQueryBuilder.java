@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -19,7 +20,9 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
+import com.google.common.base.Function;
+import com.google.common.base.Predicates;
+import com.google.common.collect.Iterators;
 
 /**
  * CQLTypedQueryBuilder
@@ -43,18 +46,20 @@ public class CQLTypedQueryBuilder<T> {
     private boolean managed;
     private List<String> selectedColumns;
     private Set<Method> alreadyLoaded;
+    private Object[] boundValues;
 
     private CQLEntityMapper mapper = new CQLEntityMapper();
     private CQLEntityProxifier proxifier = new CQLEntityProxifier();
 
     public CQLTypedQueryBuilder(Class<T> entityClass, CQLDaoContext daoContext, String queryString, EntityMeta meta,
-            CQLPersistenceContextFactory contextFactory, boolean managed) {
+            CQLPersistenceContextFactory contextFactory, boolean managed, Object... boundValues) {
         this.entityClass = entityClass;
         this.daoContext = daoContext;
         this.normalizedQuery = queryString.toLowerCase();
         this.meta = meta;
         this.contextFactory = contextFactory;
         this.managed = managed;
+        this.boundValues = boundValues;
         this.propertiesMap = transformPropertiesMap(meta);
         determineAlreadyLoadedSet();
     }
@@ -74,7 +79,7 @@ public class CQLTypedQueryBuilder<T> {
     public List<T> get()
     {
         List<T> result = new ArrayList<T>();
-        List<Row> rows = daoContext.execute(new SimpleStatement(normalizedQuery)).all();
+        List<Row> rows = daoContext.executeQuery(normalizedQuery, boundValues).all();
         for (Row row : rows)
         {
             T entity = mapper.mapRowToEntity(entityClass, row, propertiesMap);
@@ -90,6 +95,33 @@ public class CQLTypedQueryBuilder<T> {
         return result;
     }
 
+    /**
+     * Executes the query and returns an iterator over entities
+     * 
+     * Matching CQL rows are mapped to entities only when they are iterated, so no list of entities is built.
+     * All un-mapped columns are ignored.
+     * 
+     * @return Iterator<T> iterator over found entities
+     * 
+     */
+    public Iterator<T> iterator()
+    {
+        Iterator<Row> rows = daoContext.executeQuery(normalizedQuery, boundValues).iterator();
+        return Iterators.filter(Iterators.transform(rows, new Function<Row, T>()
+        {
+            @Override
+            public T apply(Row row)
+            {
+                T entity = mapper.mapRowToEntity(entityClass, row, propertiesMap);
+                if (entity != null && managed)
+                {
+                    entity = buildProxy(entity);
+                }
+                return entity;
+            }
+        }), Predicates.notNull());
+    }
+
     /**
      * Executes the query and returns first entity
      * 
@@ -102,7 +134,7 @@ public class CQLTypedQueryBuilder<T> {
     public T getFirst()
     {
         T entity = null;
-        Row row = daoContext.execute(new SimpleStatement(normalizedQuery)).one();
+        Row row = daoContext.executeQuery(normalizedQuery, boundValues).one();
         if (row != null)
         {
             entity = mapper.mapRowToEntity(entityClass, row, propertiesMap);
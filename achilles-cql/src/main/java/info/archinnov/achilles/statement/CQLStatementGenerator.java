@@ -23,6 +23,7 @@ import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
+import com.google.common.base.Joiner;
 import com.google.common.collect.FluentIterable;
 
 /**
@@ -93,6 +94,30 @@ public class CQLStatementGenerator {
         return select.from(entityMeta.getTableName());
     }
 
+    /**
+     * The QueryBuilder cannot select nor restrict on token(), so the query is written by hand. The token of the
+     * partition key is selected last so the scan can resume after the last row of a page
+     */
+    public String generateScanQuery(EntityMeta entityMeta, int pageSize)
+    {
+        String partitionKeyToken = "token(" + entityMeta.getIdMeta().getPropertyName() + ")";
+
+        List<String> columns = new ArrayList<String>();
+        for (PropertyMeta pm : entityMeta.getEagerMetas())
+        {
+            columns.add(pm.getPropertyName());
+        }
+        columns.add(partitionKeyToken);
+
+        StringBuilder scan = new StringBuilder();
+        scan.append("SELECT ").append(Joiner.on(",").join(columns)).append(" ");
+        scan.append("FROM ").append(entityMeta.getTableName()).append(" ");
+        scan.append("WHERE ").append(partitionKeyToken).append(">? ");
+        scan.append("AND ").append(partitionKeyToken).append("<=? ");
+        scan.append("LIMIT ").append(pageSize);
+        return scan.toString();
+    }
+
     public Insert generateInsert(Object entity, EntityMeta entityMeta)
     {
         PropertyMeta idMeta = entityMeta.getIdMeta();
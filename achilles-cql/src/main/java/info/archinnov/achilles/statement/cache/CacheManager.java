@@ -69,6 +69,37 @@ public class CacheManager
         return ps;
     }
 
+    public PreparedStatement getCacheForCollectionDelta(Session session,
+            Cache<StatementCacheKey, PreparedStatement> dynamicPSCache,
+            CQLPersistenceContext context, PropertyMeta pm, CacheType type)
+    {
+        Class<?> entityClass = context.getEntityClass();
+        EntityMeta entityMeta = context.getEntityMeta();
+        StatementCacheKey cacheKey = new StatementCacheKey(type, entityMeta.getTableName(),
+                Sets.newHashSet(pm.getPropertyName()), entityClass);
+        PreparedStatement ps = dynamicPSCache.getIfPresent(cacheKey);
+        if (ps == null)
+        {
+            switch (type)
+            {
+                case ADD_TO_COLLECTION:
+                    ps = generator.prepareCollectionAddition(session, entityMeta, pm);
+                    break;
+                case REMOVE_FROM_COLLECTION:
+                    ps = generator.prepareCollectionRemoval(session, entityMeta, pm);
+                    break;
+                case REMOVE_MAP_ENTRY:
+                    ps = generator.prepareMapEntryRemoval(session, entityMeta, pm);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Cannot prepare collection delta statement of type '"
+                            + type.name() + "' for property '" + pm.getPropertyName() + "'");
+            }
+            dynamicPSCache.put(cacheKey, ps);
+        }
+        return ps;
+    }
+
     private Set<String> extractClusteredFieldsIfNecessary(PropertyMeta pm)
     {
         if (pm.isEmbeddedId())
@@ -9,5 +9,8 @@ package info.archinnov.achilles.statement.cache;
 public enum CacheType
 {
 	SELECT_FIELD,
-	UPDATE_FIELDS
+	UPDATE_FIELDS,
+	ADD_TO_COLLECTION,
+	REMOVE_FROM_COLLECTION,
+	REMOVE_MAP_ENTRY
 }
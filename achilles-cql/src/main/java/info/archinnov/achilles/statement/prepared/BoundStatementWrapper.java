@@ -8,9 +8,16 @@ public class BoundStatementWrapper {
 
     private Object[] values;
 
+    private boolean counter;
+
     public BoundStatementWrapper(BoundStatement bs, Object[] values) {
+        this(bs, values, false);
+    }
+
+    public BoundStatementWrapper(BoundStatement bs, Object[] values, boolean counter) {
         this.bs = bs;
         this.values = values;
+        this.counter = counter;
     }
 
     public BoundStatement getBs() {
@@ -21,4 +28,12 @@ public class BoundStatementWrapper {
         return values;
     }
 
+    /**
+     * Whether the statement targets a counter table. Counter and non-counter statements cannot be mixed in the same
+     * CQL batch
+     */
+    public boolean isCounter() {
+        return counter;
+    }
+
 }
@@ -23,13 +23,15 @@ import com.google.common.collect.FluentIterable;
 public class CQLPreparedStatementBinder
 {
     private ReflectionInvoker invoker = new ReflectionInvoker();
+    private CQLRoutedStatementFactory statementFactory = new CQLRoutedStatementFactory();
 
     public BoundStatementWrapper bindForInsert(PreparedStatement ps, EntityMeta entityMeta, Object entity)
     {
         List<Object> values = new ArrayList<Object>();
         PropertyMeta idMeta = entityMeta.getIdMeta();
         Object primaryKey = invoker.getPrimaryKey(entity, idMeta);
-        values.addAll(bindPrimaryKey(primaryKey, idMeta));
+        List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, idMeta);
+        values.addAll(primaryKeyValues);
 
         List<PropertyMeta> nonProxyMetas = FluentIterable
                 .from(entityMeta.getAllMetasExceptIdMeta())
@@ -40,13 +42,13 @@ public class CQLPreparedStatementBinder
 
         for (PropertyMeta pm : fieldMetas)
         {
-            Object value = invoker.getValueFromField(entity, pm.getGetter());
+            Object value = invoker.getValueFromField(entity, pm);
             value = encodeValueForCassandra(pm, value);
             values.add(value);
         }
 
         Object[] boundValues = new Object[values.size()];
-        BoundStatement bs = ps.bind(values.toArray(boundValues));
+        BoundStatement bs = bind(ps, primaryKeyValues.get(0), values.toArray(boundValues));
 
         return new BoundStatementWrapper(bs, boundValues);
     }
@@ -58,19 +60,36 @@ public class CQLPreparedStatementBinder
         PropertyMeta idMeta = entityMeta.getIdMeta();
         for (PropertyMeta pm : pms)
         {
-            Object value = invoker.getValueFromField(entity, pm.getGetter());
+            Object value = invoker.getValueFromField(entity, pm);
             value = encodeValueForCassandra(pm, value);
             values.add(value);
         }
         Object primaryKey = invoker.getPrimaryKey(entity, idMeta);
-        values.addAll(bindPrimaryKey(primaryKey, idMeta));
+        List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, idMeta);
+        values.addAll(primaryKeyValues);
 
         Object[] boundValues = new Object[values.size()];
-        BoundStatement bs = ps.bind(values.toArray(boundValues));
+        BoundStatement bs = bind(ps, primaryKeyValues.get(0), values.toArray(boundValues));
 
         return new BoundStatementWrapper(bs, boundValues);
     }
 
+    public BoundStatementWrapper bindForCollectionDelta(PreparedStatement ps, EntityMeta entityMeta,
+            PropertyMeta pm, Object delta, Object entity)
+    {
+        List<Object> values = new ArrayList<Object>();
+        values.add(encodeValueForCassandra(pm, delta));
+        return bindWithPrimaryKey(ps, entityMeta, values, entity);
+    }
+
+    public BoundStatementWrapper bindForMapEntryRemoval(PreparedStatement ps, EntityMeta entityMeta,
+            PropertyMeta pm, Object key, Object entity)
+    {
+        List<Object> values = new ArrayList<Object>();
+        values.add(pm.encodeKey(key));
+        return bindWithPrimaryKey(ps, entityMeta, values, entity);
+    }
+
     public BoundStatementWrapper bindStatementWithOnlyPKInWhereClause(PreparedStatement ps,
             EntityMeta entityMeta, Object primaryKey)
     {
@@ -78,9 +97,9 @@ public class CQLPreparedStatementBinder
         List<Object> values = bindPrimaryKey(primaryKey, idMeta);
 
         Object[] boundValues = new Object[values.size()];
-        BoundStatement bs = ps.bind(values.toArray(boundValues));
+        BoundStatement bs = bind(ps, values.get(0), values.toArray(boundValues));
 
-        return new BoundStatementWrapper(bs, boundValues);
+        return new BoundStatementWrapper(bs, boundValues, entityMeta.isClusteredCounter());
     }
 
     public BoundStatementWrapper bindForSimpleCounterIncrementDecrement(PreparedStatement ps,
@@ -89,9 +108,9 @@ public class CQLPreparedStatementBinder
         Object[] boundValues = ArrayUtils.add(extractValuesForSimpleCounterBinding(entityMeta, pm, primaryKey), 0,
                 increment);
 
-        BoundStatement bs = ps.bind(boundValues);
+        BoundStatement bs = bind(ps, entityMeta.getClassName(), boundValues);
 
-        return new BoundStatementWrapper(bs, boundValues);
+        return new BoundStatementWrapper(bs, boundValues, true);
 
     }
 
@@ -99,7 +118,7 @@ public class CQLPreparedStatementBinder
             PropertyMeta pm, Object primaryKey)
     {
         Object[] boundValues = extractValuesForSimpleCounterBinding(entityMeta, pm, primaryKey);
-        BoundStatement bs = ps.bind(boundValues);
+        BoundStatement bs = bind(ps, entityMeta.getClassName(), boundValues);
         return new BoundStatementWrapper(bs, boundValues);
     }
 
@@ -107,8 +126,8 @@ public class CQLPreparedStatementBinder
             PropertyMeta pm, Object primaryKey)
     {
         Object[] boundValues = extractValuesForSimpleCounterBinding(entityMeta, pm, primaryKey);
-        BoundStatement bs = ps.bind(boundValues);
-        return new BoundStatementWrapper(bs, boundValues);
+        BoundStatement bs = bind(ps, entityMeta.getClassName(), boundValues);
+        return new BoundStatementWrapper(bs, boundValues, true);
     }
 
     public BoundStatementWrapper bindForClusteredCounterIncrementDecrement(PreparedStatement ps,
@@ -117,9 +136,9 @@ public class CQLPreparedStatementBinder
         List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
         Object[] keys = ArrayUtils.add(primarykeys.toArray(new Object[primarykeys.size()]), 0, increment);
 
-        BoundStatement bs = ps.bind(keys);
+        BoundStatement bs = bind(ps, primarykeys.get(0), keys);
 
-        return new BoundStatementWrapper(bs, keys);
+        return new BoundStatementWrapper(bs, keys, true);
     }
 
     public BoundStatementWrapper bindForClusteredCounterSelect(PreparedStatement ps, EntityMeta entityMeta,
@@ -128,7 +147,7 @@ public class CQLPreparedStatementBinder
         List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
         Object[] boundValues = primarykeys.toArray(new Object[primarykeys.size()]);
 
-        BoundStatement bs = ps.bind(boundValues);
+        BoundStatement bs = bind(ps, primarykeys.get(0), boundValues);
 
         return new BoundStatementWrapper(bs, boundValues);
     }
@@ -138,11 +157,34 @@ public class CQLPreparedStatementBinder
     {
         List<Object> primarykeys = bindPrimaryKey(primaryKey, entityMeta.getIdMeta());
         Object[] boundValues = primarykeys.toArray(new Object[primarykeys.size()]);
-        BoundStatement bs = ps.bind(boundValues);
+        BoundStatement bs = bind(ps, primarykeys.get(0), boundValues);
+
+        return new BoundStatementWrapper(bs, boundValues, true);
+    }
+
+    private BoundStatementWrapper bindWithPrimaryKey(PreparedStatement ps, EntityMeta entityMeta,
+            List<Object> values, Object entity)
+    {
+        PropertyMeta idMeta = entityMeta.getIdMeta();
+        Object primaryKey = invoker.getPrimaryKey(entity, idMeta);
+        List<Object> primaryKeyValues = bindPrimaryKey(primaryKey, idMeta);
+        values.addAll(primaryKeyValues);
+
+        Object[] boundValues = new Object[values.size()];
+        BoundStatement bs = bind(ps, primaryKeyValues.get(0), values.toArray(boundValues));
 
         return new BoundStatementWrapper(bs, boundValues);
     }
 
+    /**
+     * The partition key is the first column of the PRIMARY KEY, i.e. the id, the first component of the @EmbeddedId
+     * or the entity class name for the simple counter table
+     */
+    private BoundStatement bind(PreparedStatement ps, Object partitionKey, Object[] boundValues)
+    {
+        return statementFactory.bind(ps, partitionKey, boundValues);
+    }
+
     private List<Object> bindPrimaryKey(Object primaryKey, PropertyMeta idMeta)
     {
         List<Object> values = new ArrayList<Object>();
@@ -9,6 +9,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
+import com.google.common.base.Joiner;
 import com.google.common.collect.FluentIterable;
 
 /**
@@ -119,6 +121,27 @@ public class CQLPreparedStatementGenerator
         return session.prepare(statement.getQueryString());
     }
 
+    public PreparedStatement prepareCollectionAddition(Session session, EntityMeta entityMeta,
+            PropertyMeta pm)
+    {
+        return session.prepare(prepareCollectionUpdate(entityMeta, pm, "+"));
+    }
+
+    public PreparedStatement prepareCollectionRemoval(Session session, EntityMeta entityMeta,
+            PropertyMeta pm)
+    {
+        return session.prepare(prepareCollectionUpdate(entityMeta, pm, "-"));
+    }
+
+    public PreparedStatement prepareMapEntryRemoval(Session session, EntityMeta entityMeta,
+            PropertyMeta pm)
+    {
+        Delete delete = QueryBuilder.delete().mapElt(pm.getPropertyName(), bindMarker())
+                .from(entityMeta.getTableName());
+        Statement statement = prepareWhereClauseForDelete(entityMeta.getIdMeta(), delete);
+        return session.prepare(statement.getQueryString());
+    }
+
     public PreparedStatement prepareSelectEagerPS(Session session, EntityMeta entityMeta)
     {
         PropertyMeta idMeta = entityMeta.getIdMeta();
@@ -262,6 +285,24 @@ public class CQLPreparedStatementGenerator
         return statement;
     }
 
+    /**
+     * The QueryBuilder cannot bind a whole collection in a "col = col + ?" assignment, so the query is written by
+     * hand
+     */
+    private String prepareCollectionUpdate(EntityMeta entityMeta, PropertyMeta pm, String operator)
+    {
+        PropertyMeta idMeta = entityMeta.getIdMeta();
+        String propertyName = pm.getPropertyName();
+        List<String> idNames = idMeta.isEmbeddedId() ? idMeta.getComponentNames() : Arrays.asList(idMeta
+                .getPropertyName());
+
+        StringBuilder update = new StringBuilder();
+        update.append("UPDATE ").append(entityMeta.getTableName()).append(" ");
+        update.append("SET ").append(propertyName).append("=").append(propertyName).append(operator).append("? ");
+        update.append("WHERE ").append(Joiner.on("=? AND ").join(idNames)).append("=?;");
+        return update.toString();
+    }
+
     private Statement prepareWhereClauseForUpdate(PropertyMeta idMeta, Assignments update)
     {
         Statement statement;
@@ -0,0 +1,40 @@
+package info.archinnov.achilles.statement.prepared;
+
+import static info.archinnov.achilles.cql.CQLTypeMapper.toDataType;
+import java.nio.ByteBuffer;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+/**
+ * CQLRoutedStatementFactory
+ * 
+ * Bind values to a prepared statement, attaching the serialized partition key as routing key
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLRoutedStatementFactory
+{
+    public BoundStatement bind(PreparedStatement ps, Object partitionKey, Object[] boundValues)
+    {
+        return new RoutedBoundStatement(ps, serializeRoutingKey(partitionKey)).bind(boundValues);
+    }
+
+    public ByteBuffer serializeRoutingKey(Object partitionKey)
+    {
+        if (partitionKey == null)
+        {
+            return null;
+        }
+        try
+        {
+            return toDataType(partitionKey.getClass()).serialize(partitionKey);
+        }
+        catch (InvalidTypeException e)
+        {
+            // No routing key, the request is sent to any coordinator
+            return null;
+        }
+    }
+}
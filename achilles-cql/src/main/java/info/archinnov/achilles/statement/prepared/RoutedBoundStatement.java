@@ -0,0 +1,30 @@
+package info.archinnov.achilles.statement.prepared;
+
+import java.nio.ByteBuffer;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+
+/**
+ * RoutedBoundStatement
+ * 
+ * BoundStatement carrying the serialized partition key computed by Achilles, so that a token aware load balancing
+ * policy sends the request directly to a replica of the partition
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class RoutedBoundStatement extends BoundStatement
+{
+    private final ByteBuffer routingKey;
+
+    public RoutedBoundStatement(PreparedStatement statement, ByteBuffer routingKey) {
+        super(statement);
+        this.routingKey = routingKey;
+    }
+
+    @Override
+    public ByteBuffer getRoutingKey()
+    {
+        return routingKey != null ? routingKey : super.getRoutingKey();
+    }
+}
@@ -0,0 +1,24 @@
+package info.archinnov.achilles.type;
+
+/**
+ * CQLBatchType
+ * 
+ * Define how a CQLBatchingEntityManager sends its pending statements at the end of a batch
+ * 
+ * <ul>
+ * <li>SEQUENTIAL: each statement is executed on its own, one after the other (default)</li>
+ * <li>LOGGED: statements are packed into atomic BEGIN BATCH ... APPLY BATCH queries</li>
+ * <li>UNLOGGED: statements are grouped by partition key and packed into BEGIN UNLOGGED BATCH queries</li>
+ * </ul>
+ * 
+ * Counter statements are always sent in BEGIN COUNTER BATCH queries for LOGGED and UNLOGGED types
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public enum CQLBatchType
+{
+    SEQUENTIAL,
+    LOGGED,
+    UNLOGGED;
+}
@@ -4,6 +4,7 @@ import static info.archinnov.achilles.configuration.CQLConfigurationParameters.*
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.CQLBatchType;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Rule;
@@ -12,12 +13,16 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ProtocolOptions.Compression;
 import com.datastax.driver.core.SSLOptions;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
 import com.datastax.driver.core.policies.Policies;
+import com.datastax.driver.core.policies.RoundRobinPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
 
 /**
  * CQLArgumentExtractorTest
@@ -117,4 +122,151 @@ public class CQLArgumentExtractorTest
         extractor.initSession(cluster, params);
 
     }
+
+    @Test
+    public void should_init_default_batch_type() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+
+        assertThat(extractor.initBatchType(params)).isSameAs(CQLBatchType.SEQUENTIAL);
+    }
+
+    @Test
+    public void should_init_batch_type() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put(BATCH_TYPE, CQLBatchType.UNLOGGED);
+
+        assertThat(extractor.initBatchType(params)).isSameAs(CQLBatchType.UNLOGGED);
+    }
+
+    @Test
+    public void should_init_batch_max_statements() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initBatchMaxStatements(params)).isEqualTo(DEFAULT_BATCH_MAX_STATEMENTS);
+
+        params.put(BATCH_MAX_STATEMENTS, 20);
+        assertThat(extractor.initBatchMaxStatements(params)).isEqualTo(20);
+    }
+
+    @Test
+    public void should_exception_when_batch_max_statements_not_positive() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put(BATCH_MAX_STATEMENTS, 0);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage(BATCH_MAX_STATEMENTS + " property should be strictly positive");
+
+        extractor.initBatchMaxStatements(params);
+    }
+
+    @Test
+    public void should_init_flush_max_in_flight() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initFlushMaxInFlight(params)).isEqualTo(DEFAULT_FLUSH_MAX_IN_FLIGHT);
+
+        params.put(FLUSH_MAX_IN_FLIGHT, 5);
+        assertThat(extractor.initFlushMaxInFlight(params)).isEqualTo(5);
+    }
+
+    @Test
+    public void should_init_scan_parallelism() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initScanParallelism(params)).isEqualTo(DEFAULT_SCAN_PARALLELISM);
+
+        params.put(SCAN_PARALLELISM, 16);
+        assertThat(extractor.initScanParallelism(params)).isEqualTo(16);
+    }
+
+    @Test
+    public void should_init_scan_page_size() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initScanPageSize(params)).isEqualTo(DEFAULT_SCAN_PAGE_SIZE);
+
+        params.put(SCAN_PAGE_SIZE, 500);
+        assertThat(extractor.initScanPageSize(params)).isEqualTo(500);
+    }
+
+    @Test
+    public void should_exception_when_scan_page_size_not_positive() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put(SCAN_PAGE_SIZE, -1);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage(SCAN_PAGE_SIZE + " property should be strictly positive");
+
+        extractor.initScanPageSize(params);
+    }
+
+    @Test
+    public void should_init_prepared_statements_lazy() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initPreparedStatementsLazy(params)).isFalse();
+
+        params.put(PREPARED_STATEMENTS_LAZY, true);
+        assertThat(extractor.initPreparedStatementsLazy(params)).isTrue();
+    }
+
+    @Test
+    public void should_init_prepared_statements_parallelism() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        assertThat(extractor.initPreparedStatementsParallelism(params)).isEqualTo(
+                DEFAULT_PREPARED_STATEMENTS_PARALLELISM);
+
+        params.put(PREPARED_STATEMENTS_PARALLELISM, 2);
+        assertThat(extractor.initPreparedStatementsParallelism(params)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_exception_when_prepared_statements_parallelism_not_positive() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put(PREPARED_STATEMENTS_PARALLELISM, 0);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage(PREPARED_STATEMENTS_PARALLELISM + " property should be strictly positive");
+
+        extractor.initPreparedStatementsParallelism(params);
+    }
+
+    @Test
+    public void should_init_default_load_balancing_policy() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+
+        assertThat(extractor.initLoadBalancingPolicy(params)).isNotInstanceOf(TokenAwarePolicy.class);
+    }
+
+    @Test
+    public void should_wrap_load_balancing_policy_for_token_aware_routing() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        LoadBalancingPolicy childPolicy = new RoundRobinPolicy();
+        params.put(LOAD_BALANCING_POLICY, childPolicy);
+        params.put(TOKEN_AWARE_ROUTING, true);
+
+        LoadBalancingPolicy actual = extractor.initLoadBalancingPolicy(params);
+
+        assertThat(actual).isInstanceOf(TokenAwarePolicy.class);
+        assertThat(Whitebox.getInternalState(actual, "childPolicy")).isSameAs(childPolicy);
+    }
+
+    @Test
+    public void should_not_wrap_token_aware_policy_twice() throws Exception
+    {
+        Map<String, Object> params = new HashMap<String, Object>();
+        LoadBalancingPolicy tokenAwarePolicy = new TokenAwarePolicy(new RoundRobinPolicy());
+        params.put(LOAD_BALANCING_POLICY, tokenAwarePolicy);
+        params.put(TOKEN_AWARE_ROUTING, true);
+
+        assertThat(extractor.initLoadBalancingPolicy(params)).isSameAs(tokenAwarePolicy);
+    }
 }
@@ -2,14 +2,29 @@ package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.FlushContext.FlushType;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
+import java.nio.ByteBuffer;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Query;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Batch;
 
 /**
  * CQLBatchingFlushContextTest
@@ -31,10 +46,22 @@ public class CQLBatchingFlushContextTest {
     @Mock
     private Query query;
 
+    @Mock
+    private ResultSetFuture future;
+
+    @Captor
+    private ArgumentCaptor<List<BoundStatementWrapper>> wrappersCaptor;
+
+    @Captor
+    private ArgumentCaptor<Batch> batchCaptor;
+
     @Before
     public void setUp()
     {
         context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM);
+        when(daoContext.getFlushMaxInFlight()).thenReturn(2);
+        when(daoContext.executeAsync(any(Query.class), (Object[]) anyVararg())).thenReturn(future);
+        when(daoContext.executeBatchAsync(any(CQLBatchType.class), any(List.class))).thenReturn(future);
     }
 
     @Test
@@ -61,6 +88,7 @@ public class CQLBatchingFlushContextTest {
     @Test
     public void should_end_batch() throws Exception
     {
+        when(bsWrapper.getBs()).thenReturn(mock(BoundStatement.class));
         context.boundStatementWrappers.add(bsWrapper);
 
         context.endBatch();
@@ -85,4 +113,169 @@ public class CQLBatchingFlushContextTest {
         assertThat(duplicate.boundStatementWrappers).containsOnly(bsWrapper);
         assertThat(duplicate.consistencyLevel).isSameAs(EACH_QUORUM);
     }
+
+    @Test
+    public void should_duplicate_with_batch_type() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, EACH_QUORUM, CQLBatchType.UNLOGGED, 10);
+
+        CQLBatchingFlushContext duplicate = context.duplicate();
+
+        assertThat(duplicate).isInstanceOf(CQLBatchingFlushContext.class);
+        assertThat((CQLBatchType) Whitebox.getInternalState(duplicate, "batchType"))
+                .isSameAs(CQLBatchType.UNLOGGED);
+        assertThat((Integer) Whitebox.getInternalState(duplicate, "batchMaxStatements"))
+                .isEqualTo(10);
+    }
+
+    @Test
+    public void should_end_logged_batch_with_chunks_of_max_statements() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.LOGGED, 2);
+        BoundStatementWrapper wrapper1 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 1 }),
+                false);
+        BoundStatementWrapper wrapper2 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 2 }),
+                false);
+        BoundStatementWrapper wrapper3 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 3 }),
+                false);
+        context.boundStatementWrappers.add(wrapper1);
+        context.boundStatementWrappers.add(wrapper2);
+        context.boundStatementWrappers.add(wrapper3);
+
+        context.endBatch();
+
+        verify(daoContext).executeBatchAsync(eq(CQLBatchType.LOGGED), wrappersCaptor.capture());
+        verify(daoContext).executeAsync(wrapper3.getBs(), wrapper3.getValues());
+        assertThat(wrappersCaptor.getValue()).containsExactly(wrapper1, wrapper2);
+        assertThat(context.boundStatementWrappers).isEmpty();
+    }
+
+    @Test
+    public void should_not_mix_counter_and_consistency_levels_in_batch() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.LOGGED, 100);
+        BoundStatementWrapper wrapper1 = buildWrapper(ConsistencyLevel.ONE, routingKey(1), false);
+        BoundStatementWrapper counter1 = buildWrapper(ConsistencyLevel.ONE, routingKey(2), true);
+        BoundStatementWrapper wrapper2 = buildWrapper(ConsistencyLevel.QUORUM, routingKey(3), false);
+        BoundStatementWrapper wrapper3 = buildWrapper(ConsistencyLevel.ONE, routingKey(4), false);
+        BoundStatementWrapper counter2 = buildWrapper(ConsistencyLevel.ONE, routingKey(5), true);
+        context.boundStatementWrappers.add(wrapper1);
+        context.boundStatementWrappers.add(counter1);
+        context.boundStatementWrappers.add(wrapper2);
+        context.boundStatementWrappers.add(wrapper3);
+        context.boundStatementWrappers.add(counter2);
+
+        context.endBatch();
+
+        verify(daoContext, times(2)).executeBatchAsync(eq(CQLBatchType.LOGGED), wrappersCaptor.capture());
+        verify(daoContext).executeAsync(wrapper2.getBs(), wrapper2.getValues());
+        assertThat(wrappersCaptor.getAllValues().get(0)).containsExactly(wrapper1, wrapper3);
+        assertThat(wrappersCaptor.getAllValues().get(1)).containsExactly(counter1, counter2);
+    }
+
+    @Test
+    public void should_group_unlogged_batch_by_partition_key() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.UNLOGGED, 100);
+        BoundStatementWrapper wrapper1 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 1 }),
+                false);
+        BoundStatementWrapper wrapper2 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 2 }),
+                false);
+        BoundStatementWrapper wrapper3 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 1 }),
+                false);
+        BoundStatementWrapper wrapper4 = buildWrapper(ConsistencyLevel.ONE, ByteBuffer.wrap(new byte[] { 2 }),
+                false);
+        context.boundStatementWrappers.add(wrapper1);
+        context.boundStatementWrappers.add(wrapper2);
+        context.boundStatementWrappers.add(wrapper3);
+        context.boundStatementWrappers.add(wrapper4);
+
+        context.endBatch();
+
+        verify(daoContext, times(2)).executeBatchAsync(eq(CQLBatchType.UNLOGGED), wrappersCaptor.capture());
+        assertThat(wrappersCaptor.getAllValues().get(0)).containsExactly(wrapper1, wrapper3);
+        assertThat(wrappersCaptor.getAllValues().get(1)).containsExactly(wrapper2, wrapper4);
+    }
+
+    @Test
+    public void should_end_batch_with_statements_in_batch() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.UNLOGGED, 100);
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        when(statement1.getQueryString()).thenReturn("INSERT INTO table(id) VALUES (1) USING TTL 10;");
+        when(statement2.getQueryString()).thenReturn("INSERT INTO table(id) VALUES (2) USING TTL 10;");
+        when(statement1.getConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
+        when(statement2.getConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
+        context.statements.add(statement1);
+        context.statements.add(statement2);
+
+        context.endBatch();
+
+        verify(daoContext).executeAsync(batchCaptor.capture());
+        Batch batch = batchCaptor.getValue();
+        assertThat(batch.getQueryString()).startsWith("BEGIN UNLOGGED BATCH");
+        assertThat(batch.getConsistencyLevel()).isSameAs(ConsistencyLevel.ONE);
+        verify(daoContext, never()).executeBatchAsync(any(CQLBatchType.class), any(List.class));
+        assertThat(context.statements).isEmpty();
+    }
+
+    @Test
+    public void should_send_pending_batch_before_other_statement_on_same_partition() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.UNLOGGED, 100);
+        BoundStatementWrapper wrapper1 = buildWrapper(ConsistencyLevel.ONE, routingKey(1), false);
+        BoundStatementWrapper wrapper2 = buildWrapper(ConsistencyLevel.ONE, routingKey(1), false);
+        BoundStatementWrapper wrapper3 = buildWrapper(ConsistencyLevel.ONE, routingKey(1), false);
+        Statement statement = mock(Statement.class);
+        when(statement.getRoutingKey()).thenReturn(routingKey(1));
+        when(statement.getConsistencyLevel()).thenReturn(ConsistencyLevel.ONE);
+        context.pushBoundStatement(wrapper1, EACH_QUORUM);
+        context.pushBoundStatement(wrapper2, EACH_QUORUM);
+        context.pushStatement(statement, EACH_QUORUM);
+        context.pushBoundStatement(wrapper3, EACH_QUORUM);
+
+        context.endBatch();
+
+        InOrder inOrder = inOrder(daoContext);
+        inOrder.verify(daoContext).executeBatchAsync(eq(CQLBatchType.UNLOGGED), wrappersCaptor.capture());
+        inOrder.verify(daoContext).executeAsync(statement);
+        inOrder.verify(daoContext).executeAsync(wrapper3.getBs(), wrapper3.getValues());
+        assertThat(wrappersCaptor.getValue()).containsExactly(wrapper1, wrapper2);
+        assertThat(context.statementPositions).isEmpty();
+    }
+
+    @Test
+    public void should_keep_pushed_order_of_logged_statements_without_routing_key() throws Exception
+    {
+        context = new CQLBatchingFlushContext(daoContext, null, CQLBatchType.LOGGED, 100);
+        BoundStatementWrapper wrapper1 = buildWrapper(ConsistencyLevel.ONE, null, false);
+        BoundStatementWrapper counter = buildWrapper(ConsistencyLevel.ONE, null, true);
+        BoundStatementWrapper wrapper2 = buildWrapper(ConsistencyLevel.ONE, null, false);
+        context.boundStatementWrappers.add(wrapper1);
+        context.boundStatementWrappers.add(counter);
+        context.boundStatementWrappers.add(wrapper2);
+
+        context.endBatch();
+
+        InOrder inOrder = inOrder(daoContext);
+        inOrder.verify(daoContext).executeAsync(wrapper1.getBs(), wrapper1.getValues());
+        inOrder.verify(daoContext).executeAsync(counter.getBs(), counter.getValues());
+        inOrder.verify(daoContext).executeAsync(wrapper2.getBs(), wrapper2.getValues());
+        verify(daoContext, never()).executeBatchAsync(any(CQLBatchType.class), any(List.class));
+    }
+
+    private ByteBuffer routingKey(int key)
+    {
+        return ByteBuffer.wrap(new byte[] { (byte) key });
+    }
+
+    private BoundStatementWrapper buildWrapper(ConsistencyLevel consistencyLevel, ByteBuffer routingKey,
+            boolean counter)
+    {
+        BoundStatement bs = mock(BoundStatement.class);
+        when(bs.getConsistencyLevel()).thenReturn(consistencyLevel);
+        when(bs.getRoutingKey()).thenReturn(routingKey);
+        return new BoundStatementWrapper(bs, new Object[] {}, counter);
+    }
 }
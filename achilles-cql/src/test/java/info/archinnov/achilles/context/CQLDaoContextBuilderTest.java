@@ -1,11 +1,12 @@
 package info.archinnov.achilles.context;
 
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementGenerator;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
@@ -13,7 +14,9 @@ import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -34,6 +37,9 @@ import com.google.common.collect.ImmutableMap;
 @RunWith(MockitoJUnitRunner.class)
 public class CQLDaoContextBuilderTest
 {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
     @InjectMocks
     private CQLDaoContextBuilder builder;
 
@@ -100,8 +106,82 @@ public class CQLDaoContextBuilderTest
                 (Cache<StatementCacheKey, PreparedStatement>) Whitebox.getInternalState(actual,
                         "dynamicPSCache")).isInstanceOf(Cache.class);
 
+        assertThat(
+                (Cache<String, PreparedStatement>) Whitebox.getInternalState(actual,
+                        "queryPSCache")).isInstanceOf(Cache.class);
+
+        assertThat(
+                (Cache<String, PreparedStatement>) Whitebox.getInternalState(actual,
+                        "batchPSCache")).isInstanceOf(Cache.class);
+
         assertThat(
                 (Map<CQLQueryType, PreparedStatement>) Whitebox.getInternalState(actual,
                         "counterQueryMap")).isSameAs(counterQueryMap);
     }
+
+    @Test
+    public void should_prepare_statements_of_all_entities_concurrently() throws Exception
+    {
+        Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+        EntityMeta meta = new EntityMeta();
+        EntityMeta otherMeta = new EntityMeta();
+        entityMetaMap.put(CompleteBean.class, meta);
+        entityMetaMap.put(String.class, otherMeta);
+
+        PreparedStatement otherInsertPS = mock(PreparedStatement.class);
+        when(queryGenerator.prepareInsertPS(session, meta)).thenReturn(insertPS);
+        when(queryGenerator.prepareInsertPS(session, otherMeta)).thenReturn(otherInsertPS);
+
+        AchillesExecutor executor = new AchillesExecutor(2);
+        CQLDaoContext actual;
+        try
+        {
+            actual = builder.preparationParallelism(2).executor(executor).build(entityMetaMap, false);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        Map<Class<?>, PreparedStatement> insertPSs = Whitebox.getInternalState(actual, "insertPSs");
+        assertThat(insertPSs).hasSize(2);
+        assertThat(insertPSs.get(CompleteBean.class)).isSameAs(insertPS);
+        assertThat(insertPSs.get(String.class)).isSameAs(otherInsertPS);
+    }
+
+    @Test
+    public void should_propagate_preparation_failure() throws Exception
+    {
+        Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+        EntityMeta meta = new EntityMeta();
+        entityMetaMap.put(CompleteBean.class, meta);
+
+        when(queryGenerator.prepareInsertPS(session, meta)).thenThrow(new AchillesException("test"));
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("test");
+
+        builder.executor(new AchillesExecutor(1)).build(entityMetaMap, false);
+    }
+
+    @Test
+    public void should_prepare_statements_lazily() throws Exception
+    {
+        Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+        EntityMeta meta = new EntityMeta();
+        entityMetaMap.put(CompleteBean.class, meta);
+
+        when(queryGenerator.prepareSelectEagerPS(session, meta)).thenReturn(selectEagerPS);
+
+        CQLDaoContext actual = builder.lazyPreparation(true).build(entityMetaMap, false);
+
+        verifyZeroInteractions(queryGenerator);
+
+        Map<Class<?>, PreparedStatement> selectEagerPSs = Whitebox.getInternalState(actual, "selectEagerPSs");
+        assertThat(selectEagerPSs.get(CompleteBean.class)).isSameAs(selectEagerPS);
+        assertThat(selectEagerPSs.get(CompleteBean.class)).isSameAs(selectEagerPS);
+
+        verify(queryGenerator, times(1)).prepareSelectEagerPS(session, meta);
+        verify(queryGenerator, never()).prepareInsertPS(session, meta);
+    }
 }
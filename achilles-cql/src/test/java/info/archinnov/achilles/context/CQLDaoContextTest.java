@@ -4,17 +4,22 @@ import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.counter.AchillesCounter.CQLQueryType;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.statement.CQLStatementGenerator;
 import info.archinnov.achilles.statement.cache.CacheManager;
+import info.archinnov.achilles.statement.cache.CacheType;
 import info.archinnov.achilles.statement.cache.StatementCacheKey;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.statement.prepared.CQLPreparedStatementBinder;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.CQLBatchType;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -36,6 +41,7 @@ import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -46,6 +52,7 @@ import com.datastax.driver.core.querybuilder.Update.Assignments;
 import com.datastax.driver.core.querybuilder.Using;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
@@ -127,13 +134,19 @@ public class CQLDaoContextTest
 
     private Object[] boundValues = new Object[1];
 
+    private Cache<String, PreparedStatement> queryPSCache = CacheBuilder.newBuilder().build();
+
+    private Cache<String, PreparedStatement> batchPSCache = CacheBuilder.newBuilder().build();
+
     @Before
     public void setUp()
     {
         Whitebox.setInternalState(daoContext, CQLPreparedStatementBinder.class, binder);
         Whitebox.setInternalState(daoContext, CacheManager.class, cacheManager);
         Whitebox.setInternalState(daoContext, "insertPSs", insertPSs);
-        Whitebox.setInternalState(daoContext, Cache.class, dynamicPSCache);
+        Whitebox.setInternalState(daoContext, "dynamicPSCache", dynamicPSCache);
+        Whitebox.setInternalState(daoContext, "queryPSCache", queryPSCache);
+        Whitebox.setInternalState(daoContext, "batchPSCache", batchPSCache);
         Whitebox.setInternalState(daoContext, "selectEagerPSs", selectEagerPSs);
         Whitebox.setInternalState(daoContext, "removePSs", removePSs);
         Whitebox.setInternalState(daoContext, "counterQueryMap", counterQueryMap);
@@ -172,6 +185,19 @@ public class CQLDaoContextTest
         verify(context).pushBoundStatement(bsWrapper, ALL);
     }
 
+    @Test
+    public void should_bind_for_bulk_insert_with_entity_write_level() throws Exception
+    {
+        entityMeta.setConsistencyLevels(Pair.create(ONE, ALL));
+        when(insertPSs.get(CompleteBean.class)).thenReturn(ps);
+        when(binder.bindForInsert(ps, entityMeta, entity)).thenReturn(bsWrapper);
+
+        BoundStatementWrapper actual = daoContext.bindForBulkInsert(entityMeta, entity);
+
+        assertThat(actual).isSameAs(bsWrapper);
+        verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.ALL);
+    }
+
     @Test
     public void should_push_insert_with_ttl() throws Exception
     {
@@ -259,6 +285,79 @@ public class CQLDaoContextTest
 
     }
 
+    @Test
+    public void should_push_collection_delta_statements() throws Exception
+    {
+        PropertyMeta followersMeta = PropertyMetaTestBuilder
+                .valueClass(String.class)
+                .field("followers")
+                .type(PropertyType.SET)
+                .build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.addElements(Arrays.asList("Paul"));
+        delta.removeElements(Arrays.asList("George"));
+
+        PreparedStatement additionPS = mock(PreparedStatement.class);
+        PreparedStatement removalPS = mock(PreparedStatement.class);
+        BoundStatementWrapper additionWrapper = mock(BoundStatementWrapper.class);
+        BoundStatementWrapper removalWrapper = mock(BoundStatementWrapper.class);
+
+        when(cacheManager.getCacheForCollectionDelta(session, dynamicPSCache, context, followersMeta,
+                CacheType.ADD_TO_COLLECTION)).thenReturn(additionPS);
+        when(cacheManager.getCacheForCollectionDelta(session, dynamicPSCache, context, followersMeta,
+                CacheType.REMOVE_FROM_COLLECTION)).thenReturn(removalPS);
+        when(binder.bindForCollectionDelta(additionPS, entityMeta, followersMeta, delta.getAddedElements(),
+                entity)).thenReturn(additionWrapper);
+        when(binder.bindForCollectionDelta(removalPS, entityMeta, followersMeta, delta.getRemovedElements(),
+                entity)).thenReturn(removalWrapper);
+        when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+
+        daoContext.pushCollectionDeltaStatements(context, followersMeta, delta);
+
+        verify(context).pushBoundStatement(additionWrapper, EACH_QUORUM);
+        verify(context).pushBoundStatement(removalWrapper, EACH_QUORUM);
+        verify(context, times(2)).pushBoundStatement(any(BoundStatementWrapper.class), eq(EACH_QUORUM));
+    }
+
+    @Test
+    public void should_push_map_delta_statements() throws Exception
+    {
+        PropertyMeta preferencesMeta = PropertyMetaTestBuilder
+                .keyValueClass(Integer.class, String.class)
+                .field("preferences")
+                .type(PropertyType.MAP)
+                .build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.putEntries(ImmutableMap.of(1, "FR"));
+        delta.removeKeys(Arrays.asList(2, 3));
+
+        PreparedStatement additionPS = mock(PreparedStatement.class);
+        PreparedStatement removalPS = mock(PreparedStatement.class);
+        BoundStatementWrapper additionWrapper = mock(BoundStatementWrapper.class);
+        BoundStatementWrapper removalWrapper2 = mock(BoundStatementWrapper.class);
+        BoundStatementWrapper removalWrapper3 = mock(BoundStatementWrapper.class);
+
+        when(cacheManager.getCacheForCollectionDelta(session, dynamicPSCache, context, preferencesMeta,
+                CacheType.ADD_TO_COLLECTION)).thenReturn(additionPS);
+        when(cacheManager.getCacheForCollectionDelta(session, dynamicPSCache, context, preferencesMeta,
+                CacheType.REMOVE_MAP_ENTRY)).thenReturn(removalPS);
+        when(binder.bindForCollectionDelta(additionPS, entityMeta, preferencesMeta, delta.getPutEntries(),
+                entity)).thenReturn(additionWrapper);
+        when(binder.bindForMapEntryRemoval(removalPS, entityMeta, preferencesMeta, 2, entity)).thenReturn(
+                removalWrapper2);
+        when(binder.bindForMapEntryRemoval(removalPS, entityMeta, preferencesMeta, 3, entity)).thenReturn(
+                removalWrapper3);
+        when(context.getConsistencyLevel()).thenReturn(Optional.<ConsistencyLevel> fromNullable(null));
+
+        daoContext.pushCollectionDeltaStatements(context, preferencesMeta, delta);
+
+        verify(context).pushBoundStatement(additionWrapper, EACH_QUORUM);
+        verify(context).pushBoundStatement(removalWrapper2, EACH_QUORUM);
+        verify(context).pushBoundStatement(removalWrapper3, EACH_QUORUM);
+    }
+
     @Test
     public void should_push_update_with_ttl() throws Exception
     {
@@ -476,6 +575,78 @@ public class CQLDaoContextTest
         assertThat(actual).isSameAs(resultSet);
     }
 
+    @Test
+    public void should_execute_query_string_without_preparing() throws Exception
+    {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(session.execute(any(SimpleStatement.class))).thenReturn(resultSet);
+
+        ResultSet actual = daoContext.executeQuery("select * from table");
+
+        assertThat(actual).isSameAs(resultSet);
+        verify(session, never()).prepare(anyString());
+    }
+
+    @Test
+    public void should_prepare_once_and_execute_query_string_with_bound_values() throws Exception
+    {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(session.prepare("select * from table where id=?")).thenReturn(ps);
+        when(ps.bind(10L)).thenReturn(bs);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.execute(bs)).thenReturn(resultSet);
+
+        daoContext.executeQuery(" select * from table where id=? ", 10L);
+        ResultSet actual = daoContext.executeQuery("select * from table where id=?", 10L);
+
+        assertThat(actual).isSameAs(resultSet);
+        verify(session, times(1)).prepare("select * from table where id=?");
+    }
+
+    @Test
+    public void should_execute_query_async() throws Exception
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        when(session.executeAsync(bs)).thenReturn(future);
+        when(bs.preparedStatement()).thenReturn(ps);
+
+        ResultSetFuture actual = daoContext.executeAsync(bs, boundValues);
+
+        assertThat(actual).isSameAs(future);
+    }
+
+    @Test
+    public void should_execute_scan_page_async_with_read_level() throws Exception
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        entityMeta.setConsistencyLevels(Pair.create(ONE, ALL));
+        when(session.prepare("scan")).thenReturn(ps);
+        when(ps.bind(-10L, 10L)).thenReturn(bs);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.executeAsync(bs)).thenReturn(future);
+
+        ResultSetFuture actual = daoContext.executeScanAsync(entityMeta, "scan", -10L, 10L);
+
+        assertThat(actual).isSameAs(future);
+        verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.ONE);
+    }
+
+    @Test
+    public void should_read_partitioner_once() throws Exception
+    {
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = mock(Row.class);
+        when(session.execute("SELECT partitioner FROM system.local WHERE key='local'")).thenReturn(resultSet);
+        when(resultSet.one()).thenReturn(row);
+        when(row.getString("partitioner")).thenReturn("org.apache.cassandra.dht.Murmur3Partitioner");
+
+        daoContext.getPartitioner();
+        String actual = daoContext.getPartitioner();
+
+        assertThat(actual).isEqualTo("org.apache.cassandra.dht.Murmur3Partitioner");
+        verify(session, times(1)).execute("SELECT partitioner FROM system.local WHERE key='local'");
+    }
+
     // Simple counter
     @Test
     public void should_bind_simple_counter_increment() throws Exception
@@ -646,6 +817,66 @@ public class CQLDaoContextTest
         verify(context).pushBoundStatement(bsWrapper, LOCAL_QUORUM);
     }
 
+    @Test
+    public void should_coalesce_simple_counter_increment() throws Exception
+    {
+        CQLCounterCoalescer counterCoalescer = mock(CQLCounterCoalescer.class);
+        daoContext.setCounterCoalescer(counterCoalescer);
+        PropertyMeta pm = PropertyMetaTestBuilder
+                .valueClass(String.class)
+                .field("name")
+                .build();
+
+        daoContext.incrementSimpleCounter(context, entityMeta, pm, 3L, EACH_QUORUM);
+        daoContext.decrementSimpleCounter(context, entityMeta, pm, 2L, EACH_QUORUM);
+
+        verify(counterCoalescer).add(entityMeta, pm, entity.getId(), EACH_QUORUM, 3L);
+        verify(counterCoalescer).add(entityMeta, pm, entity.getId(), EACH_QUORUM, -2L);
+        verifyZeroInteractions(binder);
+        verify(context, never()).executeImmediateWithConsistency(any(BoundStatementWrapper.class),
+                any(ConsistencyLevel.class));
+    }
+
+    @Test
+    public void should_increment_simple_counter_async() throws Exception
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        PropertyMeta pm = PropertyMetaTestBuilder
+                .valueClass(String.class)
+                .field("name")
+                .build();
+        when(counterQueryMap.get(CQLQueryType.INCR)).thenReturn(ps);
+        when(binder.bindForSimpleCounterIncrementDecrement(ps, entityMeta, pm, 10L, -5L)).thenReturn(bsWrapper);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.executeAsync(bs)).thenReturn(future);
+
+        ResultSetFuture actual = daoContext.incrementCounterAsync(entityMeta, pm, 10L, -5L, EACH_QUORUM);
+
+        assertThat(actual).isSameAs(future);
+        verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.EACH_QUORUM);
+    }
+
+    @Test
+    public void should_increment_clustered_counter_async() throws Exception
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        entityMeta.setClusteredCounter(true);
+        PropertyMeta counterMeta = PropertyMetaTestBuilder
+                .valueClass(Long.class)
+                .field("count")
+                .build();
+        clusteredCounterQueryMap.put(CompleteBean.class, ImmutableMap.of(CQLQueryType.INCR, ps));
+        when(binder.bindForClusteredCounterIncrementDecrement(ps, entityMeta, counterMeta, 10L, 5L)).thenReturn(
+                bsWrapper);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.executeAsync(bs)).thenReturn(future);
+
+        ResultSetFuture actual = daoContext.incrementCounterAsync(entityMeta, counterMeta, 10L, 5L, ONE);
+
+        assertThat(actual).isSameAs(future);
+        verify(bs).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.ONE);
+    }
+
     @Test
     public void should_increment_clustered_counter() throws Exception
     {
@@ -759,4 +990,68 @@ public class CQLDaoContextTest
 
         assertThat(daoContext.bindAndExecute(ps, 11L, "a")).isSameAs(rs);
     }
+
+    @Test
+    public void should_bind_and_execute_prepared_statement_async() throws Exception
+    {
+        ResultSetFuture futureRs = mock(ResultSetFuture.class);
+        when(ps.bind(11L, "a")).thenReturn(bs);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.executeAsync(bs)).thenReturn(futureRs);
+
+        assertThat(daoContext.bindAndExecuteAsync(ps, 11L, "a")).isSameAs(futureRs);
+    }
+
+    @Test
+    public void should_prepare_and_execute_batch() throws Exception
+    {
+        PreparedStatement insertPS = mock(PreparedStatement.class);
+        PreparedStatement updatePS = mock(PreparedStatement.class);
+        BoundStatement insertBS = mock(BoundStatement.class);
+        BoundStatement updateBS = mock(BoundStatement.class);
+        when(insertPS.getQueryString()).thenReturn("INSERT INTO table(id,name) VALUES (?,?);");
+        when(updatePS.getQueryString()).thenReturn("UPDATE table SET name=? WHERE id=?");
+        when(insertBS.preparedStatement()).thenReturn(insertPS);
+        when(updateBS.preparedStatement()).thenReturn(updatePS);
+        when(insertBS.getConsistencyLevel()).thenReturn(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+
+        BoundStatementWrapper insertWrapper = new BoundStatementWrapper(insertBS, new Object[] { 10L, "a" });
+        BoundStatementWrapper updateWrapper = new BoundStatementWrapper(updateBS, new Object[] { "b", 11L });
+
+        String batchQuery = "BEGIN UNLOGGED BATCH INSERT INTO table(id,name) VALUES (?,?); UPDATE table SET name=? WHERE id=?; APPLY BATCH";
+        ResultSet rs = mock(ResultSet.class);
+        when(session.prepare(batchQuery)).thenReturn(ps);
+        when(ps.bind(10L, "a", "b", 11L)).thenReturn(bs);
+        when(bs.preparedStatement()).thenReturn(ps);
+        when(session.execute(bs)).thenReturn(rs);
+
+        ResultSet actual = daoContext.executeBatch(CQLBatchType.UNLOGGED, Arrays.asList(insertWrapper, updateWrapper));
+        daoContext.executeBatch(CQLBatchType.UNLOGGED, Arrays.asList(insertWrapper, updateWrapper));
+
+        assertThat(actual).isSameAs(rs);
+        verify(bs, times(2)).setConsistencyLevel(com.datastax.driver.core.ConsistencyLevel.QUORUM);
+        verify(session, times(1)).prepare(batchQuery);
+        assertThat(batchPSCache.getIfPresent(batchQuery)).isSameAs(ps);
+        assertThat(queryPSCache.size()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_prepare_counter_batch() throws Exception
+    {
+        PreparedStatement incrPS = mock(PreparedStatement.class);
+        BoundStatement incrBS = mock(BoundStatement.class);
+        when(incrPS.getQueryString()).thenReturn("UPDATE counter SET value=value+? WHERE id=?");
+        when(incrBS.preparedStatement()).thenReturn(incrPS);
+
+        BoundStatementWrapper incrWrapper = new BoundStatementWrapper(incrBS, new Object[] { 1L, 10L }, true);
+
+        String batchQuery = "BEGIN COUNTER BATCH UPDATE counter SET value=value+? WHERE id=?; UPDATE counter SET value=value+? WHERE id=?; APPLY BATCH";
+        when(session.prepare(batchQuery)).thenReturn(ps);
+        when(ps.bind(1L, 10L, 1L, 10L)).thenReturn(bs);
+        when(bs.preparedStatement()).thenReturn(ps);
+
+        daoContext.executeBatchAsync(CQLBatchType.LOGGED, Arrays.asList(incrWrapper, incrWrapper));
+
+        verify(session).executeAsync(bs);
+    }
 }
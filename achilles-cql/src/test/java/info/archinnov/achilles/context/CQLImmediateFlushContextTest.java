@@ -2,20 +2,25 @@ package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.FlushContext.FlushType;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Query;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Statement;
 
 /**
@@ -46,11 +51,16 @@ public class CQLImmediateFlushContextTest
     @Mock
     private Query query;
 
+    @Mock
+    private ResultSetFuture future;
+
     @Before
     public void setUp()
     {
         context = new CQLImmediateFlushContext(daoContext, null);
         when(bsWrapper.getBs()).thenReturn(bs);
+        when(daoContext.getFlushMaxInFlight()).thenReturn(2);
+        when(daoContext.executeAsync(any(Query.class), (Object[]) anyVararg())).thenReturn(future);
     }
 
     @Test
@@ -138,12 +148,48 @@ public class CQLImmediateFlushContextTest
 
         context.flush();
 
-        verify(daoContext).execute(bs, boundValues);
-        verify(daoContext).execute(statement);
+        verify(daoContext).executeAsync(bs, boundValues);
+        verify(daoContext).executeAsync(statement);
+        verify(future, times(2)).getUninterruptibly();
         assertThat(boundStatementWrappers).isEmpty();
         assertThat(statements).isEmpty();
     }
 
+    @Test
+    public void should_flush_in_pushed_order() throws Exception
+    {
+        BoundStatementWrapper wrapper1 = new BoundStatementWrapper(mock(BoundStatement.class), new Object[] {});
+        BoundStatementWrapper wrapper2 = new BoundStatementWrapper(mock(BoundStatement.class), new Object[] {});
+        context.pushBoundStatement(wrapper1, EACH_QUORUM);
+        context.pushStatement(statement, EACH_QUORUM);
+        context.pushBoundStatement(wrapper2, EACH_QUORUM);
+
+        context.flush();
+
+        InOrder inOrder = inOrder(daoContext);
+        inOrder.verify(daoContext).executeAsync(wrapper1.getBs(), wrapper1.getValues());
+        inOrder.verify(daoContext).executeAsync(statement);
+        inOrder.verify(daoContext).executeAsync(wrapper2.getBs(), wrapper2.getValues());
+    }
+
+    @Test
+    public void should_flush_async() throws Exception
+    {
+        Statement statement1 = mock(Statement.class);
+        Statement statement2 = mock(Statement.class);
+        when(statement1.getRoutingKey()).thenReturn(ByteBuffer.wrap(new byte[] { 1 }));
+        when(statement2.getRoutingKey()).thenReturn(ByteBuffer.wrap(new byte[] { 2 }));
+        context.statements.add(statement1);
+        context.statements.add(statement2);
+
+        context.flushAsync();
+
+        verify(daoContext).executeAsync(statement1);
+        verify(daoContext).executeAsync(statement2);
+        verify(future, never()).getUninterruptibly();
+        assertThat(context.statements).isEmpty();
+    }
+
     @Test
     public void should_duplicate() throws Exception
     {
@@ -0,0 +1,83 @@
+package info.archinnov.achilles.context;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.PreparedStatement;
+import com.google.common.base.Function;
+
+/**
+ * CQLLazyStatementMapTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLLazyStatementMapTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private Function<EntityMeta, PreparedStatement> preparer;
+
+    @Mock
+    private PreparedStatement ps;
+
+    private EntityMeta meta = new EntityMeta();
+
+    private CQLLazyStatementMap<PreparedStatement> map;
+
+    @Before
+    public void setUp()
+    {
+        Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
+        entityMetaMap.put(CompleteBean.class, meta);
+        map = new CQLLazyStatementMap<PreparedStatement>(entityMetaMap, preparer);
+    }
+
+    @Test
+    public void should_prepare_statement_once_on_first_get() throws Exception
+    {
+        when(preparer.apply(meta)).thenReturn(ps);
+
+        assertThat(map).isEmpty();
+        assertThat(map.get(CompleteBean.class)).isSameAs(ps);
+        assertThat(map.get(CompleteBean.class)).isSameAs(ps);
+
+        verify(preparer, times(1)).apply(meta);
+        assertThat(map).hasSize(1);
+    }
+
+    @Test
+    public void should_return_null_for_unknown_entity() throws Exception
+    {
+        assertThat(map.get(String.class)).isNull();
+        assertThat(map.containsKey(String.class)).isFalse();
+        assertThat(map.containsKey(CompleteBean.class)).isTrue();
+
+        verifyZeroInteractions(preparer);
+    }
+
+    @Test
+    public void should_propagate_preparation_exception() throws Exception
+    {
+        when(preparer.apply(meta)).thenThrow(new AchillesException("test"));
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("test");
+
+        map.get(CompleteBean.class);
+    }
+}
@@ -14,11 +14,13 @@ import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
 import info.archinnov.achilles.entity.operations.EntityInitializer;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.proxy.EntityInterceptor;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.OptionsBuilder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.lang.math.RandomUtils;
@@ -32,8 +34,11 @@ import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLPersistenceContextTest
@@ -186,6 +191,16 @@ public class CQLPersistenceContextTest
         verify(daoContext).pushUpdateStatement(context, pms);
     }
 
+    @Test
+    public void should_push_collection_delta_statements() throws Exception
+    {
+        PropertyMeta pm = new PropertyMeta();
+        CollectionDelta delta = new CollectionDelta();
+        context.pushCollectionDeltaStatements(pm, delta);
+
+        verify(daoContext).pushCollectionDeltaStatements(context, pm, delta);
+    }
+
     @Test
     public void should_bind_for_removal() throws Exception
     {
@@ -206,6 +221,18 @@ public class CQLPersistenceContextTest
         assertThat(actual).isSameAs(rs);
     }
 
+    @Test
+    public void should_bind_and_execute_async() throws Exception
+    {
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSetFuture futureRs = mock(ResultSetFuture.class);
+
+        when(daoContext.bindAndExecuteAsync(ps, 11L, "a")).thenReturn(futureRs);
+        ResultSetFuture actual = context.bindAndExecuteAsync(ps, 11L, "a");
+
+        assertThat(actual).isSameAs(futureRs);
+    }
+
     // Simple counter
     @Test
     public void should_bind_for_simple_counter_increment() throws Exception
@@ -411,6 +438,56 @@ public class CQLPersistenceContextTest
         assertThat(found).isSameAs(entity);
     }
 
+    @Test
+    public void should_persist_async() throws Exception
+    {
+        ListenableFuture<List<ResultSet>> flushed = Futures.<List<ResultSet>> immediateFuture(
+                new ArrayList<ResultSet>());
+        doReturn(flushed).when(flushContext).flushAsync();
+
+        ListenableFuture<Void> future = context.persistAsync();
+
+        assertThat(future.isDone()).isTrue();
+        verify(persister).persist(context);
+        verify(flushContext, never()).flush();
+    }
+
+    @Test
+    public void should_merge_async() throws Exception
+    {
+        when(merger.merge(context, entity)).thenReturn(entity);
+        ListenableFuture<List<ResultSet>> flushed = Futures.<List<ResultSet>> immediateFuture(
+                new ArrayList<ResultSet>());
+        doReturn(flushed).when(flushContext).flushAsync();
+
+        CompleteBean merged = context.mergeAsync(entity).get();
+
+        assertThat(merged).isSameAs(entity);
+    }
+
+    @Test
+    public void should_find_async() throws Exception
+    {
+        when(loader.loadAsync(context, CompleteBean.class)).thenReturn(Futures.immediateFuture(entity));
+        when(proxifier.buildProxy(entity, context)).thenReturn(entity);
+
+        CompleteBean found = context.findAsync(CompleteBean.class).get();
+
+        assertThat(found).isSameAs(entity);
+    }
+
+    @Test
+    public void should_return_null_when_not_found_async() throws Exception
+    {
+        when(loader.loadAsync(context, CompleteBean.class)).thenReturn(
+                Futures.<CompleteBean> immediateFuture(null));
+
+        CompleteBean found = context.findAsync(CompleteBean.class).get();
+
+        assertThat(found).isNull();
+        verifyZeroInteractions(proxifier);
+    }
+
     @Test
     public void should_return_null_when_not_found() throws Exception
     {
@@ -0,0 +1,131 @@
+package info.archinnov.achilles.context;
+
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.type.CQLBatchType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Statement;
+
+/**
+ * CQLStatementPipelineTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLStatementPipelineTest
+{
+    private CQLStatementPipeline pipeline;
+
+    @Mock
+    private CQLDaoContext daoContext;
+
+    @Mock
+    private ResultSetFuture future1;
+
+    @Mock
+    private ResultSetFuture future2;
+
+    @Mock
+    private ResultSetFuture future3;
+
+    @Before
+    public void setUp()
+    {
+        pipeline = new CQLStatementPipeline(daoContext, 2);
+    }
+
+    @Test
+    public void should_wait_for_oldest_statement_when_max_in_flight_reached() throws Exception
+    {
+        Statement statement1 = buildStatement(1, future1);
+        Statement statement2 = buildStatement(2, future2);
+        Statement statement3 = buildStatement(3, future3);
+
+        pipeline.execute(statement1);
+        pipeline.execute(statement2);
+        pipeline.execute(statement3);
+        pipeline.waitForAll();
+
+        InOrder inOrder = inOrder(daoContext, future1, future2, future3);
+        inOrder.verify(daoContext).executeAsync(statement1);
+        inOrder.verify(daoContext).executeAsync(statement2);
+        inOrder.verify(future1).getUninterruptibly();
+        inOrder.verify(daoContext).executeAsync(statement3);
+        inOrder.verify(future2).getUninterruptibly();
+        inOrder.verify(future3).getUninterruptibly();
+    }
+
+    @Test
+    public void should_wait_for_previous_statement_with_same_routing_key() throws Exception
+    {
+        pipeline = new CQLStatementPipeline(daoContext, 10);
+        Statement statement1 = buildStatement(1, future1);
+        Statement statement2 = buildStatement(2, future2);
+        Statement statement3 = buildStatement(1, future3);
+
+        pipeline.execute(statement1);
+        pipeline.execute(statement2);
+        pipeline.execute(statement3);
+
+        InOrder inOrder = inOrder(daoContext, future1, future2, future3);
+        inOrder.verify(daoContext).executeAsync(statement1);
+        inOrder.verify(daoContext).executeAsync(statement2);
+        inOrder.verify(future1).getUninterruptibly();
+        inOrder.verify(daoContext).executeAsync(statement3);
+        verify(future2, never()).getUninterruptibly();
+    }
+
+    @Test
+    public void should_wait_for_all_statements_when_no_routing_key() throws Exception
+    {
+        pipeline = new CQLStatementPipeline(daoContext, 10);
+        BoundStatement bs = mock(BoundStatement.class);
+        Object[] values = new Object[] { 10L };
+        BoundStatementWrapper bsWrapper = new BoundStatementWrapper(bs, values);
+        when(daoContext.executeAsync(bs, values)).thenReturn(future1);
+        Statement statement2 = buildStatement(2, future2);
+        Statement statement3 = buildStatement(3, future3);
+
+        pipeline.execute(bsWrapper);
+        pipeline.execute(statement2);
+        pipeline.execute(statement3);
+
+        InOrder inOrder = inOrder(daoContext, future1, future2, future3);
+        inOrder.verify(daoContext).executeAsync(bs, values);
+        inOrder.verify(future1).getUninterruptibly();
+        inOrder.verify(daoContext).executeAsync(statement2);
+        inOrder.verify(daoContext).executeAsync(statement3);
+        verify(future2, never()).getUninterruptibly();
+    }
+
+    @Test
+    public void should_execute_batch() throws Exception
+    {
+        List<BoundStatementWrapper> bsWrappers = Arrays.asList(mock(BoundStatementWrapper.class));
+        when(daoContext.executeBatchAsync(CQLBatchType.UNLOGGED, bsWrappers)).thenReturn(future1);
+
+        pipeline.executeBatch(CQLBatchType.UNLOGGED, bsWrappers, ByteBuffer.wrap(new byte[] { 1 }));
+        pipeline.waitForAll();
+
+        verify(future1).getUninterruptibly();
+    }
+
+    private Statement buildStatement(int routingKey, ResultSetFuture future)
+    {
+        Statement statement = mock(Statement.class);
+        when(statement.getRoutingKey()).thenReturn(ByteBuffer.wrap(new byte[] { (byte) routingKey }));
+        when(daoContext.executeAsync(statement)).thenReturn(future);
+        return statement;
+    }
+}
@@ -0,0 +1,101 @@
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import java.util.concurrent.ExecutionException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.ResultSetFuture;
+
+/**
+ * CQLCounterCoalescerTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLCounterCoalescerTest
+{
+    private CQLCounterCoalescer coalescer;
+
+    @Mock
+    private CQLDaoContext daoContext;
+
+    @Mock
+    private ResultSetFuture future;
+
+    @Mock
+    private ResultSetFuture failedFuture;
+
+    private EntityMeta entityMeta = new EntityMeta();
+
+    private PropertyMeta counterMeta;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").build();
+        entityMeta.setClassName("CompleteBean");
+        when(daoContext.getFlushMaxInFlight()).thenReturn(1);
+        coalescer = new CQLCounterCoalescer(daoContext, 60000, 1000);
+    }
+
+    @After
+    public void tearDown()
+    {
+        coalescer.shutdown();
+    }
+
+    @Test
+    public void should_write_coalesced_deltas() throws Exception
+    {
+        when(daoContext.incrementCounterAsync(entityMeta, counterMeta, 10L, 4L, ONE)).thenReturn(future);
+        when(daoContext.incrementCounterAsync(entityMeta, counterMeta, 11L, -1L, ONE)).thenReturn(future);
+
+        coalescer.add(entityMeta, counterMeta, 10L, ONE, 1L);
+        coalescer.add(entityMeta, counterMeta, 10L, ONE, 3L);
+        coalescer.add(entityMeta, counterMeta, 11L, ONE, -1L);
+        coalescer.flush();
+
+        verify(daoContext).incrementCounterAsync(entityMeta, counterMeta, 10L, 4L, ONE);
+        verify(daoContext).incrementCounterAsync(entityMeta, counterMeta, 11L, -1L, ONE);
+        verify(future, times(2)).get();
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_keep_consistency_levels_apart() throws Exception
+    {
+        when(daoContext.incrementCounterAsync(entityMeta, counterMeta, 10L, 1L, ONE)).thenReturn(future);
+        when(daoContext.incrementCounterAsync(entityMeta, counterMeta, 10L, 2L, QUORUM)).thenReturn(future);
+
+        coalescer.add(entityMeta, counterMeta, 10L, ONE, 1L);
+        coalescer.add(entityMeta, counterMeta, 10L, QUORUM, 2L);
+        coalescer.flush();
+
+        verify(daoContext).incrementCounterAsync(entityMeta, counterMeta, 10L, 1L, ONE);
+        verify(daoContext).incrementCounterAsync(entityMeta, counterMeta, 10L, 2L, QUORUM);
+    }
+
+    @Test
+    public void should_count_failed_deltas() throws Exception
+    {
+        when(daoContext.incrementCounterAsync(entityMeta, counterMeta, 10L, 1L, ONE)).thenReturn(failedFuture);
+        when(failedFuture.get()).thenThrow(new ExecutionException(new RuntimeException("timeout")));
+
+        coalescer.add(entityMeta, counterMeta, 10L, ONE, 1L);
+        coalescer.flush();
+
+        assertThat(coalescer.getFailedDeltas()).isEqualTo(1L);
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(0L);
+    }
+}
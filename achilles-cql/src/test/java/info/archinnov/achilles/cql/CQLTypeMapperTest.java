@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.Test;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 
 /**
@@ -62,6 +63,17 @@ public class CQLTypeMapperTest
 
     }
 
+    @Test
+    public void should_convert_java_type_to_data_type() throws Exception
+    {
+        assertThat(toDataType(Long.class)).isEqualTo(DataType.bigint());
+        assertThat(toDataType(int.class)).isEqualTo(DataType.cint());
+        assertThat(toDataType(String.class)).isEqualTo(DataType.text());
+        assertThat(toDataType(UUID.class)).isEqualTo(DataType.uuid());
+        assertThat(toDataType(Date.class)).isEqualTo(DataType.timestamp());
+        assertThat(toDataType(UserBean.class)).isEqualTo(DataType.text());
+    }
+
     @Test
     public void should_convert_cql_to_java() throws Exception
     {
@@ -0,0 +1,152 @@
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.transcoding.DataTranscoder;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.parser.entity.CompoundKey;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.Row;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+/**
+ * CQLColumnReaderTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLColumnReaderTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private Row row;
+
+    @Mock
+    private DataTranscoder transcoder;
+
+    private int[] index = new int[] { 2 };
+
+    @Test
+    public void should_read_simple_value_by_index() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.valueClass(Long.class).field("age").type(SIMPLE).build();
+        when(row.getLong(2)).thenReturn(12L);
+
+        CQLColumnReader reader = CQLColumnReader.compile(pm);
+
+        assertThat(reader.getColumnNames()).containsExactly("age");
+        assertThat(reader.read(row, index)).isEqualTo(12L);
+        verify(row, never()).getLong("age");
+    }
+
+    @Test
+    public void should_return_null_when_column_is_null() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name").type(SIMPLE).build();
+        when(row.isNull(2)).thenReturn(true);
+
+        assertThat(CQLColumnReader.compile(pm).read(row, index)).isNull();
+        verify(row, never()).getString(2);
+    }
+
+    @Test
+    public void should_read_collections_by_index() throws Exception
+    {
+        PropertyMeta listMeta = PropertyMetaTestBuilder.valueClass(String.class).field("friends").type(LIST).build();
+        PropertyMeta setMeta = PropertyMetaTestBuilder.valueClass(String.class).field("followers").type(LAZY_SET)
+                .build();
+        PropertyMeta mapMeta = PropertyMetaTestBuilder.keyValueClass(Integer.class, String.class)
+                .field("preferences").type(MAP).build();
+
+        List<String> friends = Arrays.asList("foo", "bar");
+        Set<String> followers = Sets.newHashSet("john");
+        Map<Integer, String> preferences = ImmutableMap.of(1, "FR");
+        when(row.getList(2, String.class)).thenReturn(friends);
+        when(row.getSet(2, String.class)).thenReturn(followers);
+        when(row.getMap(2, Integer.class, String.class)).thenReturn(preferences);
+
+        assertThat(CQLColumnReader.compile(listMeta).read(row, index)).isEqualTo(friends);
+        assertThat(CQLColumnReader.compile(setMeta).read(row, index)).isEqualTo(followers);
+        assertThat(CQLColumnReader.compile(mapMeta).read(row, index)).isEqualTo(preferences);
+    }
+
+    @Test
+    public void should_not_compile_reader_for_non_column_property() throws Exception
+    {
+        PropertyMeta counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").type(COUNTER)
+                .build();
+        PropertyMeta joinMeta = PropertyMetaTestBuilder.valueClass(String.class).field("user").type(JOIN_SIMPLE)
+                .build();
+
+        assertThat(CQLColumnReader.compile(counterMeta)).isNull();
+        assertThat(CQLColumnReader.compile(joinMeta)).isNull();
+    }
+
+    @Test
+    public void should_read_compound_key_by_indexes() throws Exception
+    {
+        PropertyMeta pm = compoundKeyMeta();
+        CompoundKey compoundKey = new CompoundKey();
+        when(row.getLong(0)).thenReturn(10L);
+        when(row.getString(3)).thenReturn("name");
+        when(transcoder.decodeFromComponents(pm, Arrays.<Object> asList(10L, "name"))).thenReturn(compoundKey);
+
+        CQLColumnReader reader = CQLColumnReader.compile(pm);
+
+        assertThat(reader.getColumnNames()).containsExactly("id", "name");
+        assertThat(reader.read(row, new int[] { 0, 3 })).isSameAs(compoundKey);
+    }
+
+    @Test
+    public void should_exception_when_compound_key_component_is_null() throws Exception
+    {
+        PropertyMeta pm = compoundKeyMeta();
+        when(row.isNull(3)).thenReturn(true);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Cannot retrieve compound property 'compound'");
+
+        CQLColumnReader.compile(pm).read(row, new int[] { 0, 3 });
+    }
+
+    @Test
+    public void should_exception_when_value_cannot_be_read() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.valueClass(String.class).field("name").type(SIMPLE)
+                .entityClassName("CompleteBean").build();
+        when(row.getString(2)).thenThrow(new IllegalArgumentException());
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Cannot retrieve property 'name' for entity class 'CompleteBean' from CQL Row");
+
+        CQLColumnReader.compile(pm).read(row, index);
+    }
+
+    private PropertyMeta compoundKeyMeta() throws Exception
+    {
+        return PropertyMetaTestBuilder
+                .valueClass(CompoundKey.class)
+                .field("compound")
+                .type(EMBEDDED_ID)
+                .compNames("id", "name")
+                .compClasses(Long.class, String.class)
+                .transcoder(transcoder)
+                .build();
+    }
+}
@@ -15,19 +15,13 @@ import info.archinnov.achilles.test.parser.entity.CompoundKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import org.apache.cassandra.cql3.ColumnIdentifier;
-import org.apache.cassandra.cql3.ColumnSpecification;
-import org.apache.cassandra.db.marshal.LongType;
-import org.apache.cassandra.db.marshal.UTF8Type;
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.ColumnDefinitions.Definition;
 import com.datastax.driver.core.Row;
 import com.google.common.collect.ImmutableMap;
 
@@ -60,9 +54,6 @@ public class CQLEntityMapperTest
     @Mock
     private EntityMeta entityMeta;
 
-    private Definition def1;
-    private Definition def2;
-
     private CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().buid();
 
     @Test
@@ -87,12 +78,16 @@ public class CQLEntityMapperTest
         when((PropertyMeta) entityMeta.getIdMeta()).thenReturn(idMeta);
         when(entityMeta.getEagerMetas()).thenReturn(eagerMetas);
 
-        when(row.isNull("name")).thenReturn(false);
-        when(cqlRowInvoker.invokeOnRowForFields(row, pm)).thenReturn("value");
+        when(row.getColumnDefinitions()).thenReturn(columnDefs);
+        when(columnDefs.contains("name")).thenReturn(true);
+        when(columnDefs.getIndexOf("name")).thenReturn(1);
+        when(row.isNull(1)).thenReturn(false);
+        when(row.getString(1)).thenReturn("value");
 
         entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
 
-        verify(invoker).setValueToField(entity, pm.getSetter(), "value");
+        assertThat(entity.getName()).isEqualTo("value");
+        verifyZeroInteractions(cqlRowInvoker);
     }
 
     @Test
@@ -109,10 +104,15 @@ public class CQLEntityMapperTest
 
         when(entityMeta.getEagerMetas()).thenReturn(eagerMetas);
 
-        when(row.isNull("name")).thenReturn(true);
+        when(row.getColumnDefinitions()).thenReturn(columnDefs);
+        when(columnDefs.contains("name")).thenReturn(true);
+        when(columnDefs.getIndexOf("name")).thenReturn(0);
+        when(row.isNull(0)).thenReturn(true);
 
         entityMapper.setEagerPropertiesToEntity(row, entityMeta, entity);
 
+        assertThat(entity.getName()).isNull();
+        verify(row, never()).getString(0);
         verifyZeroInteractions(cqlRowInvoker, invoker);
     }
 
@@ -143,7 +143,7 @@ public class CQLEntityMapperTest
 
         entityMapper.setJoinValueToEntity("name", pm, entity);
 
-        verify(invoker).setValueToField(entity, pm.getSetter(), "name");
+        verify(invoker).setValueToField(entity, pm, "name");
     }
 
     @Test
@@ -162,7 +162,7 @@ public class CQLEntityMapperTest
 
         entityMapper.setPropertyToEntity(row, pm, entity);
 
-        verify(invoker).setValueToField(entity, pm.getSetter(), compoundKey);
+        verify(invoker).setValueToField(entity, pm, compoundKey);
     }
 
     @Test
@@ -179,26 +179,45 @@ public class CQLEntityMapperTest
 
         Map<String, PropertyMeta> propertiesMap = ImmutableMap.of("id", idMeta);
 
-        ColumnIdentifier iden1 = new ColumnIdentifier(UTF8Type.instance.decompose("id"), UTF8Type.instance);
-        ColumnSpecification spec1 = new ColumnSpecification("keyspace", "id", iden1, LongType.instance);
-
-        ColumnIdentifier iden2 = new ColumnIdentifier(UTF8Type.instance.decompose(name), UTF8Type.instance);
-        ColumnSpecification spec2 = new ColumnSpecification("keyspace", "name", iden2, UTF8Type.instance);
-
-        def1 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec1);
-        def2 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec2);
-
         when(row.getColumnDefinitions()).thenReturn(columnDefs);
-        when(columnDefs.iterator()).thenReturn(Arrays.asList(def1, def2).iterator());
+        when(columnDefs.size()).thenReturn(2);
+        when(columnDefs.getName(0)).thenReturn("id");
+        when(columnDefs.getName(1)).thenReturn(name);
+        when(row.getLong(0)).thenReturn(id);
 
         when(invoker.instanciate(CompleteBean.class)).thenReturn(entity);
 
-        when(cqlRowInvoker.invokeOnRowForFields(row, idMeta)).thenReturn(id);
-
         CompleteBean actual = entityMapper.mapRowToEntity(CompleteBean.class, row, propertiesMap);
 
         assertThat(actual).isSameAs(entity);
-        verify(invoker).setValueToField(entity, idMeta.getSetter(), id);
+        verify(invoker).setValueToField(entity, idMeta, id);
+        verify(row, never()).isNull(1);
+    }
+
+    @Test
+    public void should_resolve_column_readers_once_per_result_set() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .type(PropertyType.ID)
+                .accessors()
+                .build();
+
+        Map<String, PropertyMeta> propertiesMap = ImmutableMap.of("id", idMeta);
+
+        when(row.getColumnDefinitions()).thenReturn(columnDefs);
+        when(columnDefs.size()).thenReturn(1);
+        when(columnDefs.getName(0)).thenReturn("id");
+        when(row.getLong(0)).thenReturn(10L, 11L);
+        when(invoker.instanciate(CompleteBean.class)).thenReturn(entity);
+
+        entityMapper.mapRowToEntity(CompleteBean.class, row, propertiesMap);
+        entityMapper.mapRowToEntity(CompleteBean.class, row, propertiesMap);
+
+        verify(columnDefs, times(1)).getName(0);
+        verify(invoker).setValueToField(entity, idMeta, 10L);
+        verify(invoker).setValueToField(entity, idMeta, 11L);
     }
 
     @Test
@@ -221,27 +240,20 @@ public class CQLEntityMapperTest
         Map<String, PropertyMeta> propertiesMap = ImmutableMap.of("id", idMeta,
                 "user", userMeta);
 
-        ColumnIdentifier iden1 = new ColumnIdentifier(UTF8Type.instance.decompose("id"), UTF8Type.instance);
-        ColumnSpecification spec1 = new ColumnSpecification("keyspace", "id", iden1, LongType.instance);
-
-        ColumnIdentifier iden2 = new ColumnIdentifier(UTF8Type.instance.decompose("user"), UTF8Type.instance);
-        ColumnSpecification spec2 = new ColumnSpecification("keyspace", "user", iden2, UTF8Type.instance);
-
-        def1 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec1);
-        def2 = Whitebox.invokeMethod(Definition.class, "fromTransportSpecification", spec2);
-
         when(row.getColumnDefinitions()).thenReturn(columnDefs);
-        when(columnDefs.iterator()).thenReturn(Arrays.asList(def1, def2).iterator());
+        when(columnDefs.size()).thenReturn(2);
+        when(columnDefs.getName(0)).thenReturn("id");
+        when(columnDefs.getName(1)).thenReturn("user");
+        when(row.getLong(0)).thenReturn(id);
 
         when(invoker.instanciate(CompleteBean.class)).thenReturn(entity);
 
-        when(cqlRowInvoker.invokeOnRowForFields(row, idMeta)).thenReturn(id);
-
         CompleteBean actual = entityMapper.mapRowToEntity(CompleteBean.class, row, propertiesMap);
 
         assertThat(actual).isSameAs(entity);
-        verify(invoker).setValueToField(entity, idMeta.getSetter(), id);
-        verify(cqlRowInvoker, never()).invokeOnRowForFields(row, userMeta);
+        verify(invoker).setValueToField(entity, idMeta, id);
+        verify(row, never()).isNull(1);
+        verify(invoker, never()).setValueToField(eq(entity), eq(userMeta), any());
     }
 
     @Test
@@ -0,0 +1,117 @@
+package info.archinnov.achilles.entity;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLRowMapperTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLRowMapperTest
+{
+    @Mock
+    private Row row;
+
+    @Mock
+    private ColumnDefinitions columnDefs;
+
+    @Mock
+    private ColumnDefinitions otherColumnDefs;
+
+    private EntityMeta entityMeta = new EntityMeta();
+
+    private CQLRowMapper rowMapper;
+
+    private CompleteBean entity = CompleteBeanTestBuilder.builder().buid();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id")
+                .accessors().type(ID).build();
+        PropertyMeta nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+                .accessors().type(SIMPLE).build();
+        PropertyMeta friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class)
+                .field("friends").accessors().type(LIST).build();
+        PropertyMeta counterMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class)
+                .field("version").type(COUNTER).build();
+
+        entityMeta.setEagerMetas(Arrays.asList(idMeta, nameMeta, friendsMeta, counterMeta));
+        rowMapper = new CQLRowMapper(entityMeta);
+
+        when(row.getColumnDefinitions()).thenReturn(columnDefs);
+        when(columnDefs.contains("id")).thenReturn(true);
+        when(columnDefs.contains("name")).thenReturn(true);
+        when(columnDefs.getIndexOf("id")).thenReturn(0);
+        when(columnDefs.getIndexOf("name")).thenReturn(1);
+    }
+
+    @Test
+    public void should_set_eager_properties_by_index() throws Exception
+    {
+        when(row.getLong(0)).thenReturn(10L);
+        when(row.getString(1)).thenReturn("John");
+
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+
+        assertThat(entity.getId()).isEqualTo(10L);
+        assertThat(entity.getName()).isEqualTo("John");
+        verify(row, never()).getList(2, String.class);
+        verify(columnDefs, never()).contains("version");
+    }
+
+    @Test
+    public void should_skip_null_columns() throws Exception
+    {
+        entity.setName("previous");
+        when(row.getLong(0)).thenReturn(10L);
+        when(row.isNull(1)).thenReturn(true);
+
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+
+        assertThat(entity.getId()).isEqualTo(10L);
+        assertThat(entity.getName()).isEqualTo("previous");
+    }
+
+    @Test
+    public void should_resolve_indexes_once_per_column_definitions() throws Exception
+    {
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+
+        verify(columnDefs, times(1)).getIndexOf("id");
+        verify(columnDefs, times(1)).contains("friends");
+    }
+
+    @Test
+    public void should_resolve_indexes_again_for_new_column_definitions() throws Exception
+    {
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+
+        when(row.getColumnDefinitions()).thenReturn(otherColumnDefs);
+        when(otherColumnDefs.contains("name")).thenReturn(true);
+        when(otherColumnDefs.getIndexOf("name")).thenReturn(0);
+        when(row.getString(0)).thenReturn("Helen");
+
+        rowMapper.setEagerPropertiesToEntity(row, entity);
+
+        assertThat(entity.getName()).isEqualTo("Helen");
+    }
+}
@@ -1,5 +1,6 @@
 package info.archinnov.achilles.entity.manager;
 
+import static info.archinnov.achilles.type.CQLBatchType.SEQUENTIAL;
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -63,7 +64,7 @@ public class CQLBatchingEntityManagerTest {
     public void setUp()
     {
         when(configContext.getConsistencyPolicy()).thenReturn(consistencyPolicy);
-        em = new CQLBatchingEntityManager(null, contextFactory, daoContext, configContext);
+        em = new CQLBatchingEntityManager(null, contextFactory, daoContext, configContext, SEQUENTIAL, 100);
         Whitebox.setInternalState(em, CQLBatchingFlushContext.class, flushContext);
     }
 
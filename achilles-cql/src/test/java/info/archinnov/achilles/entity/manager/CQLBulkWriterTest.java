@@ -0,0 +1,116 @@
+package info.archinnov.achilles.entity.manager;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.statement.prepared.BoundStatementWrapper;
+import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.type.CQLBatchType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
+
+/**
+ * CQLBulkWriterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLBulkWriterTest
+{
+    private CQLBulkWriter<CompleteBean> writer;
+
+    @Mock
+    private CQLDaoContext daoContext;
+
+    @Mock
+    private BulkWriteListener<CompleteBean> listener;
+
+    @Mock
+    private ResultSetFuture future1;
+
+    @Mock
+    private ResultSetFuture future2;
+
+    private EntityMeta entityMeta = new EntityMeta();
+
+    private CompleteBean entity1 = CompleteBeanTestBuilder.builder().randomId().buid();
+
+    private CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().buid();
+
+    private CompleteBean entity3 = CompleteBeanTestBuilder.builder().randomId().buid();
+
+    @Before
+    public void setUp()
+    {
+        when(daoContext.getFlushMaxInFlight()).thenReturn(10);
+        writer = new CQLBulkWriter<CompleteBean>(CompleteBean.class, entityMeta, daoContext, 3, listener);
+    }
+
+    @Test
+    public void should_send_entities_of_same_partition_as_one_unlogged_batch() throws Exception
+    {
+        BoundStatementWrapper bsWrapper1 = buildWrapper(entity1, 1);
+        BoundStatementWrapper bsWrapper2 = buildWrapper(entity2, 2);
+        BoundStatementWrapper bsWrapper3 = buildWrapper(entity3, 1);
+        when(daoContext.executeBatchAsync(CQLBatchType.UNLOGGED, Arrays.asList(bsWrapper1, bsWrapper3)))
+                .thenReturn(future1);
+        when(daoContext.executeAsync(bsWrapper2.getBs(), bsWrapper2.getValues())).thenReturn(future2);
+
+        writer.writeAll(Arrays.asList(entity1, entity2, entity3));
+        writer.flush();
+
+        verify(daoContext).executeBatchAsync(CQLBatchType.UNLOGGED, Arrays.asList(bsWrapper1, bsWrapper3));
+        verify(daoContext).executeAsync(bsWrapper2.getBs(), bsWrapper2.getValues());
+        assertThat(writer.getWritten()).isEqualTo(3L);
+        verify(listener).onProgress(eq(3L), eq(0L), anyLong());
+    }
+
+    @Test
+    public void should_buffer_entities_until_flush() throws Exception
+    {
+        BoundStatementWrapper bsWrapper1 = buildWrapper(entity1, 1);
+        when(daoContext.executeAsync(bsWrapper1.getBs(), bsWrapper1.getValues())).thenReturn(future1);
+
+        writer.write(entity1);
+        verify(daoContext, never()).bindForBulkInsert(entityMeta, entity1);
+
+        writer.flush();
+        verify(daoContext).executeAsync(bsWrapper1.getBs(), bsWrapper1.getValues());
+    }
+
+    @Test
+    public void should_notify_listener_when_write_fails() throws Exception
+    {
+        BoundStatementWrapper bsWrapper1 = buildWrapper(entity1, 1);
+        RuntimeException failure = new RuntimeException("timeout");
+        when(daoContext.executeAsync(bsWrapper1.getBs(), bsWrapper1.getValues())).thenReturn(future1);
+        when(future1.get()).thenThrow(new ExecutionException(failure));
+
+        writer.write(entity1);
+        writer.flush();
+
+        verify(listener).onFailure(entity1, failure);
+        assertThat(writer.getFailed()).isEqualTo(1L);
+    }
+
+    private BoundStatementWrapper buildWrapper(CompleteBean entity, int routingKey)
+    {
+        BoundStatement bs = mock(BoundStatement.class);
+        when(bs.getRoutingKey()).thenReturn(ByteBuffer.wrap(new byte[] { (byte) routingKey }));
+        BoundStatementWrapper bsWrapper = new BoundStatementWrapper(bs, new Object[] { routingKey });
+        when(daoContext.bindForBulkInsert(entityMeta, entity)).thenReturn(bsWrapper);
+        return bsWrapper;
+    }
+}
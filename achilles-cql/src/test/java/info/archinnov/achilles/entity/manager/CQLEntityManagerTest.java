@@ -1,6 +1,8 @@
 package info.archinnov.achilles.entity.manager;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.CompoundKeyValidator;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
@@ -12,8 +14,11 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.CQLEntityProxifier;
+import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.entity.operations.SliceQueryExecutor;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.query.cql.CQLNativeQueryBuilder;
+import info.archinnov.achilles.query.scan.CQLScanQueryBuilder;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryBuilder;
 import info.archinnov.achilles.query.typed.CQLTypedQueryValidator;
@@ -21,17 +26,23 @@ import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.Session;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CqlEntityManagerTest
@@ -43,6 +54,9 @@ import com.google.common.base.Optional;
 @RunWith(MockitoJUnitRunner.class)
 public class CQLEntityManagerTest
 {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
     private CQLEntityManager manager;
 
     @Mock
@@ -66,6 +80,9 @@ public class CQLEntityManagerTest
     @Mock
     private CQLTypedQueryValidator typedQueryValidator;
 
+    @Mock
+    private EntityValidator<CQLPersistenceContext> entityValidator;
+
     private Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 
     private EntityMeta meta;
@@ -99,6 +116,7 @@ public class CQLEntityManagerTest
         manager = new CQLEntityManager(entityMetaMap, contextFactory, daoContext, configContext);
         Whitebox.setInternalState(manager, CQLEntityProxifier.class, proxifier);
         Whitebox.setInternalState(manager, CQLTypedQueryValidator.class, typedQueryValidator);
+        manager.setEntityValidator(entityValidator);
 
         manager.setEntityMetaMap(entityMetaMap);
         entityMetaMap.put(CompleteBean.class, meta);
@@ -129,6 +147,87 @@ public class CQLEntityManagerTest
         assertThat(actual).isSameAs(context);
     }
 
+    @Test
+    public void should_persist_async() throws Exception
+    {
+        CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+        ListenableFuture<Void> future = Futures.immediateFuture(null);
+        when(contextFactory.newContext(entity, OptionsBuilder.noOptions())).thenReturn(context);
+        when(context.persistAsync()).thenReturn(future);
+
+        ListenableFuture<Void> actual = manager.persistAsync(entity);
+
+        assertThat(actual).isSameAs(future);
+        verify(entityValidator).validateEntity(entity, entityMetaMap);
+    }
+
+    @Test
+    public void should_exception_when_persist_async_managed_entity() throws Exception
+    {
+        when(proxifier.isProxy(entity)).thenReturn(true);
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("Then entity is already in 'managed' state");
+
+        manager.persistAsync(entity);
+    }
+
+    @Test
+    public void should_find_async() throws Exception
+    {
+        CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+        ListenableFuture<CompleteBean> future = Futures.immediateFuture(entity);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(entity.getId()), any(Options.class)))
+                .thenReturn(context);
+        when(context.getIdMeta()).thenReturn(idMeta);
+        when(context.findAsync(CompleteBean.class)).thenReturn(future);
+
+        ListenableFuture<CompleteBean> actual = manager.findAsync(CompleteBean.class, entity.getId());
+
+        assertThat(actual).isSameAs(future);
+        verify(entityValidator).validatePrimaryKey(idMeta, entity.getId());
+    }
+
+    @Test
+    public void should_find_all_skipping_missing_entities() throws Exception
+    {
+        CompleteBean otherEntity = CompleteBeanTestBuilder.builder().randomId().buid();
+        CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+        CQLPersistenceContext otherContext = mock(CQLPersistenceContext.class);
+        when(daoContext.getFlushMaxInFlight()).thenReturn(1);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(entity.getId()), any(Options.class)))
+                .thenReturn(context);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(otherEntity.getId()), any(Options.class)))
+                .thenReturn(otherContext);
+        when(context.findAsync(CompleteBean.class)).thenReturn(Futures.immediateFuture(entity));
+        when(otherContext.findAsync(CompleteBean.class)).thenReturn(
+                Futures.<CompleteBean> immediateFuture(null));
+
+        Map<Long, CompleteBean> actual = manager.findAll(CompleteBean.class,
+                Arrays.asList(entity.getId(), otherEntity.getId()));
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(entity.getId())).isSameAs(entity);
+        verify(entityValidator).validatePrimaryKey(idMeta, entity.getId());
+        verify(entityValidator).validatePrimaryKey(idMeta, otherEntity.getId());
+    }
+
+    @Test
+    public void should_remove_by_id_async() throws Exception
+    {
+        CQLPersistenceContext context = mock(CQLPersistenceContext.class);
+        ListenableFuture<Void> future = Futures.immediateFuture(null);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(entity.getId()), any(Options.class)))
+                .thenReturn(context);
+        when(context.getIdMeta()).thenReturn(idMeta);
+        when(context.removeAsync()).thenReturn(future);
+
+        ListenableFuture<Void> actual = manager.removeByIdAsync(CompleteBean.class, entity.getId(),
+                ConsistencyLevel.ONE);
+
+        assertThat(actual).isSameAs(future);
+    }
+
     @Test
     public void should_return_slice_query_builder() throws Exception
     {
@@ -183,6 +282,29 @@ public class CQLEntityManagerTest
         assertThat(Whitebox.getInternalState(builder, Class.class)).isEqualTo(CompleteBean.class);
     }
 
+    @Test
+    public void should_return_scan_query_builder() throws Exception
+    {
+        CQLScanQueryBuilder<CompleteBean> builder = manager.scan(CompleteBean.class);
+
+        assertThat(builder).isNotNull();
+        assertThat(Whitebox.getInternalState(builder, CQLDaoContext.class)).isSameAs(daoContext);
+        assertThat(Whitebox.getInternalState(builder, EntityMeta.class)).isSameAs(meta);
+        assertThat(Whitebox.getInternalState(builder, Class.class)).isEqualTo(CompleteBean.class);
+    }
+
+    @Test
+    public void should_exception_when_scanning_entity_with_compound_key() throws Exception
+    {
+        idMeta.setType(PropertyType.EMBEDDED_ID);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Cannot perform scan because the entityClass '" + CompleteBean.class.getCanonicalName()
+                + "' has a compound primary key");
+
+        manager.scan(CompleteBean.class);
+    }
+
     @Test
     public void should_get_native_session() throws Exception
     {
@@ -19,6 +19,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.util.concurrent.Futures;
 
 /**
  * CQLEntityLoaderTest
@@ -98,6 +99,20 @@ public class CQLEntityLoaderTest
 		verify(invoker).setValueToField(actual, idMeta.getSetter(), primaryKey);
 	}
 
+	@Test
+	public void should_load_entity_async() throws Exception
+	{
+		when(context.isLoadEagerFields()).thenReturn(true);
+		when(loaderImpl.eagerLoadEntityAsync(context, CompleteBean.class)).thenReturn(
+				Futures.immediateFuture(entity));
+
+		CompleteBean actual = loader.loadAsync(context, CompleteBean.class).get();
+
+		assertThat(actual).isSameAs(entity);
+
+		verify(invoker).setValueToField(actual, idMeta.getSetter(), primaryKey);
+	}
+
 	@Test
 	public void should_load_property_into_object() throws Exception
 	{
@@ -187,4 +187,12 @@ public class CQLNativeQueryMapperTest {
 
         verifyZeroInteractions(cqlRowInvoker);
     }
+
+    @Test
+    public void should_return_null_when_mapping_row_without_column_definitions() throws Exception
+    {
+        when(row.getColumnDefinitions()).thenReturn(null);
+
+        assertThat(mapper.mapRow(row)).isNull();
+    }
 }
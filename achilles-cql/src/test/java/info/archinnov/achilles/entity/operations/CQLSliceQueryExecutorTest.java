@@ -107,7 +107,7 @@ public class CQLSliceQueryExecutorTest {
         when(idMeta.getComponentClasses()).thenReturn(Arrays.<Class<?>> asList(Long.class, String.class));
 
         sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, partitionKey,
-                clusteringsFrom, clusteringsTo, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, true);
+                clusteringsFrom, clusteringsTo, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, true, false, 0);
 
     }
 
@@ -130,6 +130,26 @@ public class CQLSliceQueryExecutorTest {
         verify(mapper).setEagerPropertiesToEntity(row, meta, entity);
     }
 
+    @Test
+    public void should_get_read_only_clustered_entities() throws Exception
+    {
+        sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, partitionKey,
+                clusteringsFrom, clusteringsTo, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, true, true, 0);
+
+        Query query = mock(Query.class);
+        when(generator.generateSelectSliceQuery(any(CQLSliceQuery.class), eq(limit))).thenReturn(query);
+
+        Row row = mock(Row.class);
+        List<Row> rows = Arrays.asList(row);
+        when(daoContext.execute(query).all()).thenReturn(rows);
+
+        when(invoker.instanciate(ClusteredEntity.class)).thenReturn(entity);
+
+        assertThat(executor.get(sliceQuery)).containsOnly(entity);
+        verify(mapper).setEagerPropertiesToEntity(row, meta, entity);
+        verifyZeroInteractions(contextFactory, proxifier);
+    }
+
     @Test
     public void should_create_iterator_for_clustered_entities() throws Exception
     {
@@ -154,7 +174,7 @@ public class CQLSliceQueryExecutorTest {
     public void should_remove_clustered_entities() throws Exception
     {
         sliceQuery = new SliceQuery<ClusteredEntity>(ClusteredEntity.class, meta, partitionKey,
-                null, null, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, false);
+                null, null, ASCENDING, EXCLUSIVE_BOUNDS, LOCAL_QUORUM, limit, batchSize, false, false, 0);
 
         Query query = mock(Query.class);
         when(generator.generateRemoveSliceQuery(any(CQLSliceQuery.class))).thenReturn(query);
@@ -37,6 +37,8 @@ import com.datastax.driver.core.Row;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * CQLLoaderImplTest
@@ -274,8 +276,8 @@ public class CQLLoaderImplTest
         when(cqlRowInvoker.invokeOnRowForList(row, pm, "name", Long.class)).thenReturn((List) joinIds);
 
         UserBean userBean = new UserBean();
-        when(entityLoader.load(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
-                userBean);
+        when(entityLoader.loadAsync(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
+                (ListenableFuture) Futures.immediateFuture(userBean));
 
         loaderImpl.loadJoinPropertyIntoEntity(entityLoader, context, pm, entity);
 
@@ -283,6 +285,38 @@ public class CQLLoaderImplTest
         assertThat(listCaptor.getValue()).containsExactly(userBean);
     }
 
+    @Test
+    public void should_load_join_list_in_join_ids_order() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder
+                .valueClass(UserBean.class)
+                .field("name")
+                .type(PropertyType.JOIN_LIST)
+                .joinMeta(entityMeta)
+                .build();
+
+        when(context.loadProperty(pm)).thenReturn(row);
+        List<Long> joinIds = Arrays.asList(11L, 12L);
+        when(cqlRowInvoker.invokeOnRowForList(row, pm, "name", Long.class)).thenReturn((List) joinIds);
+
+        CQLPersistenceContext joinContext1 = mock(CQLPersistenceContext.class);
+        CQLPersistenceContext joinContext2 = mock(CQLPersistenceContext.class);
+        when(context.createContextForJoin(UserBean.class, entityMeta, 11L)).thenReturn(joinContext1);
+        when(context.createContextForJoin(UserBean.class, entityMeta, 12L)).thenReturn(joinContext2);
+
+        UserBean userBean1 = new UserBean();
+        UserBean userBean2 = new UserBean();
+        when(entityLoader.loadAsync(joinContext1, UserBean.class)).thenReturn(
+                Futures.immediateFuture(userBean1));
+        when(entityLoader.loadAsync(joinContext2, UserBean.class)).thenReturn(
+                Futures.immediateFuture(userBean2));
+
+        loaderImpl.loadJoinPropertyIntoEntity(entityLoader, context, pm, entity);
+
+        verify(mapper).setJoinValueToEntity(listCaptor.capture(), eq(pm), eq(entity));
+        assertThat(listCaptor.getValue()).containsExactly(userBean1, userBean2);
+    }
+
     @Test
     public void should_not_load_join_list_into_entity_when_null() throws Exception
     {
@@ -335,8 +369,8 @@ public class CQLLoaderImplTest
         when(cqlRowInvoker.invokeOnRowForSet(row, pm, "name", Long.class)).thenReturn((Set) joinIds);
 
         UserBean userBean = new UserBean();
-        when(entityLoader.load(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
-                userBean);
+        when(entityLoader.loadAsync(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
+                (ListenableFuture) Futures.immediateFuture(userBean));
 
         loaderImpl.loadJoinPropertyIntoEntity(entityLoader, context, pm, entity);
 
@@ -397,8 +431,8 @@ public class CQLLoaderImplTest
                 (Map) joinIds);
 
         UserBean userBean = new UserBean();
-        when(entityLoader.load(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
-                userBean);
+        when(entityLoader.loadAsync(any(CQLPersistenceContext.class), eq(UserBean.class))).thenReturn(
+                (ListenableFuture) Futures.immediateFuture(userBean));
 
         loaderImpl.loadJoinPropertyIntoEntity(entityLoader, context, pm, entity);
 
@@ -8,6 +8,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.CQLEntityMerger;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -27,6 +28,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 
 /**
@@ -67,6 +69,8 @@ public class CQLMergerImplTest
 
     private List<PropertyMeta> joinPMs = new ArrayList<PropertyMeta>();
 
+    private Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+
     private PropertyMeta idMeta;
 
     @Before
@@ -82,6 +86,7 @@ public class CQLMergerImplTest
                 .build();
 
         joinPMs.clear();
+        deltaMap.clear();
     }
 
     @Test
@@ -96,7 +101,7 @@ public class CQLMergerImplTest
         dirtyMap.put(idMeta.getGetter(), idMeta);
         dirtyMap.put(ageMeta.getGetter(), ageMeta);
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         assertThat(dirtyMap).isEmpty();
 
@@ -105,11 +110,72 @@ public class CQLMergerImplTest
         assertThat(pmCaptor.getValue()).containsExactly(ageMeta, idMeta);
     }
 
+    @Test
+    public void should_merge_collection_delta() throws Exception
+    {
+        PropertyMeta ageMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("age")
+                .accessors()
+                .build();
+        PropertyMeta friendsMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("friends")
+                .type(PropertyType.LIST)
+                .accessors()
+                .build();
+        CollectionDelta delta = new CollectionDelta();
+        delta.appendElements(Arrays.asList("Paul"));
+
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        dirtyMap.put(ageMeta.getSetter(), ageMeta);
+        dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+        deltaMap.put(friendsMeta.getSetter(), delta);
+
+        when(context.getTtt()).thenReturn(Optional.<Integer> absent());
+        when(context.getTimestamp()).thenReturn(Optional.<Long> absent());
+
+        mergerImpl.merge(context, dirtyMap, deltaMap);
+
+        assertThat(dirtyMap).isEmpty();
+        assertThat(deltaMap).isEmpty();
+
+        verify(context).pushCollectionDeltaStatements(friendsMeta, delta);
+        verify(context).pushUpdateStatement(pmCaptor.capture());
+        assertThat(pmCaptor.getValue()).containsExactly(ageMeta);
+    }
+
+    @Test
+    public void should_rewrite_collection_when_ttl_set() throws Exception
+    {
+        PropertyMeta friendsMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("friends")
+                .type(PropertyType.LIST)
+                .accessors()
+                .build();
+        CollectionDelta delta = new CollectionDelta();
+        delta.appendElements(Arrays.asList("Paul"));
+
+        Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
+        dirtyMap.put(friendsMeta.getSetter(), friendsMeta);
+        deltaMap.put(friendsMeta.getSetter(), delta);
+
+        when(context.getTtt()).thenReturn(Optional.fromNullable(10));
+        when(context.getTimestamp()).thenReturn(Optional.<Long> absent());
+
+        mergerImpl.merge(context, dirtyMap, deltaMap);
+
+        verify(context, never()).pushCollectionDeltaStatements(friendsMeta, delta);
+        verify(context).pushUpdateStatement(pmCaptor.capture());
+        assertThat(pmCaptor.getValue()).containsExactly(friendsMeta);
+    }
+
     @Test
     public void should_not_merge_when_empty_dirty_map() throws Exception
     {
         Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verifyZeroInteractions(context);
     }
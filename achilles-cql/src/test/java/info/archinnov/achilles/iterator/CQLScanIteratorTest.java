@@ -0,0 +1,147 @@
+package info.archinnov.achilles.iterator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.CQLEntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.query.scan.CQLPartitioner;
+import info.archinnov.achilles.query.scan.CQLTokenRange;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLScanIteratorTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLScanIteratorTest
+{
+    @Mock
+    private CQLDaoContext daoContext;
+
+    @Mock
+    private ReflectionInvoker invoker;
+
+    @Mock
+    private CQLEntityMapper mapper;
+
+    private EntityMeta meta = new EntityMeta();
+
+    private CQLTokenRange range1 = new CQLTokenRange(-100L, 0L);
+
+    private CQLTokenRange range2 = new CQLTokenRange(0L, 100L);
+
+    @Test
+    public void should_fetch_next_page_from_last_token_when_page_is_full() throws Exception
+    {
+        Row row1 = buildRow(-80L);
+        Row row2 = buildRow(-50L);
+        Row row3 = buildRow(-20L);
+        ResultSetFuture page1 = buildPage(row1, row2);
+        ResultSetFuture page2 = buildPage(row3);
+        when(daoContext.executeScanAsync(meta, "scan", -100L, 0L)).thenReturn(page1);
+        when(daoContext.executeScanAsync(meta, "scan", -50L, 0L)).thenReturn(page2);
+
+        CQLScanIterator<CompleteBean> iterator = buildIterator(Arrays.asList(range1), 1, 2);
+
+        List<CompleteBean> entities = new ArrayList<CompleteBean>();
+        while (iterator.hasNext())
+        {
+            entities.add(iterator.next());
+        }
+
+        assertThat(entities).hasSize(3);
+        verify(mapper).setEagerPropertiesToEntity(row1, meta, entities.get(0));
+        verify(mapper).setEagerPropertiesToEntity(row3, meta, entities.get(2));
+        verify(daoContext, times(2)).executeScanAsync(eq(meta), eq("scan"), any(), any());
+    }
+
+    @Test
+    public void should_start_next_range_once_current_range_is_done() throws Exception
+    {
+        ResultSetFuture page1 = buildPage(buildRow(-80L));
+        ResultSetFuture page2 = buildPage(buildRow(50L));
+        when(daoContext.executeScanAsync(meta, "scan", -100L, 0L)).thenReturn(page1);
+        when(daoContext.executeScanAsync(meta, "scan", 0L, 100L)).thenReturn(page2);
+
+        CQLScanIterator<CompleteBean> iterator = buildIterator(Arrays.asList(range1, range2), 1, 10);
+
+        verify(daoContext, never()).executeScanAsync(meta, "scan", 0L, 100L);
+
+        iterator.next();
+        assertThat(iterator.hasNext()).isTrue();
+        iterator.next();
+        assertThat(iterator.hasNext()).isFalse();
+        verify(daoContext).executeScanAsync(meta, "scan", 0L, 100L);
+    }
+
+    @Test
+    public void should_fetch_ranges_concurrently_up_to_parallelism() throws Exception
+    {
+        ResultSetFuture emptyPage = buildPage();
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(emptyPage);
+
+        CQLScanIterator<CompleteBean> iterator = buildIterator(Arrays.asList(range1, range2), 2, 10);
+
+        verify(daoContext).executeScanAsync(meta, "scan", -100L, 0L);
+        verify(daoContext).executeScanAsync(meta, "scan", 0L, 100L);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void should_exception_on_remove() throws Exception
+    {
+        buildIterator(new ArrayList<CQLTokenRange>(), 1, 10).remove();
+    }
+
+    private CQLScanIterator<CompleteBean> buildIterator(List<CQLTokenRange> ranges, int parallelism, int pageSize)
+    {
+        when(invoker.instanciate(CompleteBean.class)).thenAnswer(new Answer<CompleteBean>()
+        {
+            @Override
+            public CompleteBean answer(InvocationOnMock invocation) throws Throwable
+            {
+                return new CompleteBean();
+            }
+        });
+        CQLScanIterator<CompleteBean> iterator = new CQLScanIterator<CompleteBean>(CompleteBean.class, meta,
+                daoContext, CQLPartitioner.MURMUR3, "scan", ranges, parallelism, pageSize);
+        Whitebox.setInternalState(iterator, "invoker", invoker);
+        Whitebox.setInternalState(iterator, "mapper", mapper);
+        return iterator;
+    }
+
+    private Row buildRow(long token)
+    {
+        Row row = mock(Row.class, Answers.RETURNS_DEEP_STUBS.get());
+        when(row.getColumnDefinitions().size()).thenReturn(3);
+        when(row.getLong(2)).thenReturn(token);
+        return row;
+    }
+
+    private ResultSetFuture buildPage(Row... rows)
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(future.getUninterruptibly()).thenReturn(resultSet);
+        when(resultSet.all()).thenReturn(Arrays.asList(rows));
+        return future;
+    }
+}
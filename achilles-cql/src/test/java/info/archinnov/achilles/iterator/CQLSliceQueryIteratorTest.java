@@ -1,6 +1,7 @@
 package info.archinnov.achilles.iterator;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLPersistenceContext;
 import info.archinnov.achilles.entity.CQLEntityMapper;
@@ -10,6 +11,7 @@ import info.archinnov.achilles.proxy.CQLRowMethodInvoker;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.query.slice.CQLSliceQuery;
 import info.archinnov.achilles.test.mapping.entity.ClusteredEntity;
+import java.util.Arrays;
 import java.util.Iterator;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +21,8 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 
 /**
@@ -128,6 +132,75 @@ public class CQLSliceQueryIteratorTest {
         verify(mapper).setEagerPropertiesToEntity(row, meta, entity);
     }
 
+    @Test
+    public void should_get_next_read_only_clustered_entity() throws Exception
+    {
+        Whitebox.setInternalState(sliceIterator, "readOnly", true);
+        ClusteredEntity entity = new ClusteredEntity();
+        Row row = mock(Row.class);
+        when(iterator.next()).thenReturn(row);
+
+        when(cqlInvoker.invokeOnRowForType(row, String.class, "name")).thenReturn("name1");
+        when(invoker.instanciate(ClusteredEntity.class)).thenReturn(entity);
+
+        ClusteredEntity actual = sliceIterator.next();
+
+        assertThat(actual).isSameAs(entity);
+        verify(mapper).setEagerPropertiesToEntity(row, meta, entity);
+        verify(context, never()).duplicate(entity);
+        verifyZeroInteractions(proxifier);
+    }
+
+    @Test
+    public void should_fetch_next_batch_async_when_read_ahead_threshold_reached() throws Exception
+    {
+        Row row1 = mock(Row.class), row2 = mock(Row.class), row3 = mock(Row.class);
+        Whitebox.setInternalState(sliceIterator, "batchSize", 3);
+        Whitebox.setInternalState(sliceIterator, "readAheadThreshold", 2);
+        Whitebox.setInternalState(sliceIterator, "iterator", Arrays.asList(row1, row2, row3).iterator());
+
+        when(cqlInvoker.invokeOnRowForType(row3, String.class, "name")).thenReturn("name3");
+        when(invoker.instanciate(ClusteredEntity.class)).thenReturn(new ClusteredEntity());
+
+        ResultSetFuture futureRs = mock(ResultSetFuture.class);
+        ResultSet rs = mock(ResultSet.class);
+        Iterator<Row> nextIterator = mock(Iterator.class);
+        when(context.bindAndExecuteAsync(ps, "name3")).thenReturn(futureRs);
+        when(futureRs.getUninterruptibly()).thenReturn(rs);
+        when(rs.iterator()).thenReturn(nextIterator);
+        when(nextIterator.hasNext()).thenReturn(true);
+
+        sliceIterator.next();
+        verify(context, never()).bindAndExecuteAsync(eq(ps), any());
+
+        sliceIterator.next();
+        verify(context).bindAndExecuteAsync(ps, "name3");
+
+        sliceIterator.next();
+        assertThat(sliceIterator.hasNext()).isTrue();
+
+        assertThat(Whitebox.getInternalState(sliceIterator, "iterator")).isSameAs(nextIterator);
+        assertThat((Integer) Whitebox.getInternalState(sliceIterator, "count")).isEqualTo(0);
+        verify(context, never()).bindAndExecute(eq(ps), any());
+    }
+
+    @Test
+    public void should_not_fetch_next_batch_async_when_current_batch_is_not_full() throws Exception
+    {
+        Row row1 = mock(Row.class), row2 = mock(Row.class);
+        Whitebox.setInternalState(sliceIterator, "batchSize", 3);
+        Whitebox.setInternalState(sliceIterator, "readAheadThreshold", 1);
+        Whitebox.setInternalState(sliceIterator, "iterator", Arrays.asList(row1, row2).iterator());
+
+        when(invoker.instanciate(ClusteredEntity.class)).thenReturn(new ClusteredEntity());
+
+        sliceIterator.next();
+        sliceIterator.next();
+
+        assertThat(sliceIterator.hasNext()).isFalse();
+        verify(context, never()).bindAndExecuteAsync(eq(ps), any());
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void should_exception_when_calling_remove() throws Exception
     {
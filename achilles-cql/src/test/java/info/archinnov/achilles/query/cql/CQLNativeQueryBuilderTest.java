@@ -1,12 +1,13 @@
 package info.archinnov.achilles.query.cql;
 
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.CQLDaoContext;
 import info.archinnov.achilles.entity.operations.CQLNativeQueryMapper;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +20,6 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
 
 /**
  * CQLNativeQueryTest
@@ -50,13 +50,30 @@ public class CQLNativeQueryBuilderTest {
     {
         Whitebox.setInternalState(query, String.class, queryString);
         Whitebox.setInternalState(query, CQLNativeQueryMapper.class, mapper);
+        Whitebox.setInternalState(query, "boundValues", new Object[] {});
+    }
+
+    @Test
+    public void should_get_with_bound_values() throws Exception
+    {
+        Object[] boundValues = new Object[] { 10L, "name" };
+        Whitebox.setInternalState(query, "boundValues", boundValues);
+        List<Row> rows = Arrays.asList(row);
+        when(daoContext.executeQuery(queryString, 10L, "name").all()).thenReturn(rows);
+
+        List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
+        when(mapper.mapRows(rows)).thenReturn(result);
+
+        List<Map<String, Object>> actual = query.get();
+
+        assertThat(actual).isSameAs(result);
     }
 
     @Test
     public void should_get() throws Exception
     {
         List<Row> rows = Arrays.asList(row);
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(rows);
 
         List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
         when(mapper.mapRows(rows)).thenReturn(result);
@@ -71,7 +88,7 @@ public class CQLNativeQueryBuilderTest {
     {
 
         List<Row> rows = Arrays.asList(row);
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(rows);
 
         List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
         Map<String, Object> line = new LinkedHashMap<String, Object>();
@@ -87,7 +104,7 @@ public class CQLNativeQueryBuilderTest {
     {
 
         List<Row> rows = Arrays.asList(row);
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(rows);
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(rows);
 
         List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
         when(mapper.mapRows(rows)).thenReturn(result);
@@ -96,4 +113,20 @@ public class CQLNativeQueryBuilderTest {
         assertThat(actual).isNull();
     }
 
+    @Test
+    public void should_map_rows_lazily_with_iterator() throws Exception
+    {
+        Row row2 = mock(Row.class);
+        when(daoContext.executeQuery(anyString()).iterator()).thenReturn(Arrays.asList(row, row2).iterator());
+
+        Map<String, Object> line = new LinkedHashMap<String, Object>();
+        when(mapper.mapRow(row)).thenReturn(line);
+        when(mapper.mapRow(row2)).thenReturn(null);
+
+        Iterator<Map<String, Object>> iterator = query.iterator();
+        verifyZeroInteractions(mapper);
+
+        assertThat(iterator.next()).isSameAs(line);
+        assertThat(iterator.hasNext()).isFalse();
+    }
 }
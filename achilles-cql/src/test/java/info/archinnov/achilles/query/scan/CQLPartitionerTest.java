@@ -0,0 +1,76 @@
+package info.archinnov.achilles.query.scan;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * CQLPartitionerTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CQLPartitionerTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void should_find_partitioner_from_class_name() throws Exception
+    {
+        assertThat(CQLPartitioner.fromClassName("org.apache.cassandra.dht.Murmur3Partitioner")).isSameAs(
+                CQLPartitioner.MURMUR3);
+        assertThat(CQLPartitioner.fromClassName("org.apache.cassandra.dht.RandomPartitioner")).isSameAs(
+                CQLPartitioner.RANDOM);
+    }
+
+    @Test
+    public void should_exception_for_ordered_partitioner() throws Exception
+    {
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Token range scan is not supported for partitioner "
+                + "'org.apache.cassandra.dht.ByteOrderedPartitioner'");
+
+        CQLPartitioner.fromClassName("org.apache.cassandra.dht.ByteOrderedPartitioner");
+    }
+
+    @Test
+    public void should_split_murmur3_ring_into_contiguous_ranges() throws Exception
+    {
+        List<CQLTokenRange> ranges = CQLPartitioner.MURMUR3.split(4);
+
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0).getStartToken()).isEqualTo(Long.MIN_VALUE);
+        assertThat(ranges.get(3).getEndToken()).isEqualTo(Long.MAX_VALUE);
+        for (int i = 1; i < ranges.size(); i++)
+        {
+            assertThat(ranges.get(i).getStartToken()).isEqualTo(ranges.get(i - 1).getEndToken());
+        }
+    }
+
+    @Test
+    public void should_split_random_ring_into_contiguous_ranges() throws Exception
+    {
+        List<CQLTokenRange> ranges = CQLPartitioner.RANDOM.split(3);
+
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).getStartToken()).isEqualTo(BigInteger.valueOf(-1));
+        assertThat(ranges.get(1).getStartToken()).isEqualTo(ranges.get(0).getEndToken());
+        assertThat(ranges.get(2).getStartToken()).isEqualTo(ranges.get(1).getEndToken());
+        assertThat(ranges.get(2).getEndToken()).isEqualTo(BigInteger.valueOf(2).pow(127));
+    }
+
+    @Test
+    public void should_return_whole_ring_for_single_split() throws Exception
+    {
+        List<CQLTokenRange> ranges = CQLPartitioner.MURMUR3.split(1);
+
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getStartToken()).isEqualTo(Long.MIN_VALUE);
+        assertThat(ranges.get(0).getEndToken()).isEqualTo(Long.MAX_VALUE);
+    }
+}
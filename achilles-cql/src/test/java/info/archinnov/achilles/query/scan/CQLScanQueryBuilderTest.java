@@ -0,0 +1,193 @@
+package info.archinnov.achilles.query.scan;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.AchillesExecutor;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.CQLScanIterator;
+import info.archinnov.achilles.statement.CQLStatementGenerator;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+
+/**
+ * CQLScanQueryBuilderTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLScanQueryBuilderTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private CQLScanQueryBuilder<CompleteBean> builder;
+
+    @Mock
+    private CQLDaoContext daoContext;
+
+    @Mock
+    private CQLStatementGenerator statementGenerator;
+
+    private AchillesExecutor executor = new AchillesExecutor(2);
+
+    private EntityMeta meta = new EntityMeta();
+
+    @Before
+    public void setUp()
+    {
+        meta.setEagerMetas(new ArrayList<PropertyMeta>());
+        when(daoContext.getScanParallelism()).thenReturn(2);
+        when(daoContext.getScanPageSize()).thenReturn(100);
+        when(daoContext.getPartitioner()).thenReturn("org.apache.cassandra.dht.Murmur3Partitioner");
+        when(daoContext.getExecutor()).thenReturn(executor);
+        when(statementGenerator.generateScanQuery(eq(meta), anyInt())).thenReturn("scan");
+
+        builder = new CQLScanQueryBuilder<CompleteBean>(CompleteBean.class, meta, daoContext);
+        Whitebox.setInternalState(builder, CQLStatementGenerator.class, statementGenerator);
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdown();
+    }
+
+    @Test
+    public void should_split_ring_by_parallelism_and_page_size() throws Exception
+    {
+        ResultSetFuture emptyPage = buildPage();
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(emptyPage);
+
+        Iterator<CompleteBean> iterator = builder.parallelism(3).pageSize(50).iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        verify(statementGenerator).generateScanQuery(meta, 50);
+        verify(daoContext, times(12)).executeScanAsync(eq(meta), eq("scan"), any(), any());
+    }
+
+    @Test
+    public void should_split_ring_into_given_split_count() throws Exception
+    {
+        ResultSetFuture emptyPage = buildPage();
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(emptyPage);
+
+        CQLScanIterator<CompleteBean> iterator = (CQLScanIterator<CompleteBean>) builder.splitCount(5).iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        verify(statementGenerator).generateScanQuery(meta, 100);
+        verify(daoContext, times(5)).executeScanAsync(eq(meta), eq("scan"), any(), any());
+    }
+
+    @Test
+    public void should_pass_entities_of_all_ranges_to_consumer() throws Exception
+    {
+        ResultSetFuture page = buildPage(mock(Row.class, Answers.RETURNS_DEEP_STUBS.get()));
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(page);
+        final ConcurrentLinkedQueue<CompleteBean> scanned = new ConcurrentLinkedQueue<CompleteBean>();
+
+        long count = builder.splitCount(6).forEach(new CQLScanConsumer<CompleteBean>()
+        {
+            @Override
+            public void accept(CompleteBean entity)
+            {
+                scanned.add(entity);
+            }
+        });
+
+        assertThat(count).isEqualTo(6L);
+        assertThat(scanned).hasSize(6);
+    }
+
+    @Test
+    public void should_rethrow_consumer_failure() throws Exception
+    {
+        ResultSetFuture page = buildPage(mock(Row.class, Answers.RETURNS_DEEP_STUBS.get()));
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(page);
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("indexing failure");
+
+        builder.forEach(new CQLScanConsumer<CompleteBean>()
+        {
+            @Override
+            public void accept(CompleteBean entity)
+            {
+                throw new IllegalStateException("indexing failure");
+            }
+        });
+    }
+
+    @Test(timeout = 5000)
+    public void should_fail_fast_without_waiting_for_other_workers() throws Exception
+    {
+        ResultSetFuture page = buildPage(mock(Row.class, Answers.RETURNS_DEEP_STUBS.get()));
+        when(daoContext.executeScanAsync(eq(meta), eq("scan"), any(), any())).thenReturn(page);
+        final AtomicBoolean firstEntity = new AtomicBoolean(true);
+        final CountDownLatch neverReleased = new CountDownLatch(1);
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("indexing failure");
+
+        builder.splitCount(2).forEach(new CQLScanConsumer<CompleteBean>()
+        {
+            @Override
+            public void accept(CompleteBean entity)
+            {
+                if (firstEntity.getAndSet(false))
+                {
+                    try
+                    {
+                        neverReleased.await();
+                    }
+                    catch (InterruptedException e)
+                    {
+                        return;
+                    }
+                }
+                throw new IllegalStateException("indexing failure");
+            }
+        });
+    }
+
+    @Test
+    public void should_exception_when_page_size_not_positive() throws Exception
+    {
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Scan page size should be strictly positive");
+
+        builder.pageSize(0);
+    }
+
+    private ResultSetFuture buildPage(Row... rows)
+    {
+        ResultSetFuture future = mock(ResultSetFuture.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        List<Row> page = Arrays.asList(rows);
+        when(future.getUninterruptibly()).thenReturn(resultSet);
+        when(resultSet.all()).thenReturn(page);
+        return future;
+    }
+}
@@ -17,6 +17,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,7 +31,6 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.SimpleStatement;
 
 /**
  * CQLTypedQueryBuilderTest
@@ -97,7 +97,7 @@ public class CQLTypedQueryBuilderTest {
         String queryString = "select * from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(Arrays.asList(row));
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
         when(contextFactory.newContext(entity)).thenReturn(context);
         when(proxifier.buildProxy(eq(entity), eq(context), alreadyLoadedCaptor.capture())).thenReturn(entity);
@@ -109,6 +109,31 @@ public class CQLTypedQueryBuilderTest {
         assertThat(alreadyLoadedCaptor.getValue()).contains(idMeta.getGetter(), nameMeta.getGetter());
     }
 
+    @Test
+    public void should_get_all_raw_with_bound_values() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .type(PropertyType.ID)
+                .accessors()
+                .build();
+
+        EntityMeta meta = buildEntityMeta(idMeta);
+
+        String queryString = "select * from test where id = ?";
+        initBuilder(queryString, meta, meta.getPropertyMetas(), false);
+        Whitebox.setInternalState(builder, "boundValues", new Object[] { 10L });
+
+        when(daoContext.executeQuery(queryString, 10L).all()).thenReturn(Arrays.asList(row));
+        when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
+
+        List<CompleteBean> actual = builder.get();
+
+        assertThat(actual).containsExactly(entity);
+        verifyZeroInteractions(contextFactory, proxifier);
+    }
+
     @Test
     public void should_get_all_managed_with_normal_select() throws Exception
     {
@@ -138,7 +163,7 @@ public class CQLTypedQueryBuilderTest {
         String queryString = " select id, name   from  test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(Arrays.asList(row));
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
         when(contextFactory.newContext(entity)).thenReturn(context);
         when(proxifier.buildProxy(eq(entity), eq(context), alreadyLoadedCaptor.capture())).thenReturn(entity);
@@ -156,7 +181,7 @@ public class CQLTypedQueryBuilderTest {
         EntityMeta meta = buildEntityMeta();
         initBuilder("select * from test", meta, meta.getPropertyMetas(), true);
 
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(Arrays.asList(row));
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(null);
 
         List<CompleteBean> actual = builder.get();
@@ -186,7 +211,7 @@ public class CQLTypedQueryBuilderTest {
         String queryString = "select * from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), false);
 
-        when(daoContext.execute(any(SimpleStatement.class)).all()).thenReturn(Arrays.asList(row));
+        when(daoContext.executeQuery(anyString()).all()).thenReturn(Arrays.asList(row));
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
 
         List<CompleteBean> actual = builder.get();
@@ -218,7 +243,7 @@ public class CQLTypedQueryBuilderTest {
         String queryString = "select id from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), true);
 
-        when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+        when(daoContext.executeQuery(anyString()).one()).thenReturn(row);
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
         when(contextFactory.newContext(entity)).thenReturn(context);
         when(proxifier.buildProxy(eq(entity), eq(context), alreadyLoadedCaptor.capture())).thenReturn(entity);
@@ -250,7 +275,7 @@ public class CQLTypedQueryBuilderTest {
         String queryString = "select id from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), false);
 
-        when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+        when(daoContext.executeQuery(anyString()).one()).thenReturn(row);
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
 
         CompleteBean actual = builder.getFirst();
@@ -266,7 +291,7 @@ public class CQLTypedQueryBuilderTest {
         EntityMeta meta = buildEntityMeta();
         String queryString = "select id from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), false);
-        when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(null);
+        when(daoContext.executeQuery(anyString()).one()).thenReturn(null);
         CompleteBean actual = builder.getFirst();
 
         assertThat(actual).isNull();
@@ -281,7 +306,7 @@ public class CQLTypedQueryBuilderTest {
         EntityMeta meta = buildEntityMeta();
         String queryString = "select id from test";
         initBuilder(queryString, meta, meta.getPropertyMetas(), false);
-        when(daoContext.execute(any(SimpleStatement.class)).one()).thenReturn(row);
+        when(daoContext.executeQuery(anyString()).one()).thenReturn(row);
         when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(null);
 
         CompleteBean actual = builder.getFirst();
@@ -292,6 +317,44 @@ public class CQLTypedQueryBuilderTest {
 
     }
 
+    @Test
+    public void should_iterate_managed_entities_lazily() throws Exception
+    {
+        EntityMeta meta = buildEntityMeta();
+        String queryString = "select id from test";
+        initBuilder(queryString, meta, meta.getPropertyMetas(), true);
+
+        Row row2 = mock(Row.class);
+        when(daoContext.executeQuery(anyString()).iterator()).thenReturn(Arrays.asList(row, row2).iterator());
+        when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
+        when(mapper.mapRowToEntity(eq(entityClass), eq(row2), any(Map.class))).thenReturn(null);
+        when(contextFactory.newContext(entity)).thenReturn(context);
+        when(proxifier.buildProxy(eq(entity), eq(context), any(Set.class))).thenReturn(entity);
+
+        Iterator<CompleteBean> iterator = builder.iterator();
+        verifyZeroInteractions(mapper);
+
+        assertThat(iterator.next()).isSameAs(entity);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void should_iterate_raw_entities() throws Exception
+    {
+        EntityMeta meta = buildEntityMeta();
+        String queryString = "select id from test";
+        initBuilder(queryString, meta, meta.getPropertyMetas(), false);
+
+        when(daoContext.executeQuery(anyString()).iterator()).thenReturn(Arrays.asList(row).iterator());
+        when(mapper.mapRowToEntity(eq(entityClass), eq(row), any(Map.class))).thenReturn(entity);
+
+        Iterator<CompleteBean> iterator = builder.iterator();
+
+        assertThat(iterator.next()).isSameAs(entity);
+        assertThat(iterator.hasNext()).isFalse();
+        verifyZeroInteractions(contextFactory, proxifier);
+    }
+
     private EntityMeta buildEntityMeta(PropertyMeta... pms) {
         EntityMeta meta = new EntityMeta();
         Map<String, PropertyMeta> propertyMetas = new HashMap<String, PropertyMeta>();
@@ -88,6 +88,17 @@ public class CQLStatementGeneratorTest {
         assertThat(select.getQueryString()).isEqualTo("SELECT id,a,b,age,name,label FROM table;");
     }
 
+    @Test
+    public void should_generate_scan_query() throws Exception
+    {
+        EntityMeta meta = prepareEntityMeta("id");
+
+        String scanQuery = generator.generateScanQuery(meta, 500);
+
+        assertThat(scanQuery).isEqualTo(
+                "SELECT id,age,name,label,token(id) FROM table WHERE token(id)>? AND token(id)<=? LIMIT 500");
+    }
+
     @Test
     public void should_generate_slice_select_query() throws Exception
     {
@@ -196,4 +196,56 @@ public class CacheManagerTest
         assertThat(cacheKey.getType()).isEqualTo(CacheType.UPDATE_FIELDS);
         assertThat(cacheKey.getFields()).containsOnly("name", "age");
     }
+
+    @Test
+    public void should_get_cache_for_collection_addition() throws Exception
+    {
+        EntityMeta meta = new EntityMeta();
+        meta.setTableName("table");
+
+        PropertyMeta followersMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("followers")
+                .type(PropertyType.SET)
+                .build();
+
+        when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(null);
+        when(generator.prepareCollectionAddition(session, meta, followersMeta)).thenReturn(ps);
+
+        PreparedStatement actual = manager.getCacheForCollectionDelta(session, cache, context, followersMeta,
+                CacheType.ADD_TO_COLLECTION);
+
+        assertThat(actual).isSameAs(ps);
+        StatementCacheKey cacheKey = cacheKeyCaptor.getValue();
+        assertThat(cacheKey.getTableName()).isEqualTo("table");
+        assertThat(cacheKey.getType()).isEqualTo(CacheType.ADD_TO_COLLECTION);
+        assertThat(cacheKey.getFields()).containsOnly("followers");
+        verify(cache).put(cacheKey, ps);
+    }
+
+    @Test
+    public void should_get_cache_for_map_entry_removal() throws Exception
+    {
+        EntityMeta meta = new EntityMeta();
+        meta.setTableName("table");
+
+        PropertyMeta preferencesMeta = PropertyMetaTestBuilder
+                .completeBean(Integer.class, String.class)
+                .field("preferences")
+                .type(PropertyType.MAP)
+                .build();
+
+        when((Class<CompleteBean>) context.getEntityClass()).thenReturn(CompleteBean.class);
+        when(context.getEntityMeta()).thenReturn(meta);
+        when(cache.getIfPresent(cacheKeyCaptor.capture())).thenReturn(ps);
+
+        PreparedStatement actual = manager.getCacheForCollectionDelta(session, cache, context, preferencesMeta,
+                CacheType.REMOVE_MAP_ENTRY);
+
+        assertThat(actual).isSameAs(ps);
+        assertThat(cacheKeyCaptor.getValue().getType()).isEqualTo(CacheType.REMOVE_MAP_ENTRY);
+        verifyZeroInteractions(generator);
+    }
 }
@@ -16,6 +16,7 @@ import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.CompoundKey;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang.math.RandomUtils;
 import org.codehaus.jackson.map.ObjectMapper;
@@ -23,11 +24,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
-import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
+import com.google.common.collect.Sets;
 
 /**
  * CQLPreparedStatementBinderTest
@@ -51,6 +52,9 @@ public class CQLPreparedStatementBinderTest
     @Mock
     private BoundStatement bs;
 
+    @Mock
+    private CQLRoutedStatementFactory statementFactory;
+
     @Mock
     private DataTranscoder transcoder;
 
@@ -109,14 +113,14 @@ public class CQLPreparedStatementBinderTest
         entityMeta.setAllMetasExceptIdMeta(Arrays.asList(nameMeta, ageMeta, counterMeta));
 
         when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-        when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-        when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
+        when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+        when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
         when(transcoder.encode(nameMeta, name)).thenReturn(name);
         when(transcoder.encode(ageMeta, age)).thenReturn(age);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForInsert(ps, entityMeta, entity);
 
@@ -167,14 +171,14 @@ public class CQLPreparedStatementBinderTest
         String name = "name";
 
         when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-        when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-        when(invoker.getValueFromField(entity, userMeta.getGetter())).thenReturn(user);
+        when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+        when(invoker.getValueFromField(entity, userMeta)).thenReturn(user);
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
         when(transcoder.encode(nameMeta, name)).thenReturn(name);
         when(transcoder.encode(userMeta, user)).thenReturn(joinId);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForInsert(ps, entityMeta, entity);
 
@@ -216,14 +220,14 @@ public class CQLPreparedStatementBinderTest
         long primaryKey = RandomUtils.nextLong();
         String name = "name";
         when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-        when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-        when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(null);
+        when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+        when(invoker.getValueFromField(entity, ageMeta)).thenReturn(null);
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
         when(transcoder.encode(nameMeta, name)).thenReturn(name);
         when(transcoder.encode(eq(ageMeta), any())).thenReturn(null);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForInsert(ps, entityMeta, entity);
 
@@ -261,12 +265,12 @@ public class CQLPreparedStatementBinderTest
         CompoundKey compoundKey = new CompoundKey(userId, name);
 
         when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(compoundKey);
-        when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
+        when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
 
         when(transcoder.encodeToComponents(idMeta, compoundKey)).thenReturn((List) Arrays.asList(userId, name));
         when(transcoder.encode(ageMeta, age)).thenReturn(age);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) userId), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForInsert(ps, entityMeta, entity);
 
@@ -289,12 +293,13 @@ public class CQLPreparedStatementBinderTest
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindStatementWithOnlyPKInWhereClause(ps, entityMeta, primaryKey);
 
         assertThat(actual.getBs()).isSameAs(bs);
         assertThat(Arrays.asList(actual.getValues())).containsExactly(primaryKey);
+        assertThat(actual.isCounter()).isFalse();
     }
 
     @Test
@@ -331,14 +336,14 @@ public class CQLPreparedStatementBinderTest
         String name = "name";
 
         when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
-        when(invoker.getValueFromField(entity, nameMeta.getGetter())).thenReturn(name);
-        when(invoker.getValueFromField(entity, ageMeta.getGetter())).thenReturn(age);
+        when(invoker.getValueFromField(entity, nameMeta)).thenReturn(name);
+        when(invoker.getValueFromField(entity, ageMeta)).thenReturn(age);
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
         when(transcoder.encode(nameMeta, name)).thenReturn(name);
         when(transcoder.encode(ageMeta, age)).thenReturn(age);
 
-        when(ps.bind(Matchers.<Object> anyVararg())).thenReturn(bs);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForUpdate(ps, entityMeta,
                 Arrays.asList(nameMeta, ageMeta), entity);
@@ -347,6 +352,76 @@ public class CQLPreparedStatementBinderTest
         assertThat(Arrays.asList(actual.getValues())).containsExactly(name, age, primaryKey);
     }
 
+    @Test
+    public void should_bind_for_collection_delta() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .accessors()
+                .type(ID)
+                .transcoder(transcoder)
+                .build();
+
+        PropertyMeta followersMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("followers")
+                .accessors()
+                .type(SET)
+                .transcoder(transcoder)
+                .build();
+
+        entityMeta.setIdMeta(idMeta);
+
+        long primaryKey = RandomUtils.nextLong();
+        Set<Object> addedFollowers = Sets.<Object> newHashSet("Paul");
+
+        when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
+        when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
+        when(transcoder.encode(followersMeta, addedFollowers)).thenReturn(addedFollowers);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
+
+        BoundStatementWrapper actual = binder.bindForCollectionDelta(ps, entityMeta, followersMeta,
+                addedFollowers, entity);
+
+        assertThat(actual.getBs()).isSameAs(bs);
+        assertThat(Arrays.asList(actual.getValues())).containsExactly(addedFollowers, primaryKey);
+    }
+
+    @Test
+    public void should_bind_for_map_entry_removal() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .accessors()
+                .type(ID)
+                .transcoder(transcoder)
+                .build();
+
+        PropertyMeta preferencesMeta = PropertyMetaTestBuilder
+                .completeBean(Integer.class, String.class)
+                .field("preferences")
+                .accessors()
+                .type(MAP)
+                .transcoder(transcoder)
+                .build();
+
+        entityMeta.setIdMeta(idMeta);
+
+        long primaryKey = RandomUtils.nextLong();
+
+        when(invoker.getPrimaryKey(entity, idMeta)).thenReturn(primaryKey);
+        when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
+        when(transcoder.encodeKey(preferencesMeta, 2)).thenReturn(2);
+        when(statementFactory.bind(eq(ps), eq((Object) primaryKey), any(Object[].class))).thenReturn(bs);
+
+        BoundStatementWrapper actual = binder.bindForMapEntryRemoval(ps, entityMeta, preferencesMeta, 2, entity);
+
+        assertThat(actual.getBs()).isSameAs(bs);
+        assertThat(Arrays.asList(actual.getValues())).containsExactly(2, primaryKey);
+    }
+
     @Test
     public void should_bind_for_simple_counter_increment_decrement() throws Exception
     {
@@ -371,7 +446,10 @@ public class CQLPreparedStatementBinderTest
 
         when(transcoder.forceEncodeToJSON(primaryKey)).thenReturn(primaryKey.toString());
         when(transcoder.forceEncodeToJSON(counter)).thenReturn(counter.toString());
-        when(ps.bind(counter, "CompleteBean", primaryKey.toString(), "counter")).thenReturn(bs);
+        when(statementFactory.bind(ps, "CompleteBean", new Object[]
+        {
+                counter, "CompleteBean", primaryKey.toString(), "counter"
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForSimpleCounterIncrementDecrement(ps, meta, counterMeta,
                 primaryKey, counter);
@@ -379,6 +457,7 @@ public class CQLPreparedStatementBinderTest
         assertThat(actual.getBs()).isSameAs(bs);
         assertThat(Arrays.asList(actual.getValues())).containsExactly(counter, "CompleteBean", primaryKey.toString(),
                 "counter");
+        assertThat(actual.isCounter()).isTrue();
     }
 
     @Test
@@ -403,7 +482,10 @@ public class CQLPreparedStatementBinderTest
         Long primaryKey = RandomUtils.nextLong();
 
         when(transcoder.forceEncodeToJSON(primaryKey)).thenReturn(primaryKey.toString());
-        when(ps.bind("CompleteBean", primaryKey.toString(), "counter")).thenReturn(bs);
+        when(statementFactory.bind(ps, "CompleteBean", new Object[]
+        {
+                "CompleteBean", primaryKey.toString(), "counter"
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForSimpleCounterSelect(ps, meta, counterMeta, primaryKey);
 
@@ -434,14 +516,17 @@ public class CQLPreparedStatementBinderTest
         Long primaryKey = RandomUtils.nextLong();
 
         when(transcoder.forceEncodeToJSON(primaryKey)).thenReturn(primaryKey.toString());
-        when(ps.bind("CompleteBean", primaryKey.toString(), "counter")).thenReturn(bs);
+        when(statementFactory.bind(ps, "CompleteBean", new Object[]
+        {
+                "CompleteBean", primaryKey.toString(), "counter"
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForSimpleCounterDelete(ps, meta, counterMeta, primaryKey);
 
         assertThat(actual.getBs()).isSameAs(bs);
         assertThat(Arrays.asList(actual.getValues())).containsExactly("CompleteBean", primaryKey.toString(),
                 "counter");
-
+        assertThat(actual.isCounter()).isTrue();
     }
 
     @Test
@@ -468,14 +553,17 @@ public class CQLPreparedStatementBinderTest
         Long counter = RandomUtils.nextLong();
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
-        when(ps.bind(counter, primaryKey)).thenReturn(bs);
+        when(statementFactory.bind(ps, primaryKey, new Object[]
+        {
+                counter, primaryKey
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForClusteredCounterIncrementDecrement(ps, meta, counterMeta,
                 primaryKey, counter);
 
         assertThat(actual.getBs()).isSameAs(bs);
         assertThat(Arrays.asList(actual.getValues())).containsExactly(counter, primaryKey);
-
+        assertThat(actual.isCounter()).isTrue();
     }
 
     @Test
@@ -501,7 +589,10 @@ public class CQLPreparedStatementBinderTest
         Long primaryKey = RandomUtils.nextLong();
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
-        when(ps.bind(primaryKey)).thenReturn(bs);
+        when(statementFactory.bind(ps, primaryKey, new Object[]
+        {
+                primaryKey
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForClusteredCounterSelect(ps, meta, counterMeta, primaryKey);
 
@@ -533,12 +624,16 @@ public class CQLPreparedStatementBinderTest
         Long primaryKey = RandomUtils.nextLong();
 
         when(transcoder.encode(idMeta, primaryKey)).thenReturn(primaryKey);
-        when(ps.bind(primaryKey)).thenReturn(bs);
+        when(statementFactory.bind(ps, primaryKey, new Object[]
+        {
+                primaryKey
+        })).thenReturn(bs);
 
         BoundStatementWrapper actual = binder.bindForClusteredCounterDelete(ps, meta, counterMeta, primaryKey);
 
         assertThat(actual.getBs()).isSameAs(bs);
 
         assertThat(Arrays.asList(actual.getValues())).containsExactly(primaryKey);
+        assertThat(actual.isCounter()).isTrue();
     }
 }
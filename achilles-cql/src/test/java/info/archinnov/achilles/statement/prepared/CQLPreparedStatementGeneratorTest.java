@@ -210,6 +210,61 @@ public class CQLPreparedStatementGeneratorTest
         assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET name=?,age=? WHERE id=?;");
     }
 
+    @Test
+    public void should_prepare_collection_delta_ps() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .type(PropertyType.SIMPLE)
+                .build();
+
+        PropertyMeta followersMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("followers")
+                .type(PropertyType.SET)
+                .build();
+
+        EntityMeta meta = new EntityMeta();
+        meta.setTableName("table");
+        meta.setIdMeta(idMeta);
+
+        when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+        assertThat(generator.prepareCollectionAddition(session, meta, followersMeta)).isSameAs(ps);
+        assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET followers=followers+? WHERE id=?;");
+
+        assertThat(generator.prepareCollectionRemoval(session, meta, followersMeta)).isSameAs(ps);
+        assertThat(queryCaptor.getValue()).isEqualTo("UPDATE table SET followers=followers-? WHERE id=?;");
+    }
+
+    @Test
+    public void should_prepare_map_entry_removal_ps() throws Exception
+    {
+        PropertyMeta idMeta = PropertyMetaTestBuilder
+                .completeBean(Void.class, Long.class)
+                .field("id")
+                .type(PropertyType.SIMPLE)
+                .build();
+
+        PropertyMeta preferencesMeta = PropertyMetaTestBuilder
+                .completeBean(Integer.class, String.class)
+                .field("preferences")
+                .type(PropertyType.MAP)
+                .build();
+
+        EntityMeta meta = new EntityMeta();
+        meta.setTableName("table");
+        meta.setIdMeta(idMeta);
+
+        when(session.prepare(queryCaptor.capture())).thenReturn(ps);
+
+        PreparedStatement actual = generator.prepareMapEntryRemoval(session, meta, preferencesMeta);
+
+        assertThat(actual).isSameAs(ps);
+        assertThat(queryCaptor.getValue()).isEqualTo("DELETE preferences[?] FROM table WHERE id=?;");
+    }
+
     @Test
     public void should_prepare_update_fields_with_clustered_id_ps() throws Exception
     {
@@ -0,0 +1,67 @@
+package info.archinnov.achilles.statement.prepared;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+
+/**
+ * CQLRoutedStatementFactoryTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CQLRoutedStatementFactoryTest
+{
+    private CQLRoutedStatementFactory factory = new CQLRoutedStatementFactory();
+
+    @Mock
+    private PreparedStatement ps;
+
+    @Mock
+    private ColumnDefinitions variables;
+
+    @Before
+    public void setUp()
+    {
+        when(ps.getVariables()).thenReturn(variables);
+        when(variables.size()).thenReturn(0);
+    }
+
+    @Test
+    public void should_bind_with_serialized_partition_key_as_routing_key() throws Exception
+    {
+        BoundStatement bs = factory.bind(ps, 10L, new Object[] {});
+
+        assertThat(bs).isInstanceOf(RoutedBoundStatement.class);
+        assertThat(bs.getRoutingKey()).isEqualTo(DataType.bigint().serialize(10L));
+    }
+
+    @Test
+    public void should_serialize_routing_key_by_java_type() throws Exception
+    {
+        UUID uuid = new UUID(10L, 11L);
+
+        assertThat(factory.serializeRoutingKey("CompleteBean")).isEqualTo(
+                ByteBuffer.wrap("CompleteBean".getBytes("UTF-8")));
+        assertThat(factory.serializeRoutingKey(5)).isEqualTo(DataType.cint().serialize(5));
+        assertThat(factory.serializeRoutingKey(uuid)).isEqualTo(DataType.uuid().serialize(uuid));
+    }
+
+    @Test
+    public void should_not_set_routing_key_for_null_partition_key() throws Exception
+    {
+        assertThat(factory.serializeRoutingKey(null)).isNull();
+        assertThat(factory.bind(ps, null, new Object[] {}).getRoutingKey()).isNull();
+    }
+}
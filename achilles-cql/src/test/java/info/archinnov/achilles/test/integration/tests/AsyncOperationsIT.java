@@ -0,0 +1,141 @@
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.manager.CQLEntityManager;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.proxy.wrapper.CounterBuilder;
+import info.archinnov.achilles.test.integration.entity.ClusteredEntityWithCounter;
+import info.archinnov.achilles.test.integration.entity.ClusteredEntityWithCounter.ClusteredKey;
+import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * AsyncOperationsIT
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class AsyncOperationsIT
+{
+    @Rule
+    public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, "CompleteBean",
+            "clustered_with_counter_value");
+
+    private CQLEntityManager em = resource.getEm();
+
+    private Session session = em.getNativeSession();
+
+    @Test
+    public void should_persist_async() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder
+                .builder()
+                .randomId()
+                .name("DuyHai")
+                .age(35L)
+                .addFriends("foo", "bar")
+                .version(CounterBuilder.incr(15L))
+                .buid();
+
+        em.persistAsync(entity).get();
+
+        Row row = session.execute("select name,age_in_years,friends from completebean where id = "
+                + entity.getId()).one();
+
+        assertThat(row.getString("name")).isEqualTo("DuyHai");
+        assertThat(row.getLong("age_in_years")).isEqualTo(35L);
+        assertThat(row.getList("friends", String.class)).containsExactly("foo", "bar");
+    }
+
+    @Test
+    public void should_find_many_entities_async() throws Exception
+    {
+        List<Long> ids = new ArrayList<Long>();
+        for (int i = 0; i < 10; i++)
+        {
+            CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid();
+            em.persist(entity);
+            ids.add(entity.getId());
+        }
+
+        List<ListenableFuture<CompleteBean>> futures = new ArrayList<ListenableFuture<CompleteBean>>();
+        for (Long id : ids)
+        {
+            futures.add(em.findAsync(CompleteBean.class, id));
+        }
+        List<CompleteBean> founds = Futures.allAsList(futures).get();
+
+        assertThat(founds).hasSize(10);
+        for (int i = 0; i < 10; i++)
+        {
+            assertThat(founds.get(i).getId()).isEqualTo(ids.get(i));
+            assertThat(founds.get(i).getName()).isEqualTo("name" + i);
+        }
+    }
+
+    @Test
+    public void should_return_null_when_not_found_async() throws Exception
+    {
+        CompleteBean found = em.findAsync(CompleteBean.class, RandomUtils.nextLong()).get();
+
+        assertThat(found).isNull();
+    }
+
+    @Test
+    public void should_merge_async() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        CompleteBean managed = em.mergeAsync(entity).get();
+
+        managed.setName("Jonathan");
+        em.mergeAsync(managed).get();
+
+        CompleteBean found = em.findAsync(CompleteBean.class, entity.getId()).get();
+        assertThat(found.getName()).isEqualTo("Jonathan");
+    }
+
+    @Test
+    public void should_remove_async() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        entity = em.merge(entity);
+
+        em.removeAsync(entity).get();
+
+        assertThat(em.find(CompleteBean.class, entity.getId())).isNull();
+    }
+
+    @Test
+    public void should_remove_by_id_async() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        em.persist(entity);
+
+        em.removeByIdAsync(CompleteBean.class, entity.getId()).get();
+
+        assertThat(em.find(CompleteBean.class, entity.getId())).isNull();
+    }
+
+    @Test
+    public void should_find_clustered_counter_async() throws Exception
+    {
+        ClusteredKey compoundKey = new ClusteredKey(RandomUtils.nextLong(), "name");
+        ClusteredEntityWithCounter entity = new ClusteredEntityWithCounter(compoundKey, CounterBuilder.incr(3L));
+        em.persist(entity);
+
+        ClusteredEntityWithCounter found = em.findAsync(ClusteredEntityWithCounter.class, compoundKey).get();
+
+        assertThat(found).isNotNull();
+        assertThat(found.getCounter().get()).isEqualTo(3L);
+    }
+}
@@ -13,6 +13,7 @@ import info.archinnov.achilles.test.integration.entity.ClusteredEntity.Clustered
 import info.archinnov.achilles.type.OptionsBuilder;
 import java.util.Iterator;
 import java.util.List;
+import net.sf.cglib.proxy.Factory;
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
@@ -450,6 +451,62 @@ public class ClusteredEntityIT
         assertThat(iter.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_iterate_with_read_ahead() throws Exception
+    {
+        long partitionKey = RandomUtils.nextLong();
+        String clusteredValuePrefix = insertValues(partitionKey, 1, 5);
+
+        Iterator<ClusteredEntity> iter = em.sliceQuery(ClusteredEntity.class)
+                .partitionKey(partitionKey)
+                .readAhead(0.5)
+                .fromClusterings(1)
+                .toClusterings(1)
+                .iterator(2);
+
+        for (int i = 1; i <= 5; i++)
+        {
+            assertThat(iter.hasNext()).isTrue();
+            assertThat(iter.next().getValue()).isEqualTo(clusteredValuePrefix + i);
+        }
+        assertThat(iter.hasNext()).isFalse();
+    }
+
+    @Test
+    public void should_query_and_iterate_read_only() throws Exception
+    {
+        long partitionKey = RandomUtils.nextLong();
+        String clusteredValuePrefix = insertValues(partitionKey, 1, 3);
+
+        List<ClusteredEntity> entities = em.sliceQuery(ClusteredEntity.class)
+                .partitionKey(partitionKey)
+                .readOnly()
+                .get();
+
+        assertThat(entities).hasSize(3);
+        assertThat(entities.get(0)).isNotInstanceOf(Factory.class);
+        assertThat(entities.get(0).getValue()).isEqualTo(clusteredValuePrefix + 1);
+        assertThat(entities.get(2).getId().getName()).isEqualTo("name3");
+
+        Iterator<ClusteredEntity> iter = em.sliceQuery(ClusteredEntity.class)
+                .partitionKey(partitionKey)
+                .readOnly()
+                .fromClusterings(1)
+                .toClusterings(1)
+                .iterator(2);
+
+        assertThat(iter.hasNext()).isTrue();
+        ClusteredEntity next = iter.next();
+        assertThat(next).isNotInstanceOf(Factory.class);
+        assertThat(next.getValue()).isEqualTo(clusteredValuePrefix + 1);
+        iter.next();
+        assertThat(iter.hasNext()).isTrue();
+        next = iter.next();
+        assertThat(next.getId().getName()).isEqualTo("name3");
+        assertThat(next.getValue()).isEqualTo(clusteredValuePrefix + 3);
+        assertThat(iter.hasNext()).isFalse();
+    }
+
     @Test
     public void should_check_for_common_operation_on_found_clustered_entity_by_iterator() throws Exception
     {
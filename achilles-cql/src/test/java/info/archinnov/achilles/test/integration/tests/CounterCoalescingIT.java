@@ -0,0 +1,89 @@
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.context.CQLDaoContext;
+import info.archinnov.achilles.counter.AchillesCounter;
+import info.archinnov.achilles.counter.CQLCounterCoalescer;
+import info.archinnov.achilles.entity.manager.CQLEntityManager;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.proxy.wrapper.CounterBuilder;
+import info.archinnov.achilles.test.integration.entity.ClusteredEntityWithCounter;
+import info.archinnov.achilles.test.integration.entity.ClusteredEntityWithCounter.ClusteredKey;
+import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * CounterCoalescingIT
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterCoalescingIT
+{
+    @Rule
+    public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, "CompleteBean",
+            AchillesCounter.CQL_COUNTER_TABLE, "clustered_with_counter_value");
+
+    private CQLEntityManager em = resource.getEm();
+
+    private CQLDaoContext daoContext;
+
+    private CQLCounterCoalescer coalescer;
+
+    @Before
+    public void setUp()
+    {
+        daoContext = Whitebox.getInternalState(resource.getFactory(), CQLDaoContext.class);
+        coalescer = new CQLCounterCoalescer(daoContext, 60000, 10000);
+        daoContext.setCounterCoalescer(coalescer);
+    }
+
+    @After
+    public void tearDown()
+    {
+        daoContext.setCounterCoalescer(null);
+        coalescer.shutdown();
+    }
+
+    @Test
+    public void should_coalesce_simple_counter_increments() throws Exception
+    {
+        CompleteBean bean = em.merge(CompleteBeanTestBuilder.builder().randomId().name("test").buid());
+
+        for (int i = 0; i < 100; i++)
+        {
+            bean.getVersion().incr();
+        }
+        bean.getVersion().decr(10L);
+
+        assertThat(coalescer.getPendingDeltas()).isEqualTo(1);
+        assertThat(bean.getVersion().get()).isNull();
+
+        coalescer.flush();
+
+        assertThat(bean.getVersion().get()).isEqualTo(90L);
+        assertThat(coalescer.getCoalescedIncrements()).isEqualTo(101L);
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_coalesce_clustered_counter_increments() throws Exception
+    {
+        ClusteredKey compoundKey = new ClusteredKey(RandomUtils.nextLong(), "name");
+        ClusteredEntityWithCounter entity = em.merge(new ClusteredEntityWithCounter(compoundKey, CounterBuilder
+                .incr(5L)));
+
+        entity.getCounter().incr(3L);
+        entity.getCounter().incr(4L);
+        coalescer.flush();
+
+        assertThat(entity.getCounter().get()).isEqualTo(12L);
+    }
+}
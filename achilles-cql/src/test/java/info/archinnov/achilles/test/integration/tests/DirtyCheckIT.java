@@ -468,6 +468,47 @@ public class DirtyCheckIT
         assertThat(preferences.get(3)).isEqualTo("75014");
     }
 
+    @Test
+    public void should_dirty_check_set_element_add_and_remove() throws Exception
+    {
+        bean.getFollowers().add("John");
+        bean.getFollowers().remove("George");
+
+        em.merge(bean);
+
+        Row row = session.execute("select followers from CompleteBean where id=" + bean.getId()).one();
+        Set<String> followers = row.getSet("followers", String.class);
+
+        assertThat(followers).containsOnly("Paul", "John");
+    }
+
+    @Test
+    public void should_only_write_collection_changes() throws Exception
+    {
+        bean.getFriends().add("qux");
+        bean.getFollowers().add("John");
+        bean.getPreferences().put(4, "London");
+        bean.getPreferences().remove(1);
+
+        session.execute("update CompleteBean set friends=friends+['baz'], followers=followers+{'Ringo'}, "
+                + "preferences=preferences+{5:'Berlin'} where id=" + bean.getId());
+
+        em.merge(bean);
+
+        Row row = session.execute("select friends,followers,preferences from CompleteBean where id="
+                + bean.getId()).one();
+        List<String> friends = row.getList("friends", String.class);
+        Set<String> followers = row.getSet("followers", String.class);
+        Map<Integer, String> preferences = row.getMap("preferences", Integer.class, String.class);
+
+        assertThat(friends).containsExactly("foo", "bar", "baz", "qux");
+        assertThat(followers).containsOnly("George", "Paul", "Ringo", "John");
+        assertThat(preferences).hasSize(4);
+        assertThat(preferences.get(2)).isEqualTo("Paris");
+        assertThat(preferences.get(4)).isEqualTo("London");
+        assertThat(preferences.get(5)).isEqualTo("Berlin");
+    }
+
     @Test
     public void should_dirty_check_simple_property() throws Exception
     {
@@ -363,6 +363,25 @@ public class EmOperationsIT
         assertThat(found).isInstanceOf(Factory.class);
     }
 
+    @Test
+    public void should_find_all() throws Exception
+    {
+        CompleteBean entity1 = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().name("Jonathan").buid();
+        Long missingId = RandomUtils.nextLong();
+
+        em.persist(entity1);
+        em.persist(entity2);
+
+        Map<Long, CompleteBean> founds = em.findAll(CompleteBean.class,
+                Arrays.asList(entity2.getId(), missingId, entity1.getId()));
+
+        assertThat(founds.keySet()).containsExactly(entity2.getId(), entity1.getId());
+        assertThat(founds.get(entity1.getId()).getName()).isEqualTo("DuyHai");
+        assertThat(founds.get(entity2.getId()).getName()).isEqualTo("Jonathan");
+        assertThat(founds.get(entity1.getId())).isInstanceOf(Factory.class);
+    }
+
     @Test
     public void should_find_lazy_simple() throws Exception
     {
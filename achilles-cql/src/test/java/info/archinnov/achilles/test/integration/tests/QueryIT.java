@@ -12,6 +12,7 @@ import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
 import info.archinnov.achilles.type.Counter;
 import info.archinnov.achilles.type.OptionsBuilder;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -115,6 +116,82 @@ public class QueryIT {
         assertThat(count).isEqualTo(1L);
     }
 
+    @Test
+    public void should_return_rows_for_native_query_with_bound_values() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder
+                .builder()
+                .randomId()
+                .name("DuyHai")
+                .age(35L)
+                .buid();
+
+        em.persist(entity);
+
+        Map<String, Object> result = em.nativeQuery("SELECT name,age_in_years FROM CompleteBean WHERE id=?",
+                entity.getId()).first();
+
+        assertThat(result.get("name")).isEqualTo("DuyHai");
+        assertThat(result.get("age_in_years")).isEqualTo(35L);
+    }
+
+    @Test
+    public void should_return_entity_for_typed_query_with_bound_values() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder
+                .builder()
+                .randomId()
+                .name("DuyHai")
+                .age(35L)
+                .buid();
+
+        em.persist(entity);
+
+        CompleteBean found = em.typedQuery(CompleteBean.class, "SELECT id,name FROM CompleteBean WHERE id=?",
+                entity.getId()).getFirst();
+
+        assertThat(found.getId()).isEqualTo(entity.getId());
+        assertThat(found.getName()).isEqualTo("DuyHai");
+    }
+
+    @Test
+    public void should_iterate_entities_for_typed_query() throws Exception
+    {
+        CompleteBean entity1 = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        CompleteBean entity2 = CompleteBeanTestBuilder.builder().randomId().name("John DOO").buid();
+
+        em.persist(entity1);
+        em.persist(entity2);
+
+        Iterator<CompleteBean> iterator = em.typedQuery(CompleteBean.class,
+                "SELECT id,name FROM CompleteBean WHERE id IN(?,?)", entity1.getId(), entity2.getId()).iterator();
+
+        CompleteBean found1 = iterator.next();
+        CompleteBean found2 = iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(found1).isInstanceOf(Factory.class);
+        assertThat(found1.getName()).isEqualTo("DuyHai");
+        assertThat(found2.getName()).isEqualTo("John DOO");
+    }
+
+    @Test
+    public void should_iterate_rows_for_native_query() throws Exception
+    {
+        CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L).buid();
+
+        em.persist(entity);
+
+        Iterator<Map<String, Object>> iterator = em.nativeQuery(
+                "SELECT name,age_in_years FROM CompleteBean WHERE id=?", entity.getId()).iterator();
+
+        Map<String, Object> row = iterator.next();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(row.get("name")).isEqualTo("DuyHai");
+        assertThat(row.get("age_in_years")).isEqualTo(35L);
+    }
+
     @Test
     public void should_return_ttl_and_timestamp_for_native_query() throws Exception
     {
@@ -0,0 +1,81 @@
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.manager.CQLBulkWriter;
+import info.archinnov.achilles.entity.manager.CQLEntityManager;
+import info.archinnov.achilles.junit.AchillesInternalCQLResource;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.query.scan.CQLScanConsumer;
+import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * ScanIT
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ScanIT
+{
+    @Rule
+    public AchillesInternalCQLResource resource = new AchillesInternalCQLResource(Steps.AFTER_TEST, "CompleteBean");
+
+    private CQLEntityManager em = resource.getEm();
+
+    private Map<Long, String> names = new HashMap<Long, String>();
+
+    @Before
+    public void setUp()
+    {
+        CQLBulkWriter<CompleteBean> writer = resource.getFactory().createBulkWriter(CompleteBean.class);
+        for (int i = 0; i < 100; i++)
+        {
+            CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid();
+            names.put(entity.getId(), entity.getName());
+            writer.write(entity);
+        }
+        writer.flush();
+    }
+
+    @Test
+    public void should_iterate_over_all_entities() throws Exception
+    {
+        Iterator<CompleteBean> iterator = em.scan(CompleteBean.class).parallelism(3).pageSize(7).splitCount(5)
+                .iterator();
+
+        Map<Long, String> scanned = new HashMap<Long, String>();
+        while (iterator.hasNext())
+        {
+            CompleteBean entity = iterator.next();
+            scanned.put(entity.getId(), entity.getName());
+        }
+
+        assertThat(scanned).isEqualTo(names);
+    }
+
+    @Test
+    public void should_pass_all_entities_to_consumer() throws Exception
+    {
+        final Map<Long, String> scanned = new ConcurrentHashMap<Long, String>();
+
+        long count = em.scan(CompleteBean.class).parallelism(4).pageSize(10).forEach(
+                new CQLScanConsumer<CompleteBean>()
+                {
+                    @Override
+                    public void accept(CompleteBean entity)
+                    {
+                        scanned.put(entity.getId(), entity.getName());
+                    }
+                });
+
+        assertThat(count).isEqualTo(100L);
+        assertThat(scanned).isEqualTo(names);
+    }
+}
@@ -92,7 +92,7 @@ public class ClusteredEntityFactory
         ThriftGenericEntityDao joinEntityDao = context.findEntityDao(joinMeta.getTableName());
 
         Map<Object, Object> joinEntities = joinHelper.loadJoinEntities((Class<Object>) pm.getValueClass(), joinIds,
-                joinMeta, joinEntityDao);
+                joinMeta, joinEntityDao, context.getConsistencyLevel().orNull());
 
         return joinEntities;
     }
@@ -2,15 +2,23 @@ package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.ThriftConfigurationParameters.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
+import info.archinnov.achilles.serializer.ThriftBinaryValueCodec;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.validation.Validator;
 
 import java.util.Map;
 
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.cassandra.service.CassandraHostConfigurator;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.factory.HFactory;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * ThriftArgumentExtractor
  * 
@@ -19,6 +27,7 @@ import me.prettyprint.hector.api.factory.HFactory;
  */
 public class ThriftArgumentExtractor extends ArgumentExtractor
 {
+	private static final Logger log = LoggerFactory.getLogger(ThriftArgumentExtractor.class);
 
 	public Cluster initCluster(Map<String, Object> configurationMap)
 	{
@@ -77,4 +86,93 @@ public class ThriftArgumentExtractor extends ArgumentExtractor
 		keyspace.setConsistencyLevelPolicy(consistencyPolicy);
 		return keyspace;
 	}
+
+	public ThriftLevelKeyspaces initLevelKeyspaces(Cluster cluster, Keyspace keyspace,
+			Map<String, Object> configurationMap)
+	{
+		if (configurationMap.get(KEYSPACE_PARAM) != null)
+		{
+			String message = "Keyspace '{}' given by '" + KEYSPACE_PARAM
+					+ "' is a {}, Achilles runs its operations on keyspaces of the same name with fixed consistency levels, the default failover policy and the cluster credentials";
+			if (keyspace.getClass() == ExecutingKeyspace.class)
+			{
+				log.info(message, keyspace.getKeyspaceName(), keyspace.getClass().getName());
+			}
+			else
+			{
+				log.warn(message, keyspace.getKeyspaceName(), keyspace.getClass().getName());
+			}
+		}
+		return new ThriftLevelKeyspaces(cluster, keyspace);
+	}
+
+	public ThriftValueCodec initValueCodec(Map<String, Object> configurationMap)
+	{
+		Boolean binaryValues = (Boolean) configurationMap.get(BINARY_VALUES_PARAM);
+		if (binaryValues != null && binaryValues)
+		{
+			return new ThriftBinaryValueCodec();
+		}
+		return new ThriftJSONValueCodec();
+	}
+
+	public int initMultiGetBatchSize(Map<String, Object> configurationMap)
+	{
+		int multiGetBatchSize = DEFAULT_MULTIGET_BATCH_SIZE;
+		if (configurationMap.containsKey(MULTIGET_BATCH_SIZE_PARAM))
+		{
+			multiGetBatchSize = (Integer) configurationMap.get(MULTIGET_BATCH_SIZE_PARAM);
+		}
+		Validator.validateTrue(multiGetBatchSize > 0, "%s property should be strictly positive",
+				MULTIGET_BATCH_SIZE_PARAM);
+		return multiGetBatchSize;
+	}
+
+	public int initMultiGetMaxInFlight(Map<String, Object> configurationMap)
+	{
+		int multiGetMaxInFlight = DEFAULT_MULTIGET_MAX_IN_FLIGHT;
+		if (configurationMap.containsKey(MULTIGET_MAX_IN_FLIGHT_PARAM))
+		{
+			multiGetMaxInFlight = (Integer) configurationMap.get(MULTIGET_MAX_IN_FLIGHT_PARAM);
+		}
+		Validator.validateTrue(multiGetMaxInFlight > 0, "%s property should be strictly positive",
+				MULTIGET_MAX_IN_FLIGHT_PARAM);
+		return multiGetMaxInFlight;
+	}
+
+	public int initCollectionPageSize(Map<String, Object> configurationMap)
+	{
+		int collectionPageSize = DEFAULT_COLLECTION_PAGE_SIZE;
+		if (configurationMap.containsKey(COLLECTION_PAGE_SIZE_PARAM))
+		{
+			collectionPageSize = (Integer) configurationMap.get(COLLECTION_PAGE_SIZE_PARAM);
+		}
+		Validator.validateTrue(collectionPageSize > 0, "%s property should be strictly positive",
+				COLLECTION_PAGE_SIZE_PARAM);
+		return collectionPageSize;
+	}
+
+	public int initFlushMaxMutations(Map<String, Object> configurationMap)
+	{
+		int flushMaxMutations = DEFAULT_FLUSH_MAX_MUTATIONS;
+		if (configurationMap.containsKey(FLUSH_MAX_MUTATIONS_PARAM))
+		{
+			flushMaxMutations = (Integer) configurationMap.get(FLUSH_MAX_MUTATIONS_PARAM);
+		}
+		Validator.validateTrue(flushMaxMutations > 0, "%s property should be strictly positive",
+				FLUSH_MAX_MUTATIONS_PARAM);
+		return flushMaxMutations;
+	}
+
+	public int initFlushMaxInFlight(Map<String, Object> configurationMap)
+	{
+		int flushMaxInFlight = DEFAULT_FLUSH_MAX_IN_FLIGHT;
+		if (configurationMap.containsKey(FLUSH_MAX_IN_FLIGHT_PARAM))
+		{
+			flushMaxInFlight = (Integer) configurationMap.get(FLUSH_MAX_IN_FLIGHT_PARAM);
+		}
+		Validator.validateTrue(flushMaxInFlight > 0, "%s property should be strictly positive",
+				FLUSH_MAX_IN_FLIGHT_PARAM);
+		return flushMaxInFlight;
+	}
 }
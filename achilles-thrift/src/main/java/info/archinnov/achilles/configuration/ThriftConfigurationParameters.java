@@ -16,4 +16,21 @@ public interface ThriftConfigurationParameters extends ConfigurationParameters
 	String CLUSTER_PARAM = "achilles.cassandra.cluster";
 	String KEYSPACE_PARAM = "achilles.cassandra.keyspace";
 
+	String BINARY_VALUES_PARAM = "achilles.cassandra.binary.values";
+
+	String MULTIGET_BATCH_SIZE_PARAM = "achilles.cassandra.multiget.batch.size";
+	int DEFAULT_MULTIGET_BATCH_SIZE = 50;
+
+	String MULTIGET_MAX_IN_FLIGHT_PARAM = "achilles.cassandra.multiget.max.in.flight";
+	int DEFAULT_MULTIGET_MAX_IN_FLIGHT = 4;
+
+	String COLLECTION_PAGE_SIZE_PARAM = "achilles.cassandra.collection.page.size";
+	int DEFAULT_COLLECTION_PAGE_SIZE = 1000;
+
+	String FLUSH_MAX_MUTATIONS_PARAM = "achilles.cassandra.flush.max.mutations";
+	int DEFAULT_FLUSH_MAX_MUTATIONS = 1000;
+
+	String FLUSH_MAX_IN_FLIGHT_PARAM = "achilles.cassandra.flush.max.in.flight";
+	int DEFAULT_FLUSH_MAX_IN_FLIGHT = 8;
+
 }
@@ -23,11 +23,6 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 {
 	private static final Logger log = LoggerFactory.getLogger(ThriftConsistencyLevelPolicy.class);
 
-	static final ThreadLocal<HConsistencyLevel> defaultReadConsistencyLevelTL = new ThreadLocal<HConsistencyLevel>();
-	static final ThreadLocal<HConsistencyLevel> defaultWriteConsistencyLevelTL = new ThreadLocal<HConsistencyLevel>();
-	static final ThreadLocal<ConsistencyLevel> currentReadConsistencyLevel = new ThreadLocal<ConsistencyLevel>();
-	static final ThreadLocal<ConsistencyLevel> currentWriteConsistencyLevel = new ThreadLocal<ConsistencyLevel>();
-
 	public ThriftConsistencyLevelPolicy(ConsistencyLevel defaultReadLevel,
 			ConsistencyLevel defaultWriteLevel, Map<String, ConsistencyLevel> readConsistencyMap,
 			Map<String, ConsistencyLevel> writeConsistencyMap)
@@ -45,29 +40,18 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 	public HConsistencyLevel get(OperationType op)
 	{
 		HConsistencyLevel result;
-		HConsistencyLevel defaultRead = ThriftConsistencyConvertor
-				.getHectorLevel(defaultGlobalReadConsistencyLevel);
-		HConsistencyLevel defaultWrite = ThriftConsistencyConvertor
-				.getHectorLevel(defaultGlobalWriteConsistencyLevel);
-
 		switch (op)
 		{
 			case READ:
-				result = defaultReadConsistencyLevelTL.get() != null ? defaultReadConsistencyLevelTL
-						.get() : defaultRead;
-				log.trace("Set default read consistency level to {} in the thread {}",
-						result.name(), Thread.currentThread());
+				result = getHectorLevel(defaultGlobalReadConsistencyLevel);
 				break;
 			case WRITE:
-				result = defaultWriteConsistencyLevelTL.get() != null ? defaultWriteConsistencyLevelTL
-						.get() : defaultWrite;
-				log.trace("Set default write consistency level to {} in the thread {}",
-						result.name(), Thread.currentThread());
+				result = getHectorLevel(defaultGlobalWriteConsistencyLevel);
 				break;
 			default:
 				result = HConsistencyLevel.ONE;
 		}
-
+		log.trace("Default consistency level for {} operation is {}", op, result.name());
 		return result;
 	}
 
@@ -78,121 +62,16 @@ public class ThriftConsistencyLevelPolicy extends AchillesConsistencyLevelPolicy
 		switch (op)
 		{
 			case READ:
-				result = defaultReadConsistencyLevelTL.get() != null ? defaultReadConsistencyLevelTL
-						.get() : getHectorLevel(getConsistencyLevelForRead(columnFamily));
-				log
-						.trace("Set default read consistency of column family {} level to {} in the thread {}",
-								result.name(), columnFamily, Thread.currentThread());
+				result = getHectorLevel(getConsistencyLevelForRead(columnFamily));
 				break;
 			case WRITE:
-				result = defaultWriteConsistencyLevelTL.get() != null ? defaultWriteConsistencyLevelTL
-						.get() : getHectorLevel(getConsistencyLevelForWrite(columnFamily));
-				log
-						.trace("Set default write consistency of column family {} level to {} in the thread {}",
-								result.name(), columnFamily, Thread.currentThread());
+				result = getHectorLevel(getConsistencyLevelForWrite(columnFamily));
 				break;
 			default:
 				result = HConsistencyLevel.ONE;
 		}
+		log.trace("Default consistency level for {} operation on column family {} is {}", op,
+				columnFamily, result.name());
 		return result;
 	}
-
-	public void loadConsistencyLevelForRead(String columnFamily)
-	{
-		ConsistencyLevel currentLevel = currentReadConsistencyLevel.get();
-		if (currentLevel != null)
-		{
-			defaultReadConsistencyLevelTL.set(getHectorLevel(currentLevel));
-			log
-					.trace("Load default read consistency of column family {} level to {} in the thread {}",
-							currentLevel.name(), columnFamily, Thread.currentThread());
-		}
-		else
-		{
-			HConsistencyLevel level = this.get(OperationType.READ, columnFamily);
-			defaultReadConsistencyLevelTL.set(level);
-			log
-					.trace("Load default read consistency of column family {} level to {} in the thread {}",
-							level.name(), columnFamily, Thread.currentThread());
-		}
-	}
-
-	public void loadConsistencyLevelForWrite(String columnFamily)
-	{
-		ConsistencyLevel currentLevel = currentWriteConsistencyLevel.get();
-		if (currentLevel != null)
-		{
-			defaultWriteConsistencyLevelTL.set(getHectorLevel(currentLevel));
-			log
-					.trace("Load default write consistency of column family {} level to {} in the thread {}",
-							currentLevel.name(), columnFamily, Thread.currentThread());
-		}
-		else
-		{
-			HConsistencyLevel level = this.get(OperationType.WRITE, columnFamily);
-			defaultWriteConsistencyLevelTL.set(level);
-			log
-					.trace("Load default write consistency of column family {} level to {} in the thread {}",
-							level.name(), columnFamily, Thread.currentThread());
-		}
-	}
-
-	public void reinitDefaultConsistencyLevels()
-	{
-		log.trace("Reinit defaut read/write consistency levels in the thread {}",
-				Thread.currentThread());
-		defaultReadConsistencyLevelTL.remove();
-		defaultWriteConsistencyLevelTL.remove();
-	}
-
-	public void reinitCurrentConsistencyLevels()
-	{
-		log.trace("Reinit current read/write consistency levels in the thread {}",
-				Thread.currentThread());
-		currentReadConsistencyLevel.remove();
-		currentWriteConsistencyLevel.remove();
-	}
-
-	public ConsistencyLevel getCurrentReadLevel()
-	{
-		log.trace("Current read consistency level is {} in the thread {}",
-				currentReadConsistencyLevel.get(), Thread.currentThread());
-		return currentReadConsistencyLevel.get();
-	}
-
-	public void setCurrentReadLevel(ConsistencyLevel readLevel)
-	{
-		log.trace("Set current read consistency level to {} in the thread {}", readLevel,
-				Thread.currentThread());
-		currentReadConsistencyLevel.set(readLevel);
-	}
-
-	public void removeCurrentReadLevel()
-	{
-		log
-				.trace("Remove current read consistency level  in the thread {}",
-						Thread.currentThread());
-		currentReadConsistencyLevel.remove();
-	}
-
-	public ConsistencyLevel getCurrentWriteLevel()
-	{
-		log.trace("Current write consistency level is {} in the thread {}",
-				currentReadConsistencyLevel.get(), Thread.currentThread());
-		return currentWriteConsistencyLevel.get();
-	}
-
-	public void setCurrentWriteLevel(ConsistencyLevel writeLevel)
-	{
-		log.trace("Set current write consistency level to {} in the thread {}", writeLevel,
-				Thread.currentThread());
-		currentWriteConsistencyLevel.set(writeLevel);
-	}
-
-	public void removeCurrentWriteLevel()
-	{
-		log.trace("Remove current write consistency level  in the thread {}",
-				Thread.currentThread());
-		currentWriteConsistencyLevel.remove();
-	}
 }
@@ -0,0 +1,70 @@
+package info.archinnov.achilles.consistency;
+
+import static info.archinnov.achilles.consistency.ThriftConsistencyConvertor.getHectorLevel;
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import me.prettyprint.cassandra.service.OperationType;
+import me.prettyprint.hector.api.ConsistencyLevelPolicy;
+import me.prettyprint.hector.api.HConsistencyLevel;
+
+/**
+ * ThriftFixedConsistencyLevelPolicy
+ *
+ * Hector policy always returning the same level for reads and writes, whatever the thread or the column
+ * family. One instance is shared per consistency level
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ThriftFixedConsistencyLevelPolicy implements ConsistencyLevelPolicy
+{
+	private static final Map<ConsistencyLevel, ThriftFixedConsistencyLevelPolicy> policies = new EnumMap<ConsistencyLevel, ThriftFixedConsistencyLevelPolicy>(
+			ConsistencyLevel.class);
+
+	static
+	{
+		for (ConsistencyLevel level : ConsistencyLevel.values())
+		{
+			policies.put(level, new ThriftFixedConsistencyLevelPolicy(getHectorLevel(level)));
+		}
+	}
+
+	private final HConsistencyLevel level;
+
+	private ThriftFixedConsistencyLevelPolicy(HConsistencyLevel level)
+	{
+		this.level = level;
+	}
+
+	public static ThriftFixedConsistencyLevelPolicy forLevel(ConsistencyLevel level)
+	{
+		return policies.get(level);
+	}
+
+	@Override
+	public HConsistencyLevel get(OperationType op)
+	{
+		switch (op)
+		{
+			case READ:
+			case WRITE:
+				return level;
+			default:
+				return HConsistencyLevel.ONE;
+		}
+	}
+
+	@Override
+	public HConsistencyLevel get(OperationType op, String columnFamily)
+	{
+		return get(op);
+	}
+
+	public HConsistencyLevel getLevel()
+	{
+		return level;
+	}
+}
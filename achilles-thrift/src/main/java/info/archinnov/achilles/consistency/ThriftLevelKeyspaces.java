@@ -0,0 +1,52 @@
+package info.archinnov.achilles.consistency;
+
+import info.archinnov.achilles.type.ConsistencyLevel;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
+import me.prettyprint.hector.api.Cluster;
+import me.prettyprint.hector.api.Keyspace;
+import me.prettyprint.hector.api.factory.HFactory;
+
+/**
+ * ThriftLevelKeyspaces
+ *
+ * One Hector keyspace per consistency level, each bound to its {@link ThriftFixedConsistencyLevelPolicy}.
+ * Queries and mutators created from them carry their level and can be executed from any thread. Keyspaces
+ * are created with the failover policy and the credentials Hector uses by default for the cluster
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ThriftLevelKeyspaces
+{
+	private final Map<ConsistencyLevel, Keyspace> keyspaces = new EnumMap<ConsistencyLevel, Keyspace>(
+			ConsistencyLevel.class);
+
+	public ThriftLevelKeyspaces(Cluster cluster, Keyspace keyspace)
+	{
+		String cqlVersion = null;
+		if (keyspace instanceof ExecutingKeyspace)
+		{
+			cqlVersion = ((ExecutingKeyspace) keyspace).getCqlVersion();
+		}
+
+		for (ConsistencyLevel level : ConsistencyLevel.values())
+		{
+			Keyspace levelKeyspace = HFactory.createKeyspace(keyspace.getKeyspaceName(), cluster,
+					ThriftFixedConsistencyLevelPolicy.forLevel(level));
+			if (cqlVersion != null)
+			{
+				levelKeyspace.setCqlVersion(cqlVersion);
+			}
+			keyspaces.put(level, levelKeyspace);
+		}
+	}
+
+	public Keyspace forLevel(ConsistencyLevel level)
+	{
+		return keyspaces.get(level);
+	}
+}
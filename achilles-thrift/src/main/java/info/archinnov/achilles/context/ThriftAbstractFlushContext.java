@@ -1,15 +1,16 @@
 package info.archinnov.achilles.context;
 
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.counter.AchillesCounter;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
 import org.slf4j.Logger;
@@ -26,42 +27,60 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 {
     protected static final Logger log = LoggerFactory.getLogger(ThriftAbstractFlushContext.class);
 
+    private static final int MAX_MUTATORS_ON_CALLING_THREAD = 2;
+
     protected ThriftDaoContext thriftDaoContext;
     protected ThriftConsistencyContext consistencyContext;
 
     protected Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap = new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>();
+    protected List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators = new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>();
     protected boolean hasCustomConsistencyLevels = false;
     protected ConsistencyLevel consistencyLevel;
 
-    protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext,
-            AchillesConsistencyLevelPolicy policy, ConsistencyLevel consistencyLevel)
+    protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext, ConsistencyLevel consistencyLevel)
     {
         this.thriftDaoContext = thriftDaoContext;
-        this.consistencyContext = new ThriftConsistencyContext(policy, consistencyLevel);
+        this.consistencyContext = new ThriftConsistencyContext(consistencyLevel);
     }
 
     protected ThriftAbstractFlushContext(ThriftDaoContext thriftDaoContext,
             ThriftConsistencyContext consistencyContext,
             Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap,
+            List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators,
             boolean hasCustomConsistencyLevels)
     {
         this.thriftDaoContext = thriftDaoContext;
         this.consistencyContext = consistencyContext;
         this.mutatorMap = mutatorMap;
+        this.fullMutators = fullMutators;
         this.hasCustomConsistencyLevels = hasCustomConsistencyLevels;
     }
 
+    /**
+     * Every mutator is sent as a separate batch_mutate. A few mutators are executed on the calling thread, more are
+     * sent by the factory executor with at most flushMaxInFlight of them at the same time. Hector columns carry their
+     * client-side timestamp so the execution order of the mutators does not matter
+     */
     protected void doFlush()
     {
         log.debug("Execute mutations flush");
         try
         {
-            for (Entry<String, Pair<Mutator<Object>, ThriftAbstractDao>> entry : mutatorMap
-                    .entrySet())
+            List<Pair<Mutator<Object>, ThriftAbstractDao>> mutators = new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>(
+                    fullMutators);
+            mutators.addAll(mutatorMap.values());
+
+            AchillesExecutor executor = thriftDaoContext.getExecutor();
+            if (mutators.size() <= MAX_MUTATORS_ON_CALLING_THREAD || executor == null)
+            {
+                for (Pair<Mutator<Object>, ThriftAbstractDao> pair : mutators)
+                {
+                    pair.right.executeMutator(pair.left);
+                }
+            }
+            else
             {
-                ThriftAbstractDao dao = entry.getValue().right;
-                Mutator<?> mutator = entry.getValue().left;
-                dao.executeMutator(mutator);
+                executeConcurrently(executor, mutators);
             }
         } finally
         {
@@ -69,13 +88,36 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
         }
     }
 
+    private void executeConcurrently(AchillesExecutor executor,
+            List<Pair<Mutator<Object>, ThriftAbstractDao>> mutators)
+    {
+        List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(mutators.size());
+        for (final Pair<Mutator<Object>, ThriftAbstractDao> pair : mutators)
+        {
+            tasks.add(new Callable<Void>()
+            {
+                @Override
+                public Void call() throws Exception
+                {
+                    pair.right.executeMutator(pair.left);
+                    return null;
+                }
+            });
+        }
+        executor.invokeAll(tasks, thriftDaoContext.getFlushMaxInFlight());
+    }
+
     @Override
     public void cleanUp()
     {
         log.debug("Cleaning up flush context");
-        consistencyContext.reinitConsistencyLevels();
+        if (hasCustomConsistencyLevels)
+        {
+            consistencyContext.resetConsistencyLevel();
+        }
         hasCustomConsistencyLevels = false;
         mutatorMap.clear();
+        fullMutators.clear();
     }
 
     @Override
@@ -85,16 +127,9 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
         consistencyContext.setConsistencyLevel(consistencyLevel);
     }
 
-    public void reinitConsistencyLevels()
-    {
-        if (!hasCustomConsistencyLevels)
-        {
-            consistencyContext.reinitConsistencyLevels();
-        }
-    }
-
     public Mutator<Object> getEntityMutator(String tableName)
     {
+        rollOverFullMutator(tableName);
         Mutator<Object> mutator = null;
         if (mutatorMap.containsKey(tableName))
         {
@@ -106,7 +141,7 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 
             if (entityDao != null)
             {
-                mutator = entityDao.buildMutator();
+                mutator = entityDao.buildMutator(consistencyContext.getConsistencyLevel());
                 mutatorMap.put(tableName, Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, entityDao));
             }
         }
@@ -115,6 +150,7 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 
     public Mutator<Object> getWideRowMutator(String tableName)
     {
+        rollOverFullMutator(tableName);
         Mutator<Object> mutator = null;
         if (mutatorMap.containsKey(tableName))
         {
@@ -126,7 +162,7 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 
             if (columnFamilyDao != null)
             {
-                mutator = columnFamilyDao.buildMutator();
+                mutator = columnFamilyDao.buildMutator(consistencyContext.getConsistencyLevel());
                 mutatorMap.put(tableName,
                         Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, columnFamilyDao));
             }
@@ -136,6 +172,7 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
 
     public Mutator<Object> getCounterMutator()
     {
+        rollOverFullMutator(AchillesCounter.THRIFT_COUNTER_CF);
         Mutator<Object> mutator = null;
         if (mutatorMap.containsKey(AchillesCounter.THRIFT_COUNTER_CF))
         {
@@ -144,13 +181,42 @@ public abstract class ThriftAbstractFlushContext<T extends ThriftAbstractFlushCo
         else
         {
             ThriftCounterDao thriftCounterDao = thriftDaoContext.getCounterDao();
-            mutator = thriftCounterDao.buildMutator();
+            mutator = thriftCounterDao.buildMutator(consistencyContext.getConsistencyLevel());
             mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF,
                     Pair.<Mutator<Object>, ThriftAbstractDao> create(mutator, thriftCounterDao));
         }
         return mutator;
     }
 
+    /**
+     * Set aside the mutator of the table once it holds flushMaxMutations mutations so the next ones go into a new
+     * mutator. Mutations are only counted between two calls, so a single entity may overflow the limit
+     */
+    private void rollOverFullMutator(String tableName)
+    {
+        Pair<Mutator<Object>, ThriftAbstractDao> pair = mutatorMap.get(tableName);
+        if (pair != null && pair.left.getPendingMutationCount() >= thriftDaoContext.getFlushMaxMutations())
+        {
+            log.trace("Mutator for table {} is full, rolling over to a new one", tableName);
+            fullMutators.add(pair);
+            mutatorMap.remove(tableName);
+        }
+    }
+
+    public int getPendingMutationCount()
+    {
+        int pendingMutationCount = 0;
+        for (Pair<Mutator<Object>, ThriftAbstractDao> pair : fullMutators)
+        {
+            pendingMutationCount += pair.left.getPendingMutationCount();
+        }
+        for (Pair<Mutator<Object>, ThriftAbstractDao> pair : mutatorMap.values())
+        {
+            pendingMutationCount += pair.left.getPendingMutationCount();
+        }
+        return pendingMutationCount;
+    }
+
     public ThriftConsistencyContext getConsistencyContext()
     {
         return consistencyContext;
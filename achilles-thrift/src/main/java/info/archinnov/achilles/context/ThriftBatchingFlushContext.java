@@ -1,9 +1,9 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.context.FlushContext.FlushType.BATCH;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.List;
 import java.util.Map;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
@@ -22,18 +22,18 @@ public class ThriftBatchingFlushContext extends
 
     private static final Logger log = LoggerFactory.getLogger(ThriftImmediateFlushContext.class);
 
-    public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext,
-            AchillesConsistencyLevelPolicy policy, ConsistencyLevel consistencyLevel)
+    public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext, ConsistencyLevel consistencyLevel)
     {
-        super(thriftDaoContext, policy, consistencyLevel);
+        super(thriftDaoContext, consistencyLevel);
     }
 
     public ThriftBatchingFlushContext(ThriftDaoContext thriftDaoContext,
             ThriftConsistencyContext consistencyContext,
             Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap,
+            List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators,
             boolean hasCustomConsistencyLevels)
     {
-        super(thriftDaoContext, consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+        super(thriftDaoContext, consistencyContext, mutatorMap, fullMutators, hasCustomConsistencyLevels);
     }
 
     @Override
@@ -53,7 +53,6 @@ public class ThriftBatchingFlushContext extends
     public void endBatch()
     {
         log.debug("Ending current batch");
-        consistencyContext.setConsistencyLevel();
         doFlush();
     }
 
@@ -68,6 +67,6 @@ public class ThriftBatchingFlushContext extends
     public ThriftBatchingFlushContext duplicate()
     {
         return new ThriftBatchingFlushContext(thriftDaoContext,
-                consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+                consistencyContext, mutatorMap, fullMutators, hasCustomConsistencyLevels);
     }
 }
@@ -1,5 +1,8 @@
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.configuration.ThriftConfigurationParameters.*;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -17,6 +20,11 @@ public class ThriftDaoContext
 	private final Map<String, ThriftGenericEntityDao> entityDaosMap;
 	private final Map<String, ThriftGenericWideRowDao> wideRowDaosMap;
 	private final ThriftCounterDao thriftCounterDao;
+	private int flushMaxMutations = DEFAULT_FLUSH_MAX_MUTATIONS;
+	private int flushMaxInFlight = DEFAULT_FLUSH_MAX_IN_FLIGHT;
+	private ThriftCounterCoalescer counterCoalescer;
+	private AchillesExecutor executor;
+	private ThriftLevelKeyspaces levelKeyspaces;
 
 	public ThriftDaoContext(Map<String, ThriftGenericEntityDao> entityDaosMap,
 			Map<String, ThriftGenericWideRowDao> wideRowDaosMap, ThriftCounterDao thriftCounterDao)
@@ -26,6 +34,30 @@ public class ThriftDaoContext
 		this.thriftCounterDao = thriftCounterDao;
 	}
 
+	public void setMultiGetBatchSize(int multiGetBatchSize)
+	{
+		for (ThriftGenericEntityDao entityDao : entityDaosMap.values())
+		{
+			entityDao.setMultiGetBatchSize(multiGetBatchSize);
+		}
+	}
+
+	public void setMultiGetMaxInFlight(int multiGetMaxInFlight)
+	{
+		for (ThriftGenericEntityDao entityDao : entityDaosMap.values())
+		{
+			entityDao.setMultiGetMaxInFlight(multiGetMaxInFlight);
+		}
+	}
+
+	public void setCollectionPageSize(int collectionPageSize)
+	{
+		for (ThriftGenericEntityDao entityDao : entityDaosMap.values())
+		{
+			entityDao.setCollectionPageSize(collectionPageSize);
+		}
+	}
+
 	public ThriftCounterDao getCounterDao()
 	{
 		return thriftCounterDao;
@@ -40,4 +72,70 @@ public class ThriftDaoContext
 	{
 		return wideRowDaosMap.get(columnFamilyName);
 	}
+
+	public int getFlushMaxMutations()
+	{
+		return flushMaxMutations;
+	}
+
+	public void setFlushMaxMutations(int flushMaxMutations)
+	{
+		this.flushMaxMutations = flushMaxMutations;
+	}
+
+	public int getFlushMaxInFlight()
+	{
+		return flushMaxInFlight;
+	}
+
+	public void setFlushMaxInFlight(int flushMaxInFlight)
+	{
+		this.flushMaxInFlight = flushMaxInFlight;
+	}
+
+	public ThriftCounterCoalescer getCounterCoalescer()
+	{
+		return counterCoalescer;
+	}
+
+	public void setCounterCoalescer(ThriftCounterCoalescer counterCoalescer)
+	{
+		this.counterCoalescer = counterCoalescer;
+	}
+
+	public AchillesExecutor getExecutor()
+	{
+		return executor;
+	}
+
+	public void setExecutor(AchillesExecutor executor)
+	{
+		this.executor = executor;
+		for (ThriftGenericEntityDao entityDao : entityDaosMap.values())
+		{
+			entityDao.setExecutor(executor);
+		}
+	}
+
+	public ThriftLevelKeyspaces getLevelKeyspaces()
+	{
+		return levelKeyspaces;
+	}
+
+	public void setLevelKeyspaces(ThriftLevelKeyspaces levelKeyspaces)
+	{
+		this.levelKeyspaces = levelKeyspaces;
+		for (ThriftGenericEntityDao entityDao : entityDaosMap.values())
+		{
+			entityDao.setLevelKeyspaces(levelKeyspaces);
+		}
+		for (ThriftGenericWideRowDao wideRowDao : wideRowDaosMap.values())
+		{
+			wideRowDao.setLevelKeyspaces(levelKeyspaces);
+		}
+		if (thriftCounterDao != null)
+		{
+			thriftCounterDao.setLevelKeyspaces(levelKeyspaces);
+		}
+	}
 }
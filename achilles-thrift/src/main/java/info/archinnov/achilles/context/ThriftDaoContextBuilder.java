@@ -5,6 +5,7 @@ import info.archinnov.achilles.dao.ThriftDaoFactory;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,7 +30,7 @@ public class ThriftDaoContextBuilder
 
 	public ThriftDaoContext buildDao(Cluster cluster, Keyspace keyspace,
 			Map<Class<?>, EntityMeta> entityMetaMap,
-			ConfigurationContext configContext, boolean hasSimpleCounter)
+			ConfigurationContext configContext, ThriftValueCodec valueCodec, boolean hasSimpleCounter)
 	{
 
 		Map<String, ThriftGenericEntityDao> entityDaosMap = new HashMap<String, ThriftGenericEntityDao>();
@@ -50,7 +51,7 @@ public class ThriftDaoContextBuilder
 			}
 			else
 			{
-				daoFactory.createDaosForEntity(cluster, keyspace, configContext, entityMeta,
+				daoFactory.createDaosForEntity(cluster, keyspace, configContext, valueCodec, entityMeta,
 						entityDaosMap,
 						wideRowDaosMap);
 			}
@@ -1,9 +1,9 @@
 package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.context.FlushContext.FlushType.IMMEDIATE;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.List;
 import java.util.Map;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
@@ -21,18 +21,18 @@ public class ThriftImmediateFlushContext extends
 {
     private static final Logger log = LoggerFactory.getLogger(ThriftImmediateFlushContext.class);
 
-    public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext,
-            AchillesConsistencyLevelPolicy policy, ConsistencyLevel consistencyLevel)
+    public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext, ConsistencyLevel consistencyLevel)
     {
-        super(thriftDaoContext, policy, consistencyLevel);
+        super(thriftDaoContext, consistencyLevel);
     }
 
     public ThriftImmediateFlushContext(ThriftDaoContext thriftDaoContext,
             ThriftConsistencyContext consistencyContext,
             Map<String, Pair<Mutator<Object>, ThriftAbstractDao>> mutatorMap,
+            List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators,
             boolean hasCustomConsistencyLevels)
     {
-        super(thriftDaoContext, consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+        super(thriftDaoContext, consistencyContext, mutatorMap, fullMutators, hasCustomConsistencyLevels);
     }
 
     @Override
@@ -66,6 +66,6 @@ public class ThriftImmediateFlushContext extends
     public ThriftImmediateFlushContext duplicate()
     {
         return new ThriftImmediateFlushContext(thriftDaoContext,
-                consistencyContext, mutatorMap, hasCustomConsistencyLevels);
+                consistencyContext, mutatorMap, fullMutators, hasCustomConsistencyLevels);
     }
 }
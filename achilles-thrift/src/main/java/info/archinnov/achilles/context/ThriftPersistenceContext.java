@@ -1,20 +1,23 @@
 package info.archinnov.achilles.context;
 
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
 import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
+import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
 import info.archinnov.achilles.entity.operations.ThriftEntityMerger;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.proxy.EntityInterceptor;
-import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.slf4j.Logger;
@@ -32,6 +35,7 @@ public class ThriftPersistenceContext extends PersistenceContext
 
     private ThriftEntityPersister persister = new ThriftEntityPersister();
     private ThriftEntityLoader loader = new ThriftEntityLoader();
+    private ThriftJoinEntityLoader joinLoader = new ThriftJoinEntityLoader();
     private ThriftEntityMerger merger = new ThriftEntityMerger();
     private ThriftEntityProxifier proxifier = new ThriftEntityProxifier();
     private EntityRefresher<ThriftPersistenceContext> refresher;
@@ -125,65 +129,29 @@ public class ThriftPersistenceContext extends PersistenceContext
     @Override
     public void persist()
     {
-        flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(
-                new SafeExecutionContext<Void>()
-                {
-                    @Override
-                    public Void execute()
-                    {
-                        persister.persist(ThriftPersistenceContext.this);
-                        flush();
-                        return null;
-                    }
-                });
+        persister.persist(this);
+        flush();
     }
 
     @Override
-    public <T> T merge(final T entity)
+    public <T> T merge(T entity)
     {
-
-        return flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(
-                new SafeExecutionContext<T>()
-                {
-                    @Override
-                    public T execute()
-                    {
-                        T merged = merger.<T> merge(ThriftPersistenceContext.this, entity);
-                        flush();
-                        return merged;
-                    }
-                });
-
+        T merged = merger.<T> merge(this, entity);
+        flush();
+        return merged;
     }
 
     @Override
     public void remove()
     {
-        flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(
-                new SafeExecutionContext<Void>()
-                {
-                    @Override
-                    public Void execute()
-                    {
-                        persister.remove(ThriftPersistenceContext.this);
-                        flush();
-                        return null;
-                    }
-                });
+        persister.remove(this);
+        flush();
     }
 
     @Override
-    public <T> T find(final Class<T> entityClass)
+    public <T> T find(Class<T> entityClass)
     {
-        T entity = flushContext.getConsistencyContext().executeWithReadConsistencyLevel(
-                new SafeExecutionContext<T>()
-                {
-                    @Override
-                    public T execute()
-                    {
-                        return loader.<T> load(ThriftPersistenceContext.this, entityClass);
-                    }
-                });
+        T entity = loader.<T> load(this, entityClass);
 
         if (entity != null)
         {
@@ -192,6 +160,23 @@ public class ThriftPersistenceContext extends PersistenceContext
         return entity;
     }
 
+    public <ID, T> Map<ID, T> findAll(Class<T> entityClass, List<ID> primaryKeys)
+    {
+        Map<ID, T> entitiesByKey = joinLoader.loadJoinEntities(entityClass, primaryKeys, entityMeta, entityDao,
+                getConsistencyLevel().orNull());
+
+        Map<ID, T> entities = new LinkedHashMap<ID, T>();
+        for (ID primaryKey : primaryKeys)
+        {
+            T entity = entitiesByKey.get(primaryKey);
+            if (entity != null)
+            {
+                entities.put(primaryKey, proxifier.buildProxy(entity, duplicate(entity)));
+            }
+        }
+        return entities;
+    }
+
     @Override
     public <T> T getReference(Class<T> entityClass)
     {
@@ -202,58 +187,19 @@ public class ThriftPersistenceContext extends PersistenceContext
     @Override
     public void refresh() throws AchillesStaleObjectStateException
     {
-        flushContext.getConsistencyContext().executeWithReadConsistencyLevel(
-                new SafeExecutionContext<Void>()
-                {
-                    @Override
-                    public Void execute()
-                    {
-                        try {
-                            refresher.refresh(ThriftPersistenceContext.this);
-                        } catch (AchillesStaleObjectStateException e) {
-                            throw new RuntimeException(e);
-                        }
-                        return null;
-                    }
-                });
-
+        refresher.refresh(this);
     }
 
     @Override
-    public <T> T initialize(final T entity)
+    public <T> T initialize(T entity)
     {
         log.debug("Force lazy fields initialization for entity {}", entity);
-        final EntityInterceptor<ThriftPersistenceContext, T> interceptor = proxifier
-                .getInterceptor(entity);
-
-        flushContext.getConsistencyContext().executeWithReadConsistencyLevel(
-                new SafeExecutionContext<Void>()
-                {
-                    @Override
-                    public Void execute()
-                    {
-                        initializer.initializeEntity(entity, entityMeta, interceptor);
-                        return null;
-                    }
-                });
+        EntityInterceptor<ThriftPersistenceContext, T> interceptor = proxifier.getInterceptor(entity);
 
+        initializer.initializeEntity(entity, entityMeta, interceptor);
         return entity;
     }
 
-    public <T> T executeWithReadConsistencyLevel(SafeExecutionContext<T> context,
-            ConsistencyLevel readLevel)
-    {
-        return flushContext.getConsistencyContext().executeWithReadConsistencyLevel(context,
-                readLevel);
-    }
-
-    public <T> T executeWithWriteConsistencyLevel(SafeExecutionContext<T> context,
-            ConsistencyLevel writeLevel)
-    {
-        return flushContext.getConsistencyContext().executeWithWriteConsistencyLevel(context,
-                writeLevel);
-    }
-
     public boolean isValueless()
     {
         return entityMeta.isValueless();
@@ -274,6 +220,16 @@ public class ThriftPersistenceContext extends PersistenceContext
         return daoContext.getCounterDao();
     }
 
+    public ThriftCounterCoalescer getCounterCoalescer()
+    {
+        return daoContext.getCounterCoalescer();
+    }
+
+    public AchillesExecutor getExecutor()
+    {
+        return daoContext.getExecutor();
+    }
+
     public Mutator<Object> getEntityMutator(String tableName)
     {
         return flushContext.getEntityMutator(tableName);
@@ -129,8 +129,7 @@ public class ThriftPersistenceContextFactory implements PersistenceContextFactor
 
     private ThriftImmediateFlushContext buildImmediateFlushContext(Options options)
     {
-        return new ThriftImmediateFlushContext(daoContext, configContext.getConsistencyPolicy(), options
-                .getConsistencyLevel().orNull());
+        return new ThriftImmediateFlushContext(daoContext, options.getConsistencyLevel().orNull());
     }
 
 }
@@ -0,0 +1,146 @@
+package info.archinnov.achilles.counter;
+
+import info.archinnov.achilles.dao.ThriftAbstractDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ThriftCounterCoalescer
+ * 
+ * Coalesce counter increments per (counter column family, row key, column name, consistency level). Deltas of the
+ * same column family and consistency level are written with a single mutator
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ThriftCounterCoalescer extends CounterCoalescer<ThriftCounterCoalescer.CounterKey>
+{
+    private static final Logger log = LoggerFactory.getLogger(ThriftCounterCoalescer.class);
+
+    public ThriftCounterCoalescer(int flushInterval, int maxPendingDeltas)
+    {
+        super(flushInterval, maxPendingDeltas);
+    }
+
+    public void add(ThriftAbstractDao counterDao, Object rowKey, Composite columnName,
+            ConsistencyLevel writeLevel, long delta)
+    {
+        add(new CounterKey(counterDao, rowKey, columnName, writeLevel), delta);
+    }
+
+    @Override
+    protected int writeDeltas(Map<CounterKey, Long> deltas)
+    {
+        Map<ThriftAbstractDao, Map<ConsistencyLevel, Mutator<Object>>> mutators = new HashMap<ThriftAbstractDao, Map<ConsistencyLevel, Mutator<Object>>>();
+        for (Entry<CounterKey, Long> entry : deltas.entrySet())
+        {
+            CounterKey key = entry.getKey();
+            Map<ConsistencyLevel, Mutator<Object>> mutatorsByLevel = mutators.get(key.counterDao);
+            if (mutatorsByLevel == null)
+            {
+                mutatorsByLevel = new HashMap<ConsistencyLevel, Mutator<Object>>();
+                mutators.put(key.counterDao, mutatorsByLevel);
+            }
+            Mutator<Object> mutator = mutatorsByLevel.get(key.writeLevel);
+            if (mutator == null)
+            {
+                mutator = key.counterDao.buildMutator(key.writeLevel);
+                mutatorsByLevel.put(key.writeLevel, mutator);
+            }
+            key.counterDao.incrementCounterBatch(key.rowKey, key.columnName, entry.getValue(), mutator);
+        }
+
+        int failed = 0;
+        for (Entry<ThriftAbstractDao, Map<ConsistencyLevel, Mutator<Object>>> daoEntry : mutators.entrySet())
+        {
+            for (Entry<ConsistencyLevel, Mutator<Object>> levelEntry : daoEntry.getValue().entrySet())
+            {
+                failed += executeMutator(daoEntry.getKey(), levelEntry.getValue());
+            }
+        }
+        return failed;
+    }
+
+    private int executeMutator(ThriftAbstractDao counterDao, Mutator<Object> mutator)
+    {
+        int mutationCount = mutator.getPendingMutationCount();
+        try
+        {
+            counterDao.executeMutator(mutator);
+            return 0;
+        }
+        catch (Throwable throwable)
+        {
+            log.error("Cannot flush {} counter deltas", mutationCount, throwable);
+            return mutationCount;
+        }
+    }
+
+    public static class CounterKey
+    {
+        private final ThriftAbstractDao counterDao;
+        private final Object rowKey;
+        private final Composite columnName;
+        private final ConsistencyLevel writeLevel;
+
+        // Hector composites do not implement equals()
+        private final Object rowKeyId;
+        private final ByteBuffer columnNameId;
+
+        private CounterKey(ThriftAbstractDao counterDao, Object rowKey, Composite columnName,
+                ConsistencyLevel writeLevel)
+        {
+            this.counterDao = counterDao;
+            this.rowKey = rowKey;
+            this.columnName = columnName;
+            this.writeLevel = writeLevel;
+            this.rowKeyId = rowKey instanceof Composite ? ((Composite) rowKey).serialize() : rowKey;
+            this.columnNameId = columnName.serialize();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + System.identityHashCode(counterDao);
+            result = prime * result + ((rowKeyId == null) ? 0 : rowKeyId.hashCode());
+            result = prime * result + columnNameId.hashCode();
+            result = prime * result + ((writeLevel == null) ? 0 : writeLevel.hashCode());
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            CounterKey other = (CounterKey) obj;
+            if (counterDao != other.counterDao)
+                return false;
+            if (rowKeyId == null)
+            {
+                if (other.rowKeyId != null)
+                    return false;
+            }
+            else if (!rowKeyId.equals(other.rowKeyId))
+                return false;
+            if (!columnNameId.equals(other.columnNameId))
+                return false;
+            if (writeLevel != other.writeLevel)
+                return false;
+            return true;
+        }
+    }
+}
@@ -3,7 +3,7 @@ package info.archinnov.achilles.dao;
 import static info.archinnov.achilles.logger.ThriftLoggerHelper.format;
 import static me.prettyprint.hector.api.factory.HFactory.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
 import info.archinnov.achilles.counter.AchillesCounter;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.iterator.ThriftCounterSliceIterator;
@@ -11,6 +11,7 @@ import info.archinnov.achilles.iterator.ThriftJoinSliceIterator;
 import info.archinnov.achilles.iterator.ThriftSliceIterator;
 import info.archinnov.achilles.serializer.ThriftSerializerTypeInferer;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 import java.util.List;
 import me.prettyprint.cassandra.model.HCounterColumnImpl;
@@ -52,6 +53,7 @@ public abstract class ThriftAbstractDao
     protected String columnFamily;
     protected AchillesConsistencyLevelPolicy policy;
     protected Pair<?, ?> rowkeyAndValueClasses;
+    protected ThriftLevelKeyspaces levelKeyspaces;
 
     public static int DEFAULT_LENGTH = 100;
 
@@ -72,19 +74,6 @@ public abstract class ThriftAbstractDao
         this.rowkeyAndValueClasses = rowkeyAndValueClasses;
     }
 
-    private <T> T reinitConsistencyLevels(SafeExecutionContext<T> context)
-    {
-        log.trace("Execute safely and reinit consistency level in thread {}",
-                Thread.currentThread());
-        try
-        {
-            return context.execute();
-        } finally
-        {
-            this.policy.reinitDefaultConsistencyLevels();
-        }
-    }
-
     protected <V> Function<HColumn<Composite, V>, V> getHColumnToValueFn()
     {
         return new Function<HColumn<Composite, V>, V>()
@@ -138,7 +127,7 @@ public abstract class ThriftAbstractDao
         mutator.addInsertion(key, columnFamily, column);
     }
 
-    public <K, V> V getValue(final K key, final Composite name)
+    public <K, V> V getValue(final K key, final Composite name, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -148,7 +137,7 @@ public abstract class ThriftAbstractDao
         }
 
         V result = null;
-        HColumn<Composite, V> column = getColumn(key, name);
+        HColumn<Composite, V> column = getColumn(key, name, readLevel);
         if (column != null)
         {
             result = column.getValue();
@@ -156,7 +145,8 @@ public abstract class ThriftAbstractDao
         return result;
     }
 
-    public <K, V> HColumn<Composite, V> getColumn(final K key, final Composite name)
+    public <K, V> HColumn<Composite, V> getColumn(final K key, final Composite name,
+            ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -165,31 +155,23 @@ public abstract class ThriftAbstractDao
                     format(name));
         }
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        return reinitConsistencyLevels(new SafeExecutionContext<HColumn<Composite, V>>()
-        {
-            @Override
-            public HColumn<Composite, V> execute()
-            {
-                return HFactory
-                        .createColumnQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                                columnNameSerializer,
-                                ThriftAbstractDao.this.<V> valSrz())
-                        .setColumnFamily(columnFamily)
-                        .setKey(key)
-                        .setName(name)
-                        .execute()
-                        .get();
-            }
-        });
+        return HFactory
+                .createColumnQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                        columnNameSerializer,
+                        this.<V> valSrz())
+                .setColumnFamily(columnFamily)
+                .setKey(key)
+                .setName(name)
+                .execute()
+                .get();
     }
 
-    public <K, V> void setValue(K key, Composite name, V value)
+    public <K, V> void setValue(K key, Composite name, V value, ConsistencyLevel writeLevel)
     {
         log.trace("Set value {} to column family {} with key {} , column name {}", value,
                 columnFamily, key, name);
 
-        Mutator<K> mutator = HFactory.createMutator(keyspace, this.<K> rowSrz());
+        Mutator<K> mutator = buildMutator(writeLevel);
         this.setValueBatch(key, name, value, Optional.<Integer> absent(), Optional.<Long> absent(), mutator);
         this.executeMutator(mutator);
     }
@@ -248,6 +230,9 @@ public abstract class ThriftAbstractDao
         this.removeColumnRangeBatch(key, start, end, false, Integer.MAX_VALUE, mutator);
     }
 
+    /**
+     * Columns to delete are read with the default read level of the column family
+     */
     public <K, V> void removeColumnRangeBatch(K key, Composite start, Composite end,
             boolean reverse, int count,
             Mutator<K> mutator)
@@ -259,7 +244,7 @@ public abstract class ThriftAbstractDao
                             "Remove {} columns slice within range having inclusive start/end {}/{} column names as batch mutation from column family {} with key {} and reserver {}",
                             count, format(start), format(end), columnFamily, key, reverse);
         }
-        List<HColumn<Composite, V>> columns = createSliceQuery(keyspace, this.<K> rowSrz(),
+        List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(null), this.<K> rowSrz(),
                 columnNameSerializer,
                 this.<V> valSrz())
                 .setColumnFamily(columnFamily)
@@ -276,7 +261,7 @@ public abstract class ThriftAbstractDao
     }
 
     public <K, V> List<V> findValuesRange(final K key, final Composite start, final Composite end,
-            final boolean reverse, final int count)
+            final boolean reverse, final int count, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -285,29 +270,21 @@ public abstract class ThriftAbstractDao
                             "Find {} values slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
                             count, format(start), format(end), columnFamily, key, reverse);
         }
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>()
-        {
-            @Override
-            public List<HColumn<Composite, V>> execute()
-            {
-                return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                        columnNameSerializer,
-                        ThriftAbstractDao.this.<V> valSrz())
-                        .setColumnFamily(columnFamily)
-                        .setKey(key)
-                        .setRange(start, end, reverse, count)
-                        .execute()
-                        .get()
-                        .getColumns();
-            }
-        });
+        List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                columnNameSerializer,
+                this.<V> valSrz())
+                .setColumnFamily(columnFamily)
+                .setKey(key)
+                .setRange(start, end, reverse, count)
+                .execute()
+                .get()
+                .getColumns();
         return Lists.transform(columns, this.<V> getHColumnToValueFn());
     }
 
     public <K, V> List<Pair<Composite, V>> findColumnsRange(final K key, final Composite start,
             final Composite end,
-            final boolean reverse, final int count)
+            final boolean reverse, final int count, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -316,29 +293,21 @@ public abstract class ThriftAbstractDao
                             "Find {} columns slice within range having inclusive start/end {}/{} column names from column family {} with key {} and reverse {}",
                             count, format(start), format(end), columnFamily, key, reverse);
         }
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        List<HColumn<Composite, V>> columns = reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>()
-        {
-            @Override
-            public List<HColumn<Composite, V>> execute()
-            {
-                return createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                        columnNameSerializer,
-                        ThriftAbstractDao.this.<V> valSrz())
-                        .setColumnFamily(columnFamily)
-                        .setKey(key)
-                        .setRange(start, end, reverse, count)
-                        .execute()
-                        .get()
-                        .getColumns();
-            }
-        });
+        List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                columnNameSerializer,
+                this.<V> valSrz())
+                .setColumnFamily(columnFamily)
+                .setKey(key)
+                .setRange(start, end, reverse, count)
+                .execute()
+                .get()
+                .getColumns();
         return Lists.transform(columns, this.<V> getHColumnToPairFn());
     }
 
     public <K, V> List<HColumn<Composite, V>> findRawColumnsRange(final K key,
             final Composite start,
-            final Composite end, final int count, final boolean reverse)
+            final Composite end, final int count, final boolean reverse, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -348,30 +317,22 @@ public abstract class ThriftAbstractDao
                             count, format(start), format(end), columnFamily, key, reverse);
         }
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        return reinitConsistencyLevels(new SafeExecutionContext<List<HColumn<Composite, V>>>()
-        {
-            @Override
-            public List<HColumn<Composite, V>> execute()
-            {
-                List<HColumn<Composite, V>> columns = createSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                        columnNameSerializer,
-                        ThriftAbstractDao.this.<V> valSrz())
-                        .setColumnFamily(columnFamily)
-                        .setKey(key)
-                        .setRange(start, end, reverse, count)
-                        .execute()
-                        .get()
-                        .getColumns();
-
-                return columns;
-            }
-        });
+        List<HColumn<Composite, V>> columns = createSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                columnNameSerializer,
+                this.<V> valSrz())
+                .setColumnFamily(columnFamily)
+                .setKey(key)
+                .setRange(start, end, reverse, count)
+                .execute()
+                .get()
+                .getColumns();
+
+        return columns;
     }
 
     public <K, V> List<HCounterColumn<Composite>> findCounterColumnsRange(final K key,
             final Composite start,
-            final Composite end, final int count, final boolean reverse)
+            final Composite end, final int count, final boolean reverse, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -381,28 +342,20 @@ public abstract class ThriftAbstractDao
                             count, format(start), format(end), columnFamily, key, reverse);
         }
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        return reinitConsistencyLevels(new SafeExecutionContext<List<HCounterColumn<Composite>>>()
-        {
-            @Override
-            public List<HCounterColumn<Composite>> execute()
-            {
-                return HFactory
-                        .createCounterSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                                columnNameSerializer)
-                        .setColumnFamily(columnFamily)
-                        .setKey(key)
-                        .setRange(start, end, reverse, count)
-                        .execute()
-                        .get()
-                        .getColumns();
-            }
-        });
+        return HFactory
+                .createCounterSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                        columnNameSerializer)
+                .setColumnFamily(columnFamily)
+                .setKey(key)
+                .setRange(start, end, reverse, count)
+                .execute()
+                .get()
+                .getColumns();
     }
 
     public <K, V> ThriftSliceIterator<K, V> getColumnsIterator(K key, Composite start,
             Composite end,
-            boolean reverse, int length)
+            boolean reverse, int length, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -412,18 +365,17 @@ public abstract class ThriftAbstractDao
                             format(start), format(end), columnFamily, key, reverse, length);
         }
 
-        SliceQuery<K, Composite, V> query = createSliceQuery(keyspace,
+        SliceQuery<K, Composite, V> query = createSliceQuery(readKeyspace(readLevel),
                 ThriftAbstractDao.this.<K> rowSrz(),
                 columnNameSerializer, ThriftAbstractDao.this.<V> valSrz()).setColumnFamily(
                 columnFamily).setKey(key);
 
-        return new ThriftSliceIterator<K, V>(policy, columnFamily, query, start, end, reverse,
-                length);
+        return new ThriftSliceIterator<K, V>(query, start, end, reverse, length);
     }
 
     public <K, V> ThriftCounterSliceIterator<K> getCounterColumnsIterator(K key, Composite start,
             Composite end,
-            boolean reverse, int length)
+            boolean reverse, int length, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -433,19 +385,17 @@ public abstract class ThriftAbstractDao
                             format(start), format(end), columnFamily, key, reverse, length);
         }
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        SliceCounterQuery<K, Composite> query = createCounterSliceQuery(keyspace,
+        SliceCounterQuery<K, Composite> query = createCounterSliceQuery(readKeyspace(readLevel),
                 this.<K> rowSrz(),
                 columnNameSerializer).setColumnFamily(columnFamily).setKey(key);
 
-        return new ThriftCounterSliceIterator<K>(policy, columnFamily, query, start, end, reverse,
-                length);
+        return new ThriftCounterSliceIterator<K>(query, start, end, reverse, length);
     }
 
     public <K, KEY, VALUE> ThriftJoinSliceIterator<K, KEY, VALUE> getJoinColumnsIterator(
             ThriftGenericEntityDao joinEntityDao, PropertyMeta propertyMeta, K key,
             Composite start,
-            Composite end, boolean reversed, int count)
+            Composite end, boolean reversed, int count, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -456,18 +406,16 @@ public abstract class ThriftAbstractDao
                             propertyMeta.getPropertyName());
         }
 
-        SliceQuery<K, Composite, Object> query = createSliceQuery(keyspace, this.<K> rowSrz(),
+        SliceQuery<K, Composite, Object> query = createSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
                 columnNameSerializer,
                 this.<Object> valSrz()).setColumnFamily(columnFamily).setKey(key);
 
-        return new ThriftJoinSliceIterator<K, KEY, VALUE>(policy, joinEntityDao, columnFamily,
-                propertyMeta, query,
-                start, end, reversed, count);
+        return new ThriftJoinSliceIterator<K, KEY, VALUE>(joinEntityDao, readLevel,
+                propertyMeta, query, start, end, reversed, count);
     }
 
-    public <K, V> Rows<K, Composite, V> multiGetSliceRange(final List<K> keys,
-            final Composite start,
-            final Composite end, final boolean reverse, final int size)
+    public <K, V> Rows<K, Composite, V> multiGetSliceRange(List<K> keys, Composite start,
+            Composite end, boolean reverse, int size, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -478,22 +426,14 @@ public abstract class ThriftAbstractDao
                             reverse, size);
         }
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        return reinitConsistencyLevels(new SafeExecutionContext<Rows<K, Composite, V>>()
-        {
-            @Override
-            public Rows<K, Composite, V> execute()
-            {
-                return HFactory
-                        .createMultigetSliceQuery(keyspace, ThriftAbstractDao.this.<K> rowSrz(),
-                                columnNameSerializer, ThriftAbstractDao.this.<V> valSrz())
-                        .setColumnFamily(columnFamily)
-                        .setKeys(keys)
-                        .setRange(start, end, reverse, size)
-                        .execute()
-                        .get();
-            }
-        });
+        return HFactory
+                .createMultigetSliceQuery(readKeyspace(readLevel), this.<K> rowSrz(),
+                        columnNameSerializer, this.<V> valSrz())
+                .setColumnFamily(columnFamily)
+                .setKeys(keys)
+                .setRange(start, end, reverse, size)
+                .execute()
+                .get();
     }
 
     public <K> void removeRowBatch(K key, Mutator<K> mutator)
@@ -504,7 +444,7 @@ public abstract class ThriftAbstractDao
         mutator.addDeletion(key, columnFamily);
     }
 
-    public <K> void incrementCounter(K key, Composite name, Long value)
+    public <K> void incrementCounter(K key, Composite name, Long value, ConsistencyLevel writeLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -512,13 +452,13 @@ public abstract class ThriftAbstractDao
                     format(name), key,
                     columnFamily, value);
         }
-        Mutator<K> mutator = buildMutator();
+        Mutator<K> mutator = buildMutator(writeLevel);
         mutator.addCounter(key, columnFamily, new HCounterColumnImpl<Composite>(name, value,
                 ThriftSerializerUtils.COMPOSITE_SRZ));
         executeMutator(mutator);
     }
 
-    public <K> void decrementCounter(K key, Composite name, Long value)
+    public <K> void decrementCounter(K key, Composite name, Long value, ConsistencyLevel writeLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -526,13 +466,24 @@ public abstract class ThriftAbstractDao
                     format(name), key,
                     columnFamily, value);
         }
-        Mutator<K> mutator = buildMutator();
+        Mutator<K> mutator = buildMutator(writeLevel);
         mutator.addCounter(key, columnFamily, new HCounterColumnImpl<Composite>(name, value * -1L,
                 ThriftSerializerUtils.COMPOSITE_SRZ));
         executeMutator(mutator);
     }
 
-    public <K> Long getCounterValue(K key, Composite name)
+    public <K> void incrementCounterBatch(K key, Composite name, Long value, Mutator<K> mutator)
+    {
+        if (log.isTraceEnabled())
+        {
+            log.trace("Incrementing counter column {} as batch mutation with key {} from column family {} by {}",
+                    format(name), key, columnFamily, value);
+        }
+        mutator.addCounter(key, columnFamily, new HCounterColumnImpl<Composite>(name, value,
+                ThriftSerializerUtils.COMPOSITE_SRZ));
+    }
+
+    public <K> Long getCounterValue(K key, Composite name, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -542,7 +493,7 @@ public abstract class ThriftAbstractDao
         }
 
         Long counterValue = null;
-        HCounterColumn<Composite> counterColumn = getCounterColumn(key, name);
+        HCounterColumn<Composite> counterColumn = getCounterColumn(key, name, readLevel);
         if (counterColumn != null)
         {
             counterValue = counterColumn.getValue();
@@ -551,7 +502,7 @@ public abstract class ThriftAbstractDao
         return counterValue;
     }
 
-    public <K> HCounterColumn<Composite> getCounterColumn(K key, Composite name)
+    public <K> HCounterColumn<Composite> getCounterColumn(K key, Composite name, ConsistencyLevel readLevel)
     {
         if (log.isTraceEnabled())
         {
@@ -559,22 +510,14 @@ public abstract class ThriftAbstractDao
                     key, columnFamily);
         }
 
-        final CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(
-                keyspace,
+        CounterQuery<K, Composite> counter = new ThriftCounterColumnQuery<K, Composite>(
+                readKeyspace(readLevel),
                 this.<K> rowSrz(), columnNameSerializer)
                 .setColumnFamily(columnFamily)
                 .setKey(key)
                 .setName(name);
 
-        this.policy.loadConsistencyLevelForRead(columnFamily);
-        return reinitConsistencyLevels(new SafeExecutionContext<HCounterColumn<Composite>>()
-        {
-            @Override
-            public HCounterColumn<Composite> execute()
-            {
-                return counter.execute().get();
-            }
-        });
+        return counter.execute().get();
     }
 
     public <K> void removeCounterBatch(K key, Composite name, Mutator<K> mutator)
@@ -590,17 +533,19 @@ public abstract class ThriftAbstractDao
         mutator.deleteCounter(key, columnFamily, name, columnNameSerializer);
     }
 
+    /**
+     * Counter columns to delete are read with the default read level of the column family
+     */
     public <K> void removeCounterRowBatch(K key, Mutator<K> mutator)
     {
         log.trace("Remove counter row as batch mutation with key {} from column family {}", key,
                 columnFamily);
 
         SliceCounterQuery<K, Composite> query = HFactory
-                .createCounterSliceQuery(keyspace, this.<K> rowSrz(), columnNameSerializer)
+                .createCounterSliceQuery(readKeyspace(null), this.<K> rowSrz(), columnNameSerializer)
                 .setColumnFamily(columnFamily).setKey(key);
 
-        ThriftCounterSliceIterator<K> iterator = new ThriftCounterSliceIterator<K>(policy,
-                columnFamily, query,
+        ThriftCounterSliceIterator<K> iterator = new ThriftCounterSliceIterator<K>(query,
                 (Composite) null, (Composite) null, false, DEFAULT_LENGTH);
 
         while (iterator.hasNext())
@@ -620,27 +565,56 @@ public abstract class ThriftAbstractDao
         cluster.truncate(keyspace.getKeyspaceName(), AchillesCounter.THRIFT_COUNTER_CF);
     }
 
-    public <K> Mutator<K> buildMutator()
+    /**
+     * Mutator bound to the given write level, or to the default write level of the column family when null
+     */
+    public <K> Mutator<K> buildMutator(ConsistencyLevel writeLevel)
     {
-        return HFactory.createMutator(this.keyspace, this.<K> rowSrz());
+        return HFactory.createMutator(writeKeyspace(writeLevel), this.<K> rowSrz());
     }
 
-    public <K> void executeMutator(final Mutator<K> mutator)
+    public <K> void executeMutator(Mutator<K> mutator)
     {
-        log.trace("Execute safely mutator with {} mutations for column family {}",
+        log.trace("Execute mutator with {} mutations for column family {}",
                 mutator.getPendingMutationCount(),
                 columnFamily);
 
-        this.policy.loadConsistencyLevelForWrite(this.columnFamily);
-        reinitConsistencyLevels(new SafeExecutionContext<Void>()
+        mutator.execute();
+    }
+
+    /**
+     * Keyspace whose Hector policy always returns the given level. The level keyspaces are shared by all the
+     * DAOs of the entity manager factory; a DAO built outside of it creates its own on first use
+     */
+    public Keyspace keyspaceFor(ConsistencyLevel level)
+    {
+        if (levelKeyspaces == null)
         {
-            @Override
-            public Void execute()
-            {
-                mutator.execute();
-                return null;
-            }
-        });
+            log.trace("Create fixed consistency level keyspaces for {}", keyspace.getKeyspaceName());
+            levelKeyspaces = new ThriftLevelKeyspaces(cluster, keyspace);
+        }
+        return levelKeyspaces.forLevel(level);
+    }
+
+    public void setLevelKeyspaces(ThriftLevelKeyspaces levelKeyspaces)
+    {
+        this.levelKeyspaces = levelKeyspaces;
+    }
+
+    /**
+     * Keyspace to read with the given level, or with the default read level of the column family when null
+     */
+    public Keyspace readKeyspace(ConsistencyLevel readLevel)
+    {
+        return keyspaceFor(readLevel != null ? readLevel : policy.getConsistencyLevelForRead(columnFamily));
+    }
+
+    /**
+     * Keyspace to write with the given level, or with the default write level of the column family when null
+     */
+    public Keyspace writeKeyspace(ConsistencyLevel writeLevel)
+    {
+        return keyspaceFor(writeLevel != null ? writeLevel : policy.getConsistencyLevelForWrite(columnFamily));
     }
 
     public String getColumnFamily()
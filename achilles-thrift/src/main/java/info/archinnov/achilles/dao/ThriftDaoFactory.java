@@ -5,6 +5,7 @@ import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.type.Counter;
 import java.util.Map;
 import me.prettyprint.hector.api.Cluster;
@@ -19,22 +20,23 @@ public class ThriftDaoFactory {
     private static final Logger log = LoggerFactory.getLogger(ThriftDaoFactory.class);
 
     public void createDaosForEntity(Cluster cluster, Keyspace keyspace, ConfigurationContext configContext,
-            EntityMeta entityMeta, Map<String, ThriftGenericEntityDao> entityDaosMap,
+            ThriftValueCodec valueCodec, EntityMeta entityMeta, Map<String, ThriftGenericEntityDao> entityDaosMap,
             Map<String, ThriftGenericWideRowDao> wideRowDaosMap) {
 
-        createEntityDao(cluster, keyspace, configContext, entityMeta, entityDaosMap);
+        createEntityDao(cluster, keyspace, configContext, valueCodec, entityMeta, entityDaosMap);
 
     }
 
     private void createEntityDao(Cluster cluster, Keyspace keyspace, ConfigurationContext configContext,
-            EntityMeta entityMeta, Map<String, ThriftGenericEntityDao> entityDaosMap) {
+            ThriftValueCodec valueCodec, EntityMeta entityMeta, Map<String, ThriftGenericEntityDao> entityDaosMap) {
         String tableName = entityMeta.getTableName();
         ThriftGenericEntityDao entityDao = new ThriftGenericEntityDao(//
                 cluster, //
                 keyspace, //
                 tableName, //
                 configContext.getConsistencyPolicy(), //
-                Pair.create(entityMeta.getIdClass(), String.class));
+                entityMeta.getIdClass(), //
+                valueCodec);
         entityDaosMap.put(tableName, entityDao);
         log.debug("Build entity dao for column family {}", tableName);
     }
@@ -1,13 +1,20 @@
 package info.archinnov.achilles.dao;
 
+import static info.archinnov.achilles.configuration.ThriftConfigurationParameters.*;
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
+import info.archinnov.achilles.iterator.ThriftSliceIterator;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import org.apache.cassandra.utils.Pair;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -20,6 +27,8 @@ import me.prettyprint.hector.api.beans.Rows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 /**
  * ThriftGenericEntityDao
  * 
@@ -42,6 +51,16 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao
 	private Composite startCompositeForEagerFetch;
 	private Composite endCompositeForEagerFetch;
 
+	private ThriftValueCodec valueCodec = new ThriftJSONValueCodec();
+
+	private int multiGetBatchSize = DEFAULT_MULTIGET_BATCH_SIZE;
+
+	private int multiGetMaxInFlight = DEFAULT_MULTIGET_MAX_IN_FLIGHT;
+
+	private AchillesExecutor executor;
+
+	private int collectionPageSize = DEFAULT_COLLECTION_PAGE_SIZE;
+
 	protected ThriftGenericEntityDao() {
 		this.initComposites();
 	}
@@ -59,42 +78,139 @@ public class ThriftGenericEntityDao extends ThriftAbstractDao
 		columnNameSerializer = COMPOSITE_SRZ;
 		log
 				.debug("Initializing GenericEntityDao for key serializer '{}', composite comparator and value serializer '{}'",
-						this.rowSrz().getComparatorType().getTypeName(), STRING_SRZ
+						this.rowSrz().getComparatorType().getTypeName(), this
+								.valSrz()
 								.getComparatorType()
 								.getTypeName());
 
 	}
 
-	public <K> List<Pair<Composite, String>> eagerFetchEntity(K key)
+	public <K> ThriftGenericEntityDao(Cluster cluster, Keyspace keyspace, String cf,
+			AchillesConsistencyLevelPolicy consistencyPolicy, Class<K> rowkeyClass,
+			ThriftValueCodec valueCodec)
+	{
+		this(cluster, keyspace, cf, consistencyPolicy, Pair.create(rowkeyClass,
+				valueCodec.getColumnValueClass()));
+		this.valueCodec = valueCodec;
+	}
+
+	public <K> List<Pair<Composite, Object>> eagerFetchEntity(K key, ConsistencyLevel readLevel)
 	{
 		log.trace("Eager fetching properties for column family {} ", columnFamily);
 
-		return this.findColumnsRange(key, startCompositeForEagerFetch, endCompositeForEagerFetch,
-				false, Integer.MAX_VALUE);
+		return this.findColumnsRangeByPage(key, startCompositeForEagerFetch, endCompositeForEagerFetch,
+				readLevel);
+	}
+
+	/**
+	 * Fetch all the columns within the range by slices of at most collectionPageSize columns, so that large
+	 * collections are not read with a single unbounded slice query
+	 */
+	public <K> List<Pair<Composite, Object>> findColumnsRangeByPage(K key, Composite start, Composite end,
+			ConsistencyLevel readLevel)
+	{
+		log.trace("Fetching columns range by pages of {} from column family {}", collectionPageSize,
+				columnFamily);
+
+		ThriftSliceIterator<K, Object> iterator = this.getColumnsIterator(key, start, end, false,
+				collectionPageSize, readLevel);
+		List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
+		while (iterator.hasNext())
+		{
+			HColumn<Composite, Object> column = iterator.next();
+			columns.add(Pair.create(column.getName(), column.getValue()));
+		}
+		return columns;
 	}
 
-	public <K> Map<K, List<Pair<Composite, String>>> eagerFetchEntities(List<K> keys)
+	/**
+	 * Keys are split into sub-batches of at most multiGetBatchSize rows, at most multiGetMaxInFlight of them being
+	 * fetched concurrently by the executor. The read level is resolved by the caller so the sub-batches do not depend
+	 * on the consistency level of the fetching thread
+	 */
+	public <K> Map<K, List<Pair<Composite, Object>>> eagerFetchEntities(List<K> keys,
+			final ConsistencyLevel readLevel)
 	{
 		log.trace("Eager fetching properties for multiple entities in column family {} ",
 				columnFamily);
 
-		Map<K, List<Pair<Composite, String>>> map = new HashMap<K, List<Pair<Composite, String>>>();
+		Map<K, List<Pair<Composite, Object>>> map = new HashMap<K, List<Pair<Composite, Object>>>();
 
-		Rows<K, Composite, String> rows = this.multiGetSliceRange(keys,
-				startCompositeForEagerFetch, endCompositeForEagerFetch, false, Integer.MAX_VALUE);
+		if (keys.size() <= multiGetBatchSize || executor == null)
+		{
+			for (List<K> partition : Lists.partition(keys, multiGetBatchSize))
+			{
+				mapRows(eagerFetchRows(partition, readLevel), map);
+			}
+			return map;
+		}
 
-		for (Row<K, Composite, String> row : rows)
+		List<Callable<Rows<K, Composite, Object>>> tasks = new ArrayList<Callable<Rows<K, Composite, Object>>>();
+		for (List<K> partition : Lists.partition(keys, multiGetBatchSize))
 		{
-			List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
-			for (HColumn<Composite, String> column : row.getColumnSlice().getColumns())
+			final List<K> batchKeys = new ArrayList<K>(partition);
+			tasks.add(new Callable<Rows<K, Composite, Object>>()
+			{
+				@Override
+				public Rows<K, Composite, Object> call() throws Exception
+				{
+					return eagerFetchRows(batchKeys, readLevel);
+				}
+			});
+		}
+
+		for (Rows<K, Composite, Object> rows : executor.invokeAll(tasks, multiGetMaxInFlight))
+		{
+			mapRows(rows, map);
+		}
+
+		return map;
+	}
+
+	public void setMultiGetBatchSize(int multiGetBatchSize)
+	{
+		this.multiGetBatchSize = multiGetBatchSize;
+	}
+
+	public void setMultiGetMaxInFlight(int multiGetMaxInFlight)
+	{
+		this.multiGetMaxInFlight = multiGetMaxInFlight;
+	}
+
+	public void setExecutor(AchillesExecutor executor)
+	{
+		this.executor = executor;
+	}
+
+	public void setCollectionPageSize(int collectionPageSize)
+	{
+		this.collectionPageSize = collectionPageSize;
+	}
+
+	public ThriftValueCodec getValueCodec()
+	{
+		return valueCodec;
+	}
+
+	private <K> Rows<K, Composite, Object> eagerFetchRows(List<K> keys, ConsistencyLevel readLevel)
+	{
+		return this.multiGetSliceRange(keys, startCompositeForEagerFetch, endCompositeForEagerFetch,
+				false, Integer.MAX_VALUE, readLevel);
+	}
+
+	private <K> void mapRows(Rows<K, Composite, Object> rows,
+			Map<K, List<Pair<Composite, Object>>> map)
+	{
+		for (Row<K, Composite, Object> row : rows)
+		{
+			List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
+			for (HColumn<Composite, Object> column : row.getColumnSlice().getColumns())
 			{
 				columns.add(Pair.create(column.getName(), column.getValue()));
 			}
 
 			map.put(row.getKey(), columns);
 		}
-
-		return map;
 	}
 
 	private void initComposites()
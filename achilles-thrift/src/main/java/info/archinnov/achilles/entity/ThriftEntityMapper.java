@@ -4,6 +4,7 @@ import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SR
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.helper.EntityMapper;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,9 @@ public class ThriftEntityMapper extends EntityMapper
 {
     private static final Logger log = LoggerFactory.getLogger(ThriftEntityMapper.class);
 
-    public void setEagerPropertiesToEntity(Object key, List<Pair<Composite, String>> columns,
+    public void setEagerPropertiesToEntity(Object key, List<Pair<Composite, Object>> columns,
             EntityMeta entityMeta,
-            Object entity)
+            Object entity, ThriftValueCodec valueCodec)
     {
         log.trace("Set eager properties to entity {} ", entityMeta.getClassName());
 
@@ -38,7 +39,7 @@ public class ThriftEntityMapper extends EntityMapper
 
         Map<String, PropertyMeta> propertyMetas = entityMeta.getPropertyMetas();
 
-        for (Pair<Composite, String> pair : columns)
+        for (Pair<Composite, Object> pair : columns)
         {
             String propertyName = pair.left.get(1, STRING_SRZ);
 
@@ -50,19 +51,20 @@ public class ThriftEntityMapper extends EntityMapper
                 switch (propertyMeta.type())
                 {
                     case SIMPLE:
-                        setSimplePropertyToEntity(pair.right, propertyMeta, entity);
+                        invoker.setValueToField(entity, propertyMeta,
+                                valueCodec.decode(propertyMeta, pair.right));
                         break;
                     case LIST:
                         addToList(listProperties, propertyMeta,
-                                propertyMeta.getValueFromString(pair.right));
+                                valueCodec.decode(propertyMeta, pair.right));
                         break;
                     case SET:
                         addToSet(setProperties, propertyMeta,
-                                propertyMeta.getValueFromString(pair.right));
+                                valueCodec.decode(propertyMeta, pair.right));
                         break;
                     case MAP:
                         addToMap(mapProperties, propertyMeta,
-                                propertyMeta.getKeyValueFromString(pair.right));
+                                valueCodec.decodeKeyValue(propertyMeta, pair.right));
                         break;
                     default:
                         log.debug("Property {} is lazy or of proxy type, do not set to entity now");
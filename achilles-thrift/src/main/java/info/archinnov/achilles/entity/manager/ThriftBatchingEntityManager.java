@@ -10,6 +10,7 @@ import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.AchillesStaleObjectStateException;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -32,7 +33,7 @@ public class ThriftBatchingEntityManager extends ThriftEntityManager
             ConfigurationContext configContext)
     {
         super(entityMetaMap, contextFactory, daoContext, configContext);
-        this.flushContext = new ThriftBatchingFlushContext(daoContext, consistencyPolicy, null);
+        this.flushContext = new ThriftBatchingFlushContext(daoContext, null);
     }
 
     /**
@@ -139,6 +140,22 @@ public class ThriftBatchingEntityManager extends ThriftEntityManager
         }
     }
 
+    @Override
+    public <ID, T> Map<ID, T> findAll(final Class<T> entityClass, final Collection<ID> primaryKeys,
+            ConsistencyLevel readLevel)
+    {
+        if (readLevel != null)
+        {
+            flushContext.cleanUp();
+            throw new AchillesException(
+                    "Runtime custom Consistency Level cannot be set for batch mode. Please set the Consistency Levels at batch start with 'startBatch(readLevel,writeLevel)'");
+        }
+        else
+        {
+            return super.findAll(entityClass, primaryKeys, null);
+        }
+    }
+
     @Override
     public <T> T getReference(final Class<T> entityClass, final Object primaryKey,
             ConsistencyLevel readLevel)
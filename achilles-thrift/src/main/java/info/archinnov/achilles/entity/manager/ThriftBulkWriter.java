@@ -0,0 +1,158 @@
+package info.archinnov.achilles.entity.manager;
+
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ThriftDaoContext;
+import info.archinnov.achilles.context.ThriftImmediateFlushContext;
+import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
+import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.OptionsBuilder;
+import info.archinnov.achilles.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * ThriftBulkWriter
+ *
+ * Write the columns of each entity like ThriftPersisterImpl does in a batch, without removing the existing row first
+ * and without writing the counters. Join properties are written as the primary keys of the join entities, which are
+ * neither persisted nor checked. One persistence context is reused for all the entities of a buffer. Once the pending
+ * mutators hold flushMaxMutations mutations they are executed by the factory executor and new ones are started. A
+ * mutator groups the columns by row key so each entity is written as a single row mutation
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ThriftBulkWriter<T> extends BulkWriter<T>
+{
+    private ThriftPersisterImpl persisterImpl = new ThriftPersisterImpl();
+    private ReflectionInvoker invoker = new ReflectionInvoker();
+
+    private ThriftDaoContext daoContext;
+    private ConfigurationContext configContext;
+    private int maxMutations;
+
+    private ThriftImmediateFlushContext flushContext;
+    private ThriftPersistenceContext context;
+    private List<T> bufferedEntities = new ArrayList<T>();
+
+    public ThriftBulkWriter(Class<T> entityClass, EntityMeta entityMeta, ThriftDaoContext daoContext,
+            ConfigurationContext configContext, BulkWriteListener<? super T> listener)
+    {
+        super(entityClass, entityMeta, daoContext.getFlushMaxInFlight(), listener);
+        Validator.validateFalse(entityMeta.isClusteredEntity(),
+                "Bulk writing is not supported for clustered entity '%s'", entityClass.getCanonicalName());
+        this.daoContext = daoContext;
+        this.configContext = configContext;
+        this.maxMutations = daoContext.getFlushMaxMutations();
+    }
+
+    @Override
+    protected void append(T entity)
+    {
+        if (context == null)
+        {
+            flushContext = new ThriftImmediateFlushContext(daoContext, null);
+            context = new ThriftPersistenceContext(entityMeta, configContext, daoContext, flushContext, entity,
+                    OptionsBuilder.noOptions(), Collections.<String> emptySet());
+        }
+        else
+        {
+            Object primaryKey = invoker.getPrimaryKey(entity, entityMeta.getIdMeta());
+            Validator.validateNotNull(primaryKey, "The primary key for the entity '%s' should not be null", entity);
+            context.setEntity(entity);
+            context.setPrimaryKey(primaryKey);
+        }
+
+        for (PropertyMeta pm : entityMeta.getPropertyMetas().values())
+        {
+            writeProperty(entity, pm);
+        }
+        bufferedEntities.add(entity);
+
+        if (flushContext.getPendingMutationCount() >= maxMutations)
+        {
+            sendBuffered();
+        }
+    }
+
+    private void writeProperty(T entity, PropertyMeta pm)
+    {
+        switch (pm.type())
+        {
+            case ID:
+            case SIMPLE:
+            case LAZY_SIMPLE:
+                persisterImpl.batchPersistSimpleProperty(context, pm);
+                break;
+            case COUNTER:
+                break;
+            default:
+                Object value = invoker.getValueFromField(entity, pm);
+                if (value != null)
+                {
+                    writeMultiValueProperty(pm, value);
+                }
+                break;
+        }
+    }
+
+    private void writeMultiValueProperty(PropertyMeta pm, Object value)
+    {
+        switch (pm.type())
+        {
+            case LIST:
+            case LAZY_LIST:
+                persisterImpl.batchPersistList((List<?>) value, context, pm);
+                break;
+            case SET:
+            case LAZY_SET:
+                persisterImpl.batchPersistSet((Set<?>) value, context, pm);
+                break;
+            case MAP:
+            case LAZY_MAP:
+                persisterImpl.batchPersistMap((Map<?, ?>) value, context, pm);
+                break;
+            case JOIN_SIMPLE:
+                persisterImpl.batchPersistJoinPrimaryKey(context, pm, value);
+                break;
+            case JOIN_LIST:
+            case JOIN_SET:
+                persisterImpl.batchPersistJoinPrimaryKeys(context, pm, (Collection<?>) value);
+                break;
+            case JOIN_MAP:
+                persisterImpl.batchPersistJoinMapPrimaryKeys(context, pm, (Map<?, ?>) value);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    protected void sendBuffered()
+    {
+        if (!bufferedEntities.isEmpty())
+        {
+            final ThriftImmediateFlushContext fullFlushContext = flushContext;
+            registerPendingWrite(daoContext.getExecutor().submit(new Callable<Void>()
+            {
+                @Override
+                public Void call() throws Exception
+                {
+                    fullFlushContext.flush();
+                    return null;
+                }
+            }), bufferedEntities);
+            flushContext = null;
+            context = null;
+            bufferedEntities = new ArrayList<T>();
+        }
+    }
+}
@@ -10,7 +10,11 @@ import info.archinnov.achilles.entity.operations.EntityValidator;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.entity.operations.ThriftSliceQueryExecutor;
 import info.archinnov.achilles.query.slice.SliceQueryBuilder;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Options;
+import info.archinnov.achilles.type.OptionsBuilder;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,6 +69,34 @@ public class ThriftEntityManager extends EntityManager<ThriftPersistenceContext>
                 entityClass, meta);
     }
 
+    /**
+     * Load all the entities with a single multiget slice query. Clustered entities, stored as wide rows, are loaded
+     * one by one
+     */
+    @Override
+    protected <ID, T> Map<ID, T> doFindAll(Class<T> entityClass, List<ID> primaryKeys, ConsistencyLevel readLevel)
+    {
+        Options options = OptionsBuilder.withConsistency(readLevel);
+        if (entityMetaMap.get(entityClass).isClusteredEntity())
+        {
+            Map<ID, T> entities = new LinkedHashMap<ID, T>();
+            for (ID primaryKey : primaryKeys)
+            {
+                T entity = initPersistenceContext(entityClass, primaryKey, options).find(entityClass);
+                if (entity != null)
+                {
+                    entities.put(primaryKey, entity);
+                }
+            }
+            return entities;
+        }
+        else
+        {
+            ThriftPersistenceContext context = initPersistenceContext(entityClass, primaryKeys.get(0), options);
+            return context.findAll(entityClass, primaryKeys);
+        }
+    }
+
     @Override
     protected ThriftPersistenceContext initPersistenceContext(Class<?> entityClass, Object primaryKey, Options options)
     {
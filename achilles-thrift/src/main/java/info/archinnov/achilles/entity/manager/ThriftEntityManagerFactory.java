@@ -8,8 +8,12 @@ import info.archinnov.achilles.context.ConfigurationContext.Impl;
 import info.archinnov.achilles.context.ThriftDaoContext;
 import info.archinnov.achilles.context.ThriftDaoContextBuilder;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.table.ThriftTableCreator;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.validation.Validator;
 import java.util.Collections;
 import java.util.Map;
 import me.prettyprint.hector.api.Cluster;
@@ -52,11 +56,29 @@ public class ThriftEntityManagerFactory extends EntityManagerFactory {
         log.info("Initializing Achilles ThriftEntityManagerFactory for cluster '{}' and keyspace '{}' ",
                 cluster.getName(), keyspace.getKeyspaceName());
 
+        ThriftValueCodec valueCodec = thriftArgumentExtractor.initValueCodec(configurationMap);
+
         boolean hasSimpleCounter = bootstrap();
-        new ThriftTableCreator(cluster, keyspace).validateOrCreateTables(entityMetaMap, configContext,
+        new ThriftTableCreator(cluster, keyspace, valueCodec).validateOrCreateTables(entityMetaMap, configContext,
                 hasSimpleCounter);
         daoContext = new ThriftDaoContextBuilder().buildDao(cluster, keyspace, entityMetaMap, configContext,
-                hasSimpleCounter);
+                valueCodec, hasSimpleCounter);
+        daoContext.setMultiGetBatchSize(thriftArgumentExtractor.initMultiGetBatchSize(configurationMap));
+        daoContext.setMultiGetMaxInFlight(thriftArgumentExtractor.initMultiGetMaxInFlight(configurationMap));
+        daoContext.setCollectionPageSize(thriftArgumentExtractor.initCollectionPageSize(configurationMap));
+        daoContext.setFlushMaxMutations(thriftArgumentExtractor.initFlushMaxMutations(configurationMap));
+        daoContext.setFlushMaxInFlight(thriftArgumentExtractor.initFlushMaxInFlight(configurationMap));
+        daoContext.setExecutor(executor);
+        daoContext.setLevelKeyspaces(thriftArgumentExtractor.initLevelKeyspaces(cluster, keyspace,
+                configurationMap));
+        if (thriftArgumentExtractor.initCounterCoalescing(configurationMap))
+        {
+            ThriftCounterCoalescer counterCoalescer = new ThriftCounterCoalescer(
+                    thriftArgumentExtractor.initCounterCoalescingFlushInterval(configurationMap),
+                    thriftArgumentExtractor.initCounterCoalescingMaxPending(configurationMap));
+            daoContext.setCounterCoalescer(counterCoalescer);
+            registerShutdownHook(counterCoalescer);
+        }
         contextFactory = new ThriftPersistenceContextFactory(daoContext, configContext, entityMetaMap);
 
     }
@@ -88,6 +110,40 @@ public class ThriftEntityManagerFactory extends EntityManagerFactory {
                 daoContext, configContext);
     }
 
+    /**
+     * Create a new BulkWriter for high-throughput ingestion of plain entities. Failures are thrown
+     * 
+     * @param entityClass
+     *            class of the entities to be written
+     * @return a new BulkWriter, not thread-safe
+     */
+    public <T> ThriftBulkWriter<T> createBulkWriter(Class<T> entityClass)
+    {
+        return createBulkWriter(entityClass, null);
+    }
+
+    /**
+     * Create a new BulkWriter for high-throughput ingestion of plain entities <br/>
+     * <br/>
+     * 
+     * Properties are written like persist() does, except that the existing row is not removed first and the counters
+     * are not written. Mutations are sent once they reach "achilles.cassandra.flush.max.mutations" and at most
+     * "achilles.cassandra.flush.max.in.flight" of these writes are pending at the same time
+     * 
+     * @param entityClass
+     *            class of the entities to be written
+     * @param listener
+     *            callback notified of the progress and of the failed entities
+     * @return a new BulkWriter, not thread-safe
+     */
+    public <T> ThriftBulkWriter<T> createBulkWriter(Class<T> entityClass, BulkWriteListener<? super T> listener)
+    {
+        EntityMeta entityMeta = entityMetaMap.get(entityClass);
+        Validator.validateNotNull(entityMeta, "The entity %s is not managed by Achilles",
+                entityClass.getCanonicalName());
+        return new ThriftBulkWriter<T>(entityClass, entityMeta, daoContext, configContext, listener);
+    }
+
     @Override
     protected AchillesConsistencyLevelPolicy initConsistencyLevelPolicy(Map<String, Object> configurationMap,
             ArgumentExtractor argumentExtractor) {
@@ -114,4 +170,27 @@ public class ThriftEntityManagerFactory extends EntityManagerFactory {
     {
         return policy;
     }
+
+    /**
+     * Return the coalescer of counter increments, or null when "achilles.counter.coalescing.enable" is not set.
+     * It exposes the pending, flushed and failed deltas and can be flushed on demand
+     * 
+     * @return ThriftCounterCoalescer
+     */
+    public ThriftCounterCoalescer getCounterCoalescer()
+    {
+        return daoContext.getCounterCoalescer();
+    }
+
+    private void registerShutdownHook(final ThriftCounterCoalescer counterCoalescer)
+    {
+        Runtime.getRuntime().addShutdownHook(new Thread()
+        {
+            @Override
+            public void run()
+            {
+                counterCoalescer.shutdown();
+            }
+        });
+    }
 }
@@ -7,6 +7,7 @@ import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.validation.Validator;
 import java.util.Collection;
 import java.util.List;
@@ -99,6 +100,33 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
         }
     }
 
+    public void persistCollectionDeltaBatch(ThriftPersistenceContext context,
+            PropertyMeta propertyMeta, CollectionDelta delta)
+    {
+        log.debug("Persisting changes of property {} of entity {}", propertyMeta.getPropertyName(),
+                context.getEntity());
+        switch (propertyMeta.type())
+        {
+            case LIST:
+            case LAZY_LIST:
+                List<?> list = (List<?>) invoker.getValueFromField(context.getEntity(), propertyMeta);
+                persisterImpl.batchAppendToList(list, delta, context, propertyMeta);
+                break;
+            case SET:
+            case LAZY_SET:
+                persisterImpl.batchApplySetDelta(delta, context, propertyMeta);
+                break;
+            case MAP:
+            case LAZY_MAP:
+                persisterImpl.batchApplyMapDelta(delta, context, propertyMeta);
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot persist changes of property '"
+                        + propertyMeta.getPropertyName() + "' of type '" + propertyMeta.type().name()
+                        + "' as a collection delta");
+        }
+    }
+
     @Override
     public void remove(ThriftPersistenceContext context)
     {
@@ -181,7 +209,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
             PropertyMeta propertyMeta)
     {
         List<?> list = (List<?>) invoker.getValueFromField(context.getEntity(),
-                propertyMeta.getGetter());
+                propertyMeta);
         if (list != null)
         {
             persisterImpl.batchPersistList(list, context, propertyMeta);
@@ -192,7 +220,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
             PropertyMeta propertyMeta)
     {
         Set<?> set = (Set<?>) invoker.getValueFromField(context.getEntity(),
-                propertyMeta.getGetter());
+                propertyMeta);
         if (set != null)
         {
             persisterImpl.batchPersistSet(set, context, propertyMeta);
@@ -203,7 +231,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
             PropertyMeta propertyMeta)
     {
         Map<?, ?> map = (Map<?, ?>) invoker.getValueFromField(context.getEntity(),
-                propertyMeta.getGetter());
+                propertyMeta);
         if (map != null)
         {
             persisterImpl.batchPersistMap(map, context, propertyMeta);
@@ -214,7 +242,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
             PropertyMeta propertyMeta)
     {
         Object joinEntity = invoker
-                .getValueFromField(context.getEntity(), propertyMeta.getGetter());
+                .getValueFromField(context.getEntity(), propertyMeta);
 
         if (joinEntity != null)
         {
@@ -228,7 +256,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
 
         Collection<?> joinCollection = (Collection<?>) invoker.getValueFromField(
                 context.getEntity(),
-                propertyMeta.getGetter());
+                propertyMeta);
         if (joinCollection != null)
         {
             persisterImpl.batchPersistJoinCollection(context, propertyMeta, joinCollection, this);
@@ -239,7 +267,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
             PropertyMeta propertyMeta)
     {
         Map<?, ?> joinMap = (Map<?, ?>) invoker.getValueFromField(context.getEntity(),
-                propertyMeta.getGetter());
+                propertyMeta);
 
         if (joinMap != null)
         {
@@ -270,7 +298,7 @@ public class ThriftEntityPersister implements EntityPersister<ThriftPersistenceC
         else
         {
             PropertyMeta pm = context.getFirstMeta();
-            clusteredValue = invoker.getValueFromField(entity, pm.getGetter());
+            clusteredValue = invoker.getValueFromField(entity, pm);
             Validator.validateNotNull(clusteredValue,
                     "Property '%s' should not be null for clustered entity '%s' persistence", pm.getPropertyName(),
                     className);
@@ -4,6 +4,7 @@ import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.ThriftEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.validation.Validator;
 import java.util.HashMap;
 import java.util.List;
@@ -29,7 +30,14 @@ public class ThriftJoinEntityLoader
     private ReflectionInvoker invoker = new ReflectionInvoker();
 
     public <T, ID> Map<ID, T> loadJoinEntities(Class<T> entityClass, List<ID> keys,
-            EntityMeta entityMeta, ThriftGenericEntityDao joinEntityDao)
+            EntityMeta entityMeta, ThriftGenericEntityDao joinEntityDao, ConsistencyLevel readLevel)
+    {
+        validateJoinEntities(entityClass, keys, entityMeta);
+        Map<ID, List<Pair<Composite, Object>>> rows = joinEntityDao.eagerFetchEntities(keys, readLevel);
+        return mapJoinEntities(entityClass, rows, entityMeta, joinEntityDao);
+    }
+
+    private <T, ID> void validateJoinEntities(Class<T> entityClass, List<ID> keys, EntityMeta entityMeta)
     {
         if (log.isTraceEnabled())
         {
@@ -41,20 +49,24 @@ public class ThriftJoinEntityLoader
         Validator.validateNotEmpty(keys, "List of join primary keys '%s' should not be empty", keys);
         Validator.validateNotNull(entityMeta, "Entity meta for '%s' should not be null",
                 entityClass.getCanonicalName());
+    }
 
+    private <T, ID> Map<ID, T> mapJoinEntities(Class<T> entityClass,
+            Map<ID, List<Pair<Composite, Object>>> rows, EntityMeta entityMeta,
+            ThriftGenericEntityDao joinEntityDao)
+    {
         Map<ID, T> entitiesByKey = new HashMap<ID, T>();
-        Map<ID, List<Pair<Composite, String>>> rows = joinEntityDao.eagerFetchEntities(keys);
-
-        for (Entry<ID, List<Pair<Composite, String>>> entry : rows.entrySet())
+        for (Entry<ID, List<Pair<Composite, Object>>> entry : rows.entrySet())
         {
             T entity;
             entity = invoker.instanciate(entityClass);
 
             ID key = entry.getKey();
-            List<Pair<Composite, String>> columns = entry.getValue();
+            List<Pair<Composite, Object>> columns = entry.getValue();
             if (columns.size() > 0)
             {
-                mapper.setEagerPropertiesToEntity(key, columns, entityMeta, entity);
+                mapper.setEagerPropertiesToEntity(key, columns, entityMeta, entity,
+                        joinEntityDao.getValueCodec());
                 invoker.setValueToField(entity, entityMeta.getIdMeta().getSetter(), key);
                 entitiesByKey.put(key, entity);
             }
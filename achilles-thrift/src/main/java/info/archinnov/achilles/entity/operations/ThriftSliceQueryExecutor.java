@@ -71,6 +71,10 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
                         + sliceQuery.getEntityClass().getCanonicalName() + "'");
         }
 
+        if (sliceQuery.isReadOnly())
+        {
+            return clusteredEntities;
+        }
         return Lists.transform(clusteredEntities, getProxyTransformer(sliceQuery, getters));
     }
 
@@ -86,19 +90,22 @@ public class ThriftSliceQueryExecutor extends SliceQueryExecutor<ThriftPersisten
             case SIMPLE:
                 ThriftSliceIterator<Object, Object> columnsIterator = executorImpl
                         .getColumnsIterator(sliceQuery, context);
+                columnsIterator.readAhead(sliceQuery.getReadAheadRatio(), context.getExecutor());
                 return new ThriftClusteredEntityIterator<T>(entityClass,
-                        columnsIterator, context);
+                        columnsIterator, context, sliceQuery.isReadOnly());
 
             case JOIN_SIMPLE:
                 ThriftJoinSliceIterator<Object, Object, Object> joinColumnsIterator = executorImpl
                         .getJoinColumnsIterator(sliceQuery, context);
+                joinColumnsIterator.readAhead(sliceQuery.getReadAheadRatio(), context.getExecutor());
                 return new ThriftClusteredEntityIterator<T>(entityClass,
-                        joinColumnsIterator, context);
+                        joinColumnsIterator, context, sliceQuery.isReadOnly());
             case COUNTER:
                 ThriftCounterSliceIterator<Object> counterColumnsIterator = executorImpl
                         .getCounterColumnsIterator(sliceQuery, context);
+                counterColumnsIterator.readAhead(sliceQuery.getReadAheadRatio(), context.getExecutor());
                 return new ThriftCounterClusteredEntityIterator<T>(entityClass,
-                        counterColumnsIterator, context);
+                        counterColumnsIterator, context, sliceQuery.isReadOnly());
             default:
                 throw new AchillesException("Cannot get iterator for clustered value of type '"
                         + type.name() + "' and clustered entity class '"
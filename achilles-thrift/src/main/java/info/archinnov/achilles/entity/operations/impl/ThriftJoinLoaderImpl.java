@@ -7,6 +7,7 @@ import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.type.KeyValue;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -46,7 +47,7 @@ public class ThriftJoinLoaderImpl
 
         ThriftGenericEntityDao joinEntityDao = context.findEntityDao(joinMeta.getTableName());
         List<Object> joinEntities = new ArrayList<Object>();
-        fillCollectionWithJoinEntities(propertyMeta, joinMeta, joinIds, joinEntityDao, joinEntities);
+        fillCollectionWithJoinEntities(context, propertyMeta, joinMeta, joinIds, joinEntityDao, joinEntities);
 
         return joinEntities;
     }
@@ -58,7 +59,7 @@ public class ThriftJoinLoaderImpl
         List<Object> joinIds = fetchColumns(context, propertyMeta);
         ThriftGenericEntityDao joinEntityDao = context.findEntityDao(joinMeta.getTableName());
         Set<Object> joinEntities = new HashSet<Object>();
-        fillCollectionWithJoinEntities(propertyMeta, joinMeta, joinIds, joinEntityDao, joinEntities);
+        fillCollectionWithJoinEntities(context, propertyMeta, joinMeta, joinIds, joinEntityDao, joinEntities);
 
         return joinEntities;
     }
@@ -72,10 +73,10 @@ public class ThriftJoinLoaderImpl
 
         Composite start = thriftCompositeFactory.createBaseForQuery(propertyMeta, EQUAL);
         Composite end = thriftCompositeFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
-        List<Pair<Composite, String>> columns = context.getEntityDao().findColumnsRange(
-                context.getPrimaryKey(), start, end, false, Integer.MAX_VALUE);
+        List<Pair<Composite, Object>> columns = context.getEntityDao().findColumnsRangeByPage(
+                context.getPrimaryKey(), start, end, context.getConsistencyLevel().orNull());
 
-        PropertyMeta joinIdMeta = propertyMeta.joinIdMeta();
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
 
         Map<Object, Object> map = new HashMap<Object, Object>();
         Map<Object, Object> partialMap = new HashMap<Object, Object>();
@@ -84,11 +85,11 @@ public class ThriftJoinLoaderImpl
 
         List<Object> joinIds = new ArrayList<Object>();
 
-        for (Pair<Composite, String> pair : columns)
+        for (Pair<Composite, Object> pair : columns)
         {
-            KeyValue<Object, Object> holder = propertyMeta.getKeyValueFromString(pair.right);
+            KeyValue<Object, Object> holder = valueCodec.decodeKeyValue(propertyMeta, pair.right);
 
-            Object joinId = joinIdMeta.getValueFromString(holder.getValue());
+            Object joinId = holder.getValue();
             partialMap.put(keyClass.cast(holder.getKey()), joinId);
             joinIds.add(joinId);
         }
@@ -101,7 +102,7 @@ public class ThriftJoinLoaderImpl
 
             Map<Object, Object> entitiesMap = joinHelper.loadJoinEntities(
                     (Class<Object>) propertyMeta.getValueClass(),
-                    joinIds, joinMeta, joinEntityDao);
+                    joinIds, joinMeta, joinEntityDao, context.getConsistencyLevel().orNull());
 
             for (Entry<Object, Object> entry : partialMap.entrySet())
             {
@@ -121,20 +122,21 @@ public class ThriftJoinLoaderImpl
 
         Composite start = thriftCompositeFactory.createBaseForQuery(propertyMeta, EQUAL);
         Composite end = thriftCompositeFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
-        List<Pair<Composite, String>> columns = context.getEntityDao().findColumnsRange(
-                context.getPrimaryKey(), start, end, false, Integer.MAX_VALUE);
+        List<Pair<Composite, Object>> columns = context.getEntityDao().findColumnsRangeByPage(
+                context.getPrimaryKey(), start, end, context.getConsistencyLevel().orNull());
         List<Object> joinIds = new ArrayList<Object>();
 
         PropertyMeta joinIdMeta = propertyMeta.joinIdMeta();
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
 
-        for (Pair<Composite, String> pair : columns)
+        for (Pair<Composite, Object> pair : columns)
         {
-            joinIds.add(joinIdMeta.getValueFromString(pair.right));
+            joinIds.add(valueCodec.decode(joinIdMeta, pair.right));
         }
         return joinIds;
     }
 
-    private void fillCollectionWithJoinEntities(PropertyMeta propertyMeta,
+    private void fillCollectionWithJoinEntities(ThriftPersistenceContext context, PropertyMeta propertyMeta,
             EntityMeta joinMeta, List<Object> joinIds, ThriftGenericEntityDao joinEntityDao,
             Collection<Object> joinEntities)
     {
@@ -142,7 +144,7 @@ public class ThriftJoinLoaderImpl
         {
             Map<Object, Object> entitiesMap = joinHelper.loadJoinEntities(
                     (Class<Object>) propertyMeta.getValueClass(),
-                    joinIds, joinMeta, joinEntityDao);
+                    joinIds, joinMeta, joinEntityDao, context.getConsistencyLevel().orNull());
 
             for (Object joinId : joinIds)
             {
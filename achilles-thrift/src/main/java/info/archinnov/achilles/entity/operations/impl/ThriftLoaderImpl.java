@@ -10,6 +10,8 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.KeyValue;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -54,14 +56,16 @@ public class ThriftLoaderImpl
         }
         else
         {
-            List<Pair<Composite, String>> columns = context.getEntityDao().eagerFetchEntity(
-                    primaryKey);
+            List<Pair<Composite, Object>> columns = context.getEntityDao().eagerFetchEntity(
+                    primaryKey, readLevel(context));
             if (columns.size() > 0)
             {
                 log.trace("Mapping data from Cassandra columns to entity");
 
                 entity = invoker.instanciate(entityClass);
-                mapper.setEagerPropertiesToEntity(primaryKey, columns, entityMeta, entity);
+                mapper.setEagerPropertiesToEntity(primaryKey, columns, entityMeta, entity, context
+                        .getEntityDao()
+                        .getValueCodec());
                 invoker.setValueToField(entity, entityMeta.getIdMeta().getSetter(), primaryKey);
             }
         }
@@ -86,7 +90,7 @@ public class ThriftLoaderImpl
                                 context.getEntityMeta()
                                         .getTableName(), context.getPrimaryKey(), format(composite));
             }
-            Object value = context.getWideRowDao().getValue(partitionKey, composite);
+            Object value = context.getWideRowDao().getValue(partitionKey, composite, readLevel(context));
             return propertyMeta.castValue(value);
         }
         else
@@ -101,8 +105,9 @@ public class ThriftLoaderImpl
                                 context.getEntityMeta()
                                         .getTableName(), context.getPrimaryKey(), format(composite));
             }
-            return propertyMeta.getValueFromString(context.getEntityDao().getValue(
-                    context.getPrimaryKey(), composite));
+            Object columnValue = context.getEntityDao().getValue(context.getPrimaryKey(), composite,
+                    readLevel(context));
+            return context.getEntityDao().getValueCodec().decode(propertyMeta, columnValue);
         }
     }
 
@@ -115,14 +120,15 @@ public class ThriftLoaderImpl
                         .getEntityMeta()
                         .getTableName(),
                 context.getPrimaryKey());
-        List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+        List<Pair<Composite, Object>> columns = fetchColumns(context, propertyMeta);
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         List<Object> list = null;
         if (columns.size() > 0)
         {
             list = new ArrayList<Object>();
-            for (Pair<Composite, String> pair : columns)
+            for (Pair<Composite, Object> pair : columns)
             {
-                list.add(propertyMeta.getValueFromString(pair.right));
+                list.add(valueCodec.decode(propertyMeta, pair.right));
             }
         }
         return list;
@@ -137,14 +143,15 @@ public class ThriftLoaderImpl
                         .getEntityMeta()
                         .getTableName(),
                 context.getPrimaryKey());
-        List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+        List<Pair<Composite, Object>> columns = fetchColumns(context, propertyMeta);
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         Set<Object> set = null;
         if (columns.size() > 0)
         {
             set = new HashSet<Object>();
-            for (Pair<Composite, String> pair : columns)
+            for (Pair<Composite, Object> pair : columns)
             {
-                set.add(propertyMeta.getValueFromString(pair.right));
+                set.add(valueCodec.decode(propertyMeta, pair.right));
             }
         }
         return set;
@@ -159,15 +166,16 @@ public class ThriftLoaderImpl
                         .getEntityMeta()
                         .getTableName(),
                 context.getPrimaryKey());
-        List<Pair<Composite, String>> columns = fetchColumns(context, propertyMeta);
+        List<Pair<Composite, Object>> columns = fetchColumns(context, propertyMeta);
         Class<?> keyClass = propertyMeta.getKeyClass();
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         Map<Object, Object> map = null;
         if (columns.size() > 0)
         {
             map = new HashMap<Object, Object>();
-            for (Pair<Composite, String> pair : columns)
+            for (Pair<Composite, Object> pair : columns)
             {
-                KeyValue<Object, Object> holder = propertyMeta.getKeyValueFromString(pair.right);
+                KeyValue<Object, Object> holder = valueCodec.decodeKeyValue(propertyMeta, pair.right);
 
                 map.put(keyClass.cast(holder.getKey()), holder.getValue());
             }
@@ -175,7 +183,7 @@ public class ThriftLoaderImpl
         return map;
     }
 
-    private List<Pair<Composite, String>> fetchColumns(ThriftPersistenceContext context,
+    private List<Pair<Composite, Object>> fetchColumns(ThriftPersistenceContext context,
             PropertyMeta propertyMeta)
     {
 
@@ -186,10 +194,8 @@ public class ThriftLoaderImpl
             log.trace("Fetching columns from Cassandra with column names {} / {}", format(start),
                     format(end));
         }
-        List<Pair<Composite, String>> columns = context.getEntityDao().findColumnsRange(
-                context.getPrimaryKey(),
-                start, end, false, Integer.MAX_VALUE);
-        return columns;
+        return context.getEntityDao().findColumnsRangeByPage(context.getPrimaryKey(), start, end,
+                readLevel(context));
     }
 
     public Object loadJoinSimple(ThriftPersistenceContext context, PropertyMeta propertyMeta,
@@ -205,8 +211,8 @@ public class ThriftLoaderImpl
         }
         else
         {
-            String stringJoinId = retrieveJoinIdForEntity(context, propertyMeta);
-            joinId = stringJoinId != null ? joinIdMeta.getValueFromString(stringJoinId) : null;
+            Object columnValue = retrieveJoinIdForEntity(context, propertyMeta);
+            joinId = context.getEntityDao().getValueCodec().decode(joinIdMeta, columnValue);
         }
 
         if (joinId != null)
@@ -222,7 +228,7 @@ public class ThriftLoaderImpl
         }
     }
 
-    private String retrieveJoinIdForEntity(ThriftPersistenceContext context,
+    private Object retrieveJoinIdForEntity(ThriftPersistenceContext context,
             PropertyMeta propertyMeta)
     {
         Composite composite = compositeFactory.createBaseForGet(propertyMeta);
@@ -235,7 +241,8 @@ public class ThriftLoaderImpl
                             context.getEntityMeta()
                                     .getTableName(), context.getPrimaryKey(), format(composite));
         }
-        return context.getEntityDao().getValue(context.getPrimaryKey(), composite);
+        return context.getEntityDao().getValue(context.getPrimaryKey(), composite,
+                readLevel(context));
     }
 
     private Object retrieveJoinIdForClusteredEntity(ThriftPersistenceContext context,
@@ -254,7 +261,7 @@ public class ThriftLoaderImpl
                             context.getEntityMeta()
                                     .getTableName(), embeddedId, format(composite));
         }
-        return context.getWideRowDao().getValue(partitionKey, composite);
+        return context.getWideRowDao().getValue(partitionKey, composite, readLevel(context));
     }
 
     private <T> T loadClusteredEntity(ThriftPersistenceContext context, Class<T> entityClass,
@@ -271,7 +278,7 @@ public class ThriftLoaderImpl
         if (entityMeta.isValueless())
         {
             HColumn<Composite, Object> column = context.getWideRowDao().getColumn(partitionKey,
-                    composite);
+                    composite, readLevel(context));
             clusteredEntity = column != null ? compositeTransformer
                     .buildClusteredEntityWithIdOnly(entityClass,
                             context, column.getName().getComponents()) : null;
@@ -279,7 +286,7 @@ public class ThriftLoaderImpl
         else if (isCounter)
         {
             HCounterColumn<Composite> counterColumn = context.getWideRowDao().getCounterColumn(
-                    partitionKey, composite);
+                    partitionKey, composite, readLevel(context));
             clusteredEntity = counterColumn != null ? compositeTransformer
                     .buildClusteredEntityWithIdOnly(entityClass,
                             context, counterColumn.getName().getComponents()) : null;
@@ -287,17 +294,22 @@ public class ThriftLoaderImpl
         else if (isJoin)
         {
             HColumn<Composite, Object> column = context.getWideRowDao().getColumn(partitionKey,
-                    composite);
+                    composite, readLevel(context));
             clusteredEntity = column != null ? mapper.initClusteredEntity(entityClass, idMeta,
                     primaryKey) : null;
         }
         else
         {
             HColumn<Composite, Object> column = context.getWideRowDao().getColumn(partitionKey,
-                    composite);
+                    composite, readLevel(context));
             clusteredEntity = column != null ? compositeTransformer.buildClusteredEntity(
                     entityClass, context, column) : null;
         }
         return clusteredEntity;
     }
+
+    private ConsistencyLevel readLevel(ThriftPersistenceContext context)
+    {
+        return context.getConsistencyLevel().orNull();
+    }
 }
@@ -7,6 +7,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityMerger;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
@@ -29,7 +30,8 @@ public class ThriftMergerImpl implements Merger<ThriftPersistenceContext>
     private ReflectionInvoker invoker = new ReflectionInvoker();
 
     @Override
-    public void merge(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap)
+    public void merge(ThriftPersistenceContext context, Map<Method, PropertyMeta> dirtyMap,
+            Map<Method, CollectionDelta> deltaMap)
     {
         if (dirtyMap.size() > 0)
         {
@@ -42,11 +44,12 @@ public class ThriftMergerImpl implements Merger<ThriftPersistenceContext>
             }
             else
             {
-                mergeEntity(context, dirtyMap, entity);
+                mergeEntity(context, dirtyMap, deltaMap, entity);
             }
         }
 
         dirtyMap.clear();
+        deltaMap.clear();
 
     }
 
@@ -104,11 +107,12 @@ public class ThriftMergerImpl implements Merger<ThriftPersistenceContext>
     }
 
     private void mergeEntity(ThriftPersistenceContext context,
-            Map<Method, PropertyMeta> dirtyMap, Object entity)
+            Map<Method, PropertyMeta> dirtyMap, Map<Method, CollectionDelta> deltaMap, Object entity)
     {
         for (Entry<Method, PropertyMeta> entry : dirtyMap.entrySet())
         {
             PropertyMeta pm = entry.getValue();
+            CollectionDelta delta = deltaMap.get(entry.getKey());
             boolean removeProperty = invoker.getValueFromField(entity, pm.getGetter()) == null;
 
             if (removeProperty)
@@ -116,6 +120,11 @@ public class ThriftMergerImpl implements Merger<ThriftPersistenceContext>
                 log.debug("Removing property {}", pm.getPropertyName());
                 persister.removePropertyBatch(context, pm);
             }
+            else if (delta != null)
+            {
+                log.debug("Persisting changes of collection/map {}", pm.getPropertyName());
+                persister.persistCollectionDeltaBatch(context, pm, delta);
+            }
             else
             {
                 if (multiValuesNonProxyTypes.contains(pm.type()))
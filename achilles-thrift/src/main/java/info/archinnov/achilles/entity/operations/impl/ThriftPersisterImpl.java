@@ -6,13 +6,13 @@ import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
-import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.CounterBuilder.CounterImpl;
-import info.archinnov.achilles.type.KeyValue;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.validation.Validator;
 import java.util.Collection;
 import java.util.List;
@@ -42,8 +42,8 @@ public class ThriftPersisterImpl {
 
     public void batchPersistSimpleProperty(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
         Composite name = thriftCompositeFactory.createForBatchInsertSingleValue(propertyMeta);
-        String value = propertyMeta.writeValueToString(invoker.getValueFromField(context.getEntity(),
-                propertyMeta.getGetter()));
+        Object value = context.getEntityDao().getValueCodec().encode(propertyMeta,
+                invoker.getValueFromField(context.getEntity(), propertyMeta));
         if (value != null) {
             if (log.isTraceEnabled()) {
                 log.trace(
@@ -58,7 +58,7 @@ public class ThriftPersisterImpl {
 
     public void persistCounter(ThriftPersistenceContext context, PropertyMeta propertyMeta) {
 
-        Object counter = invoker.getValueFromField(context.getEntity(), propertyMeta.getGetter());
+        Object counter = invoker.getValueFromField(context.getEntity(), propertyMeta);
         String entityClassName = context.getEntityClass().getCanonicalName();
         if (counter != null) {
 
@@ -79,25 +79,27 @@ public class ThriftPersisterImpl {
                     CounterImpl.class.getCanonicalName());
 
             CounterImpl counterValue = (CounterImpl) counter;
-            context.getCounterDao().incrementCounter(rowKey, name, counterValue.get());
+            context.getCounterDao().incrementCounter(rowKey, name, counterValue.get(),
+                    context.getConsistencyLevel().orNull());
             System.out.println("Done");
         }
     }
 
     public <V> void batchPersistList(List<V> list, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         int count = 0;
         for (V value : list) {
             Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, count);
 
-            String stringValue = propertyMeta.writeValueToString(value);
-            if (stringValue != null) {
+            Object columnValue = valueCodec.encode(propertyMeta, value);
+            if (columnValue != null) {
                 if (log.isTraceEnabled()) {
                     log.trace(
                             "Batch persisting list property {} from entity of class {} and primary key {} with column name {}",
                             propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
                             context.getPrimaryKey(), format(name));
                 }
-                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, stringValue,
+                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, columnValue,
                         context.getTtt(), context.getTimestamp(), context.getEntityMutator(context.getTableName()));
             }
             count++;
@@ -105,18 +107,19 @@ public class ThriftPersisterImpl {
     }
 
     public <V> void batchPersistSet(Set<V> set, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         for (V value : set) {
             Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, value.hashCode());
 
-            String stringValue = propertyMeta.writeValueToString(value);
-            if (stringValue != null) {
+            Object columnValue = valueCodec.encode(propertyMeta, value);
+            if (columnValue != null) {
                 if (log.isTraceEnabled()) {
                     log.trace(
                             "Batch persisting set property {} from entity of class {} and primary key {} with column name {}",
                             propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
                             context.getPrimaryKey(), format(name));
                 }
-                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, stringValue,
+                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, columnValue,
                         context.getTtt(), context.getTimestamp(), context.getEntityMutator(context.getTableName()));
             }
         }
@@ -124,11 +127,12 @@ public class ThriftPersisterImpl {
 
     public <K, V> void batchPersistMap(Map<K, V> map, ThriftPersistenceContext context,
             PropertyMeta propertyMeta) {
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         for (Entry<K, V> entry : map.entrySet()) {
             Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, entry.getKey()
                     .hashCode());
 
-            String value = propertyMeta.writeValueToString(new KeyValue<K, V>(entry.getKey(), entry.getValue()));
+            Object value = valueCodec.encodeKeyValue(propertyMeta, entry.getKey(), entry.getValue());
 
             if (log.isTraceEnabled()) {
                 log.trace(
@@ -141,60 +145,123 @@ public class ThriftPersisterImpl {
         }
     }
 
+    public <V> void batchAppendToList(List<V> list, CollectionDelta delta, ThriftPersistenceContext context,
+            PropertyMeta propertyMeta) {
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
+        int count = list.size() - delta.getAppendedElements().size();
+        for (Object value : delta.getAppendedElements()) {
+            Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, count);
+            Object columnValue = valueCodec.encode(propertyMeta, value);
+            if (columnValue != null) {
+                if (log.isTraceEnabled()) {
+                    log.trace(
+                            "Batch appending to list property {} from entity of class {} and primary key {} with column name {}",
+                            propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+                            context.getPrimaryKey(), format(name));
+                }
+                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, columnValue,
+                        context.getTtt(), context.getTimestamp(), context.getEntityMutator(context.getTableName()));
+            }
+            count++;
+        }
+    }
+
+    public void batchApplySetDelta(CollectionDelta delta, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+        batchPersistSet(delta.getAddedElements(), context, propertyMeta);
+        for (Object value : delta.getRemovedElements()) {
+            Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, value.hashCode());
+            if (log.isTraceEnabled()) {
+                log.trace(
+                        "Batch removing element from set property {} from entity of class {} and primary key {} with column name {}",
+                        propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+                        context.getPrimaryKey(), format(name));
+            }
+            context.getEntityDao().removeColumnBatch(context.getPrimaryKey(), name,
+                    context.getEntityMutator(context.getTableName()));
+        }
+    }
+
+    public void batchApplyMapDelta(CollectionDelta delta, ThriftPersistenceContext context, PropertyMeta propertyMeta) {
+        batchPersistMap(delta.getPutEntries(), context, propertyMeta);
+        for (Object key : delta.getRemovedKeys()) {
+            Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, key.hashCode());
+            if (log.isTraceEnabled()) {
+                log.trace(
+                        "Batch removing entry from map property {} from entity of class {} and primary key {} with column name {}",
+                        propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
+                        context.getPrimaryKey(), format(name));
+            }
+            context.getEntityDao().removeColumnBatch(context.getPrimaryKey(), name,
+                    context.getEntityMutator(context.getTableName()));
+        }
+    }
+
     public <V> void batchPersistJoinEntity(ThriftPersistenceContext context, PropertyMeta propertyMeta,
             V joinEntity, ThriftEntityPersister persister) {
-        JoinProperties joinProperties = propertyMeta.getJoinProperties();
+        batchPersistJoinPrimaryKey(context, propertyMeta, joinEntity);
+
+        ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(propertyMeta.joinMeta(),
+                proxifier.unwrap(joinEntity));
+        persister.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity, propertyMeta.getJoinProperties());
+    }
+
+    public <V> void batchPersistJoinPrimaryKey(ThriftPersistenceContext context, PropertyMeta propertyMeta,
+            V joinEntity) {
         PropertyMeta idMeta = propertyMeta.joinIdMeta();
 
         Object joinId = invoker.getPrimaryKey(joinEntity, idMeta);
         Validator.validateNotNull(joinId, "Primary key for join entity '%s' should not be null", joinEntity);
-        String joinIdString = idMeta.writeValueToString(joinId);
+        Object joinIdValue = context.getEntityDao().getValueCodec().encode(idMeta, joinId);
 
         Composite joinComposite = thriftCompositeFactory.createForBatchInsertSingleValue(propertyMeta);
-        context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), joinComposite, joinIdString,
-                context.getTtt(), context.getTimestamp(), context.getEntityMutator(context.getTableName()));
-
-        ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(propertyMeta.joinMeta(),
-                proxifier.unwrap(joinEntity));
-
         if (log.isTraceEnabled()) {
             log.trace(
                     "Batch persisting join primary key for property {} from entity of class {} and primary key {} with column name {}",
                     propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
                     context.getPrimaryKey(), format(joinComposite));
         }
-        persister.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity, joinProperties);
+        context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), joinComposite, joinIdValue,
+                context.getTtt(), context.getTimestamp(), context.getEntityMutator(context.getTableName()));
     }
 
     public <V> void batchPersistJoinCollection(ThriftPersistenceContext context, PropertyMeta propertyMeta,
             Collection<V> joinCollection, ThriftEntityPersister persister) {
-        JoinProperties joinProperties = propertyMeta.getJoinProperties();
-        EntityMeta joinEntityMeta = joinProperties.getEntityMeta();
-        PropertyMeta joinIdMeta = joinEntityMeta.getIdMeta();
+        batchPersistJoinPrimaryKeys(context, propertyMeta, joinCollection);
+
+        for (V joinEntity : joinCollection) {
+            if (joinEntity != null) {
+                ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(
+                        propertyMeta.joinMeta(), proxifier.unwrap(joinEntity));
+
+                persister.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity,
+                        propertyMeta.getJoinProperties());
+            }
+        }
+    }
+
+    public <V> void batchPersistJoinPrimaryKeys(ThriftPersistenceContext context, PropertyMeta propertyMeta,
+            Collection<V> joinCollection) {
+        PropertyMeta joinIdMeta = propertyMeta.joinIdMeta();
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
         int count = 0;
         for (V joinEntity : joinCollection) {
             if (joinEntity != null)
             {
                 Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, count);
 
-                Object joinEntityId = invoker.getValueFromField(joinEntity, joinIdMeta.getGetter());
+                Object joinEntityId = invoker.getValueFromField(joinEntity, joinIdMeta);
 
-                String joinEntityIdStringValue = joinIdMeta.writeValueToString(joinEntityId);
-                if (joinEntityIdStringValue != null) {
+                Object joinEntityIdValue = valueCodec.encode(joinIdMeta, joinEntityId);
+                if (joinEntityIdValue != null) {
                     if (log.isTraceEnabled()) {
                         log.trace(
                                 "Batch persisting join primary keys for property {} from entity of class {} and primary key {} with column name {}",
                                 propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
                                 context.getPrimaryKey(), format(name));
                     }
-                    context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, joinEntityIdStringValue,
+                    context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, joinEntityIdValue,
                             context.getTtt(), context.getTimestamp(),
                             context.getEntityMutator(context.getTableName()));
-
-                    ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(
-                            propertyMeta.joinMeta(), proxifier.unwrap(joinEntity));
-
-                    persister.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity, joinProperties);
                 }
                 count++;
             }
@@ -203,9 +270,25 @@ public class ThriftPersisterImpl {
 
     public <K, V> void batchPersistJoinMap(ThriftPersistenceContext context, PropertyMeta propertyMeta,
             Map<K, V> joinMap, ThriftEntityPersister persiter) {
-        JoinProperties joinProperties = propertyMeta.getJoinProperties();
-        EntityMeta joinEntityMeta = joinProperties.getEntityMeta();
-        PropertyMeta idMeta = joinEntityMeta.getIdMeta();
+        batchPersistJoinMapPrimaryKeys(context, propertyMeta, joinMap);
+
+        for (V joinEntity : joinMap.values()) {
+            if (joinEntity != null)
+            {
+                ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(
+                        propertyMeta.joinMeta(),
+                        proxifier.unwrap(joinEntity));
+
+                persiter.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity,
+                        propertyMeta.getJoinProperties());
+            }
+        }
+    }
+
+    public <K, V> void batchPersistJoinMapPrimaryKeys(ThriftPersistenceContext context, PropertyMeta propertyMeta,
+            Map<K, V> joinMap) {
+        PropertyMeta idMeta = propertyMeta.joinIdMeta();
+        ThriftValueCodec valueCodec = context.getEntityDao().getValueCodec();
 
         for (Entry<K, V> entry : joinMap.entrySet()) {
             Composite name = thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, entry.getKey()
@@ -214,25 +297,16 @@ public class ThriftPersisterImpl {
             V joinEntity = entry.getValue();
             if (joinEntity != null)
             {
-                Object joinEntityId = invoker.getValueFromField(joinEntity, idMeta.getGetter());
-                String joinEntityIdStringValue = idMeta.writeValueToString(joinEntityId);
-
-                String value = propertyMeta.writeValueToString(new KeyValue<K, String>(entry.getKey(),
-                        joinEntityIdStringValue));
-                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, value, context.getTtt(),
-                        context.getTimestamp(), context.getEntityMutator(context.getTableName()));
-
-                ThriftPersistenceContext joinPersistenceContext = context.createContextForJoin(
-                        propertyMeta.joinMeta(),
-                        proxifier.unwrap(joinEntity));
-
+                Object joinEntityId = invoker.getValueFromField(joinEntity, idMeta);
+                Object value = valueCodec.encodeKeyValue(propertyMeta, entry.getKey(), joinEntityId);
                 if (log.isTraceEnabled()) {
                     log.trace(
                             "Batch persisting join primary keys for property {} from entity of class {} and primary key {} with column name {}",
                             propertyMeta.getPropertyName(), context.getEntityClass().getCanonicalName(),
                             context.getPrimaryKey(), format(name));
                 }
-                persiter.cascadePersistOrEnsureExists(joinPersistenceContext, joinEntity, joinProperties);
+                context.getEntityDao().insertColumnBatch(context.getPrimaryKey(), name, value, context.getTtt(),
+                        context.getTimestamp(), context.getEntityMutator(context.getTableName()));
             }
         }
     }
@@ -276,7 +350,7 @@ public class ThriftPersisterImpl {
                         "Counter clustered entity '%s' value should be of type '%s'", className,
                         CounterImpl.class.getCanonicalName());
                 CounterImpl counterValue = (CounterImpl) clusteredValue;
-                dao.incrementCounter(partitionKey, comp, counterValue.get());
+                dao.incrementCounter(partitionKey, comp, counterValue.get(), context.getConsistencyLevel().orNull());
             } else {
                 Object persistentValue = pm.writeValueAsSupportedTypeOrString(clusteredValue);
                 dao.setValueBatch(partitionKey, comp, persistentValue, context.getTtt(), context.getTimestamp(),
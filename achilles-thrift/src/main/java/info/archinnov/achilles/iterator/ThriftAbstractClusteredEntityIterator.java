@@ -23,15 +23,17 @@ public abstract class ThriftAbstractClusteredEntityIterator<T> implements Iterat
     protected Class<T> entityClass;
     private Iterator<?> iterator;
     protected ThriftPersistenceContext context;
+    private boolean readOnly;
 
     private ThriftEntityProxifier proxifier = new ThriftEntityProxifier();
     protected ThriftCompositeTransformer transformer = new ThriftCompositeTransformer();
 
     public ThriftAbstractClusteredEntityIterator(Class<T> entityClass, Iterator<?> iterator,
-            ThriftPersistenceContext context) {
+            ThriftPersistenceContext context, boolean readOnly) {
         this.entityClass = entityClass;
         this.iterator = iterator;
         this.context = context;
+        this.readOnly = readOnly;
     }
 
     @Override
@@ -48,7 +50,10 @@ public abstract class ThriftAbstractClusteredEntityIterator<T> implements Iterat
 
     protected T proxifyClusteredEntity(T target)
     {
-
+        if (readOnly)
+        {
+            return target;
+        }
         Set<Method> getters = context.isValueless() ? Sets.<Method> newHashSet() : Sets.newHashSet(context
                 .getFirstMeta().getGetter());
         return proxifier.buildProxy(target, context.duplicate(target), getters);
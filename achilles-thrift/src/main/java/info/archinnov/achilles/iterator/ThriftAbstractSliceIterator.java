@@ -1,15 +1,18 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
 import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.exception.AchillesException;
-import info.archinnov.achilles.type.ConsistencyLevel;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.google.common.collect.Lists;
 
 /**
  * ThriftAbstractSliceIterator
@@ -24,24 +27,35 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
     protected boolean reversed;
     protected int count = DEFAULT_LENGTH;
     protected int columns = 0;
-    protected AchillesConsistencyLevelPolicy policy;
-    protected String columnFamily;
-    protected ConsistencyLevel readConsistencyLevelAtInitialization;
     protected Iterator<HCOLUMN> iterator;
     protected Composite start;
     protected ColumnSliceFinish finish;
-
-    protected ThriftAbstractSliceIterator(AchillesConsistencyLevelPolicy policy,
-            String columnFamily, Composite start, ColumnSliceFinish finish, boolean reversed,
+    protected int readAheadThreshold = 0;
+    protected AchillesExecutor readAheadExecutor;
+    protected Future<Iterator<HCOLUMN>> nextBatch;
+
+    /**
+     * The query of the concrete iterator is bound to a keyspace with a fixed consistency level, so batches
+     * can be fetched from any thread
+     */
+    protected ThriftAbstractSliceIterator(Composite start, ColumnSliceFinish finish, boolean reversed,
             int count)
     {
-        this.policy = policy;
-        this.columnFamily = columnFamily;
         this.start = start;
         this.finish = finish;
         this.reversed = reversed;
         this.count = count;
-        this.readConsistencyLevelAtInitialization = policy.getCurrentReadLevel();
+    }
+
+    /**
+     * Fetch the next batch with the executor once readAheadRatio * count columns of the current batch have been
+     * consumed. Read ahead is disabled when the executor is null
+     */
+    public void readAhead(double readAheadRatio, AchillesExecutor executor)
+    {
+        readAheadExecutor = executor;
+        readAheadThreshold = readAheadRatio <= 0 || executor == null ? 0 : Math.max(1,
+                (int) Math.ceil(count * readAheadRatio));
     }
 
     public interface ColumnSliceFinish
@@ -67,26 +81,25 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
         else if (!iterator.hasNext() && columns == count)
         { // only need to do another query if maximum columns were retrieved
 
-            log.trace("Reload another batch of {} elements for {}", count, type());
-            // Exclude start from the query because is has been already fetched
-            if (reversed)
+            if (nextBatch != null)
             {
-                start.setEquality(ComponentEquality.LESS_THAN_EQUAL);
+                log.trace("Use batch of {} elements read ahead for {}", count, type());
+                iterator = waitForNextBatch();
             }
             else
             {
-                start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
-            }
-            changeQueryRange();
-            iterator = executeSafely(new SafeExecutionContext<Iterator<HCOLUMN>>()
-            {
-                @Override
-                public Iterator<HCOLUMN> execute()
+                log.trace("Reload another batch of {} elements for {}", count, type());
+                prepareNextBatchQuery();
+                iterator = executeSafely(new SafeExecutionContext<Iterator<HCOLUMN>>()
                 {
-                    return fetchData();
-                }
+                    @Override
+                    public Iterator<HCOLUMN> execute()
+                    {
+                        return fetchData();
+                    }
 
-            });
+                });
+            }
 
             columns = 0;
         }
@@ -101,6 +114,10 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
         HCOLUMN column = iterator.next();
         resetStartColumn(column);
         columns++;
+        if (columns == readAheadThreshold)
+        {
+            fetchNextBatchAsync();
+        }
         return column;
     }
 
@@ -110,53 +127,65 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
         iterator.remove();
     }
 
-    protected abstract Iterator<HCOLUMN> fetchData();
-
-    protected abstract void changeQueryRange();
-
-    protected abstract void resetStartColumn(HCOLUMN column);
-
-    public abstract IteratorType type();
-
-    protected <T> T executeWithInitialConsistencyLevel(SafeExecutionContext<T> context)
+    private void prepareNextBatchQuery()
     {
-        log.trace(
-                "Fetching next {} elements with consistency level {} from {}",
-                count,
-                readConsistencyLevelAtInitialization != null ? readConsistencyLevelAtInitialization
-                        .name() : "QUORUM", type());
-
-        T result = null;
-        if (readConsistencyLevelAtInitialization != null)
+        // Exclude start from the query because is has been already fetched
+        if (reversed)
         {
-            log.trace("Save current consistency level {} by {}", policy.getCurrentReadLevel(),
-                    type());
-            ConsistencyLevel currentReadLevel = policy.getCurrentReadLevel();
-            policy.setCurrentReadLevel(readConsistencyLevelAtInitialization);
-            policy.loadConsistencyLevelForRead(columnFamily);
-            try
-            {
-                result = context.execute();
-                policy.setCurrentReadLevel(currentReadLevel);
-                log.trace("Restore current consistency level {} by {}", currentReadLevel, type());
-            } catch (Throwable throwable)
-            {
-                policy.reinitCurrentConsistencyLevels();
-                policy.reinitDefaultConsistencyLevels();
-                log
-                        .trace("Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-                                count, readConsistencyLevelAtInitialization.name(), type());
-                throw new AchillesException(throwable);
-            }
+            start.setEquality(ComponentEquality.LESS_THAN_EQUAL);
         }
         else
         {
-            result = context.execute();
+            start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
         }
-        return result;
+        changeQueryRange();
+    }
+
+    private void fetchNextBatchAsync()
+    {
+        List<HCOLUMN> remainingColumns = Lists.newArrayList(iterator);
+        iterator = remainingColumns.iterator();
+        if (columns + remainingColumns.size() == count)
+        {
+            log.trace("Read ahead another batch of {} elements for {}", count, type());
+            if (!remainingColumns.isEmpty())
+            {
+                resetStartColumn(remainingColumns.get(remainingColumns.size() - 1));
+            }
+            prepareNextBatchQuery();
+            nextBatch = readAheadExecutor.submit(new Callable<Iterator<HCOLUMN>>()
+            {
+                @Override
+                public Iterator<HCOLUMN> call() throws Exception
+                {
+                    return fetchData();
+                }
+            });
+        }
+    }
 
+    private Iterator<HCOLUMN> waitForNextBatch()
+    {
+        final Future<Iterator<HCOLUMN>> future = nextBatch;
+        nextBatch = null;
+        return executeSafely(new SafeExecutionContext<Iterator<HCOLUMN>>()
+        {
+            @Override
+            public Iterator<HCOLUMN> execute()
+            {
+                return readAheadExecutor.waitFor(future);
+            }
+        });
     }
 
+    protected abstract Iterator<HCOLUMN> fetchData();
+
+    protected abstract void changeQueryRange();
+
+    protected abstract void resetStartColumn(HCOLUMN column);
+
+    public abstract IteratorType type();
+
     private <T> T executeSafely(SafeExecutionContext<T> context)
     {
         try
@@ -164,11 +193,7 @@ public abstract class ThriftAbstractSliceIterator<HCOLUMN> implements Iterator<H
             return context.execute();
         } catch (Exception e)
         {
-            policy.reinitCurrentConsistencyLevels();
-            policy.reinitDefaultConsistencyLevels();
-            log
-                    .trace("Exception occurred while fetching next {} elements with consistency level {} in {}. Reset consistency levels",
-                            count, readConsistencyLevelAtInitialization.name(), type());
+            log.trace("Exception occurred while fetching next {} elements in {}", count, type());
             throw new AchillesException(e);
         }
     }
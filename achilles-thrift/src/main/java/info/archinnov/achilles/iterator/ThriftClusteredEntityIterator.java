@@ -20,9 +20,9 @@ public class ThriftClusteredEntityIterator<T> extends ThriftAbstractClusteredEnt
 
     public ThriftClusteredEntityIterator(Class<T> entityClass,
             ThriftAbstractSliceIterator<HColumn<Composite, Object>> sliceIterator,
-            ThriftPersistenceContext context)
+            ThriftPersistenceContext context, boolean readOnly)
     {
-        super(entityClass, sliceIterator, context);
+        super(entityClass, sliceIterator, context, readOnly);
         this.sliceIterator = sliceIterator;
     }
 
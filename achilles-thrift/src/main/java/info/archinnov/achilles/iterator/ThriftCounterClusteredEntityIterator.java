@@ -20,9 +20,9 @@ public class ThriftCounterClusteredEntityIterator<T> extends ThriftAbstractClust
 
     public ThriftCounterClusteredEntityIterator(Class<T> entityClass,
             ThriftCounterSliceIterator<Object> sliceIterator,
-            ThriftPersistenceContext context)
+            ThriftPersistenceContext context, boolean readOnly)
     {
-        super(entityClass, sliceIterator, context);
+        super(entityClass, sliceIterator, context, readOnly);
         this.sliceIterator = sliceIterator;
     }
 
@@ -11,8 +11,6 @@ package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
 import static info.archinnov.achilles.iterator.ThriftAbstractSliceIterator.IteratorType.THRIFT_COUNTER_SLICE_ITERATOR;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 
 import java.util.Iterator;
 
@@ -30,18 +28,16 @@ public class ThriftCounterSliceIterator<K> extends
 
 	private SliceCounterQuery<K, Composite> query;
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, final Composite finish,
-			boolean reversed)
+	public ThriftCounterSliceIterator(SliceCounterQuery<K, Composite> query, Composite start,
+			final Composite finish, boolean reversed)
 	{
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+		this(query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, final Composite finish,
-			boolean reversed, int count)
+	public ThriftCounterSliceIterator(SliceCounterQuery<K, Composite> query, Composite start,
+			final Composite finish, boolean reversed, int count)
 	{
-		this(policy, cf, query, start, new ColumnSliceFinish()
+		this(query, start, new ColumnSliceFinish()
 		{
 
 			@Override
@@ -52,18 +48,16 @@ public class ThriftCounterSliceIterator<K> extends
 		}, reversed, count);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, ColumnSliceFinish finish,
-			boolean reversed)
+	public ThriftCounterSliceIterator(SliceCounterQuery<K, Composite> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed)
 	{
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+		this(query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftCounterSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceCounterQuery<K, Composite> query, Composite start, ColumnSliceFinish finish,
-			boolean reversed, int count)
+	public ThriftCounterSliceIterator(SliceCounterQuery<K, Composite> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed, int count)
 	{
-		super(policy, cf, start, finish, reversed, count);
+		super(start, finish, reversed, count);
 		this.query = query;
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
@@ -78,15 +72,8 @@ public class ThriftCounterSliceIterator<K> extends
 	@Override
 	protected Iterator<HCounterColumn<Composite>> fetchData()
 	{
-		return executeWithInitialConsistencyLevel(new SafeExecutionContext<Iterator<HCounterColumn<Composite>>>()
-		{
-			@Override
-			public Iterator<HCounterColumn<Composite>> execute()
-			{
-				log.trace("Fetching next {} counter columns", count);
-				return query.execute().get().getColumns().iterator();
-			}
-		});
+		log.trace("Fetching next {} counter columns", count);
+		return query.execute().get().getColumns().iterator();
 	}
 
 	@Override
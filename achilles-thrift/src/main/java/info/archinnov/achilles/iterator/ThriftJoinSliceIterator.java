@@ -2,11 +2,10 @@ package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
 import static info.archinnov.achilles.iterator.ThriftAbstractSliceIterator.IteratorType.THRIFT_JOIN_SLICE_ITERATOR;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -33,25 +32,22 @@ public class ThriftJoinSliceIterator<K, KEY, VALUE> extends
     private PropertyMeta propertyMeta;
     private ThriftJoinEntityLoader joinHelper = new ThriftJoinEntityLoader();
     private ThriftGenericEntityDao joinEntityDao;
+    private ConsistencyLevel readLevel;
 
-    public ThriftJoinSliceIterator( //
-            AchillesConsistencyLevelPolicy policy, //
-            ThriftGenericEntityDao joinEntityDao, //
-            String cf, PropertyMeta propertyMeta, //
+    public ThriftJoinSliceIterator(ThriftGenericEntityDao joinEntityDao, //
+            ConsistencyLevel readLevel, PropertyMeta propertyMeta, //
             SliceQuery<K, Composite, Object> query, Composite start, //
             final Composite finish, boolean reversed)
     {
-        this(policy, joinEntityDao, cf, propertyMeta, query, start, finish, reversed,
-                DEFAULT_LENGTH);
+        this(joinEntityDao, readLevel, propertyMeta, query, start, finish, reversed, DEFAULT_LENGTH);
     }
 
-    public ThriftJoinSliceIterator(AchillesConsistencyLevelPolicy policy, //
-            ThriftGenericEntityDao joinEntityDao, //
-            String cf, PropertyMeta propertyMeta, //
+    public ThriftJoinSliceIterator(ThriftGenericEntityDao joinEntityDao, //
+            ConsistencyLevel readLevel, PropertyMeta propertyMeta, //
             SliceQuery<K, Composite, Object> query, Composite start, //
             final Composite finish, boolean reversed, int count)
     {
-        this(policy, joinEntityDao, cf, propertyMeta, query, start, new ColumnSliceFinish()
+        this(joinEntityDao, readLevel, propertyMeta, query, start, new ColumnSliceFinish()
         {
             @Override
             public Composite function()
@@ -61,24 +57,26 @@ public class ThriftJoinSliceIterator<K, KEY, VALUE> extends
         }, reversed, count);
     }
 
-    public ThriftJoinSliceIterator(AchillesConsistencyLevelPolicy policy, //
-            ThriftGenericEntityDao joinEntityDao, //
-            String cf, PropertyMeta propertyMeta, //
+    public ThriftJoinSliceIterator(ThriftGenericEntityDao joinEntityDao, //
+            ConsistencyLevel readLevel, PropertyMeta propertyMeta, //
             SliceQuery<K, Composite, Object> query, Composite start, //
             ColumnSliceFinish finish, boolean reversed)
     {
-        this(policy, joinEntityDao, cf, propertyMeta, query, start, finish, reversed,
-                DEFAULT_LENGTH);
+        this(joinEntityDao, readLevel, propertyMeta, query, start, finish, reversed, DEFAULT_LENGTH);
     }
 
-    public ThriftJoinSliceIterator(AchillesConsistencyLevelPolicy policy, //
-            ThriftGenericEntityDao joinEntityDao, //
-            String cf, PropertyMeta propertyMeta, //
+    /**
+     * Join entities are loaded with readLevel, or with the default read level of the join column family
+     * when null
+     */
+    public ThriftJoinSliceIterator(ThriftGenericEntityDao joinEntityDao, //
+            ConsistencyLevel readLevel, PropertyMeta propertyMeta, //
             SliceQuery<K, Composite, Object> query, Composite start, //
             ColumnSliceFinish finish, boolean reversed, int count)
     {
-        super(policy, cf, start, finish, reversed, count);
+        super(start, finish, reversed, count);
         this.joinEntityDao = joinEntityDao;
+        this.readLevel = readLevel;
         this.propertyMeta = propertyMeta;
         this.query = query;
         this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
@@ -88,14 +86,7 @@ public class ThriftJoinSliceIterator<K, KEY, VALUE> extends
     protected Iterator<HColumn<Composite, VALUE>> fetchData()
     {
 
-        Iterator<HColumn<Composite, Object>> iter = executeWithInitialConsistencyLevel(new SafeExecutionContext<Iterator<HColumn<Composite, Object>>>()
-        {
-            @Override
-            public Iterator<HColumn<Composite, Object>> execute()
-            {
-                return query.execute().get().getColumns().iterator();
-            }
-        });
+        Iterator<HColumn<Composite, Object>> iter = query.execute().get().getColumns().iterator();
 
         List<Object> joinIds = new ArrayList<Object>();
         Map<Object, Pair<Composite, Integer>> hColumMap = new HashMap<Object, Pair<Composite, Integer>>();
@@ -125,7 +116,8 @@ public class ThriftJoinSliceIterator<K, KEY, VALUE> extends
         {
 
             Map<Object, VALUE> loadedEntities = joinHelper.loadJoinEntities(
-                    (Class<VALUE>) propertyMeta.getValueClass(), joinIds, propertyMeta.joinMeta(), joinEntityDao);
+                    (Class<VALUE>) propertyMeta.getValueClass(), joinIds, propertyMeta.joinMeta(), joinEntityDao,
+                    readLevel);
 
             for (Object joinId : joinIds)
             {
@@ -142,16 +134,6 @@ public class ThriftJoinSliceIterator<K, KEY, VALUE> extends
         return joinedHColumns.iterator();
     }
 
-    @Override
-    public HColumn<Composite, VALUE> next()
-    {
-        HColumn<Composite, VALUE> column = iterator.next();
-        start = column.getName();
-        columns++;
-
-        return column;
-    }
-
     @Override
     public void remove()
     {
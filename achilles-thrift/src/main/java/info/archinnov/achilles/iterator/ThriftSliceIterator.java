@@ -11,8 +11,6 @@ package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.ThriftAbstractDao.DEFAULT_LENGTH;
 import static info.archinnov.achilles.iterator.ThriftAbstractSliceIterator.IteratorType.THRIFT_SLICE_ITERATOR;
-import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 
 import java.util.Iterator;
 
@@ -24,18 +22,16 @@ public class ThriftSliceIterator<K, V> extends ThriftAbstractSliceIterator<HColu
 {
 	private SliceQuery<K, Composite, V> query;
 
-	public ThriftSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceQuery<K, Composite, V> query, Composite start, final Composite finish,
-			boolean reversed)
+	public ThriftSliceIterator(SliceQuery<K, Composite, V> query, Composite start,
+			final Composite finish, boolean reversed)
 	{
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+		this(query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceQuery<K, Composite, V> query, Composite start, final Composite finish,
-			boolean reversed, int count)
+	public ThriftSliceIterator(SliceQuery<K, Composite, V> query, Composite start,
+			final Composite finish, boolean reversed, int count)
 	{
-		this(policy, cf, query, start, new ColumnSliceFinish()
+		this(query, start, new ColumnSliceFinish()
 		{
 			@Override
 			public Composite function()
@@ -45,18 +41,16 @@ public class ThriftSliceIterator<K, V> extends ThriftAbstractSliceIterator<HColu
 		}, reversed, count);
 	}
 
-	public ThriftSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceQuery<K, Composite, V> query, Composite start, ColumnSliceFinish finish,
-			boolean reversed)
+	public ThriftSliceIterator(SliceQuery<K, Composite, V> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed)
 	{
-		this(policy, cf, query, start, finish, reversed, DEFAULT_LENGTH);
+		this(query, start, finish, reversed, DEFAULT_LENGTH);
 	}
 
-	public ThriftSliceIterator(AchillesConsistencyLevelPolicy policy, String cf,
-			SliceQuery<K, Composite, V> query, Composite start, ColumnSliceFinish finish,
-			boolean reversed, int count)
+	public ThriftSliceIterator(SliceQuery<K, Composite, V> query, Composite start,
+			ColumnSliceFinish finish, boolean reversed, int count)
 	{
-		super(policy, cf, start, finish, reversed, count);
+		super(start, finish, reversed, count);
 		this.query = query;
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
@@ -64,14 +58,7 @@ public class ThriftSliceIterator<K, V> extends ThriftAbstractSliceIterator<HColu
 	@Override
 	protected Iterator<HColumn<Composite, V>> fetchData()
 	{
-		return executeWithInitialConsistencyLevel(new SafeExecutionContext<Iterator<HColumn<Composite, V>>>()
-		{
-			@Override
-			public Iterator<HColumn<Composite, V>> execute()
-			{
-				return query.execute().get().getColumns().iterator();
-			}
-		});
+		return query.execute().get().getColumns().iterator();
 	}
 
 	@Override
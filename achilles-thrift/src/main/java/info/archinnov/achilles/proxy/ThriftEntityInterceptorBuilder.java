@@ -3,6 +3,7 @@ package info.archinnov.achilles.proxy;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.validation.Validator;
 import java.lang.reflect.Method;
 import java.util.HashMap;
@@ -80,6 +81,7 @@ public class ThriftEntityInterceptorBuilder<T>
 
         interceptor.setAlreadyLoaded(alreadyLoaded);
         interceptor.setDirtyMap(new HashMap<Method, PropertyMeta>());
+        interceptor.setDeltaMap(new HashMap<Method, CollectionDelta>());
 
         interceptor.setPrimaryKey(context.getPrimaryKey());
 
@@ -2,7 +2,7 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.Counter;
@@ -36,14 +36,7 @@ public class ThriftCounterWrapper implements Counter
     {
         log.trace("Get counter value for property {} of entity {}", columnName.get(0, STRING_SRZ),
                 context.getEntityClass().getCanonicalName());
-        return context.executeWithReadConsistencyLevel(new SafeExecutionContext<Long>()
-        {
-            @Override
-            public Long execute()
-            {
-                return counterDao.getCounterValue(key, columnName);
-            }
-        }, consistencyLevel);
+        return counterDao.getCounterValue(key, columnName, consistencyLevel);
     }
 
     @Override
@@ -55,14 +48,7 @@ public class ThriftCounterWrapper implements Counter
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 readLevel.name());
 
-        return context.executeWithReadConsistencyLevel(new SafeExecutionContext<Long>()
-        {
-            @Override
-            public Long execute()
-            {
-                return counterDao.getCounterValue(key, columnName);
-            }
-        }, readLevel);
+        return counterDao.getCounterValue(key, columnName, readLevel);
     }
 
     @Override
@@ -71,15 +57,7 @@ public class ThriftCounterWrapper implements Counter
         log.trace("Increment counter value for property {} of entity {}",
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName());
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.incrementCounter(key, columnName, 1L);
-                return null;
-            }
-        }, consistencyLevel);
+        increment(1L, consistencyLevel);
 
     }
 
@@ -91,38 +69,22 @@ public class ThriftCounterWrapper implements Counter
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 writeLevel);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.incrementCounter(key, columnName, 1L);
-                return null;
-            }
-        }, writeLevel);
+        increment(1L, writeLevel);
 
     }
 
     @Override
-    public void incr(final Long increment)
+    public void incr(Long increment)
     {
         log.trace("Increment counter value for property {} of entity {} of {}",
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 increment);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.incrementCounter(key, columnName, increment);
-                return null;
-            }
-        }, consistencyLevel);
+        increment(increment, consistencyLevel);
     }
 
     @Override
-    public void incr(final Long increment, ConsistencyLevel writeLevel)
+    public void incr(Long increment, ConsistencyLevel writeLevel)
     {
         Validator.validateNotNull(consistencyLevel, "Write consistency level for counter incr should not be null");
 
@@ -131,15 +93,7 @@ public class ThriftCounterWrapper implements Counter
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 increment, writeLevel);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.incrementCounter(key, columnName, increment);
-                return null;
-            }
-        }, writeLevel);
+        increment(increment, writeLevel);
     }
 
     @Override
@@ -148,15 +102,7 @@ public class ThriftCounterWrapper implements Counter
         log.trace("Decrement counter value for property {} of entity {}",
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName());
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.decrementCounter(key, columnName, 1L);
-                return null;
-            }
-        }, consistencyLevel);
+        decrement(1L, consistencyLevel);
 
     }
 
@@ -169,37 +115,21 @@ public class ThriftCounterWrapper implements Counter
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 writeLevel);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.decrementCounter(key, columnName, 1L);
-                return null;
-            }
-        }, writeLevel);
+        decrement(1L, writeLevel);
     }
 
     @Override
-    public void decr(final Long decrement)
+    public void decr(Long decrement)
     {
         log.trace("Decrement counter value for property {} of entity {} of {}",
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 decrement);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
-        {
-            @Override
-            public Void execute()
-            {
-                counterDao.decrementCounter(key, columnName, decrement);
-                return null;
-            }
-        }, consistencyLevel);
+        decrement(decrement, consistencyLevel);
     }
 
     @Override
-    public void decr(final Long decrement, ConsistencyLevel writeLevel)
+    public void decr(Long decrement, ConsistencyLevel writeLevel)
     {
         Validator.validateNotNull(consistencyLevel, "Write consistency level for counter decr should not be null");
 
@@ -208,15 +138,33 @@ public class ThriftCounterWrapper implements Counter
                 columnName.get(0, STRING_SRZ), context.getEntityClass().getCanonicalName(),
                 decrement, writeLevel);
 
-        context.executeWithWriteConsistencyLevel(new SafeExecutionContext<Void>()
+        decrement(decrement, writeLevel);
+    }
+
+    private void increment(Long increment, ConsistencyLevel writeLevel)
+    {
+        ThriftCounterCoalescer counterCoalescer = context.getCounterCoalescer();
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(counterDao, key, columnName, writeLevel, increment);
+        }
+        else
+        {
+            counterDao.incrementCounter(key, columnName, increment, writeLevel);
+        }
+    }
+
+    private void decrement(Long decrement, ConsistencyLevel writeLevel)
+    {
+        ThriftCounterCoalescer counterCoalescer = context.getCounterCoalescer();
+        if (counterCoalescer != null)
+        {
+            counterCoalescer.add(counterDao, key, columnName, writeLevel, -decrement);
+        }
+        else
         {
-            @Override
-            public Void execute()
-            {
-                counterDao.decrementCounter(key, columnName, decrement);
-                return null;
-            }
-        }, writeLevel);
+            counterDao.decrementCounter(key, columnName, decrement, writeLevel);
+        }
     }
 
     public void setCounterDao(ThriftAbstractDao counterDao)
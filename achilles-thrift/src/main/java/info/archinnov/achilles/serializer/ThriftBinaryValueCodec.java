@@ -0,0 +1,115 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.helper.PropertyHelper.isSupportedType;
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.KeyValue;
+import java.nio.ByteBuffer;
+import me.prettyprint.hector.api.Serializer;
+
+/**
+ * ThriftBinaryValueCodec
+ * 
+ * Stores values of supported types with their native Hector serializer and falls back to JSON for the others.
+ * 
+ * Map entries are written as [key length][key bytes][value bytes], a negative key length flagging a null value
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ThriftBinaryValueCodec implements ThriftValueCodec
+{
+    private static final int KEY_LENGTH_SIZE = 4;
+
+    @Override
+    public Class<?> getColumnValueClass()
+    {
+        return byte[].class;
+    }
+
+    @Override
+    public Object encode(PropertyMeta pm, Object value)
+    {
+        return value != null ? toBytes(pm, pm.getValueClass(), value) : null;
+    }
+
+    @Override
+    public Object encodeKeyValue(PropertyMeta pm, Object key, Object value)
+    {
+        byte[] keyBytes = toBytes(pm, pm.getKeyClass(), key);
+        if (value == null)
+        {
+            return ByteBuffer.allocate(KEY_LENGTH_SIZE + keyBytes.length)
+                    .putInt(-keyBytes.length - 1)
+                    .put(keyBytes)
+                    .array();
+        }
+
+        PropertyMeta valueMeta = pm.isJoin() ? pm.joinIdMeta() : pm;
+        byte[] valueBytes = toBytes(valueMeta, valueMeta.getValueClass(), value);
+
+        return ByteBuffer.allocate(KEY_LENGTH_SIZE + keyBytes.length + valueBytes.length)
+                .putInt(keyBytes.length)
+                .put(keyBytes)
+                .put(valueBytes)
+                .array();
+    }
+
+    @Override
+    public Object decode(PropertyMeta pm, Object columnValue)
+    {
+        return columnValue != null ? fromBytes(pm, pm.getValueClass(), (byte[]) columnValue) : null;
+    }
+
+    @Override
+    public KeyValue<Object, Object> decodeKeyValue(PropertyMeta pm, Object columnValue)
+    {
+        ByteBuffer buffer = ByteBuffer.wrap((byte[]) columnValue);
+        int keyLength = buffer.getInt();
+        boolean nullValue = keyLength < 0;
+        if (nullValue)
+        {
+            keyLength = -keyLength - 1;
+        }
+
+        byte[] keyBytes = new byte[keyLength];
+        buffer.get(keyBytes);
+        Object key = fromBytes(pm, pm.getKeyClass(), keyBytes);
+
+        Object value = null;
+        if (!nullValue)
+        {
+            byte[] valueBytes = new byte[buffer.remaining()];
+            buffer.get(valueBytes);
+            PropertyMeta valueMeta = pm.isJoin() ? pm.joinIdMeta() : pm;
+            value = fromBytes(valueMeta, valueMeta.getValueClass(), valueBytes);
+        }
+        return new KeyValue<Object, Object>(key, value);
+    }
+
+    private byte[] toBytes(PropertyMeta pm, Class<?> type, Object value)
+    {
+        if (isSupportedType(type))
+        {
+            Serializer<Object> serializer = ThriftSerializerTypeInferer.getSerializer(type);
+            return serializer.toBytes(value);
+        }
+        else
+        {
+            return STRING_SRZ.toBytes(pm.forceEncodeToJSON(value));
+        }
+    }
+
+    private Object fromBytes(PropertyMeta pm, Class<?> type, byte[] bytes)
+    {
+        if (isSupportedType(type))
+        {
+            Serializer<Object> serializer = ThriftSerializerTypeInferer.getSerializer(type);
+            return serializer.fromBytes(bytes);
+        }
+        else
+        {
+            return pm.forceDecodeFromJSON(STRING_SRZ.fromBytes(bytes), type);
+        }
+    }
+}
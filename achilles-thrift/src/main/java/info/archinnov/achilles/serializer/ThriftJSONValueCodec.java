@@ -0,0 +1,62 @@
+package info.archinnov.achilles.serializer;
+
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.KeyValue;
+
+/**
+ * ThriftJSONValueCodec
+ * 
+ * Default codec, storing values as strings and non-string values as JSON
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ThriftJSONValueCodec implements ThriftValueCodec
+{
+    @Override
+    public Class<?> getColumnValueClass()
+    {
+        return String.class;
+    }
+
+    @Override
+    public Object encode(PropertyMeta pm, Object value)
+    {
+        return pm.writeValueToString(value);
+    }
+
+    @Override
+    public Object encodeKeyValue(PropertyMeta pm, Object key, Object value)
+    {
+        if (pm.isJoin())
+        {
+            String joinId = pm.joinIdMeta().writeValueToString(value);
+            return pm.writeValueToString(new KeyValue<Object, String>(key, joinId));
+        }
+        else
+        {
+            return pm.writeValueToString(new KeyValue<Object, Object>(key, value));
+        }
+    }
+
+    @Override
+    public Object decode(PropertyMeta pm, Object columnValue)
+    {
+        return pm.getValueFromString(columnValue);
+    }
+
+    @Override
+    public KeyValue<Object, Object> decodeKeyValue(PropertyMeta pm, Object columnValue)
+    {
+        KeyValue<Object, Object> holder = pm.getKeyValueFromString((String) columnValue);
+        if (pm.isJoin())
+        {
+            Object joinId = pm.joinIdMeta().getValueFromString(holder.getValue());
+            return new KeyValue<Object, Object>(holder.getKey(), joinId);
+        }
+        else
+        {
+            return holder;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package info.archinnov.achilles.serializer;
+
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.type.KeyValue;
+
+/**
+ * ThriftValueCodec
+ * 
+ * Converts property values to and from the column values of entity column families. For join properties,
+ * the values are the primary keys of the join entities
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public interface ThriftValueCodec
+{
+    public Class<?> getColumnValueClass();
+
+    public Object encode(PropertyMeta pm, Object value);
+
+    public Object encodeKeyValue(PropertyMeta pm, Object key, Object value);
+
+    public Object decode(PropertyMeta pm, Object columnValue);
+
+    public KeyValue<Object, Object> decodeKeyValue(PropertyMeta pm, Object columnValue);
+}
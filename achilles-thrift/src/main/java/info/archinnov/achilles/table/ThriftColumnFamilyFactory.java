@@ -28,7 +28,8 @@ public class ThriftColumnFamilyFactory {
 
     private ThriftComparatorTypeAliasFactory comparatorAliasFactory = new ThriftComparatorTypeAliasFactory();
 
-    public ColumnFamilyDefinition createEntityCF(EntityMeta entityMeta, String keyspaceName) {
+    public ColumnFamilyDefinition createEntityCF(EntityMeta entityMeta, String keyspaceName,
+            Class<?> columnValueClass) {
 
         String entityName = entityMeta.getClassName();
         String columnFamilyName = entityMeta.getTableName();
@@ -38,10 +39,12 @@ public class ThriftColumnFamilyFactory {
 
         Serializer<?> idSerializer = ThriftSerializerTypeInferer.getSerializer(entityMeta.getIdClass());
         String keyValidationType = idSerializer.getComparatorType().getTypeName();
+        Serializer<?> valueSerializer = ThriftSerializerTypeInferer.getSerializer(columnValueClass);
+        String defaultValidationType = valueSerializer.getComparatorType().getTypeName();
 
         cfDef.setKeyValidationClass(keyValidationType);
         cfDef.setComparatorTypeAlias(ENTITY_COMPARATOR_TYPE_ALIAS);
-        cfDef.setDefaultValidationClass(STRING_SRZ.getComparatorType().getTypeName());
+        cfDef.setDefaultValidationClass(defaultValidationType);
         cfDef.setComment("Column family for entity '" + entityName + "'");
 
         StringBuilder builder = new StringBuilder("\n\n");
@@ -50,8 +53,7 @@ public class ThriftColumnFamilyFactory {
         builder.append("\tcreate column family ").append(columnFamilyName).append("\n");
         builder.append("\t\twith key_validation_class = ").append(keyValidationType).append("\n");
         builder.append("\t\tand comparator = '").append(ENTITY_COMPARATOR_TYPE_CHECK).append("'\n");
-        builder.append("\t\tand default_validation_class = ").append(ComparatorType.UTF8TYPE.getTypeName())
-                .append("\n");
+        builder.append("\t\tand default_validation_class = ").append(defaultValidationType).append("\n");
         builder.append("\t\tand comment = 'Column family for entity ").append(entityName).append("'\n\n");
 
         log.debug(builder.toString());
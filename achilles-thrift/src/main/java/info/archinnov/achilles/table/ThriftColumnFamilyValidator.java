@@ -22,7 +22,7 @@ public class ThriftColumnFamilyValidator {
 
     private ThriftComparatorTypeAliasFactory comparatorAliasFactory = new ThriftComparatorTypeAliasFactory();
 
-    public void validateCFForEntity(ColumnFamilyDefinition cfDef, EntityMeta entityMeta) {
+    public void validateCFForEntity(ColumnFamilyDefinition cfDef, EntityMeta entityMeta, Class<?> columnValueClass) {
         log.trace("Validating column family row key definition for entityMeta {}", entityMeta.getClassName());
 
         Serializer<?> idSerializer = ThriftSerializerTypeInferer.getSerializer(entityMeta.getIdClass());
@@ -43,6 +43,18 @@ public class ThriftColumnFamilyValidator {
                 "The column family '%s' comparator type '%s' should be '%s'", entityMeta.getTableName(),
                 comparatorType, ENTITY_COMPARATOR_TYPE_CHECK);
 
+        // String values are accepted by both UTF8Type and BytesType column families, binary values are not
+        if (columnValueClass != String.class) {
+            log.trace("Validating column family default validation type for entityMeta {}",
+                    entityMeta.getClassName());
+
+            String valueValidationType = ThriftSerializerTypeInferer.getSerializer(columnValueClass)
+                    .getComparatorType().getClassName();
+            Validator.validateTableTrue(
+                    StringUtils.equals(cfDef.getDefaultValidationClass(), valueValidationType),
+                    "The column family '%s' default validation type should be '%s'", entityMeta.getTableName(),
+                    valueValidationType);
+        }
     }
 
     public void validateCFForClusteredEntity(ColumnFamilyDefinition cfDef, EntityMeta meta, String tableName) {
@@ -3,6 +3,7 @@ package info.archinnov.achilles.table;
 import info.archinnov.achilles.counter.AchillesCounter;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.exception.AchillesInvalidTableException;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.validation.Validator;
 import java.util.HashSet;
 import java.util.List;
@@ -25,15 +26,17 @@ public class ThriftTableCreator extends TableCreator {
     private static final Logger log = LoggerFactory.getLogger(ThriftTableCreator.class);
     private Cluster cluster;
     private Keyspace keyspace;
+    private Class<?> columnValueClass;
     private ThriftColumnFamilyFactory columnFamilyFactory = new ThriftColumnFamilyFactory();
     private ThriftColumnFamilyValidator columnFamilyValidator = new ThriftColumnFamilyValidator();
 
     private List<ColumnFamilyDefinition> cfDefs;
     private Set<String> columnFamilyNames = new HashSet<String>();
 
-    public ThriftTableCreator(Cluster cluster, Keyspace keyspace) {
+    public ThriftTableCreator(Cluster cluster, Keyspace keyspace, ThriftValueCodec valueCodec) {
         this.cluster = cluster;
         this.keyspace = keyspace;
+        this.columnValueClass = valueCodec.getColumnValueClass();
         KeyspaceDefinition keyspaceDef = cluster.describeKeyspace(keyspace.getKeyspaceName());
 
         Validator.validateNotNull(keyspaceDef, "The keyspace '%s' provided by configuration does not exist",
@@ -66,7 +69,7 @@ public class ThriftTableCreator extends TableCreator {
             }
             else
             {
-                columnFamilyValidator.validateCFForEntity(cfDef, entityMeta);
+                columnFamilyValidator.validateCFForEntity(cfDef, entityMeta, columnValueClass);
             }
         }
     }
@@ -116,7 +119,8 @@ public class ThriftTableCreator extends TableCreator {
             if (entityMeta.isClusteredEntity()) {
                 cfDef = columnFamilyFactory.createClusteredEntityCF(this.keyspace.getKeyspaceName(), entityMeta);
             } else {
-                cfDef = columnFamilyFactory.createEntityCF(entityMeta, this.keyspace.getKeyspaceName());
+                cfDef = columnFamilyFactory.createEntityCF(entityMeta, this.keyspace.getKeyspaceName(),
+                        columnValueClass);
 
             }
             this.addTable(cfDef);
@@ -9,6 +9,7 @@ import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
@@ -27,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.google.common.base.Function;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -182,9 +184,10 @@ public class ClusteredEntityFactoryTest
 
         ThriftGenericEntityDao entityDao = mock(ThriftGenericEntityDao.class);
         when(context.findEntityDao("joinTable")).thenReturn(entityDao);
+        when(context.getConsistencyLevel()).thenReturn(Optional.of(ConsistencyLevel.LOCAL_QUORUM));
         when(
                 joinHelper.loadJoinEntities(eq(UserBean.class), any(List.class), eq(joinMeta),
-                        eq(entityDao)))
+                        eq(entityDao), eq(ConsistencyLevel.LOCAL_QUORUM)))
                 .thenReturn(joinEntitiesMap);
 
         when(
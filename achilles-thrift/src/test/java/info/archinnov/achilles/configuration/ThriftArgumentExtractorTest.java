@@ -2,13 +2,21 @@ package info.archinnov.achilles.configuration;
 
 import static info.archinnov.achilles.configuration.ThriftConfigurationParameters.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static info.archinnov.achilles.type.ConsistencyLevel.QUORUM;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftFixedConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.serializer.ThriftBinaryValueCodec;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import me.prettyprint.cassandra.connection.HConnectionManager;
 import me.prettyprint.cassandra.service.CassandraHostConfigurator;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
@@ -20,6 +28,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.internal.util.reflection.Whitebox;
 import org.mockito.runners.MockitoJUnitRunner;
 
 /**
@@ -147,4 +156,136 @@ public class ThriftArgumentExtractorTest
 						+ "' property should be provided for Achilles ThrifEntityManagerFactory bootstraping");
 		extractor.initKeyspace(null, policy, configMap);
 	}
+
+	@Test
+	public void should_init_level_keyspaces_from_keyspace() throws Exception
+	{
+		configMap.put(KEYSPACE_PARAM, keyspace);
+		when(cluster.getConnectionManager()).thenReturn(mock(HConnectionManager.class));
+		when(keyspace.getKeyspaceName()).thenReturn("achilles");
+
+		ThriftLevelKeyspaces actual = extractor.initLevelKeyspaces(cluster, keyspace, configMap);
+
+		Keyspace quorumKeyspace = actual.forLevel(QUORUM);
+		assertThat(quorumKeyspace.getKeyspaceName()).isEqualTo("achilles");
+		assertThat(Whitebox.getInternalState(quorumKeyspace, "consistencyLevelPolicy")).isSameAs(
+				ThriftFixedConsistencyLevelPolicy.forLevel(QUORUM));
+	}
+
+	@Test
+	public void should_init_json_value_codec_by_default() throws Exception
+	{
+		assertThat(extractor.initValueCodec(configMap)).isInstanceOf(ThriftJSONValueCodec.class);
+	}
+
+	@Test
+	public void should_init_binary_value_codec() throws Exception
+	{
+		configMap.put(BINARY_VALUES_PARAM, true);
+
+		assertThat(extractor.initValueCodec(configMap)).isInstanceOf(ThriftBinaryValueCodec.class);
+	}
+
+	@Test
+	public void should_init_default_multiget_batch_size() throws Exception
+	{
+		assertThat(extractor.initMultiGetBatchSize(configMap)).isEqualTo(DEFAULT_MULTIGET_BATCH_SIZE);
+	}
+
+	@Test
+	public void should_init_multiget_batch_size() throws Exception
+	{
+		configMap.put(MULTIGET_BATCH_SIZE_PARAM, 200);
+
+		assertThat(extractor.initMultiGetBatchSize(configMap)).isEqualTo(200);
+	}
+
+	@Test
+	public void should_exception_when_multiget_batch_size_not_positive() throws Exception
+	{
+		configMap.put(MULTIGET_BATCH_SIZE_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(MULTIGET_BATCH_SIZE_PARAM + " property should be strictly positive");
+
+		extractor.initMultiGetBatchSize(configMap);
+	}
+
+	@Test
+	public void should_init_default_multiget_max_in_flight() throws Exception
+	{
+		assertThat(extractor.initMultiGetMaxInFlight(configMap)).isEqualTo(DEFAULT_MULTIGET_MAX_IN_FLIGHT);
+	}
+
+	@Test
+	public void should_init_multiget_max_in_flight() throws Exception
+	{
+		configMap.put(MULTIGET_MAX_IN_FLIGHT_PARAM, 2);
+
+		assertThat(extractor.initMultiGetMaxInFlight(configMap)).isEqualTo(2);
+	}
+
+	@Test
+	public void should_exception_when_multiget_max_in_flight_not_positive() throws Exception
+	{
+		configMap.put(MULTIGET_MAX_IN_FLIGHT_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(MULTIGET_MAX_IN_FLIGHT_PARAM + " property should be strictly positive");
+
+		extractor.initMultiGetMaxInFlight(configMap);
+	}
+
+	@Test
+	public void should_init_default_collection_page_size() throws Exception
+	{
+		assertThat(extractor.initCollectionPageSize(configMap)).isEqualTo(DEFAULT_COLLECTION_PAGE_SIZE);
+	}
+
+	@Test
+	public void should_init_collection_page_size() throws Exception
+	{
+		configMap.put(COLLECTION_PAGE_SIZE_PARAM, 250);
+
+		assertThat(extractor.initCollectionPageSize(configMap)).isEqualTo(250);
+	}
+
+	@Test
+	public void should_exception_when_collection_page_size_not_positive() throws Exception
+	{
+		configMap.put(COLLECTION_PAGE_SIZE_PARAM, 0);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(COLLECTION_PAGE_SIZE_PARAM + " property should be strictly positive");
+
+		extractor.initCollectionPageSize(configMap);
+	}
+
+	@Test
+	public void should_init_default_flush_limits() throws Exception
+	{
+		assertThat(extractor.initFlushMaxMutations(configMap)).isEqualTo(DEFAULT_FLUSH_MAX_MUTATIONS);
+		assertThat(extractor.initFlushMaxInFlight(configMap)).isEqualTo(DEFAULT_FLUSH_MAX_IN_FLIGHT);
+	}
+
+	@Test
+	public void should_init_flush_limits() throws Exception
+	{
+		configMap.put(FLUSH_MAX_MUTATIONS_PARAM, 500);
+		configMap.put(FLUSH_MAX_IN_FLIGHT_PARAM, 4);
+
+		assertThat(extractor.initFlushMaxMutations(configMap)).isEqualTo(500);
+		assertThat(extractor.initFlushMaxInFlight(configMap)).isEqualTo(4);
+	}
+
+	@Test
+	public void should_exception_when_flush_max_mutations_not_positive() throws Exception
+	{
+		configMap.put(FLUSH_MAX_MUTATIONS_PARAM, -1);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage(FLUSH_MAX_MUTATIONS_PARAM + " property should be strictly positive");
+
+		extractor.initFlushMaxMutations(configMap);
+	}
 }
@@ -0,0 +1,50 @@
+package info.archinnov.achilles.consistency;
+
+import static me.prettyprint.cassandra.service.OperationType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import me.prettyprint.hector.api.HConsistencyLevel;
+import org.junit.Test;
+
+/**
+ * ThriftFixedConsistencyLevelPolicyTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ThriftFixedConsistencyLevelPolicyTest
+{
+
+    @Test
+    public void should_return_same_policy_instance_per_level() throws Exception
+    {
+        for (ConsistencyLevel level : ConsistencyLevel.values())
+        {
+            ThriftFixedConsistencyLevelPolicy policy = ThriftFixedConsistencyLevelPolicy.forLevel(level);
+            assertThat(policy.getLevel()).isEqualTo(HConsistencyLevel.valueOf(level.name()));
+            assertThat(ThriftFixedConsistencyLevelPolicy.forLevel(level)).isSameAs(policy);
+        }
+    }
+
+    @Test
+    public void should_return_level_for_read_and_write_whatever_the_column_family() throws Exception
+    {
+        ThriftFixedConsistencyLevelPolicy policy = ThriftFixedConsistencyLevelPolicy
+                .forLevel(ConsistencyLevel.LOCAL_QUORUM);
+
+        assertThat(policy.get(READ)).isEqualTo(HConsistencyLevel.LOCAL_QUORUM);
+        assertThat(policy.get(WRITE)).isEqualTo(HConsistencyLevel.LOCAL_QUORUM);
+        assertThat(policy.get(READ, "cf1")).isEqualTo(HConsistencyLevel.LOCAL_QUORUM);
+        assertThat(policy.get(WRITE, "cf2")).isEqualTo(HConsistencyLevel.LOCAL_QUORUM);
+    }
+
+    @Test
+    public void should_return_one_for_meta_operations() throws Exception
+    {
+        ThriftFixedConsistencyLevelPolicy policy = ThriftFixedConsistencyLevelPolicy
+                .forLevel(ConsistencyLevel.ALL);
+
+        assertThat(policy.get(META_READ)).isEqualTo(HConsistencyLevel.ONE);
+        assertThat(policy.get(META_WRITE, "cf")).isEqualTo(HConsistencyLevel.ONE);
+    }
+}
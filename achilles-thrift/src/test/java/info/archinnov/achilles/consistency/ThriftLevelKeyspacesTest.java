@@ -0,0 +1,60 @@
+package info.archinnov.achilles.consistency;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import me.prettyprint.cassandra.connection.HConnectionManager;
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
+import me.prettyprint.cassandra.service.FailoverPolicy;
+import me.prettyprint.hector.api.Cluster;
+import me.prettyprint.hector.api.Keyspace;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+
+/**
+ * ThriftLevelKeyspacesTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ThriftLevelKeyspacesTest
+{
+
+    private Cluster cluster = mock(Cluster.class);
+
+    private HConnectionManager connectionManager = mock(HConnectionManager.class);
+
+    @Test
+    public void should_create_one_keyspace_per_level() throws Exception
+    {
+        when(cluster.getConnectionManager()).thenReturn(connectionManager);
+        Keyspace keyspace = mock(Keyspace.class);
+        when(keyspace.getKeyspaceName()).thenReturn("achilles");
+
+        ThriftLevelKeyspaces levelKeyspaces = new ThriftLevelKeyspaces(cluster, keyspace);
+
+        for (ConsistencyLevel level : ConsistencyLevel.values())
+        {
+            Keyspace levelKeyspace = levelKeyspaces.forLevel(level);
+            assertThat(levelKeyspace.getKeyspaceName()).isEqualTo("achilles");
+            assertThat(Whitebox.getInternalState(levelKeyspace, "consistencyLevelPolicy")).isSameAs(
+                    ThriftFixedConsistencyLevelPolicy.forLevel(level));
+            assertThat(levelKeyspaces.forLevel(level)).isSameAs(levelKeyspace);
+        }
+    }
+
+    @Test
+    public void should_keep_cql_version_of_keyspace() throws Exception
+    {
+        when(cluster.getConnectionManager()).thenReturn(connectionManager);
+        ExecutingKeyspace keyspace = new ExecutingKeyspace("achilles", connectionManager,
+                ThriftFixedConsistencyLevelPolicy.forLevel(ConsistencyLevel.ONE), FailoverPolicy.FAIL_FAST);
+        keyspace.setCqlVersion("3.0.0");
+
+        ThriftLevelKeyspaces levelKeyspaces = new ThriftLevelKeyspaces(cluster, keyspace);
+
+        ExecutingKeyspace quorumKeyspace = (ExecutingKeyspace) levelKeyspaces.forLevel(ConsistencyLevel.QUORUM);
+        assertThat(quorumKeyspace.getCqlVersion()).isEqualTo("3.0.0");
+    }
+}
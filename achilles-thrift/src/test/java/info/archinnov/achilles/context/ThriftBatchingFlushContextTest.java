@@ -7,6 +7,7 @@ import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import me.prettyprint.hector.api.beans.Composite;
@@ -61,6 +62,7 @@ public class ThriftBatchingFlushContextTest
     {
         context = new ThriftBatchingFlushContext(thriftDaoContext, consistencyContext,
                 new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(),
+                new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>(),
                 hasCustomConsistencyLevels);
 
         Whitebox.setInternalState(context, ThriftConsistencyContext.class, consistencyContext);
@@ -72,8 +74,9 @@ public class ThriftBatchingFlushContextTest
     @Test
     public void should_start_batch() throws Exception
     {
+        Whitebox.setInternalState(context, "hasCustomConsistencyLevels", true);
         context.startBatch();
-        verify(consistencyContext).reinitConsistencyLevels();
+        verify(consistencyContext).resetConsistencyLevel();
         assertThat(mutatorMap).isEmpty();
     }
 
@@ -90,11 +93,12 @@ public class ThriftBatchingFlushContextTest
         Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator,
                 entityDao);
         mutatorMap.put("cf", pair);
+        Whitebox.setInternalState(context, "hasCustomConsistencyLevels", true);
 
         context.endBatch();
 
         verify(entityDao).executeMutator(mutator);
-        verify(consistencyContext).reinitConsistencyLevels();
+        verify(consistencyContext).resetConsistencyLevel();
         assertThat(mutatorMap).isEmpty();
     }
 
@@ -110,6 +114,7 @@ public class ThriftBatchingFlushContextTest
         context = new ThriftBatchingFlushContext(thriftDaoContext,
                 consistencyContext,
                 new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(),
+                new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>(),
                 true);
         ThriftBatchingFlushContext actual = context.duplicate();
 
@@ -10,6 +10,8 @@ import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftDaoFactory;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import java.util.HashMap;
@@ -55,6 +57,8 @@ public class ThriftDaoContextBuilderTest {
 
     private Map<Class<?>, EntityMeta> entityMetaMap = new HashMap<Class<?>, EntityMeta>();
 
+    private ThriftValueCodec valueCodec = new ThriftJSONValueCodec();
+
     @Before
     public void setUp() {
         configContext.setConsistencyPolicy(consistencyPolicy);
@@ -64,7 +68,7 @@ public class ThriftDaoContextBuilderTest {
     @Test
     public void should_build_counter_dao() throws Exception {
         when(daoFactory.createCounterDao(cluster, keyspace, configContext)).thenReturn(counterDao);
-        ThriftDaoContext context = builder.buildDao(cluster, keyspace, entityMetaMap, configContext, true);
+        ThriftDaoContext context = builder.buildDao(cluster, keyspace, entityMetaMap, configContext, valueCodec, true);
 
         ThriftCounterDao counterDao = context.getCounterDao();
         assertThat(counterDao).isSameAs(this.counterDao);
@@ -84,9 +88,9 @@ public class ThriftDaoContextBuilderTest {
 
         entityMetaMap.put(CompleteBean.class, entityMeta);
 
-        builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false);
-        verify(daoFactory).createDaosForEntity(eq(cluster), eq(keyspace), eq(configContext), eq(entityMeta),
-                any(Map.class), any(Map.class));
+        builder.buildDao(cluster, keyspace, entityMetaMap, configContext, valueCodec, false);
+        verify(daoFactory).createDaosForEntity(eq(cluster), eq(keyspace), eq(configContext), eq(valueCodec),
+                eq(entityMeta), any(Map.class), any(Map.class));
 
     }
 
@@ -104,7 +108,7 @@ public class ThriftDaoContextBuilderTest {
 
         entityMetaMap.put(CompleteBean.class, entityMeta);
 
-        builder.buildDao(cluster, keyspace, entityMetaMap, configContext, false);
+        builder.buildDao(cluster, keyspace, entityMetaMap, configContext, valueCodec, false);
         verify(daoFactory).createClusteredEntityDao(eq(cluster), eq(keyspace), eq(configContext), eq(entityMeta),
                 any(Map.class));
 
@@ -1,6 +1,9 @@
 package info.archinnov.achilles.context;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -64,4 +67,61 @@ public class ThriftDaoContextTest
 		assertThat((ThriftGenericWideRowDao) context.findWideRowDao("dao")).isSameAs(
 				columnFamilyDao);
 	}
+
+	@Test
+	public void should_set_multiget_batch_size_on_entity_daos() throws Exception
+	{
+		entityDaosMap.put("dao", entityDao);
+
+		context.setMultiGetBatchSize(20);
+
+		verify(entityDao).setMultiGetBatchSize(20);
+	}
+
+	@Test
+	public void should_set_multiget_max_in_flight_on_entity_daos() throws Exception
+	{
+		entityDaosMap.put("dao", entityDao);
+
+		context.setMultiGetMaxInFlight(2);
+
+		verify(entityDao).setMultiGetMaxInFlight(2);
+	}
+
+	@Test
+	public void should_set_executor_on_entity_daos() throws Exception
+	{
+		AchillesExecutor executor = new AchillesExecutor(1);
+		entityDaosMap.put("dao", entityDao);
+
+		context.setExecutor(executor);
+
+		assertThat(context.getExecutor()).isSameAs(executor);
+		verify(entityDao).setExecutor(executor);
+	}
+
+	@Test
+	public void should_set_collection_page_size_on_entity_daos() throws Exception
+	{
+		entityDaosMap.put("dao", entityDao);
+
+		context.setCollectionPageSize(500);
+
+		verify(entityDao).setCollectionPageSize(500);
+	}
+
+	@Test
+	public void should_set_level_keyspaces_on_all_daos() throws Exception
+	{
+		entityDaosMap.put("dao", entityDao);
+		columnFamilyDaosMap.put("dao", columnFamilyDao);
+		ThriftLevelKeyspaces levelKeyspaces = mock(ThriftLevelKeyspaces.class);
+
+		context.setLevelKeyspaces(levelKeyspaces);
+
+		assertThat(context.getLevelKeyspaces()).isSameAs(levelKeyspaces);
+		verify(entityDao).setLevelKeyspaces(levelKeyspaces);
+		verify(columnFamilyDao).setLevelKeyspaces(levelKeyspaces);
+		verify(thriftCounterDao).setLevelKeyspaces(levelKeyspaces);
+	}
 }
@@ -1,5 +1,6 @@
 package info.archinnov.achilles.context;
 
+import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
@@ -9,8 +10,11 @@ import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import me.prettyprint.hector.api.exceptions.HTimedOutException;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
@@ -60,6 +64,9 @@ public class ThriftImmediateFlushContextTest
     @Mock
     private ThriftDaoContext thriftDaoContext;
 
+    @Mock
+    private AchillesExecutor executor;
+
     private Map<String, Pair<Mutator<?>, ThriftAbstractDao>> mutatorMap = new HashMap<String, Pair<Mutator<?>, ThriftAbstractDao>>();
 
     private Boolean hasCustomConsistencyLevels = false;
@@ -69,12 +76,16 @@ public class ThriftImmediateFlushContextTest
     {
         context = new ThriftImmediateFlushContext(thriftDaoContext, thriftConsistencyContext,
                 new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(),
+                new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>(),
                 hasCustomConsistencyLevels);
 
         Whitebox.setInternalState(context, ThriftConsistencyContext.class, thriftConsistencyContext);
         Whitebox.setInternalState(context, "mutatorMap", mutatorMap);
         Whitebox.setInternalState(context, ThriftDaoContext.class, thriftDaoContext);
         mutatorMap.clear();
+        when(thriftDaoContext.getFlushMaxMutations()).thenReturn(100);
+        when(thriftDaoContext.getFlushMaxInFlight()).thenReturn(2);
+        when(thriftDaoContext.getExecutor()).thenReturn(executor);
     }
 
     @Test
@@ -91,14 +102,98 @@ public class ThriftImmediateFlushContextTest
     {
         Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
         mutatorMap.put("cf", pair);
+        Whitebox.setInternalState(context, "hasCustomConsistencyLevels", true);
+
+        context.flush();
+
+        verify(entityDao).executeMutator(mutator);
+        verify(thriftConsistencyContext).resetConsistencyLevel();
+        assertThat(mutatorMap).isEmpty();
+    }
+
+    @Test
+    public void should_roll_over_full_mutator() throws Exception
+    {
+        Pair<Mutator<?>, ThriftAbstractDao> pair = Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao);
+        mutatorMap.put("cf", pair);
+        Mutator<Object> newMutator = mock(Mutator.class);
+        when(mutator.getPendingMutationCount()).thenReturn(100);
+        when((ThriftGenericEntityDao) thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
+        when(entityDao.buildMutator(null)).thenReturn(newMutator);
+
+        Mutator<Object> actual = context.getEntityMutator("cf");
+
+        assertThat(actual).isSameAs(newMutator);
+        List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators = Whitebox.getInternalState(context,
+                "fullMutators");
+        assertThat(fullMutators).hasSize(1);
+        assertThat((Object) fullMutators.get(0)).isSameAs(pair);
+    }
+
+    @Test
+    public void should_flush_full_and_current_mutators() throws Exception
+    {
+        Mutator<Object> fullMutator1 = mock(Mutator.class);
+        Mutator<Object> fullMutator2 = mock(Mutator.class);
+        List<Pair<Mutator<Object>, ThriftAbstractDao>> fullMutators = Whitebox.getInternalState(context,
+                "fullMutators");
+        fullMutators.add(Pair.<Mutator<Object>, ThriftAbstractDao> create(fullMutator1, entityDao));
+        fullMutators.add(Pair.<Mutator<Object>, ThriftAbstractDao> create(fullMutator2, entityDao));
+        mutatorMap.put("cf", Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao));
+        mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF,
+                Pair.<Mutator<?>, ThriftAbstractDao> create(counterMutator, thriftCounterDao));
+
+        AchillesExecutor realExecutor = new AchillesExecutor(2);
+        when(thriftDaoContext.getExecutor()).thenReturn(realExecutor);
 
         context.flush();
+        realExecutor.shutdown();
 
+        verify(entityDao).executeMutator(fullMutator1);
+        verify(entityDao).executeMutator(fullMutator2);
         verify(entityDao).executeMutator(mutator);
-        verify(thriftConsistencyContext).reinitConsistencyLevels();
+        verify(thriftCounterDao).executeMutator(counterMutator);
+        assertThat(fullMutators).isEmpty();
         assertThat(mutatorMap).isEmpty();
     }
 
+    @Test
+    public void should_flush_few_mutators_on_calling_thread() throws Exception
+    {
+        mutatorMap.put("cf", Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao));
+        mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF,
+                Pair.<Mutator<?>, ThriftAbstractDao> create(counterMutator, thriftCounterDao));
+
+        context.flush();
+
+        verify(entityDao).executeMutator(mutator);
+        verify(thriftCounterDao).executeMutator(counterMutator);
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    public void should_rethrow_mutator_exception_when_flushing_concurrently() throws Exception
+    {
+        Mutator<Object> cfMutator = mock(Mutator.class);
+        mutatorMap.put("cf", Pair.<Mutator<?>, ThriftAbstractDao> create(mutator, entityDao));
+        mutatorMap.put("wide_row", Pair.<Mutator<?>, ThriftAbstractDao> create(cfMutator, cfDao));
+        mutatorMap.put(AchillesCounter.THRIFT_COUNTER_CF,
+                Pair.<Mutator<?>, ThriftAbstractDao> create(counterMutator, thriftCounterDao));
+        doThrow(new HTimedOutException("timeout")).when(entityDao).executeMutator(mutator);
+        AchillesExecutor realExecutor = new AchillesExecutor(2);
+        when(thriftDaoContext.getExecutor()).thenReturn(realExecutor);
+
+        exception.expect(HTimedOutException.class);
+
+        try
+        {
+            context.flush();
+        } finally
+        {
+            realExecutor.shutdown();
+        }
+    }
+
     @Test
     public void should_exception_when_end_batch() throws Exception
     {
@@ -110,11 +205,10 @@ public class ThriftImmediateFlushContextTest
     }
 
     @Test
-    public void should_reinit_consistency_levels() throws Exception
+    public void should_not_reset_consistency_level_when_none_set() throws Exception
     {
-        Whitebox.setInternalState(context, "hasCustomConsistencyLevels", false);
-        context.reinitConsistencyLevels();
-        verify(thriftConsistencyContext).reinitConsistencyLevels();
+        context.cleanUp();
+        verify(thriftConsistencyContext, never()).resetConsistencyLevel();
     }
 
     @Test
@@ -131,7 +225,7 @@ public class ThriftImmediateFlushContextTest
     public void should_get_new_entity_mutator() throws Exception
     {
         when((ThriftGenericEntityDao) thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
-        when(entityDao.buildMutator()).thenReturn(mutator);
+        when(entityDao.buildMutator(null)).thenReturn(mutator);
 
         Mutator<Object> actual = context.getEntityMutator("cf");
         assertThat(actual).isSameAs(mutator);
@@ -139,6 +233,17 @@ public class ThriftImmediateFlushContextTest
         assertThat(mutatorMap.get("cf").right).isSameAs(entityDao);
     }
 
+    @Test
+    public void should_get_new_entity_mutator_with_consistency_level() throws Exception
+    {
+        when(thriftConsistencyContext.getConsistencyLevel()).thenReturn(LOCAL_QUORUM);
+        when((ThriftGenericEntityDao) thriftDaoContext.findEntityDao("cf")).thenReturn(entityDao);
+        when(entityDao.buildMutator(LOCAL_QUORUM)).thenReturn(mutator);
+
+        Mutator<Object> actual = context.getEntityMutator("cf");
+        assertThat(actual).isSameAs(mutator);
+    }
+
     @Test
     public void should_get_existing_cf_mutator() throws Exception
     {
@@ -153,7 +258,7 @@ public class ThriftImmediateFlushContextTest
     public void should_get_new_cf_mutator() throws Exception
     {
         when((ThriftGenericWideRowDao) thriftDaoContext.findWideRowDao("cf")).thenReturn(cfDao);
-        when(cfDao.buildMutator()).thenReturn(mutator);
+        when(cfDao.buildMutator(null)).thenReturn(mutator);
 
         Mutator<Object> actual = context.getWideRowMutator("cf");
         assertThat(actual).isSameAs(mutator);
@@ -176,7 +281,7 @@ public class ThriftImmediateFlushContextTest
     public void should_get_new_counter_mutator() throws Exception
     {
         when(thriftDaoContext.getCounterDao()).thenReturn(thriftCounterDao);
-        when(thriftCounterDao.buildMutator()).thenReturn(counterMutator);
+        when(thriftCounterDao.buildMutator(null)).thenReturn(counterMutator);
 
         Mutator<Object> actual = context.getCounterMutator();
 
@@ -199,6 +304,7 @@ public class ThriftImmediateFlushContextTest
         context = new ThriftImmediateFlushContext(thriftDaoContext,
                 thriftConsistencyContext,
                 new HashMap<String, Pair<Mutator<Object>, ThriftAbstractDao>>(),
+                new ArrayList<Pair<Mutator<Object>, ThriftAbstractDao>>(),
                 true);
         ThriftImmediateFlushContext actual = context.duplicate();
 
@@ -2,9 +2,10 @@ package info.archinnov.achilles.context;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.LOCAL_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
@@ -17,6 +18,7 @@ import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
 import info.archinnov.achilles.entity.operations.ThriftEntityMerger;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.entity.operations.ThriftEntityProxifier;
+import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
 import info.archinnov.achilles.proxy.ThriftEntityInterceptor;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
@@ -24,7 +26,10 @@ import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.type.OptionsBuilder;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
@@ -32,11 +37,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * ThriftPersistenceContextTest
@@ -80,9 +84,6 @@ public class ThriftPersistenceContextTest
     @Mock
     private ThriftImmediateFlushContext flushContext;
 
-    @Mock
-    private ThriftConsistencyContext consistencyContext;
-
     @Mock
     private ThriftEntityProxifier proxifier;
 
@@ -95,6 +96,9 @@ public class ThriftPersistenceContextTest
     @Mock
     private ThriftEntityLoader loader;
 
+    @Mock
+    private ThriftJoinEntityLoader joinLoader;
+
     @Mock
     private EntityInitializer initializer;
 
@@ -104,12 +108,6 @@ public class ThriftPersistenceContextTest
     @Mock
     private EntityRefresher<ThriftPersistenceContext> refresher;
 
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<Void>> voidExecCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<CompleteBean>> execCaptor;
-
     private ConfigurationContext configContext = new ConfigurationContext();
 
     private CompleteBean entity = CompleteBeanTestBuilder.builder().randomId().buid();
@@ -137,7 +135,6 @@ public class ThriftPersistenceContextTest
         entityMeta.setIdMeta(idMeta);
         entityMeta.setEntityClass(CompleteBean.class);
 
-        when(flushContext.getConsistencyContext()).thenReturn(consistencyContext);
         when(thriftDaoContext.findEntityDao("table")).thenReturn(entityDao);
 
         context = new ThriftPersistenceContext(entityMeta, configContext, thriftDaoContext,
@@ -217,8 +214,6 @@ public class ThriftPersistenceContextTest
 
         context.persist();
 
-        verify(consistencyContext).executeWithWriteConsistencyLevel(voidExecCaptor.capture());
-        voidExecCaptor.getValue().execute();
         verify(persister).persist(context);
         verify(flushContext).flush();
     }
@@ -229,10 +224,7 @@ public class ThriftPersistenceContextTest
         Whitebox.setInternalState(context, ThriftEntityMerger.class, merger);
         when(merger.merge(context, entity)).thenReturn(entity);
 
-        context.merge(entity);
-
-        verify(consistencyContext).executeWithWriteConsistencyLevel(execCaptor.capture());
-        CompleteBean merged = execCaptor.getValue().execute();
+        CompleteBean merged = context.merge(entity);
 
         assertThat(merged).isSameAs(entity);
         verify(flushContext).flush();
@@ -245,9 +237,6 @@ public class ThriftPersistenceContextTest
 
         context.remove();
 
-        verify(consistencyContext).executeWithWriteConsistencyLevel(voidExecCaptor.capture());
-        voidExecCaptor.getValue().execute();
-
         verify(persister).remove(context);
         verify(flushContext).flush();
     }
@@ -260,15 +249,10 @@ public class ThriftPersistenceContextTest
 
         when(loader.load(context, CompleteBean.class)).thenReturn(entity);
         when(proxifier.buildProxy(entity, context)).thenReturn(entity);
-        when(consistencyContext.executeWithReadConsistencyLevel(execCaptor.capture())).thenReturn(
-                entity);
 
         CompleteBean actual = context.find(CompleteBean.class);
 
-        CompleteBean actual2 = execCaptor.getValue().execute();
-
         assertThat(actual).isSameAs(entity);
-        assertThat(actual2).isSameAs(entity);
     }
 
     @Test
@@ -280,14 +264,30 @@ public class ThriftPersistenceContextTest
         when(loader.load(context, CompleteBean.class)).thenReturn(null);
         when(proxifier.buildProxy(entity, context)).thenReturn(entity);
 
-        context.find(CompleteBean.class);
-
-        verify(consistencyContext).executeWithReadConsistencyLevel(execCaptor.capture());
-        CompleteBean actual = execCaptor.getValue().execute();
+        CompleteBean actual = context.find(CompleteBean.class);
 
         assertThat(actual).isNull();
     }
 
+    @Test
+    public void should_find_all() throws Exception
+    {
+        Whitebox.setInternalState(context, ThriftJoinEntityLoader.class, joinLoader);
+        Whitebox.setInternalState(context, ThriftEntityProxifier.class, proxifier);
+        List<Long> primaryKeys = Arrays.asList(11L, entity.getId());
+        Map<Long, CompleteBean> entitiesByKey = ImmutableMap.of(entity.getId(), entity);
+
+        when(flushContext.getConsistencyLevel()).thenReturn(LOCAL_QUORUM);
+        when(joinLoader.loadJoinEntities(CompleteBean.class, primaryKeys, entityMeta, entityDao, LOCAL_QUORUM))
+                .thenReturn(entitiesByKey);
+        when(proxifier.buildProxy(eq(entity), any(ThriftPersistenceContext.class))).thenReturn(entity);
+
+        Map<Long, CompleteBean> actual = context.findAll(CompleteBean.class, primaryKeys);
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(entity.getId())).isSameAs(entity);
+    }
+
     @Test
     public void should_get_reference() throws Exception
     {
@@ -300,10 +300,7 @@ public class ThriftPersistenceContextTest
         when(loader.load(context, CompleteBean.class)).thenReturn(entity);
         when(proxifier.buildProxy(entity, context)).thenReturn(entity);
 
-        context.getReference(CompleteBean.class);
-
-        verify(consistencyContext).executeWithReadConsistencyLevel(execCaptor.capture());
-        CompleteBean actual = execCaptor.getValue().execute();
+        CompleteBean actual = context.getReference(CompleteBean.class);
 
         assertThat(context.isLoadEagerFields()).isFalse();
         assertThat(actual).isSameAs(entity);
@@ -316,9 +313,6 @@ public class ThriftPersistenceContextTest
 
         context.refresh();
 
-        verify(consistencyContext).executeWithReadConsistencyLevel(voidExecCaptor.capture());
-        voidExecCaptor.getValue().execute();
-
         verify(refresher).refresh(context);
     }
 
@@ -333,9 +327,6 @@ public class ThriftPersistenceContextTest
         CompleteBean actual = context.initialize(entity);
         assertThat(actual).isSameAs(entity);
 
-        verify(consistencyContext).executeWithReadConsistencyLevel(voidExecCaptor.capture());
-        voidExecCaptor.getValue().execute();
-
         verify(initializer).initializeEntity(entity, entityMeta, interceptor);
     }
 
@@ -388,33 +379,6 @@ public class ThriftPersistenceContextTest
         assertThat(context.getCounterMutator()).isSameAs(mutator);
     }
 
-    @Test
-    public void should_execute_with_read_consistency_level() throws Exception
-    {
-        SafeExecutionContext<CompleteBean> execContext = mock(SafeExecutionContext.class);
-
-        when(consistencyContext.executeWithReadConsistencyLevel(execContext, LOCAL_QUORUM))
-                .thenReturn(entity);
-
-        CompleteBean actual = context.executeWithReadConsistencyLevel(execContext, LOCAL_QUORUM);
-
-        assertThat(actual).isSameAs(entity);
-
-    }
-
-    @Test
-    public void should_execute_with_write_consistency_level() throws Exception
-    {
-        SafeExecutionContext<CompleteBean> execContext = mock(SafeExecutionContext.class);
-
-        when(consistencyContext.executeWithWriteConsistencyLevel(execContext, LOCAL_QUORUM))
-                .thenReturn(entity);
-
-        CompleteBean actual = context.executeWithWriteConsistencyLevel(execContext, LOCAL_QUORUM);
-
-        assertThat(actual).isSameAs(entity);
-    }
-
     private void prepareJoinContext() throws Exception
     {
         bean = new UserBean();
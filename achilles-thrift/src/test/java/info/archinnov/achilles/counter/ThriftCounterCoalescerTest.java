@@ -0,0 +1,151 @@
+package info.archinnov.achilles.counter;
+
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftFixedConsistencyLevelPolicy;
+import info.archinnov.achilles.dao.ThriftCounterDao;
+import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.List;
+import me.prettyprint.cassandra.connection.HConnectionManager;
+import me.prettyprint.hector.api.Cluster;
+import me.prettyprint.hector.api.Keyspace;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.exceptions.HTimedOutException;
+import me.prettyprint.hector.api.mutation.Mutator;
+import org.apache.cassandra.utils.Pair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * ThriftCounterCoalescerTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ThriftCounterCoalescerTest
+{
+    private ThriftCounterCoalescer coalescer;
+
+    @Mock
+    private Cluster cluster;
+
+    @Mock
+    private HConnectionManager connectionManager;
+
+    @Mock
+    private Keyspace keyspace;
+
+    @Mock
+    private AchillesConsistencyLevelPolicy policy;
+
+    private ThriftCounterDao counterDao;
+
+    @Before
+    public void setUp()
+    {
+        when(cluster.getConnectionManager()).thenReturn(connectionManager);
+        when(keyspace.getKeyspaceName()).thenReturn("achilles");
+        when(policy.getConsistencyLevelForWrite(AchillesCounter.THRIFT_COUNTER_CF)).thenReturn(ALL);
+
+        counterDao = spy(new ThriftCounterDao(cluster, keyspace, policy, Pair.create(Composite.class, Long.class)));
+        doNothing().when(counterDao).executeMutator(any(Mutator.class));
+        coalescer = new ThriftCounterCoalescer(60000, 1000);
+    }
+
+    @After
+    public void tearDown()
+    {
+        coalescer.shutdown();
+    }
+
+    @Test
+    public void should_coalesce_deltas_of_equal_composites() throws Exception
+    {
+        Composite rowKey = composite("fqcn", "10");
+        Composite columnName = composite("version");
+
+        coalescer.add(counterDao, rowKey, columnName, ONE, 1L);
+        coalescer.add(counterDao, composite("fqcn", "10"), composite("version"), ONE, 2L);
+        coalescer.flush();
+
+        List<Mutator<Object>> mutators = executedMutators(1);
+        verify(counterDao).incrementCounterBatch(rowKey, columnName, 3L, mutators.get(0));
+        assertThat(levelOf(mutators.get(0))).isSameAs(ThriftFixedConsistencyLevelPolicy.forLevel(ONE));
+        assertThat(coalescer.getFlushedDeltas()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_use_one_mutator_per_consistency_level() throws Exception
+    {
+        Composite columnName = composite("count");
+
+        coalescer.add(counterDao, composite("fqcn", "10"), columnName, ONE, 1L);
+        coalescer.add(counterDao, composite("fqcn", "11"), columnName, ONE, 1L);
+        coalescer.add(counterDao, composite("fqcn", "10"), columnName, QUORUM, 1L);
+        coalescer.flush();
+
+        verify(counterDao, times(2)).buildMutator(any(ConsistencyLevel.class));
+        List<Mutator<Object>> mutators = executedMutators(2);
+        assertThat(levelOf(mutators.get(0))).isNotSameAs(levelOf(mutators.get(1)));
+        assertThat(levelOf(mutators.get(0))).isIn(ThriftFixedConsistencyLevelPolicy.forLevel(ONE),
+                ThriftFixedConsistencyLevelPolicy.forLevel(QUORUM));
+        assertThat(levelOf(mutators.get(1))).isIn(ThriftFixedConsistencyLevelPolicy.forLevel(ONE),
+                ThriftFixedConsistencyLevelPolicy.forLevel(QUORUM));
+    }
+
+    @Test
+    public void should_use_column_family_consistency_level_when_none_given() throws Exception
+    {
+        coalescer.add(counterDao, composite("fqcn", "10"), composite("count"), null, 1L);
+        coalescer.flush();
+
+        List<Mutator<Object>> mutators = executedMutators(1);
+        assertThat(levelOf(mutators.get(0))).isSameAs(ThriftFixedConsistencyLevelPolicy.forLevel(ALL));
+    }
+
+    @Test
+    public void should_count_failed_deltas() throws Exception
+    {
+        doThrow(new HTimedOutException("timeout")).when(counterDao).executeMutator(any(Mutator.class));
+
+        coalescer.add(counterDao, composite("fqcn", "10"), composite("count"), ONE, 1L);
+        coalescer.add(counterDao, composite("fqcn", "11"), composite("count"), ONE, 1L);
+        coalescer.flush();
+
+        assertThat(coalescer.getFailedDeltas()).isEqualTo(2L);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<Mutator<Object>> executedMutators(int count)
+    {
+        ArgumentCaptor<Mutator> mutatorCaptor = ArgumentCaptor.forClass(Mutator.class);
+        verify(counterDao, times(count)).executeMutator(mutatorCaptor.capture());
+        return (List) mutatorCaptor.getAllValues();
+    }
+
+    private Object levelOf(Mutator<Object> mutator)
+    {
+        Keyspace mutatorKeyspace = (Keyspace) Whitebox.getInternalState(mutator, "keyspace");
+        return Whitebox.getInternalState(mutatorKeyspace, "consistencyLevelPolicy");
+    }
+
+    private Composite composite(String... components)
+    {
+        Composite composite = new Composite();
+        for (String component : components)
+        {
+            composite.addComponent(component, STRING_SRZ);
+        }
+        return composite;
+    }
+}
@@ -1,16 +1,18 @@
 package info.archinnov.achilles.dao;
 
-import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
-import static org.mockito.Mockito.verify;
+import static info.archinnov.achilles.type.ConsistencyLevel.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
-import info.archinnov.achilles.junit.AchillesInternalThriftResource;
-import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.consistency.ThriftFixedConsistencyLevelPolicy;
+import info.archinnov.achilles.consistency.ThriftLevelKeyspaces;
+import me.prettyprint.cassandra.connection.HConnectionManager;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
-import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
 import org.junit.Before;
-import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -19,24 +21,25 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 /**
  * ThriftAbstractDaoTest
- * 
+ *
  * @author DuyHai DOAN
- * 
+ *
  */
 
 @RunWith(MockitoJUnitRunner.class)
 public class ThriftAbstractDaoTest
 {
 
-    @Rule
-    public AchillesInternalThriftResource resource = new AchillesInternalThriftResource("CompleteBean");
-
     private ThriftGenericEntityDao abstractDao;
 
     @Mock
-    private Cluster cluster = resource.getCluster();
+    private Cluster cluster;
+
+    @Mock
+    private HConnectionManager connectionManager;
 
-    private Keyspace keyspace = resource.getKeyspace();
+    @Mock
+    private Keyspace keyspace;
 
     @Mock
     private ThriftConsistencyLevelPolicy policy;
@@ -46,37 +49,75 @@ public class ThriftAbstractDaoTest
     @Before
     public void setUp()
     {
+        when(cluster.getConnectionManager()).thenReturn(connectionManager);
+        when(keyspace.getKeyspaceName()).thenReturn("achilles");
+        when(policy.getConsistencyLevelForRead(columnFamily)).thenReturn(THREE);
+        when(policy.getConsistencyLevelForWrite(columnFamily)).thenReturn(ALL);
+
         abstractDao = new ThriftGenericEntityDao(cluster, keyspace, columnFamily, policy,
                 Pair.create(Long.class, String.class));
     }
 
     @Test
-    public void should_reinit_consistency_level() throws Exception
+    public void should_create_keyspace_with_fixed_consistency_level_once() throws Exception
+    {
+        Keyspace quorumKeyspace = abstractDao.keyspaceFor(QUORUM);
+
+        assertThat(quorumKeyspace.getKeyspaceName()).isEqualTo("achilles");
+        assertThat(levelPolicyOf(quorumKeyspace)).isSameAs(
+                ThriftFixedConsistencyLevelPolicy.forLevel(QUORUM));
+        assertThat(abstractDao.keyspaceFor(QUORUM)).isSameAs(quorumKeyspace);
+        assertThat(abstractDao.keyspaceFor(ONE)).isNotSameAs(quorumKeyspace);
+    }
+
+    @Test
+    public void should_use_shared_level_keyspaces() throws Exception
     {
+        ThriftLevelKeyspaces levelKeyspaces = mock(ThriftLevelKeyspaces.class);
+        Keyspace quorumKeyspace = mock(Keyspace.class);
+        when(levelKeyspaces.forLevel(QUORUM)).thenReturn(quorumKeyspace);
+
+        abstractDao.setLevelKeyspaces(levelKeyspaces);
 
-        Composite composite = new Composite();
-        composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
-        composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
-        abstractDao.getValue(123L, composite);
-        verify(policy).loadConsistencyLevelForRead(columnFamily);
-        verify(policy).reinitDefaultConsistencyLevels();
+        assertThat(abstractDao.keyspaceFor(QUORUM)).isSameAs(quorumKeyspace);
     }
 
     @Test
-    public void should_reinit_consistency_level_after_exception() throws Exception
+    public void should_read_with_column_family_consistency_level() throws Exception
     {
-        Whitebox.setInternalState(abstractDao, "columnFamily", "xxx");
-        try
-        {
-            Composite composite = new Composite();
-            composite.setComponent(0, SIMPLE.flag(), ThriftSerializerUtils.BYTE_SRZ);
-            composite.setComponent(1, "name", ThriftSerializerUtils.STRING_SRZ);
-            abstractDao.getValue(123L, composite);
-        } catch (RuntimeException e)
-        {
-            verify(policy).loadConsistencyLevelForRead("xxx");
-            verify(policy).reinitDefaultConsistencyLevels();
-        }
+        assertThat(levelPolicyOf(abstractDao.readKeyspace(null))).isSameAs(
+                ThriftFixedConsistencyLevelPolicy.forLevel(THREE));
+    }
 
+    @Test
+    public void should_read_with_given_consistency_level() throws Exception
+    {
+        assertThat(levelPolicyOf(abstractDao.readKeyspace(EACH_QUORUM))).isSameAs(
+                ThriftFixedConsistencyLevelPolicy.forLevel(EACH_QUORUM));
+    }
+
+    @Test
+    public void should_build_mutator_with_column_family_consistency_level() throws Exception
+    {
+        Mutator<Long> mutator = abstractDao.buildMutator(null);
+
+        Keyspace mutatorKeyspace = (Keyspace) Whitebox.getInternalState(mutator, "keyspace");
+        assertThat(levelPolicyOf(mutatorKeyspace)).isSameAs(
+                ThriftFixedConsistencyLevelPolicy.forLevel(ALL));
+    }
+
+    @Test
+    public void should_build_mutator_with_given_consistency_level() throws Exception
+    {
+        Mutator<Long> mutator = abstractDao.buildMutator(LOCAL_QUORUM);
+
+        Keyspace mutatorKeyspace = (Keyspace) Whitebox.getInternalState(mutator, "keyspace");
+        assertThat(levelPolicyOf(mutatorKeyspace)).isSameAs(
+                ThriftFixedConsistencyLevelPolicy.forLevel(LOCAL_QUORUM));
+    }
+
+    private Object levelPolicyOf(Keyspace keyspace)
+    {
+        return Whitebox.getInternalState(keyspace, "consistencyLevelPolicy");
     }
 }
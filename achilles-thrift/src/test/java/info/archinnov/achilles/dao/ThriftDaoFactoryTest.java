@@ -7,6 +7,8 @@ import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.serializer.ThriftBinaryValueCodec;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
 import info.archinnov.achilles.test.parser.entity.CompoundKey;
@@ -83,7 +85,8 @@ public class ThriftDaoFactoryTest {
         entityMeta.setIdClass(Long.class);
         entityMeta.setPropertyMetas(new HashMap<String, PropertyMeta>());
 
-        factory.createDaosForEntity(cluster, keyspace, configContext, entityMeta, entityDaosMap, wideRowDaosMap);
+        factory.createDaosForEntity(cluster, keyspace, configContext, new ThriftJSONValueCodec(), entityMeta,
+                entityDaosMap, wideRowDaosMap);
 
         ThriftGenericEntityDao entityDao = entityDaosMap.get("cf");
 
@@ -98,6 +101,32 @@ public class ThriftDaoFactoryTest {
                 "rowkeyAndValueClasses");
         assertThat(rowAndValueClases.left).isSameAs(Long.class);
         assertThat(rowAndValueClases.right).isSameAs(String.class);
+        assertThat(entityDao.getValueCodec()).isInstanceOf(ThriftJSONValueCodec.class);
+    }
+
+    @Test
+    public void should_create_entity_dao_with_binary_values() throws Exception {
+        PropertyMeta idMeta = PropertyMetaTestBuilder //
+                .completeBean(Void.class, Long.class).field("id").build();
+
+        EntityMeta entityMeta = new EntityMeta();
+        entityMeta.setClusteredEntity(false);
+        entityMeta.setTableName("cf");
+        entityMeta.setIdMeta(idMeta);
+        entityMeta.setIdClass(Long.class);
+        entityMeta.setPropertyMetas(new HashMap<String, PropertyMeta>());
+
+        ThriftBinaryValueCodec valueCodec = new ThriftBinaryValueCodec();
+        factory.createDaosForEntity(cluster, keyspace, configContext, valueCodec, entityMeta, entityDaosMap,
+                wideRowDaosMap);
+
+        ThriftGenericEntityDao entityDao = entityDaosMap.get("cf");
+
+        Pair<Class<Long>, Class<byte[]>> rowAndValueClases = Whitebox.getInternalState(entityDao,
+                "rowkeyAndValueClasses");
+        assertThat(rowAndValueClases.left).isSameAs(Long.class);
+        assertThat(rowAndValueClases.right).isSameAs(byte[].class);
+        assertThat(entityDao.getValueCodec()).isSameAs(valueCodec);
     }
 
     // Clustered Entity Dao
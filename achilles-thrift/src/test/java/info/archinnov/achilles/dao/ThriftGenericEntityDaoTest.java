@@ -2,13 +2,33 @@ package info.archinnov.achilles.dao;
 
 import static info.archinnov.achilles.dao.ThriftGenericEntityDao.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
+import info.archinnov.achilles.iterator.ThriftSliceIterator;
 import info.archinnov.achilles.serializer.ThriftSerializerUtils;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import org.apache.cassandra.utils.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import me.prettyprint.cassandra.connection.HConnectionManager;
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
+import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Serializer;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
+import me.prettyprint.hector.api.beans.ColumnSlice;
 import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.Row;
+import me.prettyprint.hector.api.beans.Rows;
 import me.prettyprint.hector.api.mutation.Mutator;
+import me.prettyprint.hector.api.query.QueryResult;
+import me.prettyprint.hector.api.query.SliceQuery;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +53,15 @@ public class ThriftGenericEntityDaoTest
 	@Mock
 	private ExecutingKeyspace keyspace;
 
+	@Mock
+	private Cluster cluster;
+
+	@Mock
+	private HConnectionManager connectionManager;
+
+	@Mock
+	private ThriftConsistencyLevelPolicy policy;
+
 	@Mock
 	private final Serializer<Long> serializer = ThriftSerializerUtils.LONG_SRZ;
 
@@ -41,7 +70,12 @@ public class ThriftGenericEntityDaoTest
 	{
 		dao = new ThriftGenericEntityDao(Pair.create(Long.class,
 				String.class));
-		Mutator<Long> mutator = dao.buildMutator();
+		when(cluster.getConnectionManager()).thenReturn(connectionManager);
+		when(policy.getConsistencyLevelForWrite(null)).thenReturn(ConsistencyLevel.ONE);
+		Whitebox.setInternalState(dao, "cluster", cluster);
+		Whitebox.setInternalState(dao, "keyspace", keyspace);
+		Whitebox.setInternalState(dao, "policy", policy);
+		Mutator<Long> mutator = dao.buildMutator(null);
 		assertThat(mutator).isNotNull();
 	}
 
@@ -65,4 +99,150 @@ public class ThriftGenericEntityDaoTest
 		assertThat(comp.getComponent(0).getEquality()).isSameAs(
 				ComponentEquality.GREATER_THAN_EQUAL);
 	}
+
+	@Test
+	public void should_eager_fetch_entities_in_one_batch() throws Exception
+	{
+		RecordingEntityDao recordingDao = new RecordingEntityDao();
+		recordingDao.setMultiGetBatchSize(3);
+
+		Map<Long, List<Pair<Composite, Object>>> entities = recordingDao.eagerFetchEntities(
+				Arrays.asList(1L, 2L, 3L), ConsistencyLevel.QUORUM);
+
+		assertThat(entities).hasSize(3);
+		assertThat(entities.get(2L).get(0).right).isEqualTo("value2");
+		assertThat(recordingDao.batches).containsExactly(Arrays.asList(1L, 2L, 3L));
+		assertThat(recordingDao.readLevels).containsExactly(ConsistencyLevel.QUORUM);
+	}
+
+	@Test
+	public void should_eager_fetch_entities_by_sub_batches() throws Exception
+	{
+		AchillesExecutor executor = new AchillesExecutor(2);
+		RecordingEntityDao recordingDao = new RecordingEntityDao();
+		recordingDao.setMultiGetBatchSize(2);
+		recordingDao.setExecutor(executor);
+
+		Map<Long, List<Pair<Composite, Object>>> entities = recordingDao.eagerFetchEntities(
+				Arrays.asList(1L, 2L, 3L, 4L, 5L), ConsistencyLevel.LOCAL_QUORUM);
+		executor.shutdown();
+
+		assertThat(entities).hasSize(5);
+		assertThat(entities.get(5L).get(0).right).isEqualTo("value5");
+		assertThat(recordingDao.batches).hasSize(3);
+		assertThat(recordingDao.batches).contains(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L),
+				Arrays.asList(5L));
+		assertThat(recordingDao.readLevels).containsOnly(ConsistencyLevel.LOCAL_QUORUM);
+	}
+
+	@Test
+	public void should_eager_fetch_entities_by_sub_batches_one_at_a_time() throws Exception
+	{
+		AchillesExecutor executor = new AchillesExecutor(2);
+		RecordingEntityDao recordingDao = new RecordingEntityDao();
+		recordingDao.setMultiGetBatchSize(2);
+		recordingDao.setMultiGetMaxInFlight(1);
+		recordingDao.setExecutor(executor);
+
+		Map<Long, List<Pair<Composite, Object>>> entities = recordingDao.eagerFetchEntities(
+				Arrays.asList(1L, 2L, 3L, 4L, 5L), ConsistencyLevel.ONE);
+		executor.shutdown();
+
+		assertThat(entities).hasSize(5);
+		assertThat(recordingDao.batches).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L),
+				Arrays.asList(5L));
+	}
+
+	@Test
+	public void should_eager_fetch_entities_by_sub_batches_without_executor() throws Exception
+	{
+		RecordingEntityDao recordingDao = new RecordingEntityDao();
+		recordingDao.setMultiGetBatchSize(2);
+
+		Map<Long, List<Pair<Composite, Object>>> entities = recordingDao.eagerFetchEntities(
+				Arrays.asList(1L, 2L, 3L), ConsistencyLevel.ONE);
+
+		assertThat(entities).hasSize(3);
+		assertThat(recordingDao.batches).containsExactly(Arrays.asList(1L, 2L), Arrays.asList(3L));
+	}
+
+	@Test
+	public void should_fetch_columns_range_by_pages() throws Exception
+	{
+		final SliceQuery<Long, Composite, Object> query = mock(SliceQuery.class);
+		QueryResult<ColumnSlice<Composite, Object>> result = mock(QueryResult.class);
+		ColumnSlice<Composite, Object> slice = mock(ColumnSlice.class);
+		when(query.execute()).thenReturn(result);
+		when(result.get()).thenReturn(slice);
+
+		List<HColumn<Composite, Object>> firstPage = Arrays.asList(column(1), column(2));
+		List<HColumn<Composite, Object>> lastPage = Arrays.asList(column(3));
+		when(slice.getColumns()).thenReturn(firstPage, lastPage);
+
+		ThriftGenericEntityDao pagingDao = new ThriftGenericEntityDao()
+		{
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> ThriftSliceIterator<K, V> getColumnsIterator(K key, Composite start,
+					Composite end, boolean reverse, int length, ConsistencyLevel readLevel)
+			{
+				return new ThriftSliceIterator<K, V>((SliceQuery<K, Composite, V>) (Object) query,
+						start, end, reverse, length);
+			}
+		};
+		pagingDao.setCollectionPageSize(2);
+
+		Composite start = new Composite();
+		Composite end = new Composite();
+		List<Pair<Composite, Object>> columns = pagingDao.findColumnsRangeByPage(10L, start, end, null);
+
+		assertThat(columns).hasSize(3);
+		assertThat(columns.get(0).right).isEqualTo("value1");
+		assertThat(columns.get(2).right).isEqualTo("value3");
+		verify(query, times(2)).execute();
+		verify(query).setRange(start, end, false, 2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private HColumn<Composite, Object> column(int index)
+	{
+		Composite name = new Composite();
+		name.addComponent(index, ThriftSerializerUtils.INT_SRZ);
+		HColumn<Composite, Object> column = mock(HColumn.class);
+		when(column.getName()).thenReturn(name);
+		when(column.getValue()).thenReturn("value" + index);
+		return column;
+	}
+
+	private static class RecordingEntityDao extends ThriftGenericEntityDao
+	{
+		private List<List<?>> batches = Collections.synchronizedList(new ArrayList<List<?>>());
+		private List<ConsistencyLevel> readLevels = Collections
+				.synchronizedList(new ArrayList<ConsistencyLevel>());
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <K, V> Rows<K, Composite, V> multiGetSliceRange(List<K> keys, Composite start,
+				Composite end, boolean reverse, int size, ConsistencyLevel readLevel)
+		{
+			batches.add(keys);
+			readLevels.add(readLevel);
+
+			List<Row<K, Composite, V>> rowList = new ArrayList<Row<K, Composite, V>>();
+			for (K key : keys)
+			{
+				HColumn<Composite, V> column = mock(HColumn.class);
+				when(column.getValue()).thenReturn((V) ("value" + key));
+				ColumnSlice<Composite, V> slice = mock(ColumnSlice.class);
+				when(slice.getColumns()).thenReturn(Arrays.asList(column));
+				Row<K, Composite, V> row = mock(Row.class);
+				when(row.getKey()).thenReturn(key);
+				when(row.getColumnSlice()).thenReturn(slice);
+				rowList.add(row);
+			}
+			Rows<K, Composite, V> rows = mock(Rows.class);
+			when(rows.iterator()).thenReturn(rowList.iterator());
+			return rows;
+		}
+	}
 }
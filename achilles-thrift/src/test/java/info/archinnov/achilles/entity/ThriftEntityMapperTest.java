@@ -8,6 +8,8 @@ import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.test.builders.EntityMetaTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -57,6 +59,8 @@ public class ThriftEntityMapperTest
 
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    private ThriftValueCodec valueCodec = new ThriftJSONValueCodec();
+
     @Captor
     ArgumentCaptor<Long> idCaptor;
 
@@ -130,35 +134,35 @@ public class ThriftEntityMapperTest
                 .addPropertyMeta(mapPropertyMeta)
                 .build();
 
-        List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+        List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
 
-        columns.add(Pair.create(buildSimplePropertyComposite("name"), "name"));
+        columns.add(Pair.<Composite, Object> create(buildSimplePropertyComposite("name"), "name"));
 
-        columns.add(Pair.create(buildListPropertyComposite("friends"), "foo"));
-        columns.add(Pair.create(buildListPropertyComposite("friends"), "bar"));
+        columns.add(Pair.<Composite, Object> create(buildListPropertyComposite("friends"), "foo"));
+        columns.add(Pair.<Composite, Object> create(buildListPropertyComposite("friends"), "bar"));
 
-        columns.add(Pair.create(buildSetPropertyComposite("followers"), "George"));
-        columns.add(Pair.create(buildSetPropertyComposite("followers"), "Paul"));
+        columns.add(Pair.<Composite, Object> create(buildSetPropertyComposite("followers"), "George"));
+        columns.add(Pair.<Composite, Object> create(buildSetPropertyComposite("followers"), "Paul"));
 
-        columns.add(Pair.create(buildMapPropertyComposite("preferences"),
+        columns.add(Pair.<Composite, Object> create(buildMapPropertyComposite("preferences"),
                 writeToString(new KeyValue<Integer, String>(1, "FR"))));
-        columns.add(Pair.create(buildMapPropertyComposite("preferences"),
+        columns.add(Pair.<Composite, Object> create(buildMapPropertyComposite("preferences"),
                 writeToString(new KeyValue<Integer, String>(2, "Paris"))));
-        columns.add(Pair.create(buildMapPropertyComposite("preferences"),
+        columns.add(Pair.<Composite, Object> create(buildMapPropertyComposite("preferences"),
                 writeToString(new KeyValue<Integer, String>(3, "75014"))));
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(idMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(idMeta),
                 idCaptor.capture());
-        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta),
                 simpleCaptor.capture());
-        doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(setPropertyMeta),
                 setCaptor.capture());
-        doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(listPropertyMeta),
                 listCaptor.capture());
-        doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(mapPropertyMeta),
                 mapCaptor.capture());
 
-        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
+        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity, valueCodec);
 
         assertThat(idCaptor.getValue()).isEqualTo(2L);
         assertThat(simpleCaptor.getValue()).isEqualTo("name");
@@ -192,16 +196,16 @@ public class ThriftEntityMapperTest
                 .addPropertyMeta(namePropertyMeta)
                 .build();
 
-        List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+        List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
 
-        columns.add(Pair.create(buildSimplePropertyComposite("name"), "name"));
-        columns.add(Pair.create(buildSimplePropertyComposite("unmapped"),
+        columns.add(Pair.<Composite, Object> create(buildSimplePropertyComposite("name"), "name"));
+        columns.add(Pair.<Composite, Object> create(buildSimplePropertyComposite("unmapped"),
                 "unmapped property"));
 
-        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()),
+        doNothing().when(invoker).setValueToField(eq(entity), eq(namePropertyMeta),
                 simpleCaptor.capture());
 
-        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
+        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity, valueCodec);
 
         assertThat(simpleCaptor.getValue()).isEqualTo("name");
 
@@ -224,13 +228,13 @@ public class ThriftEntityMapperTest
                 .addPropertyMeta(lazyNamePropertyMeta)
                 .build();
 
-        List<Pair<Composite, String>> columns = new ArrayList<Pair<Composite, String>>();
+        List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
 
-        columns.add(Pair.create(buildSimplePropertyComposite("name"), "name"));
+        columns.add(Pair.<Composite, Object> create(buildSimplePropertyComposite("name"), "name"));
 
-        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
+        mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity, valueCodec);
 
-        verify(invoker, never()).setValueToField(entity, lazyNamePropertyMeta.getSetter(), "name");
+        verify(invoker, never()).setValueToField(entity, lazyNamePropertyMeta, "name");
 
     }
 
@@ -0,0 +1,237 @@
+package info.archinnov.achilles.entity.manager;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+import info.archinnov.achilles.context.AchillesExecutor;
+import info.archinnov.achilles.context.ConfigurationContext;
+import info.archinnov.achilles.context.ThriftDaoContext;
+import info.archinnov.achilles.context.ThriftPersistenceContext;
+import info.archinnov.achilles.dao.ThriftGenericEntityDao;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
+import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.CompleteBean;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.powermock.reflect.Whitebox;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * ThriftBulkWriterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ThriftBulkWriterTest
+{
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private ThriftBulkWriter<CompleteBean> writer;
+
+    @Mock
+    private ThriftDaoContext daoContext;
+
+    @Mock
+    private ConfigurationContext configContext;
+
+    @Mock
+    private ThriftGenericEntityDao entityDao;
+
+    @Mock
+    private ThriftPersisterImpl persisterImpl;
+
+    @Mock
+    private ThriftValueCodec valueCodec;
+
+    @Mock
+    private Mutator<Object> mutator;
+
+    @Mock
+    private BulkWriteListener<CompleteBean> listener;
+
+    private AchillesExecutor executor = new AchillesExecutor(1);
+
+    private EntityMeta entityMeta = new EntityMeta();
+
+    private PropertyMeta idMeta;
+
+    private PropertyMeta nameMeta;
+
+    private PropertyMeta friendsMeta;
+
+    private PropertyMeta counterMeta;
+
+    private CompleteBean entity = CompleteBeanTestBuilder.builder().id(10L).buid();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("id").type(ID).accessors()
+                .build();
+        nameMeta = PropertyMetaTestBuilder.valueClass(String.class).field("name").type(SIMPLE).build();
+        friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("friends").type(LIST)
+                .accessors().build();
+        counterMeta = PropertyMetaTestBuilder.valueClass(Long.class).field("count").type(COUNTER).build();
+        entityMeta.setTableName("CompleteBean");
+        entityMeta.setEntityClass(CompleteBean.class);
+        entityMeta.setIdMeta(idMeta);
+        entityMeta.setPropertyMetas(ImmutableMap.of("name", nameMeta, "friends", friendsMeta, "count",
+                counterMeta));
+
+        when(daoContext.findEntityDao("CompleteBean")).thenReturn(entityDao);
+        when(daoContext.getFlushMaxInFlight()).thenReturn(4);
+        when(daoContext.getFlushMaxMutations()).thenReturn(100);
+        when(daoContext.getExecutor()).thenReturn(executor);
+        when(entityDao.<Object> buildMutator(null)).thenReturn(mutator);
+        doAnswer(new Answer<Void>()
+        {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable
+            {
+                ThriftPersistenceContext context = (ThriftPersistenceContext) invocation.getArguments()[0];
+                context.getEntityMutator("CompleteBean");
+                return null;
+            }
+        }).when(persisterImpl).batchPersistSimpleProperty(any(ThriftPersistenceContext.class), eq(nameMeta));
+
+        writer = new ThriftBulkWriter<CompleteBean>(CompleteBean.class, entityMeta, daoContext, configContext,
+                listener);
+        Whitebox.setInternalState(writer, ThriftPersisterImpl.class, persisterImpl);
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdown();
+    }
+
+    @Test
+    public void should_persist_entity_properties_except_counters() throws Exception
+    {
+        ArgumentCaptor<ThriftPersistenceContext> contextCaptor = ArgumentCaptor
+                .forClass(ThriftPersistenceContext.class);
+
+        writer.write(entity);
+
+        verify(persisterImpl).batchPersistSimpleProperty(contextCaptor.capture(), eq(nameMeta));
+        verify(persisterImpl).batchPersistList(eq(entity.getFriends()), any(ThriftPersistenceContext.class),
+                eq(friendsMeta));
+        verify(persisterImpl, never()).persistCounter(any(ThriftPersistenceContext.class), eq(counterMeta));
+        verify(entityDao, never()).executeMutator(mutator);
+
+        ThriftPersistenceContext context = contextCaptor.getValue();
+        assertThat(context.getEntity()).isSameAs(entity);
+        assertThat(context.getPrimaryKey()).isEqualTo(10L);
+    }
+
+    @Test
+    public void should_reuse_persistence_context_for_entities_of_buffer() throws Exception
+    {
+        ArgumentCaptor<ThriftPersistenceContext> contextCaptor = ArgumentCaptor
+                .forClass(ThriftPersistenceContext.class);
+        CompleteBean otherEntity = CompleteBeanTestBuilder.builder().id(11L).buid();
+
+        writer.write(entity);
+        writer.write(otherEntity);
+
+        verify(persisterImpl, times(2)).batchPersistSimpleProperty(contextCaptor.capture(), eq(nameMeta));
+        assertThat(contextCaptor.getAllValues().get(0)).isSameAs(contextCaptor.getAllValues().get(1));
+
+        ThriftPersistenceContext context = contextCaptor.getValue();
+        assertThat(context.getEntity()).isSameAs(otherEntity);
+        assertThat(context.getPrimaryKey()).isEqualTo(11L);
+    }
+
+    @Test
+    public void should_write_only_primary_key_of_join_entity() throws Exception
+    {
+        PropertyMeta joinIdMeta = PropertyMetaTestBuilder.of(UserBean.class, Void.class, Long.class)
+                .field("userId").type(ID).accessors().build();
+        EntityMeta joinMeta = new EntityMeta();
+        joinMeta.setTableName("UserBean");
+        joinMeta.setIdMeta(joinIdMeta);
+        PropertyMeta userMeta = PropertyMetaTestBuilder.completeBean(Void.class, UserBean.class).field("user")
+                .type(JOIN_SIMPLE).joinMeta(joinMeta).cascadeType(javax.persistence.CascadeType.ALL).accessors()
+                .build();
+        entityMeta.setPropertyMetas(ImmutableMap.of("user", userMeta));
+
+        UserBean user = new UserBean();
+        user.setUserId(20L);
+        entity.setUser(user);
+
+        when(configContext.isEnsureJoinConsistency()).thenReturn(true);
+        when(entityDao.getValueCodec()).thenReturn(valueCodec);
+        when(valueCodec.encode(joinIdMeta, 20L)).thenReturn("20");
+        writer = new ThriftBulkWriter<CompleteBean>(CompleteBean.class, entityMeta, daoContext, configContext,
+                listener);
+
+        writer.write(entity);
+        writer.flush();
+
+        verify(entityDao).insertColumnBatch(eq(10L), any(Composite.class), eq("20"), any(Optional.class),
+                any(Optional.class), eq(mutator));
+        verify(entityDao, never()).removeRowBatch(any(), any(Mutator.class));
+        verify(daoContext, never()).findEntityDao("UserBean");
+        verify(daoContext, never()).getCounterDao();
+        verify(entityDao).executeMutator(mutator);
+    }
+
+    @Test
+    public void should_execute_mutator_once_full() throws Exception
+    {
+        when(mutator.getPendingMutationCount()).thenReturn(100);
+
+        writer.write(entity);
+        writer.flush();
+
+        verify(entityDao).executeMutator(mutator);
+        verify(entityDao, times(1)).buildMutator(null);
+        assertThat(writer.getWritten()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_execute_pending_mutator_on_flush() throws Exception
+    {
+        when(mutator.getPendingMutationCount()).thenReturn(3);
+
+        writer.write(entity);
+        writer.write(entity);
+        writer.flush();
+
+        verify(entityDao, times(1)).executeMutator(mutator);
+        assertThat(writer.getWritten()).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_exception_for_clustered_entity() throws Exception
+    {
+        entityMeta.setClusteredEntity(true);
+
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Bulk writing is not supported for clustered entity");
+
+        new ThriftBulkWriter<CompleteBean>(CompleteBean.class, entityMeta, daoContext, configContext, listener);
+    }
+}
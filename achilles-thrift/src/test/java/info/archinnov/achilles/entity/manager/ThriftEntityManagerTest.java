@@ -1,6 +1,8 @@
 package info.archinnov.achilles.entity.manager;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.compound.ThriftCompoundKeyValidator;
 import info.archinnov.achilles.context.ConfigurationContext;
@@ -15,7 +17,10 @@ import info.archinnov.achilles.query.slice.SliceQueryBuilder;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
+import info.archinnov.achilles.type.Options;
 import info.archinnov.achilles.type.OptionsBuilder;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * ThriftEntityManagerTest
@@ -121,6 +127,45 @@ public class ThriftEntityManagerTest
 
     }
 
+    @Test
+    public void should_find_all_with_one_multiget_query() throws Exception
+    {
+        ThriftPersistenceContext context = mock(ThriftPersistenceContext.class);
+        List<Long> primaryKeys = Arrays.asList(primaryKey, 11L);
+        Map<Long, CompleteBean> entities = ImmutableMap.of(primaryKey, entity);
+
+        when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+        when(entityMeta.isClusteredEntity()).thenReturn(false);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(primaryKey), any(Options.class))).thenReturn(
+                context);
+        when(context.findAll(CompleteBean.class, primaryKeys)).thenReturn(entities);
+
+        Map<Long, CompleteBean> actual = em.doFindAll(CompleteBean.class, primaryKeys, ConsistencyLevel.ONE);
+
+        assertThat(actual).isSameAs(entities);
+    }
+
+    @Test
+    public void should_find_all_clustered_entities_one_by_one() throws Exception
+    {
+        ThriftPersistenceContext context = mock(ThriftPersistenceContext.class);
+        ThriftPersistenceContext otherContext = mock(ThriftPersistenceContext.class);
+
+        when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+        when(entityMeta.isClusteredEntity()).thenReturn(true);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(primaryKey), any(Options.class))).thenReturn(
+                context);
+        when(contextFactory.newContext(eq(CompleteBean.class), eq(11L), any(Options.class))).thenReturn(
+                otherContext);
+        when(context.find(CompleteBean.class)).thenReturn(entity);
+        when(otherContext.find(CompleteBean.class)).thenReturn(null);
+
+        Map<Long, CompleteBean> actual = em.doFindAll(CompleteBean.class, Arrays.asList(primaryKey, 11L), null);
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(primaryKey)).isSameAs(entity);
+    }
+
     @Test
     public void should_create_slice_query_builder() throws Exception
     {
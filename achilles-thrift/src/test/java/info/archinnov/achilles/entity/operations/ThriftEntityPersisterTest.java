@@ -14,6 +14,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.impl.ThriftPersisterImpl;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -23,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.persistence.CascadeType;
@@ -152,7 +154,7 @@ public class ThriftEntityPersisterTest {
         UserBean user = new UserBean();
 
         when(invoker.getPrimaryKey(entity, joinIdMeta)).thenReturn(joinId);
-        when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn(user);
+        when(invoker.getValueFromField(entity, propertyMeta)).thenReturn(user);
 
         persister.cascadePersistOrEnsureExists(context, entity, propertyMeta.getJoinProperties());
 
@@ -242,7 +244,7 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("listMeta", listMeta));
 
-        when(invoker.getValueFromField(entity, listMeta.getGetter())).thenReturn(list);
+        when(invoker.getValueFromField(entity, listMeta)).thenReturn(list);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
@@ -258,7 +260,7 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("setMeta", setMeta));
 
-        when(invoker.getValueFromField(entity, setMeta.getGetter())).thenReturn(set);
+        when(invoker.getValueFromField(entity, setMeta)).thenReturn(set);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
@@ -276,13 +278,66 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("mapMeta", mapMeta));
 
-        when(invoker.getValueFromField(entity, mapMeta.getGetter())).thenReturn(map);
+        when(invoker.getValueFromField(entity, mapMeta)).thenReturn(map);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
         verify(persisterImpl).batchPersistMap(map, context, mapMeta);
     }
 
+    @Test
+    public void should_persist_list_delta() throws Exception {
+        List<String> list = Arrays.asList("John", "Helen");
+        CollectionDelta delta = new CollectionDelta();
+        delta.appendElements(Arrays.asList("Helen"));
+
+        PropertyMeta listMeta = PropertyMetaTestBuilder //
+                .completeBean(Void.class, String.class).field("friends").accessors().type(PropertyType.LIST).build();
+
+        when(invoker.getValueFromField(entity, listMeta)).thenReturn(list);
+        persister.persistCollectionDeltaBatch(context, listMeta, delta);
+
+        verify(persisterImpl).batchAppendToList(list, delta, context, listMeta);
+    }
+
+    @Test
+    public void should_persist_set_delta() throws Exception {
+        CollectionDelta delta = new CollectionDelta();
+        delta.addElements(Arrays.asList("George"));
+
+        PropertyMeta setMeta = PropertyMetaTestBuilder //
+                .completeBean(Void.class, String.class).field("followers").accessors().type(PropertyType.SET).build();
+
+        persister.persistCollectionDeltaBatch(context, setMeta, delta);
+
+        verify(persisterImpl).batchApplySetDelta(delta, context, setMeta);
+    }
+
+    @Test
+    public void should_persist_map_delta() throws Exception {
+        CollectionDelta delta = new CollectionDelta();
+        delta.removeKeys(Arrays.asList(1));
+
+        PropertyMeta mapMeta = PropertyMetaTestBuilder //
+                .completeBean(Integer.class, String.class).field("preferences").accessors().type(PropertyType.MAP)
+                .build();
+
+        persister.persistCollectionDeltaBatch(context, mapMeta, delta);
+
+        verify(persisterImpl).batchApplyMapDelta(delta, context, mapMeta);
+    }
+
+    @Test
+    public void should_exception_when_persisting_delta_of_simple_property() throws Exception {
+        PropertyMeta pm = PropertyMetaTestBuilder //
+                .completeBean(Void.class, String.class).field("name").accessors().type(PropertyType.SIMPLE).build();
+
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Cannot persist changes of property 'name' of type 'SIMPLE' as a collection delta");
+
+        persister.persistCollectionDeltaBatch(context, pm, new CollectionDelta());
+    }
+
     @Test
     public void should_persist_join() throws Exception {
         UserBean user = new UserBean();
@@ -294,7 +349,7 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("joinMeta", joinMeta));
 
-        when(invoker.getValueFromField(entity, joinMeta.getGetter())).thenReturn(user);
+        when(invoker.getValueFromField(entity, joinMeta)).thenReturn(user);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
@@ -312,7 +367,7 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("joinSetMeta", joinSetMeta));
 
-        when(invoker.getValueFromField(entity, joinSetMeta.getGetter())).thenReturn(joinSet);
+        when(invoker.getValueFromField(entity, joinSetMeta)).thenReturn(joinSet);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
@@ -330,7 +385,7 @@ public class ThriftEntityPersisterTest {
 
         entityMeta.setPropertyMetas(ImmutableMap.of("joinMapMeta", joinMapMeta));
 
-        when(invoker.getValueFromField(entity, joinMapMeta.getGetter())).thenReturn(joinMap);
+        when(invoker.getValueFromField(entity, joinMapMeta)).thenReturn(joinMap);
         persister.persist(context);
 
         verify(persisterImpl).removeEntityBatch(context);
@@ -360,7 +415,7 @@ public class ThriftEntityPersisterTest {
         entityMeta.setAllMetasExceptIdMeta(Arrays.asList(pm));
 
         when(invoker.getPartitionKey(entity.getId(), idMeta)).thenReturn(partitionKey);
-        when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(clusteredValue);
+        when(invoker.getValueFromField(entity, pm)).thenReturn(clusteredValue);
 
         persister.persist(context);
 
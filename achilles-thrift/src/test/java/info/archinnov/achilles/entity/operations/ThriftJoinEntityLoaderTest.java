@@ -8,7 +8,10 @@ import info.archinnov.achilles.entity.ThriftEntityMapper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -58,6 +61,8 @@ public class ThriftJoinEntityLoaderTest
 
     private List<Long> keys = Arrays.asList(11L);
 
+    private ThriftValueCodec valueCodec = new ThriftJSONValueCodec();
+
     @Test
     public void should_load_join_entities() throws Exception
     {
@@ -66,30 +71,31 @@ public class ThriftJoinEntityLoaderTest
         Composite start = new Composite();
         Composite end = new Composite();
 
-        List<Pair<Composite, String>> columns1 = new ArrayList<Pair<Composite, String>>();
-        columns1.add(Pair.create(start, "foo"));
-        columns1.add(Pair.create(end, "bar"));
+        List<Pair<Composite, Object>> columns1 = new ArrayList<Pair<Composite, Object>>();
+        columns1.add(Pair.<Composite, Object> create(start, "foo"));
+        columns1.add(Pair.<Composite, Object> create(end, "bar"));
 
-        List<Pair<Composite, String>> columns2 = new ArrayList<Pair<Composite, String>>();
-        columns2.add(Pair.create(start, "john"));
-        columns2.add(Pair.create(end, "helen"));
+        List<Pair<Composite, Object>> columns2 = new ArrayList<Pair<Composite, Object>>();
+        columns2.add(Pair.<Composite, Object> create(start, "john"));
+        columns2.add(Pair.<Composite, Object> create(end, "helen"));
 
-        Map<Long, List<Pair<Composite, String>>> rows = new HashMap<Long, List<Pair<Composite, String>>>();
+        Map<Long, List<Pair<Composite, Object>>> rows = new HashMap<Long, List<Pair<Composite, Object>>>();
         rows.put(11L, columns1);
         rows.put(12L, columns2);
 
-        when(dao.eagerFetchEntities(keys)).thenReturn(rows);
+        when(dao.eagerFetchEntities(keys, null)).thenReturn(rows);
+        when(dao.getValueCodec()).thenReturn(valueCodec);
 
         when(joinMeta.getIdMeta()).thenReturn(joinIdMeta);
         when(joinIdMeta.getSetter()).thenReturn(idSetter);
 
         Map<Long, UserBean> actual = joinHelper.loadJoinEntities(UserBean.class, keys, joinMeta,
-                dao);
+                dao, null);
 
         verify(mapper).setEagerPropertiesToEntity(eq(11L), eq(columns1), eq(joinMeta),
-                userCaptor.capture());
+                userCaptor.capture(), eq(valueCodec));
         verify(mapper).setEagerPropertiesToEntity(eq(12L), eq(columns2), eq(joinMeta),
-                userCaptor.capture());
+                userCaptor.capture(), eq(valueCodec));
 
         verify(invoker).setValueToField(any(UserBean.class), eq(idSetter), eq(11L));
         verify(invoker).setValueToField(any(UserBean.class), eq(idSetter), eq(12L));
@@ -105,14 +111,14 @@ public class ThriftJoinEntityLoaderTest
     @Test
     public void should_return_empty_map_when_no_join_entity_found() throws Exception
     {
-        Map<Long, List<Pair<Composite, String>>> rows = new HashMap<Long, List<Pair<Composite, String>>>();
-        List<Pair<Composite, String>> columns1 = new ArrayList<Pair<Composite, String>>();
+        Map<Long, List<Pair<Composite, Object>>> rows = new HashMap<Long, List<Pair<Composite, Object>>>();
+        List<Pair<Composite, Object>> columns1 = new ArrayList<Pair<Composite, Object>>();
         rows.put(11L, columns1);
 
-        when(dao.eagerFetchEntities(keys)).thenReturn(rows);
+        when(dao.eagerFetchEntities(keys, null)).thenReturn(rows);
 
         Map<Long, UserBean> actual = joinHelper.loadJoinEntities(UserBean.class, keys, joinMeta,
-                dao);
+                dao, null);
 
         verifyZeroInteractions(mapper);
 
@@ -121,4 +127,31 @@ public class ThriftJoinEntityLoaderTest
         assertThat(actual).isEmpty();
 
     }
+
+    @Test
+    public void should_load_join_entities_with_read_level() throws Exception
+    {
+        Method idSetter = UserBean.class.getDeclaredMethod("setUserId", Long.class);
+
+        List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
+        columns.add(Pair.<Composite, Object> create(new Composite(), "foo"));
+
+        Map<Long, List<Pair<Composite, Object>>> rows = new HashMap<Long, List<Pair<Composite, Object>>>();
+        rows.put(11L, columns);
+
+        when(dao.eagerFetchEntities(keys, ConsistencyLevel.QUORUM)).thenReturn(rows);
+        when(dao.getValueCodec()).thenReturn(valueCodec);
+
+        when(joinMeta.getIdMeta()).thenReturn(joinIdMeta);
+        when(joinIdMeta.getSetter()).thenReturn(idSetter);
+
+        Map<Long, UserBean> actual = joinHelper.loadJoinEntities(UserBean.class, keys, joinMeta,
+                dao, ConsistencyLevel.QUORUM);
+
+        verify(mapper).setEagerPropertiesToEntity(eq(11L), eq(columns), eq(joinMeta),
+                userCaptor.capture(), eq(valueCodec));
+        verify(dao, never()).eagerFetchEntities(keys, null);
+
+        assertThat(actual.get(11L)).isSameAs(userCaptor.getValue());
+    }
 }
@@ -6,6 +6,7 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.clustered.ClusteredEntityFactory;
 import info.archinnov.achilles.consistency.AchillesConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
 import info.archinnov.achilles.context.ConfigurationContext;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
 import info.archinnov.achilles.context.ThriftPersistenceContextFactory;
@@ -84,6 +85,9 @@ public class ThriftSliceQueryExecutorTest
     @Mock
     private PropertyMeta pm;
 
+    @Mock
+    private AchillesExecutor achillesExecutor;
+
     private EntityMeta meta;
 
     private BeanWithClusteredId entity;
@@ -232,10 +236,13 @@ public class ThriftSliceQueryExecutorTest
 
         when(executorImpl.getColumnsIterator(eq(query), any(ThriftPersistenceContext.class)))
                 .thenReturn(columnsIterator);
+        when(query.getReadAheadRatio()).thenReturn(0.5);
+        when(context.getExecutor()).thenReturn(achillesExecutor);
 
         Iterator<BeanWithClusteredId> iterator = executor.iterator(query);
 
         assertThat(iterator).isInstanceOf(ThriftClusteredEntityIterator.class);
+        verify(columnsIterator).readAhead(0.5, achillesExecutor);
     }
 
     @Test
@@ -2,6 +2,7 @@ package info.archinnov.achilles.entity.operations.impl;
 
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.*;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
@@ -16,10 +17,12 @@ import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.ThriftJoinEntityLoader;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
+import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.KeyValue;
 import java.util.ArrayList;
 import java.util.List;
@@ -104,6 +107,7 @@ public class ThriftJoinLoaderImplTest
         when(entityMeta.getTableName()).thenReturn("cf");
         when(thriftImmediateFlushContext.getEntityMutator("cf")).thenReturn(mutator);
         when(entityDaosMap.get("join_cf")).thenReturn(joinEntityDao);
+        when(entityDao.getValueCodec()).thenReturn(new ThriftJSONValueCodec());
 
     }
 
@@ -137,7 +141,7 @@ public class ThriftJoinLoaderImplTest
         List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
         columns.add(Pair.<Composite, Object> create(start, "11"));
         columns.add(Pair.<Composite, Object> create(end, "12"));
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         UserBean user1 = new UserBean();
@@ -146,7 +150,7 @@ public class ThriftJoinLoaderImplTest
 
         when(
                 joinHelper.loadJoinEntities(eq(UserBean.class), listCaptor.capture(), eq(joinMeta),
-                        eq(joinEntityDao))).thenReturn(joinEntitiesMap);
+                        eq(joinEntityDao), any(ConsistencyLevel.class))).thenReturn(joinEntitiesMap);
 
         List<Object> actual = thriftJoinLoader.loadJoinListProperty(context, propertyMeta);
 
@@ -184,7 +188,7 @@ public class ThriftJoinLoaderImplTest
         List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
         columns.add(Pair.<Composite, Object> create(start, "11"));
         columns.add(Pair.<Composite, Object> create(end, "12"));
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         UserBean user1 = new UserBean();
@@ -193,7 +197,7 @@ public class ThriftJoinLoaderImplTest
 
         when(
                 joinHelper.loadJoinEntities(eq(UserBean.class), listCaptor.capture(), eq(joinMeta),
-                        eq(joinEntityDao))).thenReturn(joinEntitiesMap);
+                        eq(joinEntityDao), any(ConsistencyLevel.class))).thenReturn(joinEntitiesMap);
 
         Set<Object> actual = thriftJoinLoader.loadJoinSetProperty(context, propertyMeta);
 
@@ -218,6 +222,7 @@ public class ThriftJoinLoaderImplTest
         joinProperties.setEntityMeta(joinMeta);
 
         PropertyMeta propertyMeta = new PropertyMeta();
+        propertyMeta.setType(PropertyType.JOIN_MAP);
         propertyMeta.setJoinProperties(joinProperties);
         propertyMeta.setKeyClass(Integer.class);
         propertyMeta.setValueClass(UserBean.class);
@@ -233,7 +238,7 @@ public class ThriftJoinLoaderImplTest
         List<Pair<Composite, Object>> columns = new ArrayList<Pair<Composite, Object>>();
         columns.add(Pair.<Composite, Object> create(start, writeString(new KeyValue<Integer, String>(11, "11"))));
         columns.add(Pair.<Composite, Object> create(end, writeString(new KeyValue<Integer, String>(12, "12"))));
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         UserBean user1 = new UserBean();
@@ -241,7 +246,7 @@ public class ThriftJoinLoaderImplTest
         Map<Long, UserBean> joinEntitiesMap = ImmutableMap.of(11L, user1, 12L, user2);
         when(
                 joinHelper.loadJoinEntities(eq(UserBean.class), listCaptor.capture(), eq(joinMeta),
-                        eq(joinEntityDao))).thenReturn(joinEntitiesMap);
+                        eq(joinEntityDao), any(ConsistencyLevel.class))).thenReturn(joinEntitiesMap);
 
         Map<Object, UserBean> actual = (Map) thriftJoinLoader.loadJoinMapProperty(context, propertyMeta);
 
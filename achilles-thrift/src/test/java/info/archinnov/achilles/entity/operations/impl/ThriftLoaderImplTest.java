@@ -20,6 +20,8 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.ThriftEntityLoader;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
+import info.archinnov.achilles.serializer.ThriftValueCodec;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -106,6 +108,8 @@ public class ThriftLoaderImplTest
 
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    private ThriftValueCodec valueCodec = new ThriftJSONValueCodec();
+
     private PropertyMeta idMeta;
 
     private ThriftPersistenceContext context;
@@ -123,6 +127,7 @@ public class ThriftLoaderImplTest
         entityMeta.setIdMeta(idMeta);
         entityMeta.setIdClass(Long.class);
         context = buildPersistenceContext(entityMeta);
+        when(entityDao.getValueCodec()).thenReturn(valueCodec);
     }
 
     private ThriftPersistenceContext buildPersistenceContext(EntityMeta entityMeta)
@@ -141,15 +146,15 @@ public class ThriftLoaderImplTest
     {
 
         Composite comp = new Composite();
-        List<Pair<Composite, String>> values = new ArrayList<Pair<Composite, String>>();
-        values.add(Pair.create(comp, "value"));
+        List<Pair<Composite, Object>> values = new ArrayList<Pair<Composite, Object>>();
+        values.add(Pair.<Composite, Object> create(comp, "value"));
 
-        when(entityDao.eagerFetchEntity(entity.getId())).thenReturn(values);
+        when(entityDao.eagerFetchEntity(entity.getId(), null)).thenReturn(values);
 
         CompleteBean actual = loaderImpl.load(context, CompleteBean.class);
 
         verify(mapper).setEagerPropertiesToEntity(eq(entity.getId()), eq(values), eq(entityMeta),
-                beanCaptor.capture());
+                beanCaptor.capture(), eq(valueCodec));
         verify(invoker).setValueToField(beanCaptor.capture(), eq(idMeta.getSetter()),
                 eq(entity.getId()));
 
@@ -191,7 +196,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(hCol);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(hCol);
         when(
                 compositeTransformer.buildClusteredEntity(BeanWithClusteredId.class, context, hCol))
                 .thenReturn(expected);
@@ -232,7 +237,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(null);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(null);
 
         assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -274,7 +279,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(hCol);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(hCol);
         when(mapper.initClusteredEntity(BeanWithClusteredId.class, idMeta, primaryKey)).thenReturn(
                 expected);
 
@@ -315,7 +320,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(null);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(null);
 
         assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -355,7 +360,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getCounterColumn(partitionKey, comp)).thenReturn(hCounterCol);
+        when(wideRowDao.getCounterColumn(partitionKey, comp, null)).thenReturn(hCounterCol);
         when(
                 compositeTransformer.buildClusteredEntityWithIdOnly(BeanWithClusteredId.class,
                         context, hCounterCol.getName().getComponents()))
@@ -398,7 +403,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getCounterColumn(partitionKey, comp)).thenReturn(null);
+        when(wideRowDao.getCounterColumn(partitionKey, comp, null)).thenReturn(null);
 
         assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -434,7 +439,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(hCol);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(hCol);
         when(
                 compositeTransformer.buildClusteredEntityWithIdOnly(BeanWithClusteredId.class, context, hCol
                         .getName().getComponents()))
@@ -470,7 +475,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForClusteredGet(primaryKey, idMeta)).thenReturn(comp);
         when(invoker.getPartitionKey(primaryKey, idMeta)).thenReturn(partitionKey);
-        when(wideRowDao.getColumn(partitionKey, comp)).thenReturn(null);
+        when(wideRowDao.getColumn(partitionKey, comp, null)).thenReturn(null);
 
         assertThat(loaderImpl.load(context, BeanWithClusteredId.class)).isNull();
 
@@ -489,7 +494,7 @@ public class ThriftLoaderImplTest
 
         Composite comp = new Composite();
         when(compositeFactory.createBaseForGet(nameMeta)).thenReturn(comp);
-        when(entityDao.getValue(entity.getId(), comp)).thenReturn("name_xyz");
+        when(entityDao.getValue(entity.getId(), comp, null)).thenReturn("name_xyz");
 
         Object actual = loaderImpl.loadSimpleProperty(context, nameMeta);
         assertThat(actual).isEqualTo("name_xyz");
@@ -520,7 +525,7 @@ public class ThriftLoaderImplTest
         when(compositeFactory.createBaseForClusteredGet(embeddedId, embeddedIdMeta)).thenReturn(
                 comp);
 
-        when(wideRowDao.getValue(partitionKey, comp)).thenReturn("name_xyz");
+        when(wideRowDao.getValue(partitionKey, comp, null)).thenReturn("name_xyz");
 
         Object actual = loaderImpl.loadSimpleProperty(context, pm);
         assertThat(actual).isEqualTo("name_xyz");
@@ -542,7 +547,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForQuery(listMeta, EQUAL)).thenReturn(start);
         when(compositeFactory.createBaseForQuery(listMeta, GREATER_THAN_EQUAL)).thenReturn(end);
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         List<Object> actual = loaderImpl.loadListProperty(context, listMeta);
@@ -565,7 +570,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForQuery(setMeta, EQUAL)).thenReturn(start);
         when(compositeFactory.createBaseForQuery(setMeta, GREATER_THAN_EQUAL)).thenReturn(end);
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         Set<Object> actual = loaderImpl.loadSetProperty(context, setMeta);
@@ -594,7 +599,7 @@ public class ThriftLoaderImplTest
 
         when(compositeFactory.createBaseForQuery(setMeta, EQUAL)).thenReturn(start);
         when(compositeFactory.createBaseForQuery(setMeta, GREATER_THAN_EQUAL)).thenReturn(end);
-        when(entityDao.findColumnsRange(entity.getId(), start, end, false, Integer.MAX_VALUE))
+        when(entityDao.findColumnsRangeByPage(entity.getId(), start, end, null))
                 .thenReturn(columns);
 
         Map<Object, UserBean> actual = (Map) loaderImpl.loadMapProperty(context, setMeta);
@@ -622,7 +627,7 @@ public class ThriftLoaderImplTest
         UserBean user = new UserBean();
         Composite comp = new Composite();
         when(compositeFactory.createBaseForGet(propertyMeta)).thenReturn(comp);
-        when(entityDao.getValue(entity.getId(), comp)).thenReturn(stringJoinId);
+        when(entityDao.getValue(entity.getId(), comp, null)).thenReturn(stringJoinId);
         when(loader.load(contextCaptor.capture(), eq(UserBean.class))).thenReturn(user);
 
         UserBean actual = (UserBean) loaderImpl.loadJoinSimple(context, propertyMeta, loader);
@@ -663,7 +668,7 @@ public class ThriftLoaderImplTest
         when(invoker.getPartitionKey(embeddedId, embeddedIdMeta)).thenReturn(partitionKey);
         when(compositeFactory.createBaseForClusteredGet(embeddedId, embeddedIdMeta)).thenReturn(
                 comp);
-        when(wideRowDao.getValue(partitionKey, comp)).thenReturn(joinId);
+        when(wideRowDao.getValue(partitionKey, comp, null)).thenReturn(joinId);
         when(loader.load(contextCaptor.capture(), eq(UserBean.class))).thenReturn(user);
 
         UserBean actual = (UserBean) loaderImpl.loadJoinSimple(context, pm, loader);
@@ -688,7 +693,7 @@ public class ThriftLoaderImplTest
 
         Composite comp = new Composite();
         when(compositeFactory.createBaseForGet(propertyMeta)).thenReturn(comp);
-        when(entityDao.getValue(entity.getId(), comp)).thenReturn(null);
+        when(entityDao.getValue(entity.getId(), comp, null)).thenReturn(null);
 
         UserBean actual = (UserBean) loaderImpl.loadJoinSimple(context, propertyMeta, loader);
         assertThat(actual).isNull();
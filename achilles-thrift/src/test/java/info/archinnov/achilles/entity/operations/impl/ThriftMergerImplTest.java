@@ -1,6 +1,7 @@
 package info.archinnov.achilles.entity.operations.impl;
 
 import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
@@ -9,6 +10,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.ThriftEntityMerger;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -26,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 
 /**
  * ThriftMergerImplTest
@@ -66,6 +69,8 @@ public class ThriftMergerImplTest
 
     private Map<Method, PropertyMeta> dirtyMap = new HashMap<Method, PropertyMeta>();
 
+    private Map<Method, CollectionDelta> deltaMap = new HashMap<Method, CollectionDelta>();
+
     private List<PropertyMeta> joinPMs = new ArrayList<PropertyMeta>();
 
     @Before
@@ -76,6 +81,7 @@ public class ThriftMergerImplTest
 
         meta.setClusteredEntity(false);
         dirtyMap.clear();
+        deltaMap.clear();
         joinPMs.clear();
     }
 
@@ -93,7 +99,7 @@ public class ThriftMergerImplTest
 
         when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn("name");
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verify(persister).persistPropertyBatch(context, pm);
     }
@@ -123,7 +129,7 @@ public class ThriftMergerImplTest
         when(invoker.getValueFromField(entity, joinPm.getGetter()))
                 .thenReturn(Arrays.asList("join_friends"));
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verify(persister).removePropertyBatch(context, pm);
         verify(persister).removePropertyBatch(context, joinPm);
@@ -131,6 +137,33 @@ public class ThriftMergerImplTest
         verify(persister).persistPropertyBatch(context, joinPm);
     }
 
+    @Test
+    public void should_merge_collection_delta() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder
+                .completeBean(Void.class, String.class)
+                .field("followers")
+                .accessors()
+                .type(SET)
+                .build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.addElements(Arrays.asList("George"));
+
+        dirtyMap.put(pm.getSetter(), pm);
+        deltaMap.put(pm.getSetter(), delta);
+
+        when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(Sets.newHashSet("George"));
+
+        mergerImpl.merge(context, dirtyMap, deltaMap);
+
+        verify(persister).persistCollectionDeltaBatch(context, pm, delta);
+        verify(persister, never()).removePropertyBatch(context, pm);
+        verify(persister, never()).persistPropertyBatch(context, pm);
+        assertThat(dirtyMap).isEmpty();
+        assertThat(deltaMap).isEmpty();
+    }
+
     @Test
     public void should_remove_property_when_null() throws Exception
     {
@@ -145,7 +178,7 @@ public class ThriftMergerImplTest
 
         when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(null);
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verify(persister).removePropertyBatch(context, pm);
         verify(persister, never()).persistPropertyBatch(context, pm);
@@ -165,7 +198,7 @@ public class ThriftMergerImplTest
         meta.setClusteredEntity(true);
         when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(null);
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verify(persister).remove(context);
     }
@@ -185,7 +218,7 @@ public class ThriftMergerImplTest
         meta.setClusteredEntity(true);
         when(invoker.getValueFromField(entity, pm.getGetter())).thenReturn(clusteredValue);
 
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verify(persister).persistClusteredValue(context, clusteredValue);
 
@@ -194,7 +227,7 @@ public class ThriftMergerImplTest
     @Test
     public void should_do_nothing_when_not_dirty() throws Exception
     {
-        mergerImpl.merge(context, dirtyMap);
+        mergerImpl.merge(context, dirtyMap, deltaMap);
 
         verifyZeroInteractions(context, invoker, persister);
     }
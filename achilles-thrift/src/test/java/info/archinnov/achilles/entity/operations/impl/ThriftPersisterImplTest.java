@@ -20,7 +20,9 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityProxifier;
 import info.archinnov.achilles.entity.operations.ThriftEntityPersister;
 import info.archinnov.achilles.proxy.ReflectionInvoker;
+import info.archinnov.achilles.proxy.wrapper.CollectionDelta;
 import info.archinnov.achilles.proxy.wrapper.CounterBuilder;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
 import info.archinnov.achilles.test.builders.CompleteBeanTestBuilder;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
@@ -137,6 +139,7 @@ public class ThriftPersisterImplTest {
                 .wideRowDaosMap(wideRowDaosMap)
                 .entityDaosMap(entityDaosMap)
                 .build();
+        when(entityDao.getValueCodec()).thenReturn(new ThriftJSONValueCodec());
         when(flushContext.getEntityMutator("cf")).thenReturn(entityMutator);
         when(flushContext.getConsistencyLevel()).thenReturn(EACH_QUORUM);
 
@@ -197,7 +200,7 @@ public class ThriftPersisterImplTest {
         wideRowDaosMap.put("cf", wideRowDao);
         persisterImpl.persistClusteredEntity(persister, context, partitionKey, clusteredValue);
 
-        verify(wideRowDao).incrementCounter(partitionKey, comp, 10L);
+        verify(wideRowDao).incrementCounter(partitionKey, comp, 10L, EACH_QUORUM);
     }
 
     @Test
@@ -354,7 +357,7 @@ public class ThriftPersisterImplTest {
         Composite comp = new Composite();
         when(thriftCompositeFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(comp);
 
-        when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn("testValue");
+        when(invoker.getValueFromField(entity, propertyMeta)).thenReturn("testValue");
 
         persisterImpl.batchPersistSimpleProperty(context, propertyMeta);
 
@@ -381,7 +384,7 @@ public class ThriftPersisterImplTest {
                 .build();
 
         Counter counterValue = CounterBuilder.incr(10L);
-        when(invoker.getValueFromField(entity, propertyMeta.getGetter())).thenReturn(counterValue);
+        when(invoker.getValueFromField(entity, propertyMeta)).thenReturn(counterValue);
 
         Composite rowKey = new Composite();
         Composite name = new Composite();
@@ -390,7 +393,7 @@ public class ThriftPersisterImplTest {
 
         persisterImpl.persistCounter(context, propertyMeta);
 
-        verify(counterDao).incrementCounter(rowKey, name, 10L);
+        verify(counterDao).incrementCounter(rowKey, name, 10L, EACH_QUORUM);
 
     }
 
@@ -433,6 +436,75 @@ public class ThriftPersisterImplTest {
 
     }
 
+    @Test
+    public void should_batch_append_to_list_property() throws Exception {
+        PropertyMeta propertyMeta = PropertyMetaTestBuilder //
+                .completeBean(Void.class, String.class).field("friends").accessors().build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.appendElements(Arrays.asList("bar", "qux"));
+
+        Composite comp2 = new Composite();
+        Composite comp3 = new Composite();
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 1)).thenReturn(comp2);
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 2)).thenReturn(comp3);
+
+        persisterImpl.batchAppendToList(Arrays.asList("foo", "bar", "qux"), delta, context, propertyMeta);
+
+        InOrder inOrder = inOrder(entityDao);
+        inOrder.verify(entityDao).insertColumnBatch(entity.getId(), comp2, "bar", ttlO, timestampO, entityMutator);
+        inOrder.verify(entityDao).insertColumnBatch(entity.getId(), comp3, "qux", ttlO, timestampO, entityMutator);
+        verify(thriftCompositeFactory, never()).createForBatchInsertMultiValue(propertyMeta, 0);
+    }
+
+    @Test
+    public void should_batch_apply_set_delta() throws Exception {
+        PropertyMeta propertyMeta = PropertyMetaTestBuilder //
+                .completeBean(Void.class, String.class).field("followers").accessors().build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.addElements(Arrays.asList("John"));
+        delta.removeElements(Arrays.asList("Helen"));
+
+        Composite comp1 = new Composite();
+        Composite comp2 = new Composite();
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, "John".hashCode()))
+                .thenReturn(comp1);
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, "Helen".hashCode())).thenReturn(
+                comp2);
+
+        persisterImpl.batchApplySetDelta(delta, context, propertyMeta);
+
+        verify(entityDao).insertColumnBatch(entity.getId(), comp1, "John", ttlO, timestampO, entityMutator);
+        verify(entityDao).removeColumnBatch(entity.getId(), comp2, entityMutator);
+    }
+
+    @Test
+    public void should_batch_apply_map_delta() throws Exception {
+        PropertyMeta propertyMeta = PropertyMetaTestBuilder //
+                .completeBean(Integer.class, String.class).field("preferences").type(MAP).accessors().build();
+
+        CollectionDelta delta = new CollectionDelta();
+        delta.putEntries(ImmutableMap.of(1, "FR"));
+        delta.removeKeys(Arrays.asList(2));
+
+        Composite comp1 = new Composite();
+        Composite comp2 = new Composite();
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 1)).thenReturn(comp1);
+        when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 2)).thenReturn(comp2);
+
+        persisterImpl.batchApplyMapDelta(delta, context, propertyMeta);
+
+        ArgumentCaptor<String> keyValueCaptor = ArgumentCaptor.forClass(String.class);
+        verify(entityDao).insertColumnBatch(eq(entity.getId()), eq(comp1), keyValueCaptor.capture(), eq(ttlO),
+                eq(timestampO), eq(entityMutator));
+        verify(entityDao).removeColumnBatch(entity.getId(), comp2, entityMutator);
+
+        KeyValue<Integer, String> holder = readKeyValue(keyValueCaptor.getValue());
+        assertThat(holder.getKey()).isEqualTo(1);
+        assertThat(holder.getValue()).isEqualTo("FR");
+    }
+
     @Test
     public void should_batch_map_property() throws Exception {
         PropertyMeta propertyMeta = PropertyMetaTestBuilder //
@@ -529,8 +601,8 @@ public class ThriftPersisterImplTest {
         Composite comp2 = new Composite();
         when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 0)).thenReturn(comp1);
         when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 1)).thenReturn(comp2);
-        when(invoker.getValueFromField(user1, joinIdMeta.getGetter())).thenReturn(joinId1);
-        when(invoker.getValueFromField(user2, joinIdMeta.getGetter())).thenReturn(joinId2);
+        when(invoker.getValueFromField(user1, joinIdMeta)).thenReturn(joinId1);
+        when(invoker.getValueFromField(user2, joinIdMeta)).thenReturn(joinId2);
 
         when(proxifier.unwrap(user1)).thenReturn(user1);
         when(proxifier.unwrap(user2)).thenReturn(user2);
@@ -566,7 +638,7 @@ public class ThriftPersisterImplTest {
         joinMeta.setIdMeta(joinIdMeta);
 
         PropertyMeta propertyMeta = PropertyMetaTestBuilder //
-                .completeBean(Integer.class, UserBean.class).joinMeta(joinMeta).build();
+                .completeBean(Integer.class, UserBean.class).type(JOIN_MAP).joinMeta(joinMeta).build();
 
         UserBean user1 = new UserBean(), user2 = new UserBean();
         user1.setUserId(joinId1);
@@ -581,8 +653,8 @@ public class ThriftPersisterImplTest {
 
         when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 1)).thenReturn(comp1);
         when(thriftCompositeFactory.createForBatchInsertMultiValue(propertyMeta, 2)).thenReturn(comp2);
-        when(invoker.getValueFromField(user1, joinIdMeta.getGetter())).thenReturn(joinId1);
-        when(invoker.getValueFromField(user2, joinIdMeta.getGetter())).thenReturn(joinId2);
+        when(invoker.getValueFromField(user1, joinIdMeta)).thenReturn(joinId1);
+        when(invoker.getValueFromField(user2, joinIdMeta)).thenReturn(joinId2);
 
         when(proxifier.unwrap(user1)).thenReturn(user1);
         when(proxifier.unwrap(user2)).thenReturn(user2);
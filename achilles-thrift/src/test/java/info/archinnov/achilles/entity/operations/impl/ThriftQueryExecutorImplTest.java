@@ -1,12 +1,10 @@
 package info.archinnov.achilles.entity.operations.impl;
 
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.composite.ThriftCompositeFactory;
 import info.archinnov.achilles.context.ThriftConsistencyContext;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.dao.ThriftGenericWideRowDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
@@ -30,8 +28,6 @@ import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -78,24 +74,6 @@ public class ThriftQueryExecutorImplTest
     @Mock
     private Mutator<Object> mutator;
 
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<List<HCounterColumn<Composite>>>> counterColumnsCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<List<HColumn<Composite, Object>>>> columnsCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<Void>> removeCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<ThriftSliceIterator<Long, Object>>> iteratorCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<ThriftJoinSliceIterator<Long, Object, Object>>> joinIteratorCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<ThriftCounterSliceIterator<Long>>> counterIteratorCaptor;
-
     private EntityMeta meta;
 
     private Long partitionKey = RandomUtils.nextLong();
@@ -134,7 +112,7 @@ public class ThriftQueryExecutorImplTest
 
         when(context.getWideRowDao()).thenReturn(wideRowDao);
         when(context.getPartitionKey()).thenReturn(partitionKey);
-        when(wideRowDao.buildMutator()).thenReturn(mutator);
+        when(wideRowDao.buildMutator(consistencyLevel)).thenReturn(mutator);
     }
 
     @Test
@@ -154,14 +132,9 @@ public class ThriftQueryExecutorImplTest
         List<HCounterColumn<Composite>> hCounterColumns = new ArrayList<HCounterColumn<Composite>>();
 
         when(wideRowDao.findCounterColumnsRange(partitionKey, comp1, comp2, limit,
-                ordering.isReverse())).thenReturn(hCounterColumns);
+                ordering.isReverse(), consistencyLevel)).thenReturn(hCounterColumns);
 
-        executor.findCounterColumns(query, context);
-
-        verify(context).executeWithReadConsistencyLevel(counterColumnsCaptor.capture(),
-                eq(consistencyLevel));
-
-        List<HCounterColumn<Composite>> actual = counterColumnsCaptor.getValue().execute();
+        List<HCounterColumn<Composite>> actual = executor.findCounterColumns(query, context);
 
         assertThat(actual).isSameAs(hCounterColumns);
     }
@@ -183,14 +156,9 @@ public class ThriftQueryExecutorImplTest
         List<HColumn<Composite, Object>> hColumns = new ArrayList<HColumn<Composite, Object>>();
 
         when(wideRowDao.findRawColumnsRange(partitionKey, comp1, comp2, limit,
-                ordering.isReverse())).thenReturn(hColumns);
-
-        executor.findColumns(query, context);
+                ordering.isReverse(), consistencyLevel)).thenReturn(hColumns);
 
-        verify(context).executeWithReadConsistencyLevel(columnsCaptor.capture(),
-                eq(consistencyLevel));
-
-        List<HColumn<Composite, Object>> actual = columnsCaptor.getValue().execute();
+        List<HColumn<Composite, Object>> actual = executor.findColumns(query, context);
 
         assertThat(actual).isSameAs(hColumns);
     }
@@ -212,14 +180,9 @@ public class ThriftQueryExecutorImplTest
         ThriftSliceIterator<Long, Object> iterator = mock(ThriftSliceIterator.class);
 
         when(wideRowDao.getColumnsIterator(partitionKey, comp1, comp2,
-                ordering.isReverse(), batchSize)).thenReturn(iterator);
-
-        executor.getColumnsIterator(query, context);
+                ordering.isReverse(), batchSize, consistencyLevel)).thenReturn(iterator);
 
-        verify(context).executeWithReadConsistencyLevel(iteratorCaptor.capture(),
-                eq(consistencyLevel));
-
-        ThriftSliceIterator<Long, Object> actual = iteratorCaptor.getValue().execute();
+        Object actual = executor.getColumnsIterator(query, context);
 
         assertThat(actual).isSameAs(iterator);
     }
@@ -247,15 +210,9 @@ public class ThriftQueryExecutorImplTest
         ThriftJoinSliceIterator<Long, Object, Object> iterator = mock(ThriftJoinSliceIterator.class);
 
         when(wideRowDao.getJoinColumnsIterator(entityDao, pm, partitionKey, comp1, comp2,
-                ordering.isReverse(), batchSize)).thenReturn(iterator);
-
-        executor.getJoinColumnsIterator(query, context);
-
-        verify(context).executeWithReadConsistencyLevel(joinIteratorCaptor.capture(),
-                eq(consistencyLevel));
+                ordering.isReverse(), batchSize, consistencyLevel)).thenReturn(iterator);
 
-        ThriftJoinSliceIterator<Long, Object, Object> actual = joinIteratorCaptor
-                .getValue().execute();
+        Object actual = executor.getJoinColumnsIterator(query, context);
 
         assertThat(actual).isSameAs(iterator);
     }
@@ -277,14 +234,9 @@ public class ThriftQueryExecutorImplTest
         ThriftCounterSliceIterator<Long> iterator = mock(ThriftCounterSliceIterator.class);
 
         when(wideRowDao.getCounterColumnsIterator(partitionKey, comp1, comp2,
-                ordering.isReverse(), batchSize)).thenReturn(iterator);
+                ordering.isReverse(), batchSize, consistencyLevel)).thenReturn(iterator);
 
-        executor.getCounterColumnsIterator(query, context);
-
-        verify(context).executeWithReadConsistencyLevel(counterIteratorCaptor.capture(),
-                eq(consistencyLevel));
-
-        ThriftCounterSliceIterator<Long> actual = counterIteratorCaptor.getValue().execute();
+        Object actual = executor.getCounterColumnsIterator(query, context);
 
         assertThat(actual).isSameAs(iterator);
     }
@@ -301,11 +253,6 @@ public class ThriftQueryExecutorImplTest
         executor.removeColumns(columns, consistencyLevel, context);
 
         verify(wideRowDao).removeColumnBatch(partitionKey, name, mutator);
-        verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(),
-                eq(consistencyLevel));
-
-        removeCaptor.getValue().execute();
-
         verify(wideRowDao).executeMutator(mutator);
     }
 
@@ -321,11 +268,6 @@ public class ThriftQueryExecutorImplTest
         executor.removeCounterColumns(counterColumns, consistencyLevel, context);
 
         verify(wideRowDao).removeCounterBatch(partitionKey, name, mutator);
-        verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(),
-                eq(consistencyLevel));
-
-        removeCaptor.getValue().execute();
-
         verify(wideRowDao).executeMutator(mutator);
     }
 
@@ -335,11 +277,6 @@ public class ThriftQueryExecutorImplTest
         executor.removeRow(partitionKey, context, consistencyLevel);
 
         verify(wideRowDao).removeRowBatch(partitionKey, mutator);
-        verify(context).executeWithWriteConsistencyLevel(removeCaptor.capture(),
-                eq(consistencyLevel));
-
-        removeCaptor.getValue().execute();
-
         verify(wideRowDao).executeMutator(mutator);
     }
 }
@@ -2,6 +2,7 @@ package info.archinnov.achilles.iterator;
 
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.composite.ThriftCompositeTransformer;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
@@ -116,4 +117,15 @@ public class ThriftAbstractClusteredEntityIteratorTest {
 
         assertThat(methodCaptor.getValue()).isEmpty();
     }
+
+    @Test
+    public void should_not_proxify_read_only_entity() throws Exception
+    {
+        Whitebox.setInternalState(abstractIter, "readOnly", true);
+
+        BeanWithClusteredId actual = abstractIter.proxifyClusteredEntity(target);
+
+        assertThat(actual).isSameAs(target);
+        verifyZeroInteractions(proxifier, context);
+    }
 }
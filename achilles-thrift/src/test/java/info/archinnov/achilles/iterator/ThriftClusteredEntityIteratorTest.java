@@ -55,7 +55,7 @@ public class ThriftClusteredEntityIteratorTest
     public void setUp()
     {
         iterator = new ThriftClusteredEntityIterator<BeanWithClusteredId>(entityClass,
-                sliceIterator, context);
+                sliceIterator, context, false);
         iterator = spy(iterator);
         Whitebox.setInternalState(iterator, ThriftCompositeTransformer.class, transformer);
     }
@@ -52,7 +52,7 @@ public class ThriftCounterClusteredEntityIteratorTest
     public void setUp()
     {
         iterator = new ThriftCounterClusteredEntityIterator<BeanWithClusteredId>(entityClass,
-                sliceIterator, context);
+                sliceIterator, context, false);
         iterator = spy(iterator);
 
         Whitebox.setInternalState(iterator, ThriftCompositeTransformer.class, transformer);
@@ -1,10 +1,8 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
-import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import java.util.Iterator;
 import java.util.List;
@@ -50,10 +48,6 @@ public class ThriftCounterSliceIteratorTest
 
     private ThriftCounterSliceIterator<Long> iterator;
 
-    @Mock
-    private ThriftConsistencyLevelPolicy policy;
-
-    private String columnFamily = "cf";
 
     @Before
     public void setUp()
@@ -88,10 +82,8 @@ public class ThriftCounterSliceIteratorTest
         when(counterColumnsIterator.hasNext()).thenReturn(true, true, true, true, true, false);
         when(counterColumnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-        when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-        iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end,
-                false, 10);
+        iterator = new ThriftCounterSliceIterator<Long>(query, start, end, false, 10);
 
         assertThat(iterator.hasNext()).isEqualTo(true);
         HCounterColumn<Composite> h1 = iterator.next();
@@ -113,9 +105,7 @@ public class ThriftCounterSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-        verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-        verify(policy).loadConsistencyLevelForRead(columnFamily);
+        verify(query).execute();
     }
 
     @Test
@@ -142,10 +132,8 @@ public class ThriftCounterSliceIteratorTest
                 false);
         when(counterColumnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-        when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-        iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end,
-                false, count);
+        iterator = new ThriftCounterSliceIterator<Long>(query, start, end, false, count);
 
         assertThat(iterator.hasNext()).isEqualTo(true);
         HCounterColumn<Composite> h1 = iterator.next();
@@ -167,17 +155,14 @@ public class ThriftCounterSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy, times(2)).setCurrentReadLevel(LOCAL_QUORUM);
-        verify(policy, times(2)).setCurrentReadLevel(ONE);
-        verify(policy, times(2)).loadConsistencyLevelForRead(columnFamily);
+        verify(query, times(2)).execute();
     }
 
     @Test(expected = UnsupportedOperationException.class)
     public void should_exception_when_remove() throws Exception
     {
         Composite start = new Composite(), end = new Composite();
-        iterator = new ThriftCounterSliceIterator<Long>(policy, columnFamily, query, start, end,
-                false, 10);
+        iterator = new ThriftCounterSliceIterator<Long>(query, start, end, false, 10);
 
         iterator.remove();
     }
@@ -4,7 +4,6 @@ import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SR
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -75,10 +74,6 @@ public class ThriftJoinSliceIteratorTest
 
     private ThriftJoinSliceIterator<Long, Integer, UserBean> iterator;
 
-    @Mock
-    private ThriftConsistencyLevelPolicy policy;
-
-    private String columnFamily = "cf";
 
     @Before
     public void setUp()
@@ -134,14 +129,14 @@ public class ThriftJoinSliceIteratorTest
         entitiesMap.put(joinId2, user2);
         entitiesMap.put(joinId3, user3);
 
-        when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
         List<Long> keys = Arrays.asList(joinId1, joinId2, joinId3);
-        when(joinLoader.loadJoinEntities(UserBean.class, keys, joinEntityMeta, joinEntityDao))
+        when(joinLoader.loadJoinEntities(UserBean.class, keys, joinEntityMeta, joinEntityDao,
+                        LOCAL_QUORUM))
                 .thenReturn(entitiesMap);
 
-        iterator = new ThriftJoinSliceIterator<Long, Integer, UserBean>(policy, joinEntityDao,
-                columnFamily, propertyMeta, query, start, end, false, 10);
+        iterator = new ThriftJoinSliceIterator<Long, Integer, UserBean>(joinEntityDao,
+                LOCAL_QUORUM, propertyMeta, query, start, end, false, 10);
         Whitebox.setInternalState(iterator, ThriftJoinEntityLoader.class, joinLoader);
 
         when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
@@ -167,9 +162,7 @@ public class ThriftJoinSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-        verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-        verify(policy).loadConsistencyLevelForRead(columnFamily);
+        verify(query).execute();
 
     }
 
@@ -209,16 +202,15 @@ public class ThriftJoinSliceIteratorTest
         entitiesMap.put(joinId2, user2);
         entitiesMap.put(joinId3, user3);
 
-        when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
         when(
                 joinLoader.loadJoinEntities(UserBean.class, Arrays.asList(joinId1, joinId2),
-                        joinEntityMeta, joinEntityDao)).thenReturn(entitiesMap);
+                        joinEntityMeta, joinEntityDao, LOCAL_QUORUM)).thenReturn(entitiesMap);
         when(
                 joinLoader.loadJoinEntities(UserBean.class, Arrays.asList(joinId3), joinEntityMeta,
-                        joinEntityDao)).thenReturn(entitiesMap);
+                        joinEntityDao, LOCAL_QUORUM)).thenReturn(entitiesMap);
 
-        iterator = new ThriftJoinSliceIterator<Long, Integer, UserBean>(policy, joinEntityDao,
-                columnFamily, propertyMeta, query, start, end, false, count);
+        iterator = new ThriftJoinSliceIterator<Long, Integer, UserBean>(joinEntityDao,
+                LOCAL_QUORUM, propertyMeta, query, start, end, false, count);
 
         Whitebox.setInternalState(iterator, ThriftJoinEntityLoader.class, joinLoader);
 
@@ -242,8 +234,6 @@ public class ThriftJoinSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy, times(2)).loadConsistencyLevelForRead(columnFamily);
-        verify(policy, times(2)).setCurrentReadLevel(LOCAL_QUORUM);
-        verify(policy, times(2)).setCurrentReadLevel(ONE);
+        verify(query, times(2)).execute();
     }
 }
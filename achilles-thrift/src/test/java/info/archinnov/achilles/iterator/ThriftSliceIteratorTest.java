@@ -1,17 +1,16 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.serializer.ThriftSerializerUtils.STRING_SRZ;
-import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
+import info.archinnov.achilles.context.AchillesExecutor;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.test.builders.HColumnTestBuilder;
 import info.archinnov.achilles.test.mapping.entity.UserBean;
-import info.archinnov.achilles.type.ConsistencyLevel;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.ColumnSlice;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HColumn;
@@ -54,10 +53,6 @@ public class ThriftSliceIteratorTest
 
     private ThriftSliceIterator<Long, String> iterator;
 
-    @Mock
-    private ThriftConsistencyLevelPolicy policy;
-
-    private String columnFamily = "cf";
 
     @Before
     public void setUp()
@@ -94,10 +89,8 @@ public class ThriftSliceIteratorTest
         when(columnsIterator.hasNext()).thenReturn(true, true, true, true, true, false);
         when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-        when(policy.getCurrentReadLevel()).thenReturn(LOCAL_QUORUM, ONE);
 
-        iterator = new ThriftSliceIterator<Long, String>(policy, columnFamily, query, start, end,
-                false, 10);
+        iterator = new ThriftSliceIterator<Long, String>(query, start, end, false, 10);
 
         assertThat(iterator.hasNext()).isEqualTo(true);
         HColumn<Composite, String> h1 = iterator.next();
@@ -119,9 +112,7 @@ public class ThriftSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy, atLeastOnce()).setCurrentReadLevel(LOCAL_QUORUM);
-        verify(policy, atLeastOnce()).setCurrentReadLevel(ONE);
-        verify(policy).loadConsistencyLevelForRead(columnFamily);
+        verify(query).execute();
 
     }
 
@@ -150,8 +141,7 @@ public class ThriftSliceIteratorTest
         when(columnsIterator.hasNext()).thenReturn(true, true, true, false, true, false, false);
         when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-        iterator = new ThriftSliceIterator<Long, String>(policy, columnFamily, query, start, end,
-                false, count);
+        iterator = new ThriftSliceIterator<Long, String>(query, start, end, false, count);
 
         assertThat(iterator.hasNext()).isEqualTo(true);
         HColumn<Composite, String> h1 = iterator.next();
@@ -173,8 +163,75 @@ public class ThriftSliceIteratorTest
 
         assertThat(iterator.hasNext()).isEqualTo(false);
 
-        verify(policy).getCurrentReadLevel();
-        verify(policy, never()).setCurrentReadLevel(any(ConsistencyLevel.class));
+        verify(query, times(2)).execute();
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void should_read_ahead_next_batch() throws Exception
+    {
+        Composite start = new Composite(), //
+        end = new Composite(), //
+        name1 = new Composite(), //
+        name2 = new Composite(), //
+        name3 = new Composite();
+        int count = 2;
+
+        name1.addComponent("name1", STRING_SRZ);
+        name2.addComponent("name2", STRING_SRZ);
+        name3.addComponent("name3", STRING_SRZ);
+
+        int ttl = 10;
+
+        HColumn<Composite, String> hCol1 = HColumnTestBuilder.simple(name1, "val1", ttl);
+        HColumn<Composite, String> hCol2 = HColumnTestBuilder.simple(name2, "val2", ttl);
+        HColumn<Composite, String> hCol3 = HColumnTestBuilder.simple(name3, "val3", ttl);
+
+        when(hColumns.iterator()).thenReturn(Arrays.asList(hCol1, hCol2).iterator(),
+                Arrays.asList(hCol3).iterator());
+
+        iterator = new ThriftSliceIterator<Long, String>(query, start, end, false, count);
+        iterator.readAhead(0.5, new AchillesExecutor(1));
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isSameAs(hCol1);
+
+        verify(query).setRange(hCol2.getName(), end, false, count);
+        assertThat(hCol2.getName().getEquality()).isEqualTo(ComponentEquality.GREATER_THAN_EQUAL);
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isSameAs(hCol2);
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isSameAs(hCol3);
+        assertThat(iterator.hasNext()).isFalse();
+
+        verify(query, times(2)).execute();
+    }
+
+    @Test
+    public void should_not_read_ahead_without_executor() throws Exception
+    {
+        Composite start = new Composite(), //
+        end = new Composite(), //
+        name1 = new Composite(), //
+        name2 = new Composite();
+        int count = 2;
+
+        name1.addComponent("name1", STRING_SRZ);
+        name2.addComponent("name2", STRING_SRZ);
+
+        HColumn<Composite, String> hCol1 = HColumnTestBuilder.simple(name1, "val1", 10);
+        HColumn<Composite, String> hCol2 = HColumnTestBuilder.simple(name2, "val2", 10);
+
+        when(hColumns.iterator()).thenReturn(Arrays.asList(hCol1, hCol2).iterator());
+
+        iterator = new ThriftSliceIterator<Long, String>(query, start, end, false, count);
+        iterator.readAhead(0.5, null);
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.next()).isSameAs(hCol1);
 
+        verify(query, times(1)).execute();
     }
 }
@@ -36,7 +36,7 @@ public class AchillesInternalThriftResourceTest {
         Long id = RandomUtils.nextLong();
         em.persist(new User(id, "fn", "ln"));
 
-        List<Pair<Composite, Object>> columnsRange = dao.findColumnsRange(id, null, null, false, 100);
+        List<Pair<Composite, Object>> columnsRange = dao.findColumnsRange(id, null, null, false, 100, null);
 
         assertThat(columnsRange).hasSize(3);
 
@@ -2,10 +2,9 @@ package info.archinnov.achilles.proxy.wrapper;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.EACH_QUORUM;
 import static org.fest.assertions.api.Assertions.assertThat;
-import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 import info.archinnov.achilles.context.ThriftPersistenceContext;
-import info.archinnov.achilles.context.execution.SafeExecutionContext;
+import info.archinnov.achilles.counter.ThriftCounterCoalescer;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.test.mapping.entity.CompleteBean;
 import info.archinnov.achilles.type.ConsistencyLevel;
@@ -14,8 +13,6 @@ import org.apache.commons.lang.math.RandomUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -45,15 +42,6 @@ public class ThriftCounterWrapperTest
     @Mock
     private ThriftPersistenceContext context;
 
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<Void>> voidExecCaptor;
-
-    @Captor
-    private ArgumentCaptor<SafeExecutionContext<Long>> longExecCaptor;
-
-    @Mock
-    private SafeExecutionContext<Long> execContext;
-
     private ConsistencyLevel consistencyLevel = EACH_QUORUM;
 
     @Before
@@ -70,25 +58,19 @@ public class ThriftCounterWrapperTest
     @Test
     public void should_get_counter() throws Exception
     {
-        when(counterDao.getCounterValue(key, columnName)).thenReturn(10L);
-        when(context.executeWithReadConsistencyLevel(longExecCaptor.capture(), eq(consistencyLevel)))
-                .thenReturn(10L);
+        when(counterDao.getCounterValue(key, columnName, consistencyLevel)).thenReturn(10L);
         Long value = wrapper.get();
 
         assertThat(value).isEqualTo(10L);
-        assertThat(longExecCaptor.getValue().execute()).isEqualTo(10L);
     }
 
     @Test
     public void should_get_counter_with_consistency_level() throws Exception
     {
-        when(counterDao.getCounterValue(key, columnName)).thenReturn(10L);
-        when(context.executeWithReadConsistencyLevel(longExecCaptor.capture(), eq(EACH_QUORUM)))
-                .thenReturn(10L);
+        when(counterDao.getCounterValue(key, columnName, EACH_QUORUM)).thenReturn(10L);
         Long value = wrapper.get(EACH_QUORUM);
 
         assertThat(value).isEqualTo(10L);
-        assertThat(longExecCaptor.getValue().execute()).isEqualTo(10L);
     }
 
     @Test
@@ -96,10 +78,7 @@ public class ThriftCounterWrapperTest
     {
         wrapper.incr();
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).incrementCounter(key, columnName, 1L);
+        verify(counterDao).incrementCounter(key, columnName, 1L, consistencyLevel);
 
     }
 
@@ -108,10 +87,7 @@ public class ThriftCounterWrapperTest
     {
         wrapper.incr(EACH_QUORUM);
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).incrementCounter(key, columnName, 1L);
+        verify(counterDao).incrementCounter(key, columnName, 1L, EACH_QUORUM);
     }
 
     @Test
@@ -119,20 +95,15 @@ public class ThriftCounterWrapperTest
     {
         wrapper.incr(10L);
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).incrementCounter(key, columnName, 10L);
+        verify(counterDao).incrementCounter(key, columnName, 10L, consistencyLevel);
     }
 
     @Test
     public void should_incr_with_value_and_consistency() throws Exception
     {
         wrapper.incr(10L, EACH_QUORUM);
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-        voidExecCaptor.getValue().execute();
 
-        verify(counterDao).incrementCounter(key, columnName, 10L);
+        verify(counterDao).incrementCounter(key, columnName, 10L, EACH_QUORUM);
 
     }
 
@@ -141,10 +112,7 @@ public class ThriftCounterWrapperTest
     {
         wrapper.decr();
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).decrementCounter(key, columnName, 1L);
+        verify(counterDao).decrementCounter(key, columnName, 1L, consistencyLevel);
     }
 
     @Test
@@ -152,10 +120,7 @@ public class ThriftCounterWrapperTest
     {
         wrapper.decr(EACH_QUORUM);
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).decrementCounter(key, columnName, 1L);
+        verify(counterDao).decrementCounter(key, columnName, 1L, EACH_QUORUM);
     }
 
     @Test
@@ -163,10 +128,7 @@ public class ThriftCounterWrapperTest
     {
         wrapper.decr(10L);
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(consistencyLevel));
-        voidExecCaptor.getValue().execute();
-
-        verify(counterDao).decrementCounter(key, columnName, 10L);
+        verify(counterDao).decrementCounter(key, columnName, 10L, consistencyLevel);
     }
 
     @Test
@@ -174,9 +136,23 @@ public class ThriftCounterWrapperTest
     {
         wrapper.decr(10L, EACH_QUORUM);
 
-        verify(context).executeWithWriteConsistencyLevel(voidExecCaptor.capture(), eq(EACH_QUORUM));
-        voidExecCaptor.getValue().execute();
+        verify(counterDao).decrementCounter(key, columnName, 10L, EACH_QUORUM);
+    }
 
-        verify(counterDao).decrementCounter(key, columnName, 10L);
+    @Test
+    public void should_coalesce_incr_and_decr() throws Exception
+    {
+        ThriftCounterCoalescer counterCoalescer = mock(ThriftCounterCoalescer.class);
+        when(context.getCounterCoalescer()).thenReturn(counterCoalescer);
+
+        wrapper.incr(10L);
+        wrapper.decr(3L, EACH_QUORUM);
+
+        verify(counterCoalescer).add(counterDao, key, columnName, consistencyLevel, 10L);
+        verify(counterCoalescer).add(counterDao, key, columnName, EACH_QUORUM, -3L);
+        verify(counterDao, never()).incrementCounter(any(), any(Composite.class), anyLong(),
+                any(ConsistencyLevel.class));
+        verify(counterDao, never()).decrementCounter(any(), any(Composite.class), anyLong(),
+                any(ConsistencyLevel.class));
     }
 }
@@ -0,0 +1,131 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static info.archinnov.achilles.serializer.ThriftSerializerUtils.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+import info.archinnov.achilles.type.KeyValue;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+/**
+ * ThriftBinaryValueCodecTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ThriftBinaryValueCodecTest
+{
+    private ThriftBinaryValueCodec codec = new ThriftBinaryValueCodec();
+
+    @Test
+    public void should_have_bytes_column_value_class() throws Exception
+    {
+        assertThat((Class) codec.getColumnValueClass()).isEqualTo(byte[].class);
+    }
+
+    @Test
+    public void should_encode_supported_type_with_native_serializer() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age")
+                .type(SIMPLE).build();
+
+        Object encoded = codec.encode(pm, 25L);
+
+        assertThat((byte[]) encoded).isEqualTo(LONG_SRZ.toBytes(25L));
+        assertThat(codec.decode(pm, encoded)).isEqualTo(25L);
+    }
+
+    @Test
+    public void should_encode_unsupported_type_as_json() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, UserBean.class).field("user")
+                .type(SIMPLE).build();
+        UserBean user = new UserBean();
+        user.setUserId(10L);
+        user.setName("john");
+
+        Object encoded = codec.encode(pm, user);
+
+        assertThat(STRING_SRZ.fromBytes((byte[]) encoded)).isEqualTo("{\"userId\":10,\"name\":\"john\"}");
+        UserBean decoded = (UserBean) codec.decode(pm, encoded);
+        assertThat(decoded.getUserId()).isEqualTo(10L);
+        assertThat(decoded.getName()).isEqualTo("john");
+    }
+
+    @Test
+    public void should_return_null_when_encoding_or_decoding_null() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, String.class).field("name")
+                .type(SIMPLE).build();
+
+        assertThat(codec.encode(pm, null)).isNull();
+        assertThat(codec.decode(pm, null)).isNull();
+    }
+
+    @Test
+    public void should_encode_map_entry() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, String.class).field("preferences")
+                .type(MAP).build();
+
+        byte[] encoded = (byte[]) codec.encodeKeyValue(pm, 1, "FR");
+
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        assertThat(buffer.getInt()).isEqualTo(4);
+        assertThat(buffer.getInt()).isEqualTo(1);
+        assertThat(encoded).hasSize(4 + 4 + 2);
+
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo(1);
+        assertThat(decoded.getValue()).isEqualTo("FR");
+    }
+
+    @Test
+    public void should_encode_map_entry_with_null_value() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, String.class).field("preferences")
+                .type(MAP).build();
+
+        byte[] encoded = (byte[]) codec.encodeKeyValue(pm, 1, null);
+
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo(1);
+        assertThat(decoded.getValue()).isNull();
+    }
+
+    @Test
+    public void should_encode_map_entry_with_empty_string_value() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(String.class, String.class).field("preferences")
+                .type(MAP).build();
+
+        byte[] encoded = (byte[]) codec.encodeKeyValue(pm, "", "");
+
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo("");
+        assertThat(decoded.getValue()).isEqualTo("");
+    }
+
+    @Test
+    public void should_encode_join_map_entry_with_join_id() throws Exception
+    {
+        PropertyMeta joinIdMeta = PropertyMetaTestBuilder.of(UserBean.class, Void.class, Long.class)
+                .field("userId").type(ID).build();
+        EntityMeta joinMeta = new EntityMeta();
+        joinMeta.setIdMeta(joinIdMeta);
+
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, UserBean.class).field("users")
+                .type(JOIN_MAP).joinMeta(joinMeta).build();
+
+        byte[] encoded = (byte[]) codec.encodeKeyValue(pm, 1, 11L);
+
+        assertThat(encoded).hasSize(4 + 4 + 8);
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo(1);
+        assertThat(decoded.getValue()).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,75 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.*;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
+import info.archinnov.achilles.test.mapping.entity.UserBean;
+import info.archinnov.achilles.type.KeyValue;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Test;
+
+/**
+ * ThriftJSONValueCodecTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class ThriftJSONValueCodecTest
+{
+    private ThriftJSONValueCodec codec = new ThriftJSONValueCodec();
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void should_have_string_column_value_class() throws Exception
+    {
+        assertThat((Class) codec.getColumnValueClass()).isEqualTo(String.class);
+    }
+
+    @Test
+    public void should_encode_and_decode_value() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Void.class, Long.class).field("age")
+                .type(SIMPLE).mapper(objectMapper).build();
+
+        Object encoded = codec.encode(pm, 25L);
+
+        assertThat(encoded).isEqualTo("25");
+        assertThat(codec.decode(pm, encoded)).isEqualTo(25L);
+    }
+
+    @Test
+    public void should_encode_and_decode_map_entry() throws Exception
+    {
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, String.class).field("preferences")
+                .type(MAP).mapper(objectMapper).build();
+
+        Object encoded = codec.encodeKeyValue(pm, 1, "FR");
+
+        assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(new KeyValue<Integer, String>(1, "FR")));
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo(1);
+        assertThat(decoded.getValue()).isEqualTo("FR");
+    }
+
+    @Test
+    public void should_encode_and_decode_join_map_entry() throws Exception
+    {
+        PropertyMeta joinIdMeta = PropertyMetaTestBuilder.of(UserBean.class, Void.class, Long.class)
+                .field("userId").type(ID).mapper(objectMapper).build();
+        EntityMeta joinMeta = new EntityMeta();
+        joinMeta.setIdMeta(joinIdMeta);
+
+        PropertyMeta pm = PropertyMetaTestBuilder.completeBean(Integer.class, UserBean.class).field("users")
+                .type(JOIN_MAP).joinMeta(joinMeta).mapper(objectMapper).build();
+
+        Object encoded = codec.encodeKeyValue(pm, 1, 11L);
+
+        assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(new KeyValue<Integer, String>(1, "11")));
+        KeyValue<Object, Object> decoded = codec.decodeKeyValue(pm, encoded);
+        assertThat(decoded.getKey()).isEqualTo(1);
+        assertThat(decoded.getValue()).isEqualTo(11L);
+    }
+}
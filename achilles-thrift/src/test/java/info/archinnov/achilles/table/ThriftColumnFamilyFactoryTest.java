@@ -63,13 +63,25 @@ public class ThriftColumnFamilyFactoryTest {
         when(entityMeta.getTableName()).thenReturn("myCF");
         when(entityMeta.getClassName()).thenReturn("fr.doan.test.bean");
 
-        ColumnFamilyDefinition cfDef = factory.createEntityCF(entityMeta, "keyspace");
+        ColumnFamilyDefinition cfDef = factory.createEntityCF(entityMeta, "keyspace", String.class);
 
         assertThat(cfDef).isNotNull();
         assertThat(cfDef.getKeyspaceName()).isEqualTo("keyspace");
         assertThat(cfDef.getName()).isEqualTo("myCF");
         assertThat(cfDef.getComparatorType()).isEqualTo(ComparatorType.COMPOSITETYPE);
         assertThat(cfDef.getKeyValidationClass()).isEqualTo(LONG_SRZ.getComparatorType().getTypeName());
+        assertThat(cfDef.getDefaultValidationClass()).isEqualTo(STRING_SRZ.getComparatorType().getTypeName());
+    }
+
+    @Test
+    public void should_create_entity_column_family_for_binary_values() throws Exception {
+        when((Class<Long>) entityMeta.getIdClass()).thenReturn(Long.class);
+        when(entityMeta.getTableName()).thenReturn("myCF");
+        when(entityMeta.getClassName()).thenReturn("fr.doan.test.bean");
+
+        ColumnFamilyDefinition cfDef = factory.createEntityCF(entityMeta, "keyspace", byte[].class);
+
+        assertThat(cfDef.getDefaultValidationClass()).isEqualTo(BYTE_SRZ.getComparatorType().getTypeName());
     }
 
     @Test
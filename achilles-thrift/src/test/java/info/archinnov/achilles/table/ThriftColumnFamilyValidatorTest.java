@@ -132,7 +132,40 @@ public class ThriftColumnFamilyValidatorTest {
         when(cfDef.getComparatorTypeAlias())
                 .thenReturn(
                         "(org.apache.cassandra.db.marshal.BytesType,org.apache.cassandra.db.marshal.UTF8Type,org.apache.cassandra.db.marshal.Int32Type)");
-        validator.validateCFForEntity(cfDef, entityMeta);
+        validator.validateCFForEntity(cfDef, entityMeta, String.class);
+    }
+
+    @Test
+    public void should_validate_binary_values() throws Exception {
+
+        when(cfDef.getKeyValidationClass()).thenReturn(LONG_SRZ.getComparatorType().getClassName());
+        when((Class<Long>) entityMeta.getIdClass()).thenReturn(Long.class);
+        when(cfDef.getComparatorType()).thenReturn(ComparatorType.COMPOSITETYPE);
+        when(cfDef.getComparatorTypeAlias())
+                .thenReturn(
+                        "(org.apache.cassandra.db.marshal.BytesType,org.apache.cassandra.db.marshal.UTF8Type,org.apache.cassandra.db.marshal.Int32Type)");
+        when(cfDef.getDefaultValidationClass()).thenReturn(BYTESTYPE.getClassName());
+
+        validator.validateCFForEntity(cfDef, entityMeta, byte[].class);
+    }
+
+    @Test
+    public void should_exception_when_binary_values_and_not_bytes_validation_class() throws Exception {
+
+        when(cfDef.getKeyValidationClass()).thenReturn(LONG_SRZ.getComparatorType().getClassName());
+        when((Class<Long>) entityMeta.getIdClass()).thenReturn(Long.class);
+        when(entityMeta.getTableName()).thenReturn("cf");
+        when(cfDef.getComparatorType()).thenReturn(ComparatorType.COMPOSITETYPE);
+        when(cfDef.getComparatorTypeAlias())
+                .thenReturn(
+                        "(org.apache.cassandra.db.marshal.BytesType,org.apache.cassandra.db.marshal.UTF8Type,org.apache.cassandra.db.marshal.Int32Type)");
+        when(cfDef.getDefaultValidationClass()).thenReturn(UTF8TYPE.getClassName());
+
+        exception.expect(AchillesInvalidTableException.class);
+        exception.expectMessage("The column family 'cf' default validation type should be '"
+                + BYTESTYPE.getClassName() + "'");
+
+        validator.validateCFForEntity(cfDef, entityMeta, byte[].class);
     }
 
     @Test
@@ -156,7 +189,7 @@ public class ThriftColumnFamilyValidatorTest {
         exception
                 .expectMessage("The column family 'cf' key class 'org.apache.cassandra.db.marshal.BytesType' does not correspond to the entity id class 'org.apache.cassandra.db.marshal.LongType'");
 
-        validator.validateCFForEntity(cfDef, entityMeta);
+        validator.validateCFForEntity(cfDef, entityMeta, String.class);
     }
 
     @Test
@@ -170,7 +203,7 @@ public class ThriftColumnFamilyValidatorTest {
         exception.expectMessage("The column family 'cf' comparator type 'null' should be '"
                 + ENTITY_COMPARATOR_TYPE_CHECK + "'");
 
-        validator.validateCFForEntity(cfDef, entityMeta);
+        validator.validateCFForEntity(cfDef, entityMeta, String.class);
     }
 
     @Test
@@ -185,7 +218,7 @@ public class ThriftColumnFamilyValidatorTest {
         exception.expectMessage("The column family 'cf' comparator type 'AsciiType(alias)' should be '"
                 + ENTITY_COMPARATOR_TYPE_CHECK + "'");
 
-        validator.validateCFForEntity(cfDef, entityMeta);
+        validator.validateCFForEntity(cfDef, entityMeta, String.class);
     }
 
     @Test
@@ -200,7 +233,7 @@ public class ThriftColumnFamilyValidatorTest {
         exception.expectMessage("The column family 'cf' comparator type 'CompositeType(wrong_alias)' should be '"
                 + ENTITY_COMPARATOR_TYPE_CHECK + "'");
 
-        validator.validateCFForEntity(cfDef, entityMeta);
+        validator.validateCFForEntity(cfDef, entityMeta, String.class);
     }
 
     @Test
@@ -11,6 +11,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.AchillesInvalidTableException;
+import info.archinnov.achilles.serializer.ThriftJSONValueCodec;
 import info.archinnov.achilles.test.builders.PropertyMetaTestBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -84,7 +85,7 @@ public class ThriftTableCreatorTest {
         when(keyspace.getKeyspaceName()).thenReturn("keyspace");
         when(cluster.describeKeyspace("keyspace")).thenReturn(keyspaceDefinition);
 
-        creator = new ThriftTableCreator(cluster, keyspace);
+        creator = new ThriftTableCreator(cluster, keyspace, new ThriftJSONValueCodec());
         Whitebox.setInternalState(creator, ThriftColumnFamilyFactory.class, columnFamilyFactory);
         Whitebox.setInternalState(creator, ThriftColumnFamilyValidator.class, columnFamilyValidator);
         Whitebox.setInternalState(creator, "columnFamilyNames", columnFamilyNames);
@@ -98,7 +99,7 @@ public class ThriftTableCreatorTest {
         exception.expect(AchillesException.class);
         exception.expectMessage("The keyspace 'keyspace' provided by configuration does not exist");
 
-        new ThriftTableCreator(cluster, keyspace);
+        new ThriftTableCreator(cluster, keyspace, new ThriftJSONValueCodec());
 
     }
 
@@ -109,7 +110,7 @@ public class ThriftTableCreatorTest {
         when(cluster.describeKeyspace("keyspace")).thenReturn(keyspaceDefinition);
         when(keyspaceDefinition.getCfDefs()).thenReturn(cfDefs);
 
-        ThriftTableCreator creator = new ThriftTableCreator(cluster, keyspace);
+        ThriftTableCreator creator = new ThriftTableCreator(cluster, keyspace, new ThriftJSONValueCodec());
 
         assertThat(Whitebox.getInternalState(creator, "cfDefs")).isSameAs(cfDefs);
 
@@ -156,7 +157,7 @@ public class ThriftTableCreatorTest {
     public void should_create_column_family_for_entity() throws Exception {
         prepareData();
         BasicColumnFamilyDefinition cfDef = new BasicColumnFamilyDefinition();
-        when(columnFamilyFactory.createEntityCF(meta, "keyspace")).thenReturn(cfDef);
+        when(columnFamilyFactory.createEntityCF(meta, "keyspace", String.class)).thenReturn(cfDef);
 
         creator.createTable(meta);
 
@@ -202,7 +203,7 @@ public class ThriftTableCreatorTest {
         Whitebox.setInternalState(creator, "cfDefs", Arrays.asList((ColumnFamilyDefinition) cfDef));
 
         creator.validateOrCreateTableForEntity(meta, false);
-        verify(columnFamilyValidator).validateCFForEntity(cfDef, meta);
+        verify(columnFamilyValidator).validateCFForEntity(cfDef, meta, String.class);
     }
 
     @Test
@@ -246,7 +247,7 @@ public class ThriftTableCreatorTest {
         cfDef.setName("testCF2");
 
         Whitebox.setInternalState(creator, "cfDefs", Arrays.asList((ColumnFamilyDefinition) cfDef));
-        when(columnFamilyFactory.createEntityCF(meta, "keyspace")).thenReturn(cfDef);
+        when(columnFamilyFactory.createEntityCF(meta, "keyspace", String.class)).thenReturn(cfDef);
 
         creator.validateOrCreateTableForEntity(meta, true);
 
@@ -263,7 +264,7 @@ public class ThriftTableCreatorTest {
         Whitebox.setInternalState(creator, "cfDefs", new ArrayList<ColumnFamilyDefinition>());
         ColumnFamilyDefinition cfDef = mock(ColumnFamilyDefinition.class);
         when(cfDef.getName()).thenReturn("mocked_cfDef");
-        when(columnFamilyFactory.createEntityCF(meta, "keyspace")).thenReturn(cfDef);
+        when(columnFamilyFactory.createEntityCF(meta, "keyspace", String.class)).thenReturn(cfDef);
 
         creator.validateOrCreateTableForEntity(meta, true);
 
@@ -6,12 +6,10 @@ import static info.archinnov.achilles.table.TableNameNormalizer.normalizerAndVal
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
 import static org.fest.assertions.api.Assertions.assertThat;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.context.ThriftBatchingFlushContext;
 import info.archinnov.achilles.dao.ThriftAbstractDao;
 import info.archinnov.achilles.dao.ThriftCounterDao;
 import info.archinnov.achilles.dao.ThriftGenericEntityDao;
-import info.archinnov.achilles.embedded.ThriftEmbeddedServer;
 import info.archinnov.achilles.entity.manager.ThriftBatchingEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManagerFactory;
@@ -31,7 +29,6 @@ import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.mutation.Mutator;
 import org.apache.cassandra.utils.Pair;
 import org.apache.commons.lang.math.RandomUtils;
-import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -60,8 +57,6 @@ public class BatchModeIT
 
     private ThriftCounterDao thriftCounterDao = resource.getCounterDao();
 
-    private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
     private ThriftGenericEntityDao completeBeanDao = resource.getEntityDao(
             normalizerAndValidateColumnFamilyName(CompleteBean.class.getCanonicalName()),
             Long.class);
@@ -102,19 +97,19 @@ public class BatchModeIT
         labelComposite.addComponent(1, "label", EQUAL);
         labelComposite.addComponent(2, 0, EQUAL);
 
-        assertThat(completeBeanDao.getValue(entity.getId(), labelComposite)).isNull();
+        assertThat(completeBeanDao.getValue(entity.getId(), labelComposite, null)).isNull();
 
         Composite counterKey = createCounterKey(CompleteBean.class, entity.getId());
         Composite versionCounterName = createCounterName("version");
 
-        assertThat(thriftCounterDao.getCounterValue(counterKey, versionCounterName)).isEqualTo(10L);
+        assertThat(thriftCounterDao.getCounterValue(counterKey, versionCounterName, null)).isEqualTo(10L);
 
         // Flush
         batchEm.endBatch();
 
-        assertThat(completeBeanDao.getValue(entity.getId(), labelComposite)).isEqualTo("label");
+        assertThat(completeBeanDao.getValue(entity.getId(), labelComposite, null)).isEqualTo("label");
 
-        assertThat(thriftCounterDao.getCounterValue(counterKey, versionCounterName)).isEqualTo(10L);
+        assertThat(thriftCounterDao.getCounterValue(counterKey, versionCounterName, null)).isEqualTo(10L);
         assertThatBatchContextHasBeenReset(batchEm);
     }
 
@@ -158,7 +153,6 @@ public class BatchModeIT
         assertThat(foundUser.getFirstname()).isEqualTo("fn");
         assertThat(foundUser.getLastname()).isEqualTo("ln");
         assertThatBatchContextHasBeenReset(batchEm);
-        assertThatConsistencyLevelHasBeenReset();
     }
 
     @Test
@@ -180,7 +174,6 @@ public class BatchModeIT
         {
             batchEm.cleanBatch();
             assertThatBatchContextHasBeenReset(batchEm);
-            assertThatConsistencyLevelHasBeenReset();
 
             assertThat(batchEm.find(Tweet.class, tweet.getId())).isNull();
         }
@@ -232,7 +225,6 @@ public class BatchModeIT
 
         logAsserter.assertConsistencyLevels(QUORUM, QUORUM);
         assertThatBatchContextHasBeenReset(batchEm);
-        assertThatConsistencyLevelHasBeenReset();
     }
 
     @Test
@@ -256,20 +248,12 @@ public class BatchModeIT
         } catch (Exception e)
         {
             assertThatBatchContextHasBeenReset(batchEm);
-            assertThatConsistencyLevelHasBeenReset();
         }
 
         Thread.sleep(1000);
         logAsserter.prepareLogLevel();
         batchEm.persist(tweet2);
         logAsserter.assertConsistencyLevels(QUORUM, QUORUM);
-        assertThatConsistencyLevelHasBeenReset();
-    }
-
-    private void assertThatConsistencyLevelHasBeenReset()
-    {
-        assertThat(policy.getCurrentReadLevel()).isNull();
-        assertThat(policy.getCurrentWriteLevel()).isNull();
     }
 
     private void assertThatBatchContextHasBeenReset(ThriftBatchingEntityManager batchEm)
@@ -283,6 +267,7 @@ public class BatchModeIT
 
         assertThat(mutatorMap).isEmpty();
         assertThat(hasCustomConsistencyLevels).isFalse();
+        assertThat(flushContext.getConsistencyLevel()).isNull();
 
     }
 
@@ -300,11 +285,4 @@ public class BatchModeIT
         composite.addComponent(0, propertyName, ComponentEquality.EQUAL);
         return composite;
     }
-
-    @AfterClass
-    public static void cleanUp()
-    {
-        ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-        ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
-    }
 }
@@ -0,0 +1,56 @@
+package info.archinnov.achilles.test.integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.manager.ThriftBulkWriter;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.junit.AchillesTestResource.Steps;
+import info.archinnov.achilles.junit.AchillesInternalThriftResource;
+import info.archinnov.achilles.test.integration.entity.CompleteBean;
+import info.archinnov.achilles.test.integration.entity.CompleteBeanTestBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * BulkWriterIT
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class BulkWriterIT
+{
+    @Rule
+    public AchillesInternalThriftResource resource = new AchillesInternalThriftResource(Steps.AFTER_TEST,
+            "CompleteBean");
+
+    private ThriftEntityManager em = resource.getEm();
+
+    @Test
+    public void should_bulk_write_entities() throws Exception
+    {
+        List<CompleteBean> entities = new ArrayList<CompleteBean>();
+        for (int i = 0; i < 250; i++)
+        {
+            entities.add(CompleteBeanTestBuilder
+                    .builder()
+                    .randomId()
+                    .name("name" + i)
+                    .age((long) i)
+                    .addFriends("foo", "bar")
+                    .buid());
+        }
+
+        ThriftBulkWriter<CompleteBean> writer = resource.getFactory().createBulkWriter(CompleteBean.class);
+        writer.writeAll(entities);
+        writer.flush();
+
+        assertThat(writer.getWritten()).isEqualTo(250L);
+        assertThat(writer.getFailed()).isEqualTo(0L);
+
+        CompleteBean found = em.find(CompleteBean.class, entities.get(123).getId());
+        assertThat(found.getName()).isEqualTo("name123");
+        assertThat(found.getAge()).isEqualTo(123L);
+        assertThat(found.getFriends()).containsExactly("foo", "bar");
+    }
+}
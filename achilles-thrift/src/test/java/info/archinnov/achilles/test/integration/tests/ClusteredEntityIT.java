@@ -172,7 +172,7 @@ public class ClusteredEntityIT
         Composite comp = new Composite();
         comp.setComponent(0, count, INT_SRZ);
         comp.setComponent(1, name, STRING_SRZ);
-        Mutator<Long> mutator = dao.buildMutator();
+        Mutator<Long> mutator = dao.buildMutator(null);
         dao.insertColumnBatch(partitionKey, comp, "new_clustered_value",
                 Optional.<Integer> absent(), Optional.<Long> absent(), mutator);
         dao.executeMutator(mutator);
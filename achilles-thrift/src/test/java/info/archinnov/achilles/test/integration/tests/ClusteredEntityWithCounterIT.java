@@ -129,8 +129,8 @@ public class ClusteredEntityWithCounterIT
 
         Composite comp = new Composite();
         comp.setComponent(0, name, STRING_SRZ);
-        Mutator<Long> mutator = dao.buildMutator();
-        dao.incrementCounter(partitionKey, comp, incr);
+        Mutator<Long> mutator = dao.buildMutator(null);
+        dao.incrementCounter(partitionKey, comp, incr, null);
         dao.executeMutator(mutator);
 
         // Wait for the counter to be removed
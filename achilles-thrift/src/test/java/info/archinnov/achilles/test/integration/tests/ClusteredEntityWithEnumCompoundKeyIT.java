@@ -112,7 +112,7 @@ public class ClusteredEntityWithEnumCompoundKeyIT
 
         Composite comp = new Composite();
         comp.setComponent(0, "FILE", ThriftSerializerUtils.STRING_SRZ);
-        Mutator<Long> mutator = dao.buildMutator();
+        Mutator<Long> mutator = dao.buildMutator(null);
         dao.insertColumnBatch(partitionKey, comp, "new_clustered_value",
                 Optional.<Integer> absent(), Optional.<Long> absent(), mutator);
         dao.executeMutator(mutator);
@@ -118,7 +118,7 @@ public class ClusteredEntityWithObjectPropertyIT
 
         Composite comp = new Composite();
         comp.setComponent(0, "name", STRING_SRZ);
-        Mutator<Long> mutator = dao.buildMutator();
+        Mutator<Long> mutator = dao.buildMutator(null);
         ObjectMapper mapper = new ObjectMapper();
 
         dao.insertColumnBatch(partitionKey, comp, mapper.writeValueAsString(newHolder),
@@ -2,8 +2,6 @@ package info.archinnov.achilles.test.integration.tests;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
-import info.archinnov.achilles.embedded.ThriftEmbeddedServer;
 import info.archinnov.achilles.entity.manager.ThriftBatchingEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManagerFactory;
@@ -21,8 +19,6 @@ import info.archinnov.achilles.type.ConsistencyLevel;
 import info.archinnov.achilles.type.OptionsBuilder;
 import me.prettyprint.hector.api.exceptions.HInvalidRequestException;
 import org.apache.commons.lang.math.RandomUtils;
-import org.junit.After;
-import org.junit.AfterClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -47,8 +43,6 @@ public class ConsistencyLevelIT
 
     private ThriftEntityManager em = resource.getEm();
 
-    private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
     private CassandraLogAsserter logAsserter = new CassandraLogAsserter();
 
     private Long id = RandomUtils.nextLong();
@@ -66,7 +60,6 @@ public class ConsistencyLevelIT
                 .expectMessage("InvalidRequestException(why:consistency level LOCAL_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
 
         em.persist(bean);
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -87,7 +80,6 @@ public class ConsistencyLevelIT
                         + "'. Cause : InvalidRequestException(why:consistency level LOCAL_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy)");
 
         em.find(EntityWithWriteOneAndReadLocalQuorumConsistency.class, id);
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -114,7 +106,6 @@ public class ConsistencyLevelIT
 
         assertThat(newBean).isNotNull();
         assertThat(newBean.getName()).isEqualTo("name");
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -137,7 +128,6 @@ public class ConsistencyLevelIT
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
 
-        assertThatConsistencyLevelsAreReinitialized();
 
         logAsserter.prepareLogLevel();
         em.persist(entity, OptionsBuilder.withConsistency(ALL));
@@ -165,7 +155,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
 
         logAsserter.prepareLogLevel();
         em.merge(entity, OptionsBuilder.withConsistency(ALL));
@@ -198,7 +187,6 @@ public class ConsistencyLevelIT
                                     + entity.getId()
                                     + "'. Cause : InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
         }
-        assertThatConsistencyLevelsAreReinitialized();
         logAsserter.prepareLogLevel();
         CompleteBean found = em.find(CompleteBean.class, entity.getId(), ConsistencyLevel.ALL);
         assertThat(found.getName()).isEqualTo("name rtprt");
@@ -225,7 +213,6 @@ public class ConsistencyLevelIT
                                     + entity.getId()
                                     + "'. Cause : InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
         }
-        assertThatConsistencyLevelsAreReinitialized();
         logAsserter.prepareLogLevel();
         em.refresh(entity, ConsistencyLevel.ALL);
         logAsserter.assertConsistencyLevels(ConsistencyLevel.ALL, ConsistencyLevel.QUORUM);
@@ -247,7 +234,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
         logAsserter.prepareLogLevel();
         em.remove(entity, ConsistencyLevel.ALL);
         assertThat(em.find(CompleteBean.class, entity.getId())).isNull();
@@ -271,7 +257,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
         logAsserter.prepareLogLevel();
         em.merge(entity, OptionsBuilder.withConsistency(ALL));
         CompleteBean found = em.find(CompleteBean.class, entity.getId());
@@ -309,7 +294,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:EACH_QUORUM ConsistencyLevel is only supported for writes)");
         }
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -326,7 +310,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -343,7 +326,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -360,7 +342,6 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -377,26 +358,5 @@ public class ConsistencyLevelIT
                     .hasMessage(
                             "InvalidRequestException(why:consistency level EACH_QUORUM not compatible with replication strategy (org.apache.cassandra.locator.SimpleStrategy))");
         }
-        assertThatConsistencyLevelsAreReinitialized();
-    }
-
-    private void assertThatConsistencyLevelsAreReinitialized()
-    {
-        assertThat(policy.getCurrentReadLevel()).isNull();
-        assertThat(policy.getCurrentWriteLevel()).isNull();
-    }
-
-    @After
-    public void cleanThreadLocals()
-    {
-        policy.reinitCurrentConsistencyLevels();
-        policy.reinitDefaultConsistencyLevels();
-    }
-
-    @AfterClass
-    public static void cleanUp()
-    {
-        ThriftEmbeddedServer.policy().reinitCurrentConsistencyLevels();
-        ThriftEmbeddedServer.policy().reinitDefaultConsistencyLevels();
     }
 }
@@ -2,7 +2,6 @@ package info.archinnov.achilles.test.integration.tests;
 
 import static info.archinnov.achilles.type.ConsistencyLevel.*;
 import static org.fest.assertions.api.Assertions.assertThat;
-import info.archinnov.achilles.consistency.ThriftConsistencyLevelPolicy;
 import info.archinnov.achilles.entity.manager.ThriftBatchingEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManager;
 import info.archinnov.achilles.entity.manager.ThriftEntityManagerFactory;
@@ -37,8 +36,6 @@ public class ConsistencyLevelPriorityOrderingIT
 
     private ThriftEntityManager em = resource.getEm();
 
-    private ThriftConsistencyLevelPolicy policy = resource.getConsistencyPolicy();
-
     private CassandraLogAsserter logAsserter = new CassandraLogAsserter();
 
     // Normal type
@@ -62,7 +59,6 @@ public class ConsistencyLevelPriorityOrderingIT
         logAsserter.assertConsistencyLevels(ONE, ONE);
         batchEm.endBatch();
 
-        assertThatConsistencyLevelsAreReinitialized();
         assertThat(entity.getName()).isEqualTo("name");
 
         expectedEx.expect(AchillesException.class);
@@ -111,7 +107,6 @@ public class ConsistencyLevelPriorityOrderingIT
         logAsserter.prepareLogLevel();
         assertThat(counter.get()).isEqualTo(10L);
         logAsserter.assertConsistencyLevels(ONE, ONE);
-        assertThatConsistencyLevelsAreReinitialized();
     }
 
     @Test
@@ -195,10 +190,4 @@ public class ConsistencyLevelPriorityOrderingIT
                 .get(10);
     }
 
-    private void assertThatConsistencyLevelsAreReinitialized()
-    {
-        assertThat(policy.getCurrentReadLevel()).isNull();
-        assertThat(policy.getCurrentWriteLevel()).isNull();
-    }
-
 }
@@ -44,7 +44,7 @@ public class CounterIT
 
         Composite keyComp = createCounterKey(CompleteBean.class, bean.getId());
         Composite comp = createCounterName("version");
-        Long actual = thriftCounterDao.getCounterValue(keyComp, comp);
+        Long actual = thriftCounterDao.getCounterValue(keyComp, comp, null);
 
         assertThat(actual).isEqualTo(2L);
     }
@@ -70,7 +70,7 @@ public class CounterIT
         bean.getVersion().incr(version);
         Composite keyComp = createCounterKey(CompleteBean.class, bean.getId());
         Composite comp = createCounterName("version");
-        Long actual = thriftCounterDao.getCounterValue(keyComp, comp);
+        Long actual = thriftCounterDao.getCounterValue(keyComp, comp, null);
 
         assertThat(actual).isEqualTo(version);
 
@@ -79,7 +79,7 @@ public class CounterIT
 
         em.remove(bean);
 
-        actual = thriftCounterDao.getCounterValue(keyComp, comp);
+        actual = thriftCounterDao.getCounterValue(keyComp, comp, null);
 
         assertThat(actual).isNull();
     }
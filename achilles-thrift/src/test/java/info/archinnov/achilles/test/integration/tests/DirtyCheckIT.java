@@ -69,7 +69,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(3);
         assertThat(columns.get(2).right).isEqualTo("qux");
@@ -86,7 +86,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(3);
         assertThat(columns.get(1).right).isEqualTo("qux");
@@ -104,7 +104,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(4);
         assertThat(columns.get(2).right).isEqualTo("qux");
@@ -122,7 +122,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(0);
     }
@@ -138,7 +138,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("bar");
@@ -155,7 +155,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("foo");
@@ -172,7 +172,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("bar");
@@ -189,7 +189,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("foo");
@@ -206,7 +206,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("bar");
@@ -223,7 +223,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(columns.get(1).right).isEqualTo("qux");
@@ -243,7 +243,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("bar");
@@ -263,7 +263,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(columns.get(0).right).isEqualTo("bar");
@@ -283,7 +283,7 @@ public class DirtyCheckIT
         Composite endComp = endComptForList();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(columns.get(0).right).isEqualTo("qux");
@@ -301,7 +301,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(4);
 
@@ -322,7 +322,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -348,7 +348,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(4);
         assertThat(
@@ -371,7 +371,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -394,7 +394,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(
@@ -414,7 +414,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -440,7 +440,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -463,7 +463,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -487,7 +487,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(
@@ -507,7 +507,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -533,7 +533,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -561,7 +561,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(2);
         assertThat(
@@ -592,7 +592,7 @@ public class DirtyCheckIT
         Composite endComp = endCompForMap();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
         assertThat(
@@ -612,7 +612,7 @@ public class DirtyCheckIT
         compo.addComponent(1, "name", EQUAL);
         compo.addComponent(2, 0, EQUAL);
 
-        Object reloadedName = dao.getValue(bean.getId(), compo);
+        Object reloadedName = dao.getValue(bean.getId(), compo, null);
 
         assertThat(reloadedName).isEqualTo("another_name");
     }
@@ -629,7 +629,7 @@ public class DirtyCheckIT
         compo.addComponent(1, "label", EQUAL);
         compo.addComponent(2, 0, EQUAL);
 
-        Object reloadedLabel = dao.getValue(bean.getId(), compo);
+        Object reloadedLabel = dao.getValue(bean.getId(), compo, null);
 
         assertThat(reloadedLabel).isEqualTo("label");
     }
@@ -648,7 +648,7 @@ public class DirtyCheckIT
         compo.addComponent(1, "label", EQUAL);
         compo.addComponent(2, 0, EQUAL);
 
-        Object reloadedLabel = dao.getValue(bean.getId(), compo);
+        Object reloadedLabel = dao.getValue(bean.getId(), compo, null);
 
         assertThat(reloadedLabel).isEqualTo("label");
     }
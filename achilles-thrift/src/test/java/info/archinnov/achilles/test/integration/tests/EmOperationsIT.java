@@ -25,6 +25,7 @@ import info.archinnov.achilles.type.OptionsBuilder;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import me.prettyprint.cassandra.utils.TimeUUIDUtils;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
@@ -99,7 +100,7 @@ public class EmOperationsIT
         endCompositeForEagerFetch.addComponent(0, END_EAGER, ComponentEquality.GREATER_THAN_EQUAL);
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(),
-                startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20);
+                startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20, null);
 
         assertThat(columns).hasSize(8);
 
@@ -154,7 +155,7 @@ public class EmOperationsIT
         endCompositeForEagerFetch.addComponent(1, "friends", ComponentEquality.GREATER_THAN_EQUAL);
 
         columns = dao.findColumnsRange(bean.getId(), startCompositeForEagerFetch,
-                endCompositeForEagerFetch, false, 20);
+                endCompositeForEagerFetch, false, 20, null);
         assertThat(columns).hasSize(2);
 
         Pair<Composite, String> foo = columns.get(0);
@@ -172,7 +173,7 @@ public class EmOperationsIT
         Composite counterName = new Composite();
         counterName.addComponent(0, "version", ComponentEquality.EQUAL);
 
-        Long version = counterDao.getCounterValue(counterRowKey, counterName);
+        Long version = counterDao.getCounterValue(counterRowKey, counterName, null);
         assertThat(version).isEqualTo(15L);
     }
 
@@ -440,6 +441,25 @@ public class EmOperationsIT
         assertThat(found).isInstanceOf(Factory.class);
     }
 
+    @Test
+    public void should_find_all() throws Exception
+    {
+        CompleteBean bean1 = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+        CompleteBean bean2 = CompleteBeanTestBuilder.builder().randomId().name("Jonathan").buid();
+        Long missingId = RandomUtils.nextLong();
+
+        em.persist(bean1);
+        em.persist(bean2);
+
+        Map<Long, CompleteBean> founds = em.findAll(CompleteBean.class,
+                Arrays.asList(bean2.getId(), missingId, bean1.getId()));
+
+        assertThat(founds.keySet()).containsExactly(bean2.getId(), bean1.getId());
+        assertThat(founds.get(bean1.getId()).getName()).isEqualTo("DuyHai");
+        assertThat(founds.get(bean2.getId()).getName()).isEqualTo("Jonathan");
+        assertThat(founds.get(bean1.getId())).isInstanceOf(Factory.class);
+    }
+
     @SuppressWarnings("rawtypes")
     @Test
     public void should_find_lazy_simple() throws Exception
@@ -542,7 +562,7 @@ public class EmOperationsIT
         composite.addComponent(1, "age_in_years", ComponentEquality.EQUAL);
         composite.addComponent(2, 0, ComponentEquality.EQUAL);
 
-        assertThat(readLong(dao.<Long, String> getValue(bean.getId(), composite))).isEqualTo(100L);
+        assertThat(readLong(dao.<Long, String> getValue(bean.getId(), composite, null))).isEqualTo(100L);
 
         Composite startCompositeForEagerFetch = new Composite();
         startCompositeForEagerFetch.addComponent(0, PropertyType.LAZY_LIST.flag(),
@@ -557,7 +577,7 @@ public class EmOperationsIT
         endCompositeForEagerFetch.addComponent(2, 2, ComponentEquality.GREATER_THAN_EQUAL);
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(),
-                startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20);
+                startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20, null);
 
         assertThat(columns).hasSize(3);
 
@@ -578,7 +598,7 @@ public class EmOperationsIT
         endCompositeForEagerFetch.addComponent(2, 2, ComponentEquality.GREATER_THAN_EQUAL);
 
         columns = dao.findColumnsRange(bean.getId(), startCompositeForEagerFetch,
-                endCompositeForEagerFetch, false, 20);
+                endCompositeForEagerFetch, false, 20, null);
 
         assertThat(columns).hasSize(2);
 
@@ -693,7 +713,7 @@ public class EmOperationsIT
         assertThat(foundBean).isNull();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), null, null,
-                false, 20);
+                false, 20, null);
 
         assertThat(columns).hasSize(0);
 
@@ -723,7 +743,7 @@ public class EmOperationsIT
         assertThat(foundBean).isNull();
 
         List<Pair<Composite, String>> columns = dao.findColumnsRange(bean.getId(), null, null,
-                false, 20);
+                false, 20, null);
 
         assertThat(columns).hasSize(0);
 
@@ -832,7 +852,7 @@ public class EmOperationsIT
         nameMeta.setPropertyName("name");
 
         Composite nameComposite = thriftCompositeFactory.createForBatchInsertSingleValue(nameMeta);
-        dao.setValue(bean.getId(), nameComposite, "DuyHai_modified");
+        dao.setValue(bean.getId(), nameComposite, "DuyHai_modified", null);
 
         PropertyMeta listLazyMeta = new PropertyMeta();
         listLazyMeta.setType(LAZY_LIST);
@@ -840,7 +860,7 @@ public class EmOperationsIT
 
         Composite friend3Composite = thriftCompositeFactory.createForBatchInsertMultiValue(
                 listLazyMeta, 2);
-        dao.setValue(bean.getId(), friend3Composite, "qux");
+        dao.setValue(bean.getId(), friend3Composite, "qux", null);
 
         em.refresh(bean);
 
@@ -862,7 +882,7 @@ public class EmOperationsIT
 
         bean = em.merge(bean);
 
-        Mutator<Object> mutator = dao.buildMutator();
+        Mutator<Object> mutator = dao.buildMutator(null);
         dao.removeRowBatch(bean.getId(), mutator);
         dao.executeMutator(mutator);
 
@@ -924,7 +944,7 @@ public class EmOperationsIT
         composite.addComponent(1, "unmappedProperty", ComponentEquality.EQUAL);
         composite.addComponent(2, 0, ComponentEquality.EQUAL);
 
-        dao.setValue(bean.getId(), composite, "this is an unmapped property");
+        dao.setValue(bean.getId(), composite, "this is an unmapped property", null);
 
         bean = em.find(CompleteBean.class, bean.getId());
 
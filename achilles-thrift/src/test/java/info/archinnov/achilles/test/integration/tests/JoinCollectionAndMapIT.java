@@ -110,7 +110,7 @@ public class JoinCollectionAndMapIT
                 .values(JOIN_SET.flag(), "friends").equality(GREATER_THAN_EQUAL).buildForQuery();
 
         List<Pair<Composite, String>> friendsColumns = beanDao.findColumnsRange(beanId,
-                startFriendsComp, endFriendsComp, false, 20);
+                startFriendsComp, endFriendsComp, false, 20, null);
 
         assertThat(friendsColumns).hasSize(2);
         assertThat(readLong(friendsColumns.get(0).right)).isIn(friend1.getId(), friend2.getId());
@@ -122,7 +122,7 @@ public class JoinCollectionAndMapIT
                 .equality(GREATER_THAN_EQUAL).buildForQuery();
 
         List<Pair<Composite, String>> tweetsColumns = beanDao.findColumnsRange(beanId,
-                startTweetsComp, endTweetsComp, false, 20);
+                startTweetsComp, endTweetsComp, false, 20, null);
 
         assertThat(tweetsColumns).hasSize(2);
         assertThat(readUUID(tweetsColumns.get(0).right)).isEqualTo(tweet1.getId());
@@ -134,7 +134,7 @@ public class JoinCollectionAndMapIT
                 .values(JOIN_MAP.flag(), "timeline").equality(GREATER_THAN_EQUAL).buildForQuery();
 
         List<Pair<Composite, String>> timelineColumns = beanDao.findColumnsRange(beanId,
-                startTimelineComp, endTimelineComp, false, 20);
+                startTimelineComp, endTimelineComp, false, 20, null);
 
         assertThat(timelineColumns).hasSize(3);
         assertThat(readKeyValue(timelineColumns.get(0).right).getKey()).isEqualTo(3);
@@ -190,7 +190,7 @@ public class JoinCollectionAndMapIT
                 .equality(GREATER_THAN_EQUAL).buildForQuery();
 
         List<Pair<Composite, String>> tweetsColumns = beanDao.findColumnsRange(beanId,
-                startTweetsComp, endTweetsComp, false, 20);
+                startTweetsComp, endTweetsComp, false, 20, null);
 
         assertThat(tweetsColumns).hasSize(2);
         assertThat(readUUID(tweetsColumns.get(0).right)).isEqualTo(tweet1.getId());
@@ -202,7 +202,7 @@ public class JoinCollectionAndMapIT
                 .values(JOIN_MAP.flag(), "timeline").equality(GREATER_THAN_EQUAL).buildForQuery();
 
         List<Pair<Composite, String>> timelineColumns = beanDao.findColumnsRange(beanId,
-                startTimelineComp, endTimelineComp, false, 20);
+                startTimelineComp, endTimelineComp, false, 20, null);
 
         assertThat(timelineColumns).hasSize(1);
         assertThat(readUUID(readKeyValue(timelineColumns.get(0).right).getValue())).isEqualTo(
@@ -79,7 +79,7 @@ public class JoinColumnIT
         endComp.addComponent(0, JOIN_SIMPLE.flag(), ComponentEquality.GREATER_THAN_EQUAL);
 
         List<Pair<Composite, String>> columns = tweetDao.findColumnsRange(tweet.getId(), startComp,
-                endComp, false, 20);
+                endComp, false, 20, null);
 
         assertThat(columns).hasSize(1);
 